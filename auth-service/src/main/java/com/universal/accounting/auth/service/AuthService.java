@@ -4,10 +4,11 @@ import com.universal.accounting.auth.dto.AuthDto;
 import com.universal.accounting.auth.repository.UserRepository;
 import com.universal.accounting.auth.entity.User;
 import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.event.contracts.publisher.AfterCommit;
+import com.universal.accounting.event.contracts.publisher.EventPublisher;
 import com.universal.accounting.common.aspects.LogExecution;
 import com.universal.accounting.common.aspects.MonitorPerformance;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -26,7 +27,7 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
     private final AuthenticationManager authenticationManager;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EventPublisher eventPublisher;
     
     @Transactional
     @LogExecution
@@ -64,7 +65,12 @@ public class AuthService {
                 LocalDateTime.now(),
                 "127.0.0.1"
         );
-        kafkaTemplate.send("user-events", event);
+        eventPublisher.publish("user-events", user.getTenantId(), event);
+        // Services may have cached that this username has no tenant access. They reload on
+        // eviction, so the new row has to be committed before they hear about it.
+        Events.TenantMembershipChanged membershipChanged = new Events.TenantMembershipChanged(
+                user.getId(), user.getUsername(), user.getTenantId(), LocalDateTime.now());
+        AfterCommit.run(() -> eventPublisher.publish("user-events", membershipChanged.getTenantId(), membershipChanged));
         
         return AuthDto.AuthResponse.builder()
                 .token(token)
@@ -99,7 +105,7 @@ public class AuthService {
                 LocalDateTime.now(),
                 "127.0.0.1"
         );
-        kafkaTemplate.send("user-events", event);
+        eventPublisher.publish("user-events", user.getTenantId(), event);
         
         return AuthDto.AuthResponse.builder()
                 .token(token)
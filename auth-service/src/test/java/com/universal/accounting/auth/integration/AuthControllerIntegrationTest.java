@@ -4,6 +4,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.universal.accounting.auth.dto.AuthDto;
 import com.universal.accounting.auth.entity.User;
 import com.universal.accounting.auth.repository.UserRepository;
+import com.universal.accounting.event.contracts.publisher.EventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -40,7 +41,7 @@ class AuthControllerIntegrationTest {
     private PasswordEncoder passwordEncoder;
 
     @MockBean
-    private org.springframework.kafka.core.KafkaTemplate<String, Object> kafkaTemplate;
+    private EventPublisher eventPublisher;
 
     private User testUser;
 
@@ -61,8 +62,8 @@ class AuthControllerIntegrationTest {
         
         userRepository.save(testUser);
         
-        // Mock Kafka template to avoid actual Kafka calls
-        when(kafkaTemplate.send(any(String.class), any(Object.class))).thenReturn(null);
+        // Mock event publisher to avoid actual Kafka calls
+        when(eventPublisher.publish(any(String.class), any(), any(Object.class))).thenReturn(null);
     }
 
     @Test
@@ -3,13 +3,14 @@ package com.universal.accounting.auth.service;
 import com.universal.accounting.auth.dto.AuthDto;
 import com.universal.accounting.auth.entity.User;
 import com.universal.accounting.auth.repository.UserRepository;
+import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.event.contracts.publisher.EventPublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -40,7 +41,7 @@ class AuthServiceTest {
     private AuthenticationManager authenticationManager;
 
     @Mock
-    private KafkaTemplate<String, Object> kafkaTemplate;
+    private EventPublisher eventPublisher;
 
     @InjectMocks
     private AuthService authService;
@@ -106,7 +107,7 @@ class AuthServiceTest {
         verify(userRepository).save(any(User.class));
         verify(jwtService).generateToken(any(User.class));
         verify(jwtService).generateRefreshToken(any(User.class));
-        verify(kafkaTemplate).send(eq("user-events"), any());
+        verify(eventPublisher).publish(eq("user-events"), eq(1L), any());
     }
 
     @Test
@@ -121,7 +122,7 @@ class AuthServiceTest {
                 .hasMessage("Invalid credentials");
 
         verify(authenticationManager).authenticate(any(UsernamePasswordAuthenticationToken.class));
-        verifyNoInteractions(userRepository, jwtService, kafkaTemplate);
+        verifyNoInteractions(userRepository, jwtService, eventPublisher);
     }
 
     @Test
@@ -152,7 +153,8 @@ class AuthServiceTest {
         verify(userRepository).save(any(User.class));
         verify(jwtService).generateToken(any(User.class));
         verify(jwtService).generateRefreshToken(any(User.class));
-        verify(kafkaTemplate).send(eq("user-events"), any());
+        verify(eventPublisher).publish(eq("user-events"), eq(1L), any(Events.UserLoggedIn.class));
+        verify(eventPublisher).publish(eq("user-events"), eq(1L), any(Events.TenantMembershipChanged.class));
     }
 
     @Test
@@ -166,7 +168,7 @@ class AuthServiceTest {
                 .hasMessage("Username already exists");
 
         verify(userRepository).existsByUsername("newuser");
-        verifyNoInteractions(passwordEncoder, jwtService, kafkaTemplate);
+        verifyNoInteractions(passwordEncoder, jwtService, eventPublisher);
     }
 
     @Test
@@ -182,7 +184,7 @@ class AuthServiceTest {
 
         verify(userRepository).existsByUsername("newuser");
         verify(userRepository).existsByEmail("newuser@example.com");
-        verifyNoInteractions(passwordEncoder, jwtService, kafkaTemplate);
+        verifyNoInteractions(passwordEncoder, jwtService, eventPublisher);
     }
 
     @Test
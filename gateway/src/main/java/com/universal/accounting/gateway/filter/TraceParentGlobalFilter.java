@@ -0,0 +1,66 @@
+package com.universal.accounting.gateway.filter;
+
+import com.universal.accounting.tracing.Span;
+import com.universal.accounting.tracing.SpanKind;
+import com.universal.accounting.tracing.TraceParent;
+import com.universal.accounting.tracing.Tracer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+/**
+ * Starts the trace of every routed request. The gateway span's context is forwarded to the
+ * downstream service as a W3C {@code traceparent}, and the trace id is returned to the client
+ * in {@code X-Trace-Id}. A {@code traceparent} sent by the client is ignored unless
+ * {@code gateway.tracing.accept-incoming} is set, so external callers cannot choose trace ids
+ * or sampling decisions.
+ */
+@Component
+public class TraceParentGlobalFilter implements GlobalFilter, Ordered {
+
+    public static final String TRACE_ID_RESPONSE_HEADER = "X-Trace-Id";
+
+    private final Tracer tracer;
+    private final boolean acceptIncoming;
+
+    public TraceParentGlobalFilter(Tracer tracer,
+                                   @Value("${gateway.tracing.accept-incoming:false}") boolean acceptIncoming) {
+        this.tracer = tracer;
+        this.acceptIncoming = acceptIncoming;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        ServerHttpRequest request = exchange.getRequest();
+        TraceParent incoming = acceptIncoming ? TraceParent.parse(request.getHeaders().getFirst(TraceParent.HEADER)) : null;
+        String method = request.getMethod().name();
+        String path = request.getPath().value();
+        Span span = tracer.startSpan(method + " " + path, SpanKind.SERVER, incoming)
+                .tag("http.method", method)
+                .tag("http.path", path);
+
+        ServerWebExchange traced = exchange.mutate()
+                .request(builder -> builder.headers(headers -> headers.set(TraceParent.HEADER, span.traceParent().format())))
+                .build();
+        traced.getResponse().getHeaders().set(TRACE_ID_RESPONSE_HEADER, span.getTraceId());
+
+        return chain.filter(traced)
+                .doOnError(span::error)
+                .doFinally(signal -> {
+                    HttpStatusCode status = traced.getResponse().getStatusCode();
+                    span.tag("http.status", status != null ? status.value() : null);
+                    span.end();
+                });
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+}
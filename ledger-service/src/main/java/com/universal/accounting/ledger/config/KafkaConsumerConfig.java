@@ -0,0 +1,62 @@
+package com.universal.accounting.ledger.config;
+
+import com.universal.accounting.event.contracts.retry.TieredRetryTopics;
+import com.universal.accounting.ledger.consumer.TenantEventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+
+/**
+ * Listener containers for tenant-events. Records arrive as poll-sized batches so tenant
+ * onboarding is provisioned in bulk; offsets are acknowledged by the listener once the batch
+ * is committed, and a failing record is moved to the retry topics.
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    public static final String TENANT_BATCH_LISTENER_FACTORY = "tenantBatchListenerFactory";
+    public static final String TENANT_RETRY_LISTENER_FACTORY = "tenantRetryListenerFactory";
+
+    @Bean(TENANT_BATCH_LISTENER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> tenantBatchListenerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            TieredRetryTopics tieredRetryTopics,
+            KafkaTemplate<?, ?> kafkaTemplate,
+            @Value("${ledger.tenant-consumer.concurrency:1}") int concurrency) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(tieredRetryTopics.errorHandler(kafkaTemplate));
+        return factory;
+    }
+
+    @Bean(TENANT_RETRY_LISTENER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> tenantRetryListenerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            TieredRetryTopics tieredRetryTopics,
+            KafkaTemplate<?, ?> kafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(false);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(tieredRetryTopics.errorHandler(kafkaTemplate));
+        return factory;
+    }
+
+    @Bean
+    public KafkaAdmin.NewTopics tenantEventRetryTopics(TieredRetryTopics tieredRetryTopics,
+                                                       @Value("${ledger.tenant-consumer.retry-partitions:1}") int partitions,
+                                                       @Value("${ledger.tenant-consumer.retry-replicas:1}") int replicas) {
+        return tieredRetryTopics.newTopics(TenantEventListener.TENANT_EVENTS_TOPIC, partitions, replicas);
+    }
+}
@@ -0,0 +1,91 @@
+package com.universal.accounting.ledger.consumer;
+
+import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.event.contracts.envelope.EventLagRecorder;
+import com.universal.accounting.event.contracts.retry.TieredRetryTopics;
+import com.universal.accounting.ledger.config.KafkaConsumerConfig;
+import com.universal.accounting.ledger.service.ChartOfAccountsProvisioningService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Provisions the chart of accounts of tenants announced on tenant-events. A poll-sized batch
+ * is seeded in one transaction; if that fails, the batch is re-applied tenant by tenant so
+ * the tenants before the failing one are committed and only that record moves to the retry
+ * topics. Provisioning skips tenants that already have accounts, so redelivery is harmless.
+ * Produce-to-apply lag is recorded for every record once it has been applied.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TenantEventListener {
+
+    public static final String TENANT_EVENTS_TOPIC = "tenant-events";
+
+    private final ChartOfAccountsProvisioningService provisioningService;
+    private final TieredRetryTopics tieredRetryTopics;
+    private final EventLagRecorder eventLagRecorder;
+
+    @KafkaListener(topics = TENANT_EVENTS_TOPIC,
+                   groupId = "${spring.kafka.consumer.group-id:ledger-service-group}",
+                   containerFactory = KafkaConsumerConfig.TENANT_BATCH_LISTENER_FACTORY)
+    public void onTenantEvents(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment) {
+        List<Events.TenantCreated> created = new ArrayList<>();
+        for (ConsumerRecord<String, Object> record : records) {
+            if (record.value() instanceof Events.TenantCreated tenantCreated) {
+                created.add(tenantCreated);
+            }
+        }
+        if (!created.isEmpty()) {
+            try {
+                provisioningService.provision(created);
+            } catch (RuntimeException e) {
+                log.warn("Provisioning batch of {} tenants failed, retrying one by one: {}", created.size(), e.getMessage());
+                provisionIndividually(records);
+            }
+        }
+        acknowledgment.acknowledge();
+        records.forEach(record -> eventLagRecorder.record(TENANT_EVENTS_TOPIC, record));
+    }
+
+    /**
+     * Records moved to a retry topic, processed one at a time once their tier delay has passed
+     */
+    @KafkaListener(topics = "#{@tieredRetryTopics.retryTopics('" + TENANT_EVENTS_TOPIC + "')}",
+                   groupId = "${spring.kafka.consumer.group-id:ledger-service-group}",
+                   containerFactory = KafkaConsumerConfig.TENANT_RETRY_LISTENER_FACTORY)
+    public void onTenantEventRetry(ConsumerRecord<String, Object> record, Acknowledgment acknowledgment) {
+        long delayMs = tieredRetryTopics.remainingDelayMs(record);
+        if (delayMs > 0) {
+            acknowledgment.nack(Duration.ofMillis(delayMs));
+            return;
+        }
+        if (record.value() instanceof Events.TenantCreated tenantCreated) {
+            provisioningService.provision(List.of(tenantCreated));
+        }
+        acknowledgment.acknowledge();
+        eventLagRecorder.record(TENANT_EVENTS_TOPIC, record);
+    }
+
+    private void provisionIndividually(List<ConsumerRecord<String, Object>> records) {
+        for (ConsumerRecord<String, Object> record : records) {
+            if (!(record.value() instanceof Events.TenantCreated tenantCreated)) {
+                continue;
+            }
+            try {
+                provisioningService.provision(List.of(tenantCreated));
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException("Failed to provision tenant " + tenantCreated.getTenantId(), e, record);
+            }
+        }
+    }
+}
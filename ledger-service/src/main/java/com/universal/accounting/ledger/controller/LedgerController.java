@@ -26,6 +26,14 @@ public class LedgerController {
         return ResponseEntity.ok(response);
     }
     
+    @PostMapping("/journal-entries/batch")
+    public ResponseEntity<LedgerDto.JournalEntryBatchResponse> createJournalEntries(
+            @RequestHeader("X-Tenant-ID") Long tenantId,
+            @Valid @RequestBody LedgerDto.CreateJournalEntryBatchRequest request) {
+        LedgerDto.JournalEntryBatchResponse response = journalEntryService.createJournalEntries(tenantId, request);
+        return ResponseEntity.ok(response);
+    }
+    
     @PostMapping("/journal-entries/{entryId}/post")
     public ResponseEntity<LedgerDto.JournalEntryResponse> postJournalEntry(
             @RequestHeader("X-Tenant-ID") Long tenantId,
@@ -5,7 +5,9 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import java.math.BigDecimal;
@@ -31,6 +33,29 @@ public class LedgerDto {
         private List<JournalEntryLineRequest> lines;
     }
     
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CreateJournalEntryBatchRequest {
+        /**
+         * Post the entries as they are created instead of leaving them as drafts
+         */
+        private boolean post;
+        
+        @NotEmpty(message = "Entries are required")
+        private List<@Valid CreateJournalEntryRequest> entries;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JournalEntryBatchResponse {
+        private int created;
+        private int duplicates;
+    }
+    
     @Data
     @Builder
     @NoArgsConstructor
@@ -46,6 +71,10 @@ public class LedgerDto {
         
         @Positive(message = "Credit amount must be positive")
         private BigDecimal creditAmount;
+        
+        private String counterparty;
+        
+        private LocalDate dueDate;
     }
     
     @Data
@@ -78,6 +107,8 @@ public class LedgerDto {
         private BigDecimal debitAmount;
         private BigDecimal creditAmount;
         private Integer lineNumber;
+        private String counterparty;
+        private LocalDate dueDate;
     }
     
     @Data
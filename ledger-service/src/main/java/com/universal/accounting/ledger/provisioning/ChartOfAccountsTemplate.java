@@ -0,0 +1,140 @@
+package com.universal.accounting.ledger.provisioning;
+
+import com.universal.accounting.common.models.ChartOfAccount.AccountClass;
+import com.universal.accounting.common.models.ChartOfAccount.AccountType;
+import com.universal.accounting.common.models.ChartOfAccount.OpenItemType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Starter chart of accounts per business type. A template has two levels: header accounts
+ * without a parent, and posting accounts under one of those headers. Business types without
+ * a template of their own get the GENERAL one. Receivable and payable accounts carry their
+ * open-item type, which is what the reports open-item index tracks.
+ */
+public final class ChartOfAccountsTemplate {
+
+    public static final String DEFAULT_BUSINESS_TYPE = "GENERAL";
+
+    public record Account(String code, String name, AccountType type, AccountClass accountClass, String parentCode,
+                          OpenItemType openItemType) {
+
+        public boolean isHeader() {
+            return parentCode == null;
+        }
+    }
+
+    private static final List<Account> HEADERS = List.of(
+            header("1000", "Current Assets", AccountType.ASSET, AccountClass.CURRENT_ASSET),
+            header("1500", "Fixed Assets", AccountType.ASSET, AccountClass.FIXED_ASSET),
+            header("2000", "Current Liabilities", AccountType.LIABILITY, AccountClass.CURRENT_LIABILITY),
+            header("2500", "Long-term Liabilities", AccountType.LIABILITY, AccountClass.LONG_TERM_LIABILITY),
+            header("3000", "Equity", AccountType.EQUITY, AccountClass.OWNERS_EQUITY),
+            header("4000", "Revenue", AccountType.REVENUE, AccountClass.REVENUE),
+            header("5000", "Operating Expenses", AccountType.EXPENSE, AccountClass.OPERATING_EXPENSE),
+            header("6000", "Other Expenses", AccountType.EXPENSE, AccountClass.NON_OPERATING_EXPENSE));
+
+    private static final List<Account> GENERAL = extend(HEADERS,
+            account("1010", "Cash on Hand", "1000"),
+            account("1020", "Bank Account", "1000"),
+            openItem("1100", "Accounts Receivable", "1000", OpenItemType.RECEIVABLE),
+            account("1300", "Prepaid Expenses", "1000"),
+            account("1510", "Equipment", "1500"),
+            account("1520", "Furniture and Fixtures", "1500"),
+            account("1590", "Accumulated Depreciation", "1500"),
+            openItem("2010", "Accounts Payable", "2000", OpenItemType.PAYABLE),
+            account("2100", "Accrued Liabilities", "2000"),
+            account("2200", "Sales Tax Payable", "2000"),
+            account("2300", "Payroll Liabilities", "2000"),
+            account("2510", "Long-term Loans", "2500"),
+            account("3010", "Owner's Capital", "3000"),
+            account("3100", "Retained Earnings", "3000"),
+            account("3200", "Owner's Drawings", "3000"),
+            account("4010", "Sales Revenue", "4000"),
+            account("4100", "Service Revenue", "4000"),
+            account("4900", "Other Income", "4000"),
+            account("5010", "Salaries and Wages", "5000"),
+            account("5100", "Rent", "5000"),
+            account("5200", "Utilities", "5000"),
+            account("5300", "Office Supplies", "5000"),
+            account("5400", "Marketing and Advertising", "5000"),
+            account("5500", "Insurance", "5000"),
+            account("5600", "Depreciation Expense", "5000"),
+            account("5700", "Professional Fees", "5000"),
+            account("5800", "Bank Charges", "5000"),
+            account("6010", "Interest Expense", "6000"));
+
+    private static final Map<String, List<Account>> TEMPLATES = Map.of(
+            DEFAULT_BUSINESS_TYPE, GENERAL,
+            "RESTAURANT", extend(GENERAL,
+                    account("1210", "Food Inventory", "1000"),
+                    account("1220", "Beverage Inventory", "1000"),
+                    account("1530", "Kitchen Equipment", "1500"),
+                    account("2310", "Tips Payable", "2000"),
+                    account("4020", "Food Sales", "4000"),
+                    account("4030", "Beverage Sales", "4000"),
+                    account("5020", "Cost of Food Sold", "5000"),
+                    account("5030", "Cost of Beverages Sold", "5000")),
+            "RETAIL", extend(GENERAL,
+                    account("1200", "Merchandise Inventory", "1000"),
+                    account("1530", "Point-of-Sale Equipment", "1500"),
+                    account("4050", "Sales Returns and Allowances", "4000"),
+                    account("4060", "Sales Discounts", "4000"),
+                    account("5050", "Cost of Goods Sold", "5000"),
+                    account("5060", "Inventory Shrinkage", "5000")),
+            "FREELANCER", extend(GENERAL,
+                    openItem("1110", "Unbilled Receivables", "1000", OpenItemType.RECEIVABLE),
+                    account("2400", "Estimated Taxes Payable", "2000"),
+                    account("5310", "Software Subscriptions", "5000"),
+                    account("5320", "Home Office Expenses", "5000"),
+                    account("5330", "Travel", "5000")));
+
+    private ChartOfAccountsTemplate() {
+    }
+
+    /**
+     * The template key for a tenant's business type
+     */
+    public static String templateFor(String businessType) {
+        String key = businessType != null ? businessType.trim().toUpperCase(Locale.ROOT) : DEFAULT_BUSINESS_TYPE;
+        return TEMPLATES.containsKey(key) ? key : DEFAULT_BUSINESS_TYPE;
+    }
+
+    /**
+     * Template accounts, headers first
+     */
+    public static List<Account> accounts(String templateKey) {
+        List<Account> accounts = TEMPLATES.get(templateKey);
+        if (accounts == null) {
+            throw new IllegalArgumentException("Unknown chart of accounts template: " + templateKey);
+        }
+        return accounts;
+    }
+
+    private static List<Account> extend(List<Account> base, Account... additions) {
+        List<Account> accounts = new ArrayList<>(base);
+        Collections.addAll(accounts, additions);
+        return List.copyOf(accounts);
+    }
+
+    private static Account header(String code, String name, AccountType type, AccountClass accountClass) {
+        return new Account(code, name, type, accountClass, null, null);
+    }
+
+    private static Account account(String code, String name, String parentCode) {
+        return openItem(code, name, parentCode, null);
+    }
+
+    // Posting accounts take their type and class from their header
+    private static Account openItem(String code, String name, String parentCode, OpenItemType openItemType) {
+        Account parent = HEADERS.stream()
+                .filter(header -> header.code().equals(parentCode))
+                .findFirst()
+                .orElseThrow(() -> new IllegalStateException("Unknown header account " + parentCode));
+        return new Account(code, name, parent.type(), parent.accountClass(), parentCode, openItemType);
+    }
+}
@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,6 +19,9 @@ public interface JournalEntryRepository extends JpaRepository<JournalEntry, Long
     List<JournalEntry> findByTenantIdAndEntryDateBetween(@Param("tenantId") Long tenantId, 
                                                          @Param("startDate") LocalDate startDate, 
                                                          @Param("endDate") LocalDate endDate);
+    
+    @Query("SELECT je.reference FROM JournalEntry je WHERE je.tenantId = :tenantId AND je.reference IN :references")
+    List<String> findExistingReferences(@Param("tenantId") Long tenantId, @Param("references") Collection<String> references);
 }
 
 @Repository
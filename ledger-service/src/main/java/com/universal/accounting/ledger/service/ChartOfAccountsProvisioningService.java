@@ -0,0 +1,168 @@
+package com.universal.accounting.ledger.service;
+
+import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.event.contracts.publisher.AfterCommit;
+import com.universal.accounting.event.contracts.publisher.EventPublisher;
+import com.universal.accounting.ledger.provisioning.ChartOfAccountsTemplate;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Seeds the chart of accounts of new tenants from {@link ChartOfAccountsTemplate}. A tenant's
+ * whole template is written by one statement: a multi-row insert of the header accounts whose
+ * generated ids feed a second multi-row insert of the posting accounts in the same CTE.
+ * Tenants sharing a template run as one JDBC batch, so a poll of TenantCreated events costs a
+ * handful of round trips. A tenant that already has accounts is left untouched, which makes
+ * redelivered events harmless. Once the transaction commits, every seeded tenant is announced
+ * with a ChartOfAccountsProvisioned event on ledger-events so read models drop cached charts.
+ */
+@Service
+@Slf4j
+public class ChartOfAccountsProvisioningService {
+
+    private static final String COLUMNS =
+            "tenant_id, account_code, account_name, account_type, account_class, is_active, opening_balance, "
+            + "created_at, updated_at, created_by";
+
+    private static final String LEDGER_EVENTS_TOPIC = "ledger-events";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventPublisher eventPublisher;
+    private final Map<String, String> statements = new ConcurrentHashMap<>();
+    private final Counter provisioned;
+    private final Counter skipped;
+    private final Timer batchTimer;
+
+    @Value("${ledger.provisioning.jdbc-batch-size:200}")
+    private int jdbcBatchSize;
+
+    public ChartOfAccountsProvisioningService(JdbcTemplate jdbcTemplate, EventPublisher eventPublisher,
+                                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventPublisher = eventPublisher;
+        this.provisioned = Counter.builder("ledger.provisioning.tenants")
+                .description("Tenants whose chart of accounts was seeded")
+                .tag("outcome", "provisioned")
+                .register(meterRegistry);
+        this.skipped = Counter.builder("ledger.provisioning.tenants")
+                .description("Tenants whose chart of accounts was seeded")
+                .tag("outcome", "already_provisioned")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("ledger.provisioning.batch")
+                .description("Time to seed the charts of accounts of one batch of tenants")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Seeds every tenant in the list within one transaction
+     *
+     * @return the number of tenants that were provisioned, excluding those that already had accounts
+     */
+    @Transactional
+    public int provision(List<Events.TenantCreated> tenants) {
+        Map<String, List<Events.TenantCreated>> byTemplate = tenants.stream()
+                .filter(tenant -> tenant.getTenantId() != null)
+                .collect(Collectors.groupingBy(tenant -> ChartOfAccountsTemplate.templateFor(tenant.getBusinessType()),
+                        LinkedHashMap::new, Collectors.toList()));
+        List<Events.ChartOfAccountsProvisioned> seeded = new ArrayList<>();
+        batchTimer.record(() -> byTemplate.forEach((templateKey, group) -> provision(templateKey, group, seeded)));
+        publishAfterCommit(seeded);
+        return seeded.size();
+    }
+
+    private void provision(String templateKey, List<Events.TenantCreated> tenants,
+                           List<Events.ChartOfAccountsProvisioned> seeded) {
+        List<ChartOfAccountsTemplate.Account> accounts = ChartOfAccountsTemplate.accounts(templateKey);
+        List<ChartOfAccountsTemplate.Account> headers = accounts.stream().filter(ChartOfAccountsTemplate.Account::isHeader).toList();
+        List<ChartOfAccountsTemplate.Account> postings = accounts.stream().filter(account -> !account.isHeader()).toList();
+        String sql = statements.computeIfAbsent(templateKey, key -> buildStatement(headers.size(), postings.size()));
+
+        int[][] counts = jdbcTemplate.batchUpdate(sql, tenants, jdbcBatchSize,
+                (ps, tenant) -> bind(ps, tenant.getTenantId(), headers, postings));
+        int created = 0;
+        int index = 0;
+        LocalDateTime now = LocalDateTime.now();
+        for (int[] chunk : counts) {
+            for (int count : chunk) {
+                if (count > 0) {
+                    created++;
+                    seeded.add(new Events.ChartOfAccountsProvisioned(tenants.get(index).getTenantId(), templateKey, now));
+                }
+                index++;
+            }
+        }
+        provisioned.increment(created);
+        skipped.increment(tenants.size() - created);
+        log.info("Provisioned {} template for {} of {} tenants", templateKey, created, tenants.size());
+    }
+
+    /**
+     * Announces seeded charts only once they are visible to other connections; a rolled back
+     * batch announces nothing
+     */
+    private void publishAfterCommit(List<Events.ChartOfAccountsProvisioned> seeded) {
+        if (!seeded.isEmpty()) {
+            AfterCommit.run(() -> seeded.forEach(event ->
+                    eventPublisher.publish(LEDGER_EVENTS_TOPIC, event.getTenantId(), event)));
+        }
+    }
+
+    private String buildStatement(int headerCount, int postingCount) {
+        return "WITH headers AS ("
+                + "INSERT INTO chart_of_accounts (" + COLUMNS + ") "
+                + "SELECT ?, v.code, v.name, v.type, v.class, TRUE, 0, now(), now(), 'provisioning' "
+                + "FROM (VALUES " + rows(headerCount, 4) + ") AS v(code, name, type, class) "
+                + "WHERE NOT EXISTS (SELECT 1 FROM chart_of_accounts WHERE tenant_id = ?) "
+                + "RETURNING id, account_code) "
+                + "INSERT INTO chart_of_accounts (" + COLUMNS + ", parent_account_id, open_item_type) "
+                + "SELECT ?, v.code, v.name, v.type, v.class, TRUE, 0, now(), now(), 'provisioning', h.id, v.open_item_type "
+                + "FROM (VALUES " + rows(postingCount, 6) + ") AS v(code, name, type, class, parent_code, open_item_type) "
+                + "JOIN headers h ON h.account_code = v.parent_code";
+    }
+
+    private static String rows(int rowCount, int columnCount) {
+        String row = "(" + String.join(", ", Collections.nCopies(columnCount, "?")) + ")";
+        return String.join(", ", Collections.nCopies(rowCount, row));
+    }
+
+    private static void bind(PreparedStatement ps, long tenantId, List<ChartOfAccountsTemplate.Account> headers,
+                             List<ChartOfAccountsTemplate.Account> postings) throws SQLException {
+        int index = 1;
+        ps.setLong(index++, tenantId);
+        for (ChartOfAccountsTemplate.Account header : headers) {
+            index = bindAccount(ps, index, header);
+        }
+        ps.setLong(index++, tenantId);
+        ps.setLong(index++, tenantId);
+        for (ChartOfAccountsTemplate.Account posting : postings) {
+            index = bindAccount(ps, index, posting);
+            ps.setString(index++, posting.parentCode());
+            ps.setString(index++, posting.openItemType() != null ? posting.openItemType().name() : null);
+        }
+    }
+
+    private static int bindAccount(PreparedStatement ps, int index, ChartOfAccountsTemplate.Account account) throws SQLException {
+        ps.setString(index++, account.code());
+        ps.setString(index++, account.name());
+        ps.setString(index++, account.type().name());
+        ps.setString(index++, account.accountClass().name());
+        return index;
+    }
+}
@@ -3,18 +3,24 @@ package com.universal.accounting.ledger.service;
 import com.universal.accounting.common.models.JournalEntry;
 import com.universal.accounting.common.models.JournalEntryLine;
 import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.event.contracts.publisher.AfterCommit;
+import com.universal.accounting.event.contracts.publisher.EventPublisher;
 import com.universal.accounting.ledger.dto.LedgerDto;
 import com.universal.accounting.ledger.repository.JournalEntryRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -23,65 +29,71 @@ import java.util.stream.Collectors;
 public class JournalEntryService {
     
     private final JournalEntryRepository journalEntryRepository;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EventPublisher eventPublisher;
+    
+    @Value("${ledger.batch.max-entries:1000}")
+    private int maxBatchEntries;
     
     @Transactional
     public LedgerDto.JournalEntryResponse createJournalEntry(Long tenantId, LedgerDto.CreateJournalEntryRequest request) {
-        // Validate double-entry bookkeeping
-        BigDecimal totalDebit = request.getLines().stream()
-                .map(line -> line.getDebitAmount() != null ? line.getDebitAmount() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        BigDecimal totalCredit = request.getLines().stream()
-                .map(line -> line.getCreditAmount() != null ? line.getCreditAmount() : BigDecimal.ZERO)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        
-        if (totalDebit.compareTo(totalCredit) != 0) {
-            throw new RuntimeException("Total debits must equal total credits");
-        }
-        
         // Generate entry number
         String entryNumber = "JE-" + System.currentTimeMillis();
         
-        JournalEntry journalEntry = JournalEntry.builder()
-                .tenantId(tenantId)
-                .entryNumber(entryNumber)
-                .entryDate(request.getEntryDate())
-                .description(request.getDescription())
-                .reference(request.getReference())
-                .status(JournalEntry.EntryStatus.DRAFT)
-                .totalDebit(totalDebit)
-                .totalCredit(totalCredit)
-                .build();
-        
+        JournalEntry journalEntry = buildJournalEntry(tenantId, request, entryNumber, JournalEntry.EntryStatus.DRAFT);
         journalEntry = journalEntryRepository.save(journalEntry);
-        final JournalEntry finalJournalEntry = journalEntry;
         
-        // Create journal entry lines
-        List<JournalEntryLine> lines = request.getLines().stream()
-                .map(lineRequest -> JournalEntryLine.builder()
-                        .journalEntry(finalJournalEntry)
-                        .accountId(lineRequest.getAccountId())
-                        .description(lineRequest.getDescription())
-                        .debitAmount(lineRequest.getDebitAmount() != null ? lineRequest.getDebitAmount() : BigDecimal.ZERO)
-                        .creditAmount(lineRequest.getCreditAmount() != null ? lineRequest.getCreditAmount() : BigDecimal.ZERO)
-                        .build())
-                .collect(Collectors.toList());
+        publishAfterCommit(tenantId, List.of(createdEvent(journalEntry)));
         
-        journalEntry.setLines(lines);
-        journalEntry = journalEntryRepository.save(journalEntry);
+        return mapToResponse(journalEntry);
+    }
+    
+    /**
+     * Creates a batch of entries in one transaction. Entries are idempotent by reference:
+     * an entry whose reference the tenant already holds is counted as a duplicate and
+     * skipped, so a client may resend a batch whose response it never received.
+     */
+    @Transactional
+    public LedgerDto.JournalEntryBatchResponse createJournalEntries(Long tenantId, LedgerDto.CreateJournalEntryBatchRequest request) {
+        List<LedgerDto.CreateJournalEntryRequest> requests = request.getEntries();
+        if (requests.size() > maxBatchEntries) {
+            throw new IllegalArgumentException("A batch may hold at most " + maxBatchEntries + " entries");
+        }
         
-        // Publish journal entry created event
-        Events.JournalEntryCreated event = new Events.JournalEntryCreated(
-                tenantId,
-                journalEntry.getId(),
-                journalEntry.getEntryNumber(),
-                LocalDateTime.now(),
-                "system"
-        );
-        kafkaTemplate.send("ledger-events", event);
+        Set<String> references = requests.stream()
+                .map(LedgerDto.CreateJournalEntryRequest::getReference)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Set<String> seen = references.isEmpty()
+                ? new HashSet<>()
+                : new HashSet<>(journalEntryRepository.findExistingReferences(tenantId, references));
         
-        return mapToResponse(journalEntry);
+        JournalEntry.EntryStatus status = request.isPost() ? JournalEntry.EntryStatus.POSTED : JournalEntry.EntryStatus.DRAFT;
+        String entryNumberPrefix = "JE-" + System.currentTimeMillis() + "-";
+        List<JournalEntry> journalEntries = new ArrayList<>(requests.size());
+        int duplicates = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            LedgerDto.CreateJournalEntryRequest entryRequest = requests.get(i);
+            if (entryRequest.getReference() != null && !seen.add(entryRequest.getReference())) {
+                duplicates++;
+                continue;
+            }
+            journalEntries.add(buildJournalEntry(tenantId, entryRequest, entryNumberPrefix + i, status));
+        }
+        
+        journalEntries = journalEntryRepository.saveAll(journalEntries);
+        List<Object> events = new ArrayList<>(request.isPost() ? journalEntries.size() * 2 : journalEntries.size());
+        for (JournalEntry journalEntry : journalEntries) {
+            events.add(createdEvent(journalEntry));
+            if (request.isPost()) {
+                events.add(postedEvent(journalEntry));
+            }
+        }
+        publishAfterCommit(tenantId, events);
+        
+        return LedgerDto.JournalEntryBatchResponse.builder()
+                .created(journalEntries.size())
+                .duplicates(duplicates)
+                .build();
     }
     
     @Transactional
@@ -100,15 +112,7 @@ public class JournalEntryService {
         journalEntry.setStatus(JournalEntry.EntryStatus.POSTED);
         journalEntry = journalEntryRepository.save(journalEntry);
         
-        // Publish journal entry posted event
-        Events.JournalEntryPosted event = new Events.JournalEntryPosted(
-                tenantId,
-                journalEntry.getId(),
-                journalEntry.getEntryNumber(),
-                LocalDateTime.now(),
-                "system"
-        );
-        kafkaTemplate.send("ledger-events", event);
+        publishAfterCommit(tenantId, List.of(postedEvent(journalEntry)));
         
         return mapToResponse(journalEntry);
     }
@@ -137,6 +141,92 @@ public class JournalEntryService {
         return mapToResponse(journalEntry);
     }
     
+    private JournalEntry buildJournalEntry(Long tenantId, LedgerDto.CreateJournalEntryRequest request,
+                                           String entryNumber, JournalEntry.EntryStatus status) {
+        // Validate double-entry bookkeeping
+        BigDecimal totalDebit = request.getLines().stream()
+                .map(line -> line.getDebitAmount() != null ? line.getDebitAmount() : BigDecimal.ZERO)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        
+        BigDecimal totalCredit = request.getLines().stream()
+                .map(line -> line.getCreditAmount() != null ? line.getCreditAmount() : BigDecimal.ZERO)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        
+        if (totalDebit.compareTo(totalCredit) != 0) {
+            throw new RuntimeException("Total debits must equal total credits"
+                    + (request.getReference() != null ? " (" + request.getReference() + ")" : ""));
+        }
+        
+        JournalEntry journalEntry = JournalEntry.builder()
+                .tenantId(tenantId)
+                .entryNumber(entryNumber)
+                .entryDate(request.getEntryDate())
+                .description(request.getDescription())
+                .reference(request.getReference())
+                .status(status)
+                .totalDebit(totalDebit)
+                .totalCredit(totalCredit)
+                .build();
+        
+        // Create journal entry lines; they are saved with the entry
+        List<JournalEntryLine> lines = request.getLines().stream()
+                .map(lineRequest -> JournalEntryLine.builder()
+                        .journalEntry(journalEntry)
+                        .accountId(lineRequest.getAccountId())
+                        .description(lineRequest.getDescription())
+                        .debitAmount(lineRequest.getDebitAmount() != null ? lineRequest.getDebitAmount() : BigDecimal.ZERO)
+                        .creditAmount(lineRequest.getCreditAmount() != null ? lineRequest.getCreditAmount() : BigDecimal.ZERO)
+                        .counterparty(lineRequest.getCounterparty())
+                        .dueDate(lineRequest.getDueDate())
+                        .build())
+                .collect(Collectors.toList());
+        
+        journalEntry.setLines(lines);
+        return journalEntry;
+    }
+    
+    /**
+     * Publishes once the entries are committed, so consumers never see an entry that is
+     * rolled back or not yet readable. Events are built beforehand, while lines can still load.
+     */
+    private void publishAfterCommit(Long tenantId, List<Object> events) {
+        AfterCommit.run(() -> events.forEach(event -> eventPublisher.publish("ledger-events", tenantId, event)));
+    }
+    
+    private Events.JournalEntryCreated createdEvent(JournalEntry journalEntry) {
+        return new Events.JournalEntryCreated(
+                journalEntry.getTenantId(),
+                journalEntry.getId(),
+                journalEntry.getEntryNumber(),
+                LocalDateTime.now(),
+                "system"
+        );
+    }
+    
+    /**
+     * Journal entry posted event, carrying the line facts read models are built from
+     */
+    private Events.JournalEntryPosted postedEvent(JournalEntry journalEntry) {
+        List<Events.PostedLine> postedLines = journalEntry.getLines().stream()
+                .map(line -> new Events.PostedLine(
+                        line.getAccountId(),
+                        line.getDebitAmount(),
+                        line.getCreditAmount(),
+                        line.getCounterparty(),
+                        line.getDueDate()))
+                .collect(Collectors.toList());
+        
+        return new Events.JournalEntryPosted(
+                journalEntry.getTenantId(),
+                journalEntry.getId(),
+                journalEntry.getEntryNumber(),
+                LocalDateTime.now(),
+                "system",
+                journalEntry.getEntryDate(),
+                postedLines
+        );
+    }
+    
     private LedgerDto.JournalEntryResponse mapToResponse(JournalEntry journalEntry) {
         List<LedgerDto.JournalEntryLineResponse> lineResponses = journalEntry.getLines().stream()
                 .map(line -> LedgerDto.JournalEntryLineResponse.builder()
@@ -148,6 +238,8 @@ public class JournalEntryService {
                         .debitAmount(line.getDebitAmount())
                         .creditAmount(line.getCreditAmount())
                         .lineNumber(line.getLineNumber())
+                        .counterparty(line.getCounterparty())
+                        .dueDate(line.getDueDate())
                         .build())
                 .collect(Collectors.toList());
         
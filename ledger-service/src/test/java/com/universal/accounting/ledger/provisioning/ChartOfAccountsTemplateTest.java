@@ -0,0 +1,60 @@
+package com.universal.accounting.ledger.provisioning;
+
+import com.universal.accounting.common.models.ChartOfAccount.OpenItemType;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class ChartOfAccountsTemplateTest {
+
+    @Test
+    void accounts_ShouldHaveUniqueCodesAndParentsThatAreHeaders() {
+        for (String businessType : List.of("GENERAL", "RESTAURANT", "RETAIL", "FREELANCER")) {
+            // Given
+            List<ChartOfAccountsTemplate.Account> accounts = ChartOfAccountsTemplate.accounts(businessType);
+
+            // When
+            Set<String> headerCodes = accounts.stream()
+                    .filter(ChartOfAccountsTemplate.Account::isHeader)
+                    .map(ChartOfAccountsTemplate.Account::code)
+                    .collect(Collectors.toSet());
+
+            // Then
+            assertThat(accounts).extracting(ChartOfAccountsTemplate.Account::code).doesNotHaveDuplicates();
+            assertThat(accounts).filteredOn(account -> !account.isHeader())
+                    .allSatisfy(account -> assertThat(headerCodes).contains(account.parentCode()));
+        }
+    }
+
+    @Test
+    void accounts_ShouldFlagReceivableAndPayablePostingAccounts() {
+        // When
+        List<ChartOfAccountsTemplate.Account> general = ChartOfAccountsTemplate.accounts("GENERAL");
+        List<ChartOfAccountsTemplate.Account> freelancer = ChartOfAccountsTemplate.accounts("FREELANCER");
+
+        // Then
+        assertThat(general).filteredOn(account -> account.openItemType() != null)
+                .extracting(ChartOfAccountsTemplate.Account::code, ChartOfAccountsTemplate.Account::openItemType)
+                .containsExactlyInAnyOrder(
+                        tuple("1100", OpenItemType.RECEIVABLE),
+                        tuple("2010", OpenItemType.PAYABLE));
+        assertThat(freelancer).filteredOn(account -> account.openItemType() == OpenItemType.RECEIVABLE)
+                .extracting(ChartOfAccountsTemplate.Account::code)
+                .containsExactlyInAnyOrder("1100", "1110");
+        assertThat(freelancer).filteredOn(ChartOfAccountsTemplate.Account::isHeader)
+                .allSatisfy(header -> assertThat(header.openItemType()).isNull());
+    }
+
+    @Test
+    void templateFor_ShouldFallBackToGeneralForUnknownBusinessTypes() {
+        // When & Then
+        assertThat(ChartOfAccountsTemplate.templateFor("restaurant")).isEqualTo("RESTAURANT");
+        assertThat(ChartOfAccountsTemplate.templateFor("SHIPPING")).isEqualTo("GENERAL");
+        assertThat(ChartOfAccountsTemplate.templateFor(null)).isEqualTo("GENERAL");
+    }
+}
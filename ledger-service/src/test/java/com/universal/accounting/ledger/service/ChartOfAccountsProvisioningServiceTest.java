@@ -0,0 +1,110 @@
+package com.universal.accounting.ledger.service;
+
+import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.event.contracts.publisher.EventPublisher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class ChartOfAccountsProvisioningServiceTest {
+
+    private static final Events.TenantCreated EXISTING = new Events.TenantCreated(1L, "Acme", "RETAIL", LocalDateTime.now());
+    private static final Events.TenantCreated NEW = new Events.TenantCreated(2L, "Globex", "RETAIL", LocalDateTime.now());
+
+    private JdbcTemplate jdbcTemplate;
+    private EventPublisher eventPublisher;
+    private ChartOfAccountsProvisioningService service;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = mock(JdbcTemplate.class);
+        eventPublisher = mock(EventPublisher.class);
+        service = new ChartOfAccountsProvisioningService(jdbcTemplate, eventPublisher, new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(service, "jdbcBatchSize", 200);
+        // The statement inserts nothing for a tenant that already has accounts
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{0, 25}});
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void provision_WithRedeliveredTenant_ShouldCountAndAnnounceOnlyNewTenant() {
+        // When
+        int provisioned = service.provision(List.of(EXISTING, NEW));
+
+        // Then
+        assertThat(provisioned).isEqualTo(1);
+        ArgumentCaptor<Events.ChartOfAccountsProvisioned> event = ArgumentCaptor.forClass(Events.ChartOfAccountsProvisioned.class);
+        verify(eventPublisher).publish(eq("ledger-events"), eq(2L), event.capture());
+        verify(eventPublisher, never()).publish(any(), eq(1L), any());
+        assertThat(event.getValue().getTemplate()).isEqualTo("RETAIL");
+    }
+
+    @Test
+    void provision_InTransaction_ShouldAnnounceOnlyAfterCommit() {
+        // Given
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        service.provision(List.of(EXISTING, NEW));
+
+        // Then
+        verifyNoInteractions(eventPublisher);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(eventPublisher).publish(eq("ledger-events"), eq(2L), any(Events.ChartOfAccountsProvisioned.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void provision_ShouldGuardInsertAndBindOpenItemTypes() throws Exception {
+        // Given
+        when(jdbcTemplate.batchUpdate(anyString(), anyList(), anyInt(), any(ParameterizedPreparedStatementSetter.class)))
+                .thenReturn(new int[][]{{25}});
+
+        // When
+        service.provision(List.of(NEW));
+
+        // Then
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<Events.TenantCreated>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(sql.capture(), eq(List.of(NEW)), eq(200), setter.capture());
+        assertThat(sql.getValue())
+                .contains("WHERE NOT EXISTS (SELECT 1 FROM chart_of_accounts WHERE tenant_id = ?)")
+                .contains("open_item_type");
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, NEW);
+        verify(ps, atLeastOnce()).setString(anyInt(), eq("RECEIVABLE"));
+        verify(ps, atLeastOnce()).setString(anyInt(), eq("PAYABLE"));
+    }
+}
@@ -0,0 +1,218 @@
+package com.universal.accounting.ledger.service;
+
+import com.universal.accounting.common.models.JournalEntry;
+import com.universal.accounting.common.models.JournalEntryLine;
+import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.event.contracts.publisher.EventPublisher;
+import com.universal.accounting.ledger.dto.LedgerDto;
+import com.universal.accounting.ledger.repository.JournalEntryRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JournalEntryServiceTest {
+
+    @Mock
+    private JournalEntryRepository journalEntryRepository;
+
+    @Mock
+    private EventPublisher eventPublisher;
+
+    @InjectMocks
+    private JournalEntryService journalEntryService;
+
+    private LedgerDto.CreateJournalEntryRequest createRequest;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(journalEntryService, "maxBatchEntries", 1000);
+        lenient().when(eventPublisher.publish(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+        createRequest = request("INV-1", new BigDecimal("1000.00"), new BigDecimal("1000.00"));
+    }
+
+    @Test
+    void createJournalEntry_WithBalancedLines_ShouldSaveDraftAndPublishCreated() {
+        // Given
+        when(journalEntryRepository.save(any(JournalEntry.class))).thenAnswer(invocation -> withId(invocation.getArgument(0), 1L));
+
+        // When
+        LedgerDto.JournalEntryResponse response = journalEntryService.createJournalEntry(1L, createRequest);
+
+        // Then
+        assertThat(response.getId()).isEqualTo(1L);
+        assertThat(response.getTenantId()).isEqualTo(1L);
+        assertThat(response.getStatus()).isEqualTo("DRAFT");
+        assertThat(response.getTotalDebit()).isEqualByComparingTo("1000.00");
+        assertThat(response.getLines()).hasSize(2);
+        verify(eventPublisher).publish(eq("ledger-events"), eq(1L), any(Events.JournalEntryCreated.class));
+    }
+
+    @Test
+    void createJournalEntry_WithUnbalancedLines_ShouldThrowException() {
+        // Given
+        LedgerDto.CreateJournalEntryRequest unbalanced = request("INV-2", new BigDecimal("1000.00"), new BigDecimal("500.00"));
+
+        // When & Then
+        assertThatThrownBy(() -> journalEntryService.createJournalEntry(1L, unbalanced))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Total debits must equal total credits (INV-2)");
+        verifyNoInteractions(journalEntryRepository, eventPublisher);
+    }
+
+    @Test
+    void getJournalEntry_WithOtherTenant_ShouldThrowException() {
+        // Given
+        when(journalEntryRepository.findById(1L)).thenReturn(Optional.of(entry(2L, JournalEntry.EntryStatus.DRAFT)));
+
+        // When & Then
+        assertThatThrownBy(() -> journalEntryService.getJournalEntry(1L, 1L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Access denied");
+    }
+
+    @Test
+    void postJournalEntry_WithDraftEntry_ShouldPostAndPublishPostedLines() {
+        // Given
+        JournalEntry draft = entry(1L, JournalEntry.EntryStatus.DRAFT);
+        when(journalEntryRepository.findById(1L)).thenReturn(Optional.of(draft));
+        when(journalEntryRepository.save(draft)).thenReturn(draft);
+
+        // When
+        LedgerDto.JournalEntryResponse response = journalEntryService.postJournalEntry(1L, 1L);
+
+        // Then
+        assertThat(response.getStatus()).isEqualTo("POSTED");
+        verify(eventPublisher).publish(eq("ledger-events"), eq(1L), any(Events.JournalEntryPosted.class));
+    }
+
+    @Test
+    void postJournalEntry_WithPostedEntry_ShouldThrowException() {
+        // Given
+        when(journalEntryRepository.findById(1L)).thenReturn(Optional.of(entry(1L, JournalEntry.EntryStatus.POSTED)));
+
+        // When & Then
+        assertThatThrownBy(() -> journalEntryService.postJournalEntry(1L, 1L))
+                .isInstanceOf(RuntimeException.class)
+                .hasMessage("Only draft entries can be posted");
+        verify(journalEntryRepository, never()).save(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void createJournalEntries_WithKnownAndRepeatedReferences_ShouldSkipDuplicates() {
+        // Given
+        LedgerDto.CreateJournalEntryBatchRequest batch = LedgerDto.CreateJournalEntryBatchRequest.builder()
+                .post(true)
+                .entries(List.of(createRequest,
+                        request("INV-3", BigDecimal.TEN, BigDecimal.TEN),
+                        request("INV-3", BigDecimal.TEN, BigDecimal.TEN)))
+                .build();
+        when(journalEntryRepository.findExistingReferences(eq(1L), any())).thenReturn(List.of("INV-1"));
+        when(journalEntryRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<JournalEntry> saved = new ArrayList<>(invocation.getArgument(0));
+            saved.forEach(entry -> withId(entry, 7L));
+            return saved;
+        });
+
+        // When
+        LedgerDto.JournalEntryBatchResponse response = journalEntryService.createJournalEntries(1L, batch);
+
+        // Then
+        assertThat(response.getCreated()).isEqualTo(1);
+        assertThat(response.getDuplicates()).isEqualTo(2);
+        verify(eventPublisher).publish(eq("ledger-events"), eq(1L), any(Events.JournalEntryCreated.class));
+        verify(eventPublisher).publish(eq("ledger-events"), eq(1L), any(Events.JournalEntryPosted.class));
+    }
+
+    @Test
+    void createJournalEntries_InTransaction_ShouldPublishOnlyAfterCommit() {
+        // Given
+        LedgerDto.CreateJournalEntryBatchRequest batch = LedgerDto.CreateJournalEntryBatchRequest.builder()
+                .post(true)
+                .entries(List.of(createRequest))
+                .build();
+        when(journalEntryRepository.findExistingReferences(eq(1L), any())).thenReturn(List.of());
+        when(journalEntryRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<JournalEntry> saved = new ArrayList<>(invocation.getArgument(0));
+            saved.forEach(entry -> withId(entry, 7L));
+            return saved;
+        });
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            journalEntryService.createJournalEntries(1L, batch);
+
+            // Then
+            verifyNoInteractions(eventPublisher);
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(eventPublisher).publish(eq("ledger-events"), eq(1L), any(Events.JournalEntryCreated.class));
+            verify(eventPublisher).publish(eq("ledger-events"), eq(1L), any(Events.JournalEntryPosted.class));
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    private static LedgerDto.CreateJournalEntryRequest request(String reference, BigDecimal debit, BigDecimal credit) {
+        return LedgerDto.CreateJournalEntryRequest.builder()
+                .entryDate(LocalDate.of(2024, 3, 31))
+                .description("Consulting invoice")
+                .reference(reference)
+                .lines(List.of(
+                        LedgerDto.JournalEntryLineRequest.builder()
+                                .accountId(1100L).debitAmount(debit).creditAmount(BigDecimal.ZERO)
+                                .counterparty("CUSTOMER-1").dueDate(LocalDate.of(2024, 4, 30))
+                                .build(),
+                        LedgerDto.JournalEntryLineRequest.builder()
+                                .accountId(4100L).debitAmount(BigDecimal.ZERO).creditAmount(credit)
+                                .build()))
+                .build();
+    }
+
+    private static JournalEntry entry(Long tenantId, JournalEntry.EntryStatus status) {
+        JournalEntry entry = JournalEntry.builder()
+                .tenantId(tenantId)
+                .entryNumber("JE-1")
+                .entryDate(LocalDate.of(2024, 3, 31))
+                .description("Consulting invoice")
+                .status(status)
+                .totalDebit(BigDecimal.TEN)
+                .totalCredit(BigDecimal.TEN)
+                .build();
+        entry.setLines(List.of(
+                JournalEntryLine.builder().journalEntry(entry).accountId(1100L)
+                        .debitAmount(BigDecimal.TEN).creditAmount(BigDecimal.ZERO).build(),
+                JournalEntryLine.builder().journalEntry(entry).accountId(4100L)
+                        .debitAmount(BigDecimal.ZERO).creditAmount(BigDecimal.TEN).build()));
+        return withId(entry, 1L);
+    }
+
+    private static JournalEntry withId(JournalEntry entry, Long id) {
+        entry.setId(id);
+        return entry;
+    }
+}
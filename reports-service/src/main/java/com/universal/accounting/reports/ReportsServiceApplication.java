@@ -2,10 +2,14 @@ package com.universal.accounting.reports;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableKafka
+@EnableScheduling
+@EntityScan("com.universal.accounting.common.models")
 public class ReportsServiceApplication {
     public static void main(String[] args) {
         SpringApplication.run(ReportsServiceApplication.class, args);
@@ -0,0 +1,65 @@
+package com.universal.accounting.reports.config;
+
+import com.universal.accounting.event.contracts.retry.TieredRetryTopics;
+import com.universal.accounting.reports.consumer.LedgerEventListener;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.kafka.ConcurrentKafkaListenerContainerFactoryConfigurer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+
+/**
+ * Listener containers for ledger-events. Records arrive as poll-sized batches, one consumer
+ * thread per assigned partition group, and offsets are acknowledged by the listener only
+ * after the batch has been applied to the read model. A record that fails is moved to the
+ * retry topics instead of holding up its partition; the retry container processes those
+ * one at a time once their delay has passed.
+ */
+@Configuration
+public class KafkaConsumerConfig {
+
+    public static final String LEDGER_BATCH_LISTENER_FACTORY = "ledgerBatchListenerFactory";
+    public static final String LEDGER_RETRY_LISTENER_FACTORY = "ledgerRetryListenerFactory";
+
+    @Bean(LEDGER_BATCH_LISTENER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> ledgerBatchListenerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            TieredRetryTopics tieredRetryTopics,
+            KafkaTemplate<?, ?> kafkaTemplate,
+            @Value("${reports.ledger-consumer.concurrency:3}") int concurrency) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(true);
+        // Threads beyond the partition count sit idle, so size this to the topic's partitions
+        factory.setConcurrency(concurrency);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(tieredRetryTopics.errorHandler(kafkaTemplate));
+        return factory;
+    }
+
+    @Bean(LEDGER_RETRY_LISTENER_FACTORY)
+    public ConcurrentKafkaListenerContainerFactory<Object, Object> ledgerRetryListenerFactory(
+            ConcurrentKafkaListenerContainerFactoryConfigurer configurer,
+            ConsumerFactory<Object, Object> consumerFactory,
+            TieredRetryTopics tieredRetryTopics,
+            KafkaTemplate<?, ?> kafkaTemplate) {
+        ConcurrentKafkaListenerContainerFactory<Object, Object> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        configurer.configure(factory, consumerFactory);
+        factory.setBatchListener(false);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        factory.setCommonErrorHandler(tieredRetryTopics.errorHandler(kafkaTemplate));
+        return factory;
+    }
+
+    @Bean
+    public KafkaAdmin.NewTopics ledgerEventRetryTopics(TieredRetryTopics tieredRetryTopics,
+                                                       @Value("${reports.ledger-consumer.retry-partitions:3}") int partitions,
+                                                       @Value("${reports.ledger-consumer.retry-replicas:1}") int replicas) {
+        return tieredRetryTopics.newTopics(LedgerEventListener.LEDGER_EVENTS_TOPIC, partitions, replicas);
+    }
+}
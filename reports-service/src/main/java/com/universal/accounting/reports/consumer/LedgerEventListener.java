@@ -0,0 +1,263 @@
+package com.universal.accounting.reports.consumer;
+
+import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.event.contracts.envelope.EnvelopeHeaders;
+import com.universal.accounting.event.contracts.envelope.EventEnvelope;
+import com.universal.accounting.event.contracts.envelope.EventLagRecorder;
+import com.universal.accounting.event.contracts.retry.TieredRetryTopics;
+import com.universal.accounting.reports.config.KafkaConsumerConfig;
+import com.universal.accounting.reports.readmodel.LedgerFactStore;
+import com.universal.accounting.reports.service.ChartOfAccountsCache;
+import com.universal.accounting.reports.service.OpenItemService;
+import com.universal.accounting.reports.service.ReportPrewarmScheduler;
+import com.universal.accounting.tracing.Scope;
+import com.universal.accounting.tracing.Span;
+import com.universal.accounting.tracing.SpanKind;
+import com.universal.accounting.tracing.TraceParent;
+import com.universal.accounting.tracing.Tracer;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Feeds the ledger fact read model and the open-item index from ledger-events, triggers
+ * report pre-computation when a period is closed and drops the cached chart of a tenant
+ * whose accounts were just provisioned.
+ * Records are consumed in poll-sized batches and applied partition by partition inside one
+ * read-only transaction, so chart-of-accounts lookups for the whole batch share a single
+ * connection. Offsets are acknowledged only after the batch is applied; a failing record
+ * commits everything before it, is moved to the retry topics, and the rest of the batch is
+ * redelivered. Both projections deduplicate by journal entry, so redelivery is harmless.
+ * The read model lives in process memory, so every instance needs every tenant: each one
+ * consumes in a consumer group of its own and is assigned all partitions. On assignment the
+ * consumer rewinds to the offsets covered by the last local snapshot, or to the beginning of
+ * a partition no snapshot covers, so facts lost with process memory are replayed. Retry
+ * topics are read per instance too; a record retried by several instances is applied once
+ * by each, which the deduplication makes harmless.
+ * Produce-to-apply lag of every applied record is taken from its envelope headers, and each
+ * record is applied inside a consumer span that continues the producer's trace.
+ */
+@Component
+@Slf4j
+public class LedgerEventListener implements ConsumerSeekAware {
+
+    public static final String LEDGER_EVENTS_TOPIC = "ledger-events";
+
+    private final LedgerFactStore ledgerFactStore;
+    private final ReportPrewarmScheduler reportPrewarmScheduler;
+    private final OpenItemService openItemService;
+    private final ChartOfAccountsCache chartOfAccountsCache;
+    private final TieredRetryTopics tieredRetryTopics;
+    private final EventLagRecorder eventLagRecorder;
+    private final Tracer tracer;
+    private final TransactionTemplate batchTransaction;
+    private final MeterRegistry meterRegistry;
+    private final Counter recordsApplied;
+    private final Counter retriedRecords;
+    private final DistributionSummary batchSize;
+    private final Timer batchTimer;
+    private final ConcurrentMap<Integer, AtomicLong> partitionLag = new ConcurrentHashMap<>();
+
+    public LedgerEventListener(LedgerFactStore ledgerFactStore,
+                               ReportPrewarmScheduler reportPrewarmScheduler,
+                               OpenItemService openItemService,
+                               ChartOfAccountsCache chartOfAccountsCache,
+                               TieredRetryTopics tieredRetryTopics,
+                               EventLagRecorder eventLagRecorder,
+                               Tracer tracer,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.ledgerFactStore = ledgerFactStore;
+        this.reportPrewarmScheduler = reportPrewarmScheduler;
+        this.openItemService = openItemService;
+        this.chartOfAccountsCache = chartOfAccountsCache;
+        this.tieredRetryTopics = tieredRetryTopics;
+        this.eventLagRecorder = eventLagRecorder;
+        this.tracer = tracer;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchTransaction.setReadOnly(true);
+        this.meterRegistry = meterRegistry;
+        this.recordsApplied = Counter.builder("reports.ledger.consumer.records")
+                .description("ledger-events records applied to the read model")
+                .register(meterRegistry);
+        this.retriedRecords = Counter.builder("reports.ledger.consumer.retried")
+                .description("ledger-events records applied from a retry topic")
+                .register(meterRegistry);
+        this.batchSize = DistributionSummary.builder("reports.ledger.consumer.batch.size")
+                .description("Records per ledger-events batch")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("reports.ledger.consumer.batch")
+                .description("Time to apply one ledger-events batch")
+                .register(meterRegistry);
+    }
+
+    @KafkaListener(topics = LEDGER_EVENTS_TOPIC,
+                   groupId = "${spring.application.name}-ledger-${random.uuid}",
+                   containerFactory = KafkaConsumerConfig.LEDGER_BATCH_LISTENER_FACTORY)
+    public void onLedgerEvents(List<ConsumerRecord<String, Object>> records, Acknowledgment acknowledgment,
+                               Consumer<?, ?> consumer) {
+        Map<Integer, List<ConsumerRecord<String, Object>>> byPartition = new LinkedHashMap<>();
+        for (ConsumerRecord<String, Object> record : records) {
+            byPartition.computeIfAbsent(record.partition(), partition -> new ArrayList<>()).add(record);
+        }
+        List<Events.PeriodClosed> closedPeriods = new ArrayList<>();
+
+        try {
+            batchTimer.record(() -> batchTransaction.executeWithoutResult(status ->
+                    byPartition.values().forEach(partitionRecords -> applyPartition(partitionRecords, closedPeriods))));
+            acknowledgment.acknowledge();
+            recordsApplied.increment(records.size());
+            batchSize.record(records.size());
+            byPartition.keySet().forEach(partition -> recordLag(consumer, partition));
+            records.forEach(record -> eventLagRecorder.record(LEDGER_EVENTS_TOPIC, record));
+        } finally {
+            // Closures seen before a failing record are committed with it, so pre-compute them regardless
+            closedPeriods.forEach(closed ->
+                    reportPrewarmScheduler.prewarmAfterPeriodClose(closed.getTenantId(), closed.getPeriodEnd()));
+        }
+    }
+
+    /**
+     * Records moved to a retry topic, processed one at a time once their tier delay has passed.
+     * A record that fails again moves on to the next tier or the dead-letter topic.
+     */
+    @KafkaListener(topics = "#{@tieredRetryTopics.retryTopics('" + LEDGER_EVENTS_TOPIC + "')}",
+                   groupId = "${spring.application.name}-ledger-retry-${random.uuid}",
+                   containerFactory = KafkaConsumerConfig.LEDGER_RETRY_LISTENER_FACTORY)
+    public void onLedgerEventRetry(ConsumerRecord<String, Object> record, Acknowledgment acknowledgment) {
+        long delayMs = tieredRetryTopics.remainingDelayMs(record);
+        if (delayMs > 0) {
+            // Pauses this retry partition and redelivers the record when due
+            acknowledgment.nack(Duration.ofMillis(delayMs));
+            return;
+        }
+        List<Events.PeriodClosed> closedPeriods = new ArrayList<>();
+        EventEnvelope envelope = EnvelopeHeaders.read(record);
+        batchTransaction.executeWithoutResult(status -> applyTraced(envelope, closedPeriods));
+        acknowledgment.acknowledge();
+        retriedRecords.increment();
+        // The envelope headers survive the retry hops, so the lag includes the time spent retrying
+        eventLagRecorder.record(LEDGER_EVENTS_TOPIC, envelope);
+        closedPeriods.forEach(closed ->
+                reportPrewarmScheduler.prewarmAfterPeriodClose(closed.getTenantId(), closed.getPeriodEnd()));
+    }
+
+    private void applyPartition(List<ConsumerRecord<String, Object>> records, List<Events.PeriodClosed> closedPeriods) {
+        int applied = 0;
+        for (ConsumerRecord<String, Object> record : records) {
+            if (record.value() == null
+                    && record.headers().lastHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER) != null) {
+                throw new BatchListenerFailedException("Undeserializable ledger event at offset " + record.offset(),
+                        new DeserializationException("Undeserializable ledger event", null, false, null), record);
+            }
+            try {
+                if (applyTraced(EnvelopeHeaders.read(record), closedPeriods)) {
+                    applied++;
+                }
+            } catch (RuntimeException e) {
+                throw new BatchListenerFailedException("Failed to apply ledger event at offset " + record.offset(), e, record);
+            }
+            ledgerFactStore.markApplied(record.partition(), record.offset());
+        }
+        log.debug("Applied {} of {} ledger events from partition {}",
+                applied, records.size(), records.get(0).partition());
+    }
+
+    private boolean applyTraced(EventEnvelope envelope, List<Events.PeriodClosed> closedPeriods) {
+        Span span = tracer.startSpan(LEDGER_EVENTS_TOPIC + " process", SpanKind.CONSUMER,
+                        TraceParent.parse(envelope.getTraceParent()))
+                .tag("event.type", envelope.getEventType())
+                .tag("tenant.id", envelope.getTenantId());
+        try (Scope scope = span.makeCurrent()) {
+            return apply(envelope.getPayload(), closedPeriods);
+        } catch (RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+
+    private boolean apply(Object event, List<Events.PeriodClosed> closedPeriods) {
+        if (event instanceof Events.JournalEntryPosted posted) {
+            boolean applied = ledgerFactStore.apply(posted);
+            openItemService.apply(posted);
+            return applied;
+        }
+        if (event instanceof Events.PeriodClosed closed) {
+            closedPeriods.add(closed);
+        }
+        if (event instanceof Events.ChartOfAccountsProvisioned provisioned) {
+            chartOfAccountsCache.evict(provisioned.getTenantId());
+        }
+        return false;
+    }
+
+    private void recordLag(Consumer<?, ?> consumer, int partition) {
+        OptionalLong lag = consumer.currentLag(new TopicPartition(LEDGER_EVENTS_TOPIC, partition));
+        if (lag.isPresent()) {
+            partitionLag.computeIfAbsent(partition, this::registerLagGauge).set(lag.getAsLong());
+        }
+    }
+
+    private AtomicLong registerLagGauge(int partition) {
+        AtomicLong lag = new AtomicLong();
+        Gauge.builder("reports.ledger.consumer.lag", lag, AtomicLong::get)
+                .description("Records between the last applied ledger-events offset and the partition end")
+                .tag("partition", String.valueOf(partition))
+                .register(meterRegistry);
+        return lag;
+    }
+
+    /**
+     * Resumes each ledger-events partition after the last offset held in memory or restored
+     * from the snapshot. A partition with neither (fresh instance, lost snapshot volume) is
+     * replayed from the beginning: the group is new on every start, so it has no committed
+     * offsets worth resuming from. Retry topic partitions start from the reset policy.
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        Map<Integer, Long> snapshotOffsets = ledgerFactStore.appliedOffsets();
+        List<TopicPartition> replayFromStart = new ArrayList<>();
+        assignments.keySet().forEach(partition -> {
+            if (!LEDGER_EVENTS_TOPIC.equals(partition.topic())) {
+                return;
+            }
+            Long offset = snapshotOffsets.get(partition.partition());
+            if (offset != null) {
+                callback.seek(partition.topic(), partition.partition(), offset + 1);
+            } else {
+                replayFromStart.add(partition);
+            }
+        });
+        if (!replayFromStart.isEmpty()) {
+            log.info("No applied offsets for {}, replaying them from the beginning", replayFromStart);
+            callback.seekToBeginning(replayFromStart);
+        }
+    }
+}
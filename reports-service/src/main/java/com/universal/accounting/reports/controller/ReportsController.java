@@ -1,13 +1,19 @@
 package com.universal.accounting.reports.controller;
 
 import com.universal.accounting.reports.dto.ReportsDto;
+import com.universal.accounting.reports.service.BalanceVerifier;
+import com.universal.accounting.reports.service.DrillDownService;
+import com.universal.accounting.reports.service.LedgerQueryService;
 import com.universal.accounting.reports.service.ReportsService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 
 @RestController
 @RequestMapping("/api/reports")
@@ -15,6 +21,9 @@ import java.time.LocalDate;
 public class ReportsController {
     
     private final ReportsService reportsService;
+    private final LedgerQueryService ledgerQueryService;
+    private final DrillDownService drillDownService;
+    private final BalanceVerifier balanceVerifier;
     
     @GetMapping("/profit-loss")
     public ResponseEntity<ReportsDto.ProfitLossResponse> getProfitLossReport(
@@ -40,4 +49,92 @@ public class ReportsController {
         ReportsDto.TrialBalanceResponse response = reportsService.generateTrialBalanceReport(tenantId, asOfDate);
         return ResponseEntity.ok(response);
     }
+    
+    @GetMapping("/account-hierarchy")
+    public ResponseEntity<ReportsDto.AccountHierarchyResponse> getAccountHierarchyReport(
+            @RequestHeader("X-Tenant-ID") Long tenantId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate,
+            @RequestParam(required = false) Integer maxDepth) {
+        ReportsDto.AccountHierarchyResponse response =
+                reportsService.generateAccountHierarchyReport(tenantId, startDate, asOfDate, maxDepth);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/comparative/profit-loss")
+    public ResponseEntity<ReportsDto.ComparativeReportResponse> getComparativeProfitLossReport(
+            @RequestHeader("X-Tenant-ID") Long tenantId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "MONTH") ReportsDto.PeriodGranularity granularity) {
+        ReportsDto.ComparativeReportResponse response =
+                reportsService.generateComparativeProfitLossReport(tenantId, startDate, endDate, granularity);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/comparative/balance-sheet")
+    public ResponseEntity<ReportsDto.ComparativeReportResponse> getComparativeBalanceSheetReport(
+            @RequestHeader("X-Tenant-ID") Long tenantId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(defaultValue = "MONTH") ReportsDto.PeriodGranularity granularity) {
+        ReportsDto.ComparativeReportResponse response =
+                reportsService.generateComparativeBalanceSheetReport(tenantId, startDate, endDate, granularity);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/cash-flow")
+    public ResponseEntity<ReportsDto.CashFlowResponse> getCashFlowReport(
+            @RequestHeader("X-Tenant-ID") Long tenantId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth startMonth,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth endMonth) {
+        ReportsDto.CashFlowResponse response = reportsService.generateCashFlowReport(tenantId, startMonth, endMonth);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/aging")
+    public ResponseEntity<ReportsDto.AgingReportResponse> getAgingReport(
+            @RequestHeader("X-Tenant-ID") Long tenantId,
+            @RequestParam ReportsDto.AgingType type,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOfDate) {
+        ReportsDto.AgingReportResponse response = reportsService.generateAgingReport(
+                tenantId, type, asOfDate != null ? asOfDate : LocalDate.now());
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/query")
+    public ResponseEntity<ReportsDto.LedgerQueryResponse> queryLedger(
+            @RequestHeader("X-Tenant-ID") Long tenantId,
+            @Valid @RequestBody ReportsDto.LedgerQueryRequest request) {
+        ReportsDto.LedgerQueryResponse response = ledgerQueryService.query(tenantId, request);
+        return ResponseEntity.ok(response);
+    }
+    
+    @GetMapping("/drill-down")
+    public ResponseEntity<ReportsDto.DrillDownResponse> drillDown(
+            @RequestHeader("X-Tenant-ID") Long tenantId,
+            @RequestParam Long accountId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int pageSize) {
+        ReportsDto.DrillDownResponse response =
+                drillDownService.drillDown(tenantId, accountId, startDate, endDate, cursor, pageSize);
+        return ResponseEntity.ok(response);
+    }
+    
+    @PostMapping("/verification")
+    public ResponseEntity<ReportsDto.VerificationJobStatus> verifyBalances(
+            @RequestHeader("X-Tenant-ID") Long tenantId) {
+        ReportsDto.VerificationJobStatus response = balanceVerifier.submitTenant(tenantId);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+    
+    @GetMapping("/verification/{jobId}")
+    public ResponseEntity<ReportsDto.VerificationJobStatus> getVerification(
+            @RequestHeader("X-Tenant-ID") Long tenantId,
+            @PathVariable String jobId) {
+        ReportsDto.VerificationJobStatus response = balanceVerifier.getJob(tenantId, jobId);
+        return ResponseEntity.ok(response);
+    }
 }
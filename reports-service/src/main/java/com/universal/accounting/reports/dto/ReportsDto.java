@@ -5,8 +5,15 @@ import lombok.Builder;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 
 public class ReportsDto {
@@ -79,4 +86,346 @@ public class ReportsDto {
         private BigDecimal debitBalance;
         private BigDecimal creditBalance;
     }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AccountHierarchyResponse {
+        private LocalDate startDate;
+        private LocalDate asOfDate;
+        private Integer maxDepth;
+        private List<AccountHierarchyItem> items;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AccountHierarchyItem {
+        private Long accountId;
+        private Long parentAccountId;
+        private String accountName;
+        private String accountCode;
+        private String accountType;
+        private Integer level;
+        private BigDecimal ownBalance;
+        private BigDecimal rollupBalance;
+    }
+    
+    public enum PeriodGranularity {
+        MONTH, QUARTER, YEAR
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PeriodColumn {
+        private String label;
+        private LocalDate startDate;
+        private LocalDate endDate;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ComparativeReportResponse {
+        private String reportType;
+        private PeriodGranularity granularity;
+        private List<PeriodColumn> periods;
+        private List<ComparativeRow> rows;
+        private List<ComparativeRow> totals;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ComparativeRow {
+        private String accountName;
+        private String accountCode;
+        private String accountType;
+        private List<BigDecimal> amounts;
+    }
+    
+    public enum ReportType {
+        PROFIT_LOSS, BALANCE_SHEET, TRIAL_BALANCE, ACCOUNT_HIERARCHY,
+        COMPARATIVE_PROFIT_LOSS, COMPARATIVE_BALANCE_SHEET
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReportSpec {
+        @NotNull(message = "Report type is required")
+        private ReportType type;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private LocalDate asOfDate;
+        private PeriodGranularity granularity;
+        private Integer maxDepth;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchReportRequest {
+        @NotEmpty(message = "Tenant IDs are required")
+        private List<Long> tenantIds;
+        
+        @Valid
+        @NotEmpty(message = "Report specs are required")
+        private List<ReportSpec> reports;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BatchJobStatus {
+        private String jobId;
+        private String status;
+        private Integer totalReports;
+        private Integer completedReports;
+        private Integer failedReports;
+        private Integer parallelism;
+        private Double reportsPerSecond;
+        private String outputDirectory;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CashFlowResponse {
+        private YearMonth startMonth;
+        private YearMonth endMonth;
+        private BigDecimal netIncome;
+        private List<CashFlowItem> operatingActivities;
+        private BigDecimal netCashFromOperating;
+        private List<CashFlowItem> investingActivities;
+        private BigDecimal netCashFromInvesting;
+        private List<CashFlowItem> financingActivities;
+        private BigDecimal netCashFromFinancing;
+        private BigDecimal netChangeInCash;
+        private BigDecimal openingCash;
+        private BigDecimal closingCash;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CashFlowItem {
+        private String description;
+        private String accountCode;
+        private BigDecimal amount;
+    }
+    
+    public enum AgingType {
+        RECEIVABLE, PAYABLE
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AgingReportResponse {
+        private AgingType agingType;
+        private LocalDate asOfDate;
+        private List<AgingRow> counterparties;
+        private AgingRow totals;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class AgingRow {
+        private String counterparty;
+        private BigDecimal current;
+        private BigDecimal days1To30;
+        private BigDecimal days31To60;
+        private BigDecimal days61To90;
+        private BigDecimal over90;
+        private BigDecimal unappliedCredits;
+        private BigDecimal totalOpen;
+    }
+    
+    public enum LedgerQueryGroupBy {
+        ACCOUNT, MONTH, ACCOUNT_AND_MONTH
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LedgerQueryRequest {
+        @NotNull(message = "Start date is required")
+        private LocalDate startDate;
+        
+        @NotNull(message = "End date is required")
+        private LocalDate endDate;
+        
+        private List<String> accountClasses;
+        
+        private List<String> accountCodes;
+        
+        private String referencePrefix;
+        
+        @PositiveOrZero(message = "Minimum amount must not be negative")
+        private BigDecimal minAmount;
+        
+        @PositiveOrZero(message = "Maximum amount must not be negative")
+        private BigDecimal maxAmount;
+        
+        @NotNull(message = "Group by is required")
+        private LedgerQueryGroupBy groupBy;
+        
+        @Positive(message = "Limit must be positive")
+        private Integer limit;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LedgerQueryResponse {
+        private List<LedgerQueryRow> rows;
+        private Integer rowLimit;
+        private Boolean truncated;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class LedgerQueryRow {
+        private Long accountId;
+        private String accountCode;
+        private String accountName;
+        private YearMonth month;
+        private BigDecimal totalDebit;
+        private BigDecimal totalCredit;
+        private BigDecimal netAmount;
+        private Long lineCount;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DrillDownResponse {
+        private Long accountId;
+        private String accountCode;
+        private String accountName;
+        private LocalDate startDate;
+        private LocalDate endDate;
+        private BigDecimal netMovement;
+        private BigDecimal reportAmount;
+        private List<DrillDownLine> lines;
+        private String nextCursor;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DrillDownLine {
+        private Long lineId;
+        private Long journalEntryId;
+        private String entryNumber;
+        private LocalDate entryDate;
+        private String reference;
+        private String description;
+        private BigDecimal debitAmount;
+        private BigDecimal creditAmount;
+        private String counterparty;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class VerificationResult {
+        private Long tenantId;
+        private Integer accountsChecked;
+        private List<BalanceMismatch> mismatches;
+        private LocalDateTime checkedAt;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class VerificationJobStatus {
+        private String jobId;
+        private Long tenantId;
+        // QUEUED, RUNNING, COMPLETED or FAILED
+        private String status;
+        private LocalDateTime submittedAt;
+        private LocalDateTime finishedAt;
+        // Set once COMPLETED
+        private VerificationResult result;
+        // Set once FAILED
+        private String error;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BalanceMismatch {
+        private Long accountId;
+        private String accountCode;
+        private BigDecimal maintainedBalance;
+        private BigDecimal journalBalance;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReplayRequest {
+        // Projection names to rebuild; all when empty
+        private List<String> projections;
+        // Tenants to rebuild; all when empty
+        private List<Long> tenantIds;
+        @PositiveOrZero(message = "From offset must not be negative")
+        private Long fromOffset;
+        private LocalDateTime fromTimestamp;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReplayStatus {
+        private String replayId;
+        private String status;
+        private List<String> projections;
+        private List<Long> tenantIds;
+        private Integer threads;
+        private Long recordsRead;
+        private Long eventsReplayed;
+        private Long recordsRemaining;
+        private String error;
+        private LocalDateTime startedAt;
+        private LocalDateTime finishedAt;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class DeadLetterReplayResult {
+        private String topic;
+        private Integer replayed;
+    }
 }
@@ -0,0 +1,39 @@
+package com.universal.accounting.reports.management;
+
+import com.universal.accounting.event.contracts.retry.DeadLetterReplayer;
+import com.universal.accounting.event.contracts.retry.TieredRetryTopics;
+import com.universal.accounting.reports.consumer.LedgerEventListener;
+import com.universal.accounting.reports.dto.ReportsDto;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code POST /actuator/deadletters} moves up to limit records (100 by default) from the
+ * ledger-events dead-letter topic back onto ledger-events
+ */
+@Component
+@Endpoint(id = "deadletters")
+public class DeadLettersEndpoint {
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final DeadLetterReplayer deadLetterReplayer;
+    private final TieredRetryTopics tieredRetryTopics;
+
+    public DeadLettersEndpoint(DeadLetterReplayer deadLetterReplayer, TieredRetryTopics tieredRetryTopics) {
+        this.deadLetterReplayer = deadLetterReplayer;
+        this.tieredRetryTopics = tieredRetryTopics;
+    }
+
+    @WriteOperation
+    public ReportsDto.DeadLetterReplayResult replay(@Nullable Integer limit) {
+        String topic = tieredRetryTopics.deadLetterTopic(LedgerEventListener.LEDGER_EVENTS_TOPIC);
+        int replayed = deadLetterReplayer.replay(topic, limit != null ? limit : DEFAULT_LIMIT);
+        return ReportsDto.DeadLetterReplayResult.builder()
+                .topic(topic)
+                .replayed(replayed)
+                .build();
+    }
+}
@@ -0,0 +1,39 @@
+package com.universal.accounting.reports.management;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Binds the JSON fields of an actuator write operation to a request DTO and validates it.
+ * Actuator hands operations the raw JSON values (numbers as Integer, nested objects as
+ * maps), so the DTO is built with the application's ObjectMapper instead.
+ */
+final class EndpointRequests {
+
+    private EndpointRequests() {
+    }
+
+    static <T> T bind(ObjectMapper objectMapper, Validator validator, Map<String, Object> fields, Class<T> type) {
+        T request;
+        try {
+            request = objectMapper.convertValue(fields, type);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidEndpointRequestException("Malformed request: " + e.getMessage(), "Malformed request");
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            String reason = violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            throw new InvalidEndpointRequestException("Invalid request: " + reason, reason);
+        }
+        return request;
+    }
+}
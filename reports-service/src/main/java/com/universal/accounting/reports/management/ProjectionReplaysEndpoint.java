@@ -0,0 +1,53 @@
+package com.universal.accounting.reports.management;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universal.accounting.reports.dto.ReportsDto;
+import com.universal.accounting.reports.service.ProjectionReplayService;
+import jakarta.validation.Validator;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code POST /actuator/projectionreplays} rebuilds read-model projections from ledger-events
+ * and {@code GET /actuator/projectionreplays/{replayId}} reports progress
+ */
+@Component
+@Endpoint(id = "projectionreplays")
+public class ProjectionReplaysEndpoint {
+
+    private final ProjectionReplayService projectionReplayService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public ProjectionReplaysEndpoint(ProjectionReplayService projectionReplayService, ObjectMapper objectMapper,
+                                     Validator validator) {
+        this.projectionReplayService = projectionReplayService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    @WriteOperation
+    public ReportsDto.ReplayStatus start(@Nullable List<Object> projections, @Nullable List<Object> tenantIds,
+                                         @Nullable Long fromOffset, @Nullable String fromTimestamp) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("projections", projections);
+        fields.put("tenantIds", tenantIds);
+        fields.put("fromOffset", fromOffset);
+        fields.put("fromTimestamp", fromTimestamp);
+        return projectionReplayService.submit(
+                EndpointRequests.bind(objectMapper, validator, fields, ReportsDto.ReplayRequest.class));
+    }
+
+    @ReadOperation
+    public ReportsDto.ReplayStatus status(@Selector String replayId) {
+        return projectionReplayService.getStatus(replayId);
+    }
+}
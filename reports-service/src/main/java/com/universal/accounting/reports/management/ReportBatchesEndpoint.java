@@ -0,0 +1,50 @@
+package com.universal.accounting.reports.management;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universal.accounting.reports.dto.ReportsDto;
+import com.universal.accounting.reports.service.ReportBatchService;
+import jakarta.validation.Validator;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code POST /actuator/reportbatches} runs a report batch across tenants and
+ * {@code GET /actuator/reportbatches/{jobId}} reports its progress. Batches span tenants, so
+ * they are an operator tool on the management endpoints, which the gateway does not route.
+ */
+@Component
+@Endpoint(id = "reportbatches")
+public class ReportBatchesEndpoint {
+
+    private final ReportBatchService reportBatchService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public ReportBatchesEndpoint(ReportBatchService reportBatchService, ObjectMapper objectMapper, Validator validator) {
+        this.reportBatchService = reportBatchService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    @WriteOperation
+    public ReportsDto.BatchJobStatus submit(@Nullable List<Object> tenantIds, @Nullable List<Object> reports) {
+        Map<String, Object> fields = new HashMap<>();
+        fields.put("tenantIds", tenantIds);
+        fields.put("reports", reports);
+        return reportBatchService.submit(
+                EndpointRequests.bind(objectMapper, validator, fields, ReportsDto.BatchReportRequest.class));
+    }
+
+    @ReadOperation
+    public ReportsDto.BatchJobStatus status(@Selector String jobId) {
+        return reportBatchService.getStatus(jobId);
+    }
+}
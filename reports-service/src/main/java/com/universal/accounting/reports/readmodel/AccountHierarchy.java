@@ -0,0 +1,155 @@
+package com.universal.accounting.reports.readmodel;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * Chart of accounts tree flattened into pre-order (Euler tour) intervals.
+ * Every account owns the half-open interval [enter, exit) of pre-order positions,
+ * which covers exactly its subtree, so subtree totals become a difference of two
+ * prefix sums. Built once per tenant and shared by all hierarchical reports.
+ */
+public class AccountHierarchy {
+
+    private final long[] preOrder;
+    private final int[] depth;
+    private final Map<Long, Integer> enter;
+    private final int[] exit;
+
+    private AccountHierarchy(long[] preOrder, int[] depth, Map<Long, Integer> enter, int[] exit) {
+        this.preOrder = preOrder;
+        this.depth = depth;
+        this.enter = enter;
+        this.exit = exit;
+    }
+
+    /**
+     * Builds the hierarchy from (accountId, parentAccountId) pairs given in display order.
+     * Accounts whose parent is missing, or that sit on a parent cycle, are treated as roots.
+     */
+    public static AccountHierarchy build(List<Long> accountIds, List<Long> parentIds) {
+        int n = accountIds.size();
+        Map<Long, Integer> positionById = new HashMap<>(n * 2);
+        for (int i = 0; i < n; i++) {
+            positionById.put(accountIds.get(i), i);
+        }
+        List<List<Integer>> children = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            children.add(new ArrayList<>());
+        }
+        List<Integer> roots = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            Integer parent = parentIds.get(i) != null ? positionById.get(parentIds.get(i)) : null;
+            if (parent == null || parent == i) {
+                roots.add(i);
+            } else {
+                children.get(parent).add(i);
+            }
+        }
+
+        long[] preOrder = new long[n];
+        int[] depth = new int[n];
+        int[] exit = new int[n];
+        Map<Long, Integer> enter = new HashMap<>(n * 2);
+        boolean[] visited = new boolean[n];
+        int[] counter = {0};
+        for (int root : roots) {
+            walk(root, accountIds, children, visited, preOrder, depth, enter, exit, counter);
+        }
+        // Nodes only reachable through a cycle were never visited from a root
+        for (int i = 0; i < n; i++) {
+            if (!visited[i]) {
+                walk(i, accountIds, children, visited, preOrder, depth, enter, exit, counter);
+            }
+        }
+        return new AccountHierarchy(preOrder, depth, enter, exit);
+    }
+
+    private static void walk(int root, List<Long> accountIds, List<List<Integer>> children, boolean[] visited,
+                             long[] preOrder, int[] depth, Map<Long, Integer> enter, int[] exit, int[] counter) {
+        // Iterative DFS: a node's exit position is known once all of its children are popped
+        Deque<int[]> stack = new ArrayDeque<>();
+        visited[root] = true;
+        stack.push(new int[]{root, 0, 0});
+        enterNode(root, 0, accountIds, preOrder, depth, enter, counter);
+        while (!stack.isEmpty()) {
+            int[] frame = stack.peek();
+            List<Integer> kids = children.get(frame[0]);
+            if (frame[1] < kids.size()) {
+                int child = kids.get(frame[1]++);
+                if (!visited[child]) {
+                    visited[child] = true;
+                    enterNode(child, frame[2] + 1, accountIds, preOrder, depth, enter, counter);
+                    stack.push(new int[]{child, 0, frame[2] + 1});
+                }
+            } else {
+                stack.pop();
+                exit[enter.get(accountIds.get(frame[0]))] = counter[0];
+            }
+        }
+    }
+
+    private static void enterNode(int node, int level, List<Long> accountIds, long[] preOrder, int[] depth,
+                                  Map<Long, Integer> enter, int[] counter) {
+        int position = counter[0]++;
+        preOrder[position] = accountIds.get(node);
+        depth[position] = level;
+        enter.put(accountIds.get(node), position);
+    }
+
+    public int size() {
+        return preOrder.length;
+    }
+
+    /**
+     * Account id at a pre-order position
+     */
+    public long accountAt(int position) {
+        return preOrder[position];
+    }
+
+    public int depthAt(int position) {
+        return depth[position];
+    }
+
+    /**
+     * Computes prefix sums of per-account balances laid out in pre-order
+     */
+    public Rollup rollup(ToLongFunction<Long> balanceOf) {
+        long[] prefix = new long[preOrder.length + 1];
+        for (int i = 0; i < preOrder.length; i++) {
+            prefix[i + 1] = prefix[i] + balanceOf.applyAsLong(preOrder[i]);
+        }
+        return new Rollup(prefix);
+    }
+
+    /**
+     * Prefix sums over one set of balances; any subtree total is answered in O(1)
+     */
+    public final class Rollup {
+
+        private final long[] prefix;
+
+        private Rollup(long[] prefix) {
+            this.prefix = prefix;
+        }
+
+        public long ownBalanceAt(int position) {
+            return prefix[position + 1] - prefix[position];
+        }
+
+        public long subtreeTotalAt(int position) {
+            return prefix[exit[position]] - prefix[position];
+        }
+
+        public long subtreeTotal(Long accountId) {
+            Integer position = enter.get(accountId);
+            return position != null ? subtreeTotalAt(position) : 0L;
+        }
+    }
+}
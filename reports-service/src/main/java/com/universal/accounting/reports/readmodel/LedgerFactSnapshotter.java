@@ -0,0 +1,126 @@
+package com.universal.accounting.reports.readmodel;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Persists the ledger fact read model to memory-mapped files under the snapshot directory
+ * and restores it on startup. Consumed offsets are captured before tenant files are written,
+ * so resuming from the manifest can only replay events, which the store deduplicates.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class LedgerFactSnapshotter {
+
+    private static final String TENANT_FILE_PREFIX = "tenant-";
+    private static final String TENANT_FILE_SUFFIX = ".facts";
+    private static final String OFFSETS_FILE = "offsets.manifest";
+
+    private final LedgerFactStore ledgerFactStore;
+    private final Map<Long, Long> snapshotVersions = new ConcurrentHashMap<>();
+
+    @Value("${reports.read-model.snapshot-dir:/app/data/read-model}")
+    private String snapshotDir;
+
+    @PostConstruct
+    public void restore() {
+        Path dir = Paths.get(snapshotDir);
+        if (!Files.isDirectory(dir)) {
+            log.info("No read model snapshots found in {}", dir);
+            return;
+        }
+        int restored = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(dir, TENANT_FILE_PREFIX + "*" + TENANT_FILE_SUFFIX)) {
+            for (Path file : files) {
+                try {
+                    TenantLedgerFacts facts = TenantLedgerFacts.readSnapshot(file);
+                    ledgerFactStore.restore(facts);
+                    snapshotVersions.put(facts.getTenantId(), facts.getVersion());
+                    restored++;
+                } catch (IOException e) {
+                    log.error("Failed to restore read model snapshot {}: {}", file, e.getMessage());
+                }
+            }
+            Path offsets = dir.resolve(OFFSETS_FILE);
+            if (Files.exists(offsets)) {
+                ledgerFactStore.restoreOffsets(readOffsets(offsets));
+            }
+        } catch (IOException e) {
+            log.error("Failed to list read model snapshots in {}: {}", dir, e.getMessage());
+        }
+        log.info("Restored read model snapshots for {} tenants", restored);
+    }
+
+    @Scheduled(fixedDelayString = "${reports.read-model.snapshot-interval-ms:300000}")
+    public void snapshot() {
+        Path dir = Paths.get(snapshotDir);
+        try {
+            Files.createDirectories(dir);
+            Map<Integer, Long> offsets = ledgerFactStore.appliedOffsets();
+            int written = 0;
+            for (TenantLedgerFacts facts : ledgerFactStore.allTenants()) {
+                long version = facts.getVersion();
+                if (snapshotVersions.getOrDefault(facts.getTenantId(), -1L) == version) {
+                    continue;
+                }
+                facts.writeSnapshot(dir.resolve(TENANT_FILE_PREFIX + facts.getTenantId() + TENANT_FILE_SUFFIX));
+                snapshotVersions.put(facts.getTenantId(), version);
+                written++;
+            }
+            writeOffsets(dir.resolve(OFFSETS_FILE), offsets);
+            if (written > 0) {
+                log.debug("Wrote read model snapshots for {} tenants", written);
+            }
+        } catch (IOException e) {
+            log.error("Failed to snapshot read model to {}: {}", dir, e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void snapshotOnShutdown() {
+        snapshot();
+    }
+
+    private void writeOffsets(Path file, Map<Integer, Long> offsets) throws IOException {
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, 4 + 12L * offsets.size());
+            buffer.putInt(offsets.size());
+            offsets.forEach((partition, offset) -> buffer.putInt(partition).putLong(offset));
+            buffer.force();
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Map<Integer, Long> readOffsets(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            int count = buffer.getInt();
+            Map<Integer, Long> offsets = new HashMap<>(count * 2);
+            for (int i = 0; i < count; i++) {
+                offsets.put(buffer.getInt(), buffer.getLong());
+            }
+            return offsets;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.universal.accounting.reports.readmodel;
+
+import com.universal.accounting.event.contracts.Events;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Event-fed read model holding every tenant's posted line facts in memory.
+ * Populated from ledger-events and restored from local snapshots on startup,
+ * so report aggregations never touch the database. Can be rebuilt from the event log
+ * by a projection replay.
+ */
+@Component
+@Slf4j
+public class LedgerFactStore implements ReplayableProjection {
+
+    public static final String PROJECTION_NAME = "ledger-facts";
+
+    private final ShadowTenantMap<TenantLedgerFacts> tenants = new ShadowTenantMap<>(TenantLedgerFacts::new);
+    private final ConcurrentMap<Integer, Long> appliedOffsets = new ConcurrentHashMap<>();
+
+    /**
+     * Applies a posted journal entry. Returns false when the entry was already present.
+     */
+    public boolean apply(Events.JournalEntryPosted event) {
+        if (!isComplete(event)) {
+            log.warn("Skipping incomplete JournalEntryPosted event for entry {}", event.getJournalEntryId());
+            return false;
+        }
+        long[] accountIds = accountIds(event.getLines());
+        long[] amounts = amounts(event.getLines());
+        int epochDay = (int) event.getEntryDate().toEpochDay();
+        return tenants.write(event.getTenantId(),
+                facts -> facts.append(event.getJournalEntryId(), epochDay, accountIds, amounts));
+    }
+
+    @Override
+    public String projectionName() {
+        return PROJECTION_NAME;
+    }
+
+    @Override
+    public void openShadow(Set<Long> tenantIds) {
+        tenants.openShadow(tenantIds);
+    }
+
+    @Override
+    public void replay(Object event) {
+        if (event instanceof Events.JournalEntryPosted posted && isComplete(posted)) {
+            long[] accountIds = accountIds(posted.getLines());
+            long[] amounts = amounts(posted.getLines());
+            int epochDay = (int) posted.getEntryDate().toEpochDay();
+            tenants.writeShadow(posted.getTenantId(),
+                    facts -> facts.append(posted.getJournalEntryId(), epochDay, accountIds, amounts));
+        }
+    }
+
+    @Override
+    public void swapShadow() {
+        tenants.swap((replaced, rebuilt) -> rebuilt.continueVersionFrom(replaced != null ? replaced.getVersion() : 0L));
+    }
+
+    @Override
+    public void discardShadow() {
+        tenants.discardShadow();
+    }
+
+    private boolean isComplete(Events.JournalEntryPosted event) {
+        return event.getTenantId() != null && event.getJournalEntryId() != null
+                && event.getEntryDate() != null && event.getLines() != null;
+    }
+
+    private long[] accountIds(List<Events.PostedLine> lines) {
+        long[] accountIds = new long[lines.size()];
+        for (int i = 0; i < lines.size(); i++) {
+            accountIds[i] = lines.get(i).getAccountId();
+        }
+        return accountIds;
+    }
+
+    private long[] amounts(List<Events.PostedLine> lines) {
+        long[] amounts = new long[lines.size()];
+        for (int i = 0; i < lines.size(); i++) {
+            Events.PostedLine line = lines.get(i);
+            amounts[i] = MinorUnits.toMinor(line.getDebitAmount()) - MinorUnits.toMinor(line.getCreditAmount());
+        }
+        return amounts;
+    }
+
+    /**
+     * Records the highest ledger-events offset applied for a partition
+     */
+    public void markApplied(int partition, long offset) {
+        appliedOffsets.merge(partition, offset, Math::max);
+    }
+
+    public Map<Integer, Long> appliedOffsets() {
+        return new HashMap<>(appliedOffsets);
+    }
+
+    void restoreOffsets(Map<Integer, Long> offsets) {
+        offsets.forEach(this::markApplied);
+    }
+
+    void restore(TenantLedgerFacts facts) {
+        tenants.put(facts.getTenantId(), facts);
+    }
+
+    /**
+     * Signed per-account totals (debit positive) for facts dated within [startDate, endDate].
+     * A null startDate means "from the beginning".
+     */
+    public Map<Long, Long> totalsByAccount(Long tenantId, LocalDate startDate, LocalDate endDate) {
+        TenantLedgerFacts facts = tenants.get(tenantId);
+        if (facts == null) {
+            return Collections.emptyMap();
+        }
+        int fromDay = startDate != null ? (int) startDate.toEpochDay() : Integer.MIN_VALUE;
+        int toDay = endDate != null ? (int) endDate.toEpochDay() : Integer.MAX_VALUE;
+        return facts.totalsByAccount(fromDay, toDay);
+    }
+
+    /**
+     * Per-account totals for consecutive periods starting at each boundary date; the last
+     * boundary is exclusive. Column 0 holds everything dated before the first boundary.
+     */
+    public Map<Long, long[]> totalsByAccountAndPeriod(Long tenantId, List<LocalDate> boundaries) {
+        TenantLedgerFacts facts = tenants.get(tenantId);
+        if (facts == null) {
+            return Collections.emptyMap();
+        }
+        int[] days = new int[boundaries.size()];
+        for (int i = 0; i < days.length; i++) {
+            days[i] = (int) boundaries.get(i).toEpochDay();
+        }
+        return facts.totalsByAccountAndPeriod(days);
+    }
+
+    /**
+     * Per-account movements from the monthly aggregates: [before startMonth, startMonth..endMonth]
+     */
+    public Map<Long, long[]> monthlyMovements(Long tenantId, YearMonth startMonth, YearMonth endMonth) {
+        TenantLedgerFacts facts = tenants.get(tenantId);
+        if (facts == null) {
+            return Collections.emptyMap();
+        }
+        return facts.monthlyMovements(
+                startMonth.getYear() * 12 + startMonth.getMonthValue() - 1,
+                endMonth.getYear() * 12 + endMonth.getMonthValue() - 1);
+    }
+
+    public long version(Long tenantId) {
+        TenantLedgerFacts facts = tenants.get(tenantId);
+        return facts != null ? facts.getVersion() : 0L;
+    }
+
+    public Collection<TenantLedgerFacts> allTenants() {
+        return tenants.values();
+    }
+}
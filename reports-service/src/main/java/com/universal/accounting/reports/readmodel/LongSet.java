@@ -0,0 +1,86 @@
+package com.universal.accounting.reports.readmodel;
+
+/**
+ * Open-addressing set of primitive longs with linear probing, used to deduplicate journal
+ * entry ids without boxing one Long per entry. Not thread-safe; owners guard it with their lock.
+ */
+final class LongSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] slots;
+    private int size;
+    private boolean containsZero;
+
+    LongSet() {
+        this.slots = new long[MIN_CAPACITY];
+    }
+
+    /**
+     * Returns false when the value was already present
+     */
+    boolean add(long value) {
+        if (value == 0L) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        int mask = slots.length - 1;
+        int index = index(value, mask);
+        while (slots[index] != 0L) {
+            if (slots[index] == value) {
+                return false;
+            }
+            index = (index + 1) & mask;
+        }
+        slots[index] = value;
+        size++;
+        // Linear probing degrades quickly past half full
+        if (size * 2 > slots.length) {
+            grow();
+        }
+        return true;
+    }
+
+    boolean contains(long value) {
+        if (value == 0L) {
+            return containsZero;
+        }
+        int mask = slots.length - 1;
+        int index = index(value, mask);
+        while (slots[index] != 0L) {
+            if (slots[index] == value) {
+                return true;
+            }
+            index = (index + 1) & mask;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private void grow() {
+        long[] previous = slots;
+        slots = new long[previous.length * 2];
+        int mask = slots.length - 1;
+        for (long value : previous) {
+            if (value != 0L) {
+                int index = index(value, mask);
+                while (slots[index] != 0L) {
+                    index = (index + 1) & mask;
+                }
+                slots[index] = value;
+            }
+        }
+    }
+
+    private static int index(long value, int mask) {
+        // Fibonacci hashing spreads sequential ids across the table
+        return (int) ((value * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+    }
+}
@@ -0,0 +1,30 @@
+package com.universal.accounting.reports.readmodel;
+
+import java.util.Set;
+
+/**
+ * An event-fed projection that can be rebuilt from ledger-events into a shadow copy while
+ * it keeps serving and applying live events, then swapped in once the rebuild has caught up
+ */
+public interface ReplayableProjection {
+
+    String projectionName();
+
+    /**
+     * Starts an empty shadow for the given tenants; null means every tenant
+     */
+    void openShadow(Set<Long> tenantIds);
+
+    /**
+     * Applies one replayed ledger-events payload to the shadow. Safe to call concurrently
+     * for different tenants.
+     */
+    void replay(Object event);
+
+    /**
+     * Applies live writes made since the shadow was opened, then publishes the shadow
+     */
+    void swapShadow();
+
+    void discardShadow();
+}
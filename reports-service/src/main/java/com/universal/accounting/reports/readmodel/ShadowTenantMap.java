@@ -0,0 +1,140 @@
+package com.universal.accounting.reports.readmodel;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Per-tenant projection state with an optional shadow being rebuilt by a replay.
+ * While a shadow is open, live writes for the rebuilt tenants are also queued for it and
+ * applied after the replayed history, so per-tenant order is kept and nothing written
+ * during the rebuild is missed. Writes must be idempotent: a queued write may repeat an
+ * event the replay already applied. Swapping publishes the rebuilt tenants in one step.
+ */
+public class ShadowTenantMap<T> {
+
+    private final Function<Long, T> factory;
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final Queue<Runnable> pendingShadowWrites = new ConcurrentLinkedQueue<>();
+    private volatile ConcurrentMap<Long, T> live = new ConcurrentHashMap<>();
+    private volatile ConcurrentMap<Long, T> shadow;
+    private volatile Set<Long> shadowTenants;
+
+    public ShadowTenantMap(Function<Long, T> factory) {
+        this.factory = factory;
+    }
+
+    public T get(Long tenantId) {
+        return live.get(tenantId);
+    }
+
+    public Collection<T> values() {
+        return Collections.unmodifiableCollection(live.values());
+    }
+
+    public void put(Long tenantId, T state) {
+        live.put(tenantId, state);
+    }
+
+    /**
+     * Applies an update to the tenant's live state, creating it when absent
+     */
+    public <R> R write(Long tenantId, Function<T, R> update) {
+        swapLock.readLock().lock();
+        try {
+            R result = update.apply(live.computeIfAbsent(tenantId, factory));
+            ConcurrentMap<Long, T> target = shadow;
+            if (target != null && inShadow(tenantId)) {
+                pendingShadowWrites.add(() -> update.apply(target.computeIfAbsent(tenantId, factory)));
+            }
+            return result;
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies an update to the tenant's shadow state; ignored for tenants outside the shadow
+     */
+    public void writeShadow(Long tenantId, Function<T, ?> update) {
+        ConcurrentMap<Long, T> target = shadow;
+        if (target != null && inShadow(tenantId)) {
+            update.apply(target.computeIfAbsent(tenantId, factory));
+        }
+    }
+
+    public void openShadow(Set<Long> tenantIds) {
+        swapLock.writeLock().lock();
+        try {
+            if (shadow != null) {
+                throw new IllegalStateException("A shadow rebuild is already open");
+            }
+            pendingShadowWrites.clear();
+            shadowTenants = tenantIds != null ? new HashSet<>(tenantIds) : null;
+            shadow = new ConcurrentHashMap<>();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Publishes the shadow for its tenants. Queued live writes are drained outside the lock
+     * first, so live writers are only blocked for the last few. onReplace sees each replaced
+     * live state (null for a new tenant) with its replacement before the swap.
+     */
+    public void swap(BiConsumer<T, T> onReplace) {
+        drainPendingWrites();
+        swapLock.writeLock().lock();
+        try {
+            ConcurrentMap<Long, T> rebuilt = shadow;
+            if (rebuilt == null) {
+                throw new IllegalStateException("No shadow rebuild is open");
+            }
+            drainPendingWrites();
+            ConcurrentMap<Long, T> next = new ConcurrentHashMap<>(live);
+            if (shadowTenants == null) {
+                next.clear();
+            } else {
+                next.keySet().removeAll(shadowTenants);
+            }
+            rebuilt.forEach((tenantId, state) -> onReplace.accept(live.get(tenantId), state));
+            next.putAll(rebuilt);
+            live = next;
+            shadow = null;
+            shadowTenants = null;
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    public void discardShadow() {
+        swapLock.writeLock().lock();
+        try {
+            shadow = null;
+            shadowTenants = null;
+            pendingShadowWrites.clear();
+        } finally {
+            swapLock.writeLock().unlock();
+        }
+    }
+
+    private boolean inShadow(Long tenantId) {
+        Set<Long> tenants = shadowTenants;
+        return tenants == null || tenants.contains(tenantId);
+    }
+
+    private void drainPendingWrites() {
+        Runnable write;
+        while ((write = pendingShadowWrites.poll()) != null) {
+            write.run();
+        }
+    }
+}
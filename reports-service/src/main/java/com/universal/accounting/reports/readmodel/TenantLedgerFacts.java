@@ -0,0 +1,429 @@
+package com.universal.accounting.reports.readmodel;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Columnar store of posted journal line facts for a single tenant.
+ * Facts are appended into chunks of primitive arrays (account, epoch day, signed amount
+ * in minor units, journal entry id) so report aggregations are plain array scans with no
+ * per-row objects. Debits are positive, credits negative. A chunk starts small and doubles
+ * up to {@link #CHUNK_SIZE} rows before the next one is opened, so the many small tenants
+ * do not each pay for a full chunk.
+ * Per-account monthly totals are maintained alongside the facts so period-level
+ * reports can work from pre-aggregated balances without scanning rows.
+ */
+public class TenantLedgerFacts {
+
+    static final int CHUNK_SIZE = 1 << 16;
+    static final int MIN_CHUNK_SIZE = 1 << 8;
+
+    private static final int SNAPSHOT_MAGIC = 0x4C464354;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 4;
+    private static final int ROW_BYTES = 4 + 4 + 8 + 8;
+
+    private final long tenantId;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Chunk> chunks = new ArrayList<>();
+    private final Map<Long, Integer> accountSlots = new HashMap<>();
+    private final LongSet appliedEntries = new LongSet();
+    private final TreeMap<Integer, long[]> monthlyTotals = new TreeMap<>();
+    private long[] accountIds = new long[64];
+    private int accountCount;
+    private int size;
+    private volatile long version;
+
+    public TenantLedgerFacts(long tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public long getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Monotonic counter bumped on every applied entry, used to detect stale snapshots and caches
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * Moves the version past one a replaced copy of this tenant reached, so caches and
+     * snapshots keyed by version never mistake a rebuilt store for the one it replaced
+     */
+    void continueVersionFrom(long previousVersion) {
+        lock.writeLock().lock();
+        try {
+            version = Math.max(version, previousVersion) + 1;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Appends the lines of one posted journal entry.
+     * Returns false when the entry was already applied, so redelivered events are harmless.
+     */
+    public boolean append(long journalEntryId, int epochDay, long[] lineAccountIds, long[] lineAmounts) {
+        lock.writeLock().lock();
+        try {
+            if (!appliedEntries.add(journalEntryId)) {
+                return false;
+            }
+            int month = monthKey(epochDay);
+            for (int i = 0; i < lineAccountIds.length; i++) {
+                int slot = accountSlot(lineAccountIds[i]);
+                appendRow(slot, epochDay, lineAmounts[i], journalEntryId);
+                addToMonth(month, slot, lineAmounts[i]);
+            }
+            version++;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean contains(long journalEntryId) {
+        lock.readLock().lock();
+        try {
+            return appliedEntries.contains(journalEntryId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sums signed amounts per account over facts dated within [fromDay, toDay]
+     */
+    public Map<Long, Long> totalsByAccount(int fromDay, int toDay) {
+        lock.readLock().lock();
+        try {
+            long[] sums = new long[accountCount];
+            for (Chunk chunk : chunks) {
+                int rows = chunk.rows;
+                int[] accounts = chunk.accounts;
+                int[] days = chunk.days;
+                long[] amounts = chunk.amounts;
+                for (int i = 0; i < rows; i++) {
+                    int day = days[i];
+                    if (day >= fromDay && day <= toDay) {
+                        sums[accounts[i]] += amounts[i];
+                    }
+                }
+            }
+            return toAccountMap(sums);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Sums signed amounts per account into contiguous periods in a single scan.
+     * Period i covers [boundaries[i], boundaries[i + 1]); the result has one extra leading
+     * column (index 0) accumulating every fact dated before boundaries[0], so callers can
+     * derive opening balances from the same pass. Facts on or after the last boundary are ignored.
+     */
+    public Map<Long, long[]> totalsByAccountAndPeriod(int[] boundaries) {
+        int periods = boundaries.length - 1;
+        int columns = periods + 1;
+        int first = boundaries[0];
+        int last = boundaries[periods];
+        lock.readLock().lock();
+        try {
+            long[] sums = new long[accountCount * columns];
+            for (Chunk chunk : chunks) {
+                int rows = chunk.rows;
+                int[] accounts = chunk.accounts;
+                int[] days = chunk.days;
+                long[] amounts = chunk.amounts;
+                for (int i = 0; i < rows; i++) {
+                    int day = days[i];
+                    if (day >= last) {
+                        continue;
+                    }
+                    int column = day < first ? 0 : periodOf(boundaries, day) + 1;
+                    sums[accounts[i] * columns + column] += amounts[i];
+                }
+            }
+            Map<Long, long[]> totals = new HashMap<>(accountCount * 2);
+            for (int slot = 0; slot < accountCount; slot++) {
+                totals.put(accountIds[slot], Arrays.copyOfRange(sums, slot * columns, (slot + 1) * columns));
+            }
+            return totals;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static int periodOf(int[] boundaries, int day) {
+        int low = 0;
+        int high = boundaries.length - 2;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (boundaries[mid] <= day) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Per-account movements from the monthly aggregates: index 0 holds everything before
+     * fromMonth, index 1 the movement over [fromMonth, toMonth]. Months are keys from
+     * {@link #monthKey(int)}. Costs O(months x accounts) regardless of the number of facts.
+     */
+    public Map<Long, long[]> monthlyMovements(int fromMonth, int toMonth) {
+        lock.readLock().lock();
+        try {
+            long[] before = new long[accountCount];
+            long[] within = new long[accountCount];
+            for (Map.Entry<Integer, long[]> month : monthlyTotals.headMap(toMonth, true).entrySet()) {
+                long[] target = month.getKey() < fromMonth ? before : within;
+                long[] totals = month.getValue();
+                for (int slot = 0; slot < Math.min(totals.length, accountCount); slot++) {
+                    target[slot] += totals[slot];
+                }
+            }
+            Map<Long, long[]> movements = new HashMap<>(accountCount * 2);
+            for (int slot = 0; slot < accountCount; slot++) {
+                movements.put(accountIds[slot], new long[]{before[slot], within[slot]});
+            }
+            return movements;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Months since 0000-01, the key used for monthly aggregates
+     */
+    public static int monthKey(int epochDay) {
+        LocalDate date = LocalDate.ofEpochDay(epochDay);
+        return date.getYear() * 12 + date.getMonthValue() - 1;
+    }
+
+    private void addToMonth(int month, int slot, long amount) {
+        long[] totals = monthlyTotals.get(month);
+        if (totals == null || totals.length <= slot) {
+            long[] grown = new long[Math.max(accountIds.length, slot + 1)];
+            if (totals != null) {
+                System.arraycopy(totals, 0, grown, 0, totals.length);
+            }
+            monthlyTotals.put(month, grown);
+            totals = grown;
+        }
+        totals[slot] += amount;
+    }
+
+    private Map<Long, Long> toAccountMap(long[] sums) {
+        Map<Long, Long> totals = new HashMap<>(sums.length * 2);
+        for (int slot = 0; slot < sums.length; slot++) {
+            totals.put(accountIds[slot], sums[slot]);
+        }
+        return totals;
+    }
+
+    private void appendRow(int accountSlot, int epochDay, long amount, long journalEntryId) {
+        Chunk chunk = writableChunk();
+        int offset = chunk.rows++;
+        chunk.accounts[offset] = accountSlot;
+        chunk.days[offset] = epochDay;
+        chunk.amounts[offset] = amount;
+        chunk.entries[offset] = journalEntryId;
+        size++;
+    }
+
+    private Chunk writableChunk() {
+        int last = chunks.size() - 1;
+        if (last < 0) {
+            chunks.add(new Chunk(MIN_CHUNK_SIZE));
+            return chunks.get(0);
+        }
+        Chunk chunk = chunks.get(last);
+        if (chunk.rows < chunk.capacity()) {
+            return chunk;
+        }
+        if (chunk.capacity() < CHUNK_SIZE) {
+            Chunk grown = chunk.grow(Math.min(CHUNK_SIZE, Math.max(MIN_CHUNK_SIZE, chunk.capacity() * 2)));
+            chunks.set(last, grown);
+            return grown;
+        }
+        Chunk next = new Chunk(MIN_CHUNK_SIZE);
+        chunks.add(next);
+        return next;
+    }
+
+    private int accountSlot(long accountId) {
+        Integer slot = accountSlots.get(accountId);
+        if (slot != null) {
+            return slot;
+        }
+        if (accountCount == accountIds.length) {
+            accountIds = Arrays.copyOf(accountIds, accountCount * 2);
+        }
+        accountIds[accountCount] = accountId;
+        accountSlots.put(accountId, accountCount);
+        return accountCount++;
+    }
+
+    /**
+     * Writes a memory-mapped snapshot, one mapped region per chunk, and atomically replaces the target file
+     */
+    public void writeSnapshot(Path file) throws IOException {
+        lock.readLock().lock();
+        try {
+            Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                long headerBytes = HEADER_BYTES + 8L * accountCount;
+                MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, headerBytes);
+                header.putInt(SNAPSHOT_MAGIC)
+                        .putInt(SNAPSHOT_VERSION)
+                        .putLong(tenantId)
+                        .putInt(accountCount)
+                        .putInt(size);
+                header.asLongBuffer().put(accountIds, 0, accountCount);
+                header.force();
+
+                long position = headerBytes;
+                for (Chunk chunk : chunks) {
+                    int rows = chunk.rows;
+                    MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_WRITE, position, (long) rows * ROW_BYTES);
+                    region.asIntBuffer().put(chunk.accounts, 0, rows);
+                    region.position(rows * 4);
+                    region.asIntBuffer().put(chunk.days, 0, rows);
+                    region.position(rows * 8);
+                    region.asLongBuffer().put(chunk.amounts, 0, rows);
+                    region.position(rows * 16);
+                    region.asLongBuffer().put(chunk.entries, 0, rows);
+                    region.force();
+                    position += (long) rows * ROW_BYTES;
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Restores a tenant's facts from a snapshot written by {@link #writeSnapshot(Path)}
+     */
+    public static TenantLedgerFacts readSnapshot(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer fixed = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_BYTES);
+            if (fixed.getInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Not a ledger fact snapshot: " + file);
+            }
+            int snapshotVersion = fixed.getInt();
+            if (snapshotVersion != SNAPSHOT_VERSION) {
+                throw new IOException("Unsupported snapshot version " + snapshotVersion + ": " + file);
+            }
+            TenantLedgerFacts facts = new TenantLedgerFacts(fixed.getLong());
+            int accounts = fixed.getInt();
+            int rowsTotal = fixed.getInt();
+
+            long[] ids = new long[Math.max(64, accounts)];
+            if (accounts > 0) {
+                channel.map(FileChannel.MapMode.READ_ONLY, HEADER_BYTES, 8L * accounts).asLongBuffer().get(ids, 0, accounts);
+            }
+            facts.accountIds = ids;
+            facts.accountCount = accounts;
+            for (int slot = 0; slot < accounts; slot++) {
+                facts.accountSlots.put(ids[slot], slot);
+            }
+
+            long position = HEADER_BYTES + 8L * accounts;
+            int remaining = rowsTotal;
+            while (remaining > 0) {
+                int rows = Math.min(remaining, CHUNK_SIZE);
+                MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, position, (long) rows * ROW_BYTES);
+                // Sized to the rows held; appending to the last chunk grows it as usual
+                Chunk chunk = new Chunk(rows);
+                chunk.rows = rows;
+                region.asIntBuffer().get(chunk.accounts, 0, rows);
+                region.position(rows * 4);
+                region.asIntBuffer().get(chunk.days, 0, rows);
+                region.position(rows * 8);
+                region.asLongBuffer().get(chunk.amounts, 0, rows);
+                region.position(rows * 16);
+                region.asLongBuffer().get(chunk.entries, 0, rows);
+                for (int i = 0; i < rows; i++) {
+                    facts.appliedEntries.add(chunk.entries[i]);
+                    facts.addToMonth(monthKey(chunk.days[i]), chunk.accounts[i], chunk.amounts[i]);
+                }
+                facts.chunks.add(chunk);
+                position += (long) rows * ROW_BYTES;
+                remaining -= rows;
+            }
+            facts.size = rowsTotal;
+            facts.version = rowsTotal;
+            return facts;
+        }
+    }
+
+    int chunkCapacity(int index) {
+        lock.readLock().lock();
+        try {
+            return chunks.get(index).capacity();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static final class Chunk {
+        final int[] accounts;
+        final int[] days;
+        final long[] amounts;
+        final long[] entries;
+        int rows;
+
+        Chunk(int capacity) {
+            this(new int[capacity], new int[capacity], new long[capacity], new long[capacity]);
+        }
+
+        private Chunk(int[] accounts, int[] days, long[] amounts, long[] entries) {
+            this.accounts = accounts;
+            this.days = days;
+            this.amounts = amounts;
+            this.entries = entries;
+        }
+
+        int capacity() {
+            return accounts.length;
+        }
+
+        Chunk grow(int capacity) {
+            Chunk grown = new Chunk(Arrays.copyOf(accounts, capacity), Arrays.copyOf(days, capacity),
+                    Arrays.copyOf(amounts, capacity), Arrays.copyOf(entries, capacity));
+            grown.rows = rows;
+            return grown;
+        }
+    }
+}
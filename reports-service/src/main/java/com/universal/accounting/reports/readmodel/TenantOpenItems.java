@@ -0,0 +1,156 @@
+package com.universal.accounting.reports.readmodel;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Open receivable/payable items of one tenant, indexed by account and counterparty.
+ * Each counterparty keeps its open items sorted by due date, then journal entry id; a
+ * settling amount is matched against the earliest-due items first, and any excess is held
+ * as an unapplied credit that absorbs the next item raised. The order does not depend on
+ * when an entry arrived, so a rebuild and the live feed settle ties the same way. Amounts are minor units in the account's open direction:
+ * positive raises an item (an invoice or bill), negative settles (a payment).
+ */
+public class TenantOpenItems {
+
+    public static final int CURRENT = 0;
+    public static final int DAYS_1_30 = 1;
+    public static final int DAYS_31_60 = 2;
+    public static final int DAYS_61_90 = 3;
+    public static final int OVER_90 = 4;
+    public static final int UNAPPLIED = 5;
+    public static final int AGING_COLUMNS = 6;
+
+    private final Long tenantId;
+    private final LongSet appliedEntries = new LongSet();
+    private final Map<Long, Map<String, CounterpartyItems>> byAccount = new HashMap<>();
+
+    public TenantOpenItems(Long tenantId) {
+        this.tenantId = tenantId;
+    }
+
+    public Long getTenantId() {
+        return tenantId;
+    }
+
+    /**
+     * Applies the tracked lines of one posted entry. Returns false when the entry was already applied.
+     */
+    public synchronized boolean apply(long entryId, long[] accountIds, String[] counterparties,
+                                      int[] dueDays, long[] amounts) {
+        if (!appliedEntries.add(entryId)) {
+            return false;
+        }
+        for (int i = 0; i < accountIds.length; i++) {
+            CounterpartyItems items = byAccount
+                    .computeIfAbsent(accountIds[i], id -> new HashMap<>())
+                    .computeIfAbsent(counterparties[i], name -> new CounterpartyItems());
+            if (amounts[i] > 0) {
+                items.raise(new ItemKey(dueDays[i], entryId, i), amounts[i]);
+            } else if (amounts[i] < 0) {
+                items.settle(-amounts[i]);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Per-counterparty aging of one account as of a day: the {@link #CURRENT} to {@link #OVER_90}
+     * columns hold open amounts by days past due, {@link #UNAPPLIED} holds unmatched settlements.
+     * Counterparties whose items are fully settled are omitted.
+     */
+    public synchronized Map<String, long[]> aging(long accountId, int asOfDay) {
+        Map<String, CounterpartyItems> counterparties = byAccount.get(accountId);
+        Map<String, long[]> result = new HashMap<>();
+        if (counterparties == null) {
+            return result;
+        }
+        counterparties.forEach((counterparty, items) -> {
+            if (items.open.isEmpty() && items.unapplied == 0L) {
+                return;
+            }
+            long[] columns = new long[AGING_COLUMNS];
+            for (OpenItem item : items.open.values()) {
+                columns[bucket(asOfDay - item.dueDay)] += item.remaining;
+            }
+            columns[UNAPPLIED] = items.unapplied;
+            result.put(counterparty, columns);
+        });
+        return result;
+    }
+
+    public synchronized int openItemCount() {
+        int count = 0;
+        for (Map<String, CounterpartyItems> counterparties : byAccount.values()) {
+            for (CounterpartyItems items : counterparties.values()) {
+                count += items.open.size();
+            }
+        }
+        return count;
+    }
+
+    static int bucket(int daysPastDue) {
+        if (daysPastDue <= 0) {
+            return CURRENT;
+        }
+        if (daysPastDue <= 30) {
+            return DAYS_1_30;
+        }
+        if (daysPastDue <= 60) {
+            return DAYS_31_60;
+        }
+        return daysPastDue <= 90 ? DAYS_61_90 : OVER_90;
+    }
+
+    private static final class CounterpartyItems {
+
+        private final TreeMap<ItemKey, OpenItem> open = new TreeMap<>(ItemKey.SETTLEMENT_ORDER);
+        private long unapplied;
+
+        void raise(ItemKey key, long amount) {
+            long absorbed = Math.min(unapplied, amount);
+            unapplied -= absorbed;
+            if (amount > absorbed) {
+                open.put(key, new OpenItem(key.dueDay(), amount - absorbed));
+            }
+        }
+
+        void settle(long amount) {
+            Iterator<OpenItem> earliestDue = open.values().iterator();
+            while (amount > 0 && earliestDue.hasNext()) {
+                OpenItem item = earliestDue.next();
+                long matched = Math.min(item.remaining, amount);
+                item.remaining -= matched;
+                amount -= matched;
+                if (item.remaining == 0L) {
+                    earliestDue.remove();
+                }
+            }
+            unapplied += amount;
+        }
+    }
+
+    /**
+     * Position of an item in settlement order: due date, then journal entry, then line
+     */
+    private record ItemKey(int dueDay, long entryId, int line) {
+
+        static final Comparator<ItemKey> SETTLEMENT_ORDER = Comparator.comparingInt(ItemKey::dueDay)
+                .thenComparingLong(ItemKey::entryId)
+                .thenComparingInt(ItemKey::line);
+    }
+
+    private static final class OpenItem {
+
+        private final int dueDay;
+        private long remaining;
+
+        OpenItem(int dueDay, long remaining) {
+            this.dueDay = dueDay;
+            this.remaining = remaining;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.universal.accounting.reports.repository;
+
+import com.universal.accounting.common.models.ChartOfAccount;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ChartOfAccountRepository extends JpaRepository<ChartOfAccount, Long> {
+    List<ChartOfAccount> findByTenantIdOrderByAccountCode(Long tenantId);
+    
+    @Query("SELECT DISTINCT coa.tenantId FROM ChartOfAccount coa "
+            + "WHERE coa.openItemType IS NOT NULL OR coa.accountCode IN :accountCodes")
+    List<Long> findTenantIdsWithOpenItemAccounts(@Param("accountCodes") Collection<String> accountCodes);
+}
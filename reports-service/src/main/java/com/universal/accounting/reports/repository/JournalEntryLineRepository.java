@@ -0,0 +1,44 @@
+package com.universal.accounting.reports.repository;
+
+import com.universal.accounting.common.models.JournalEntry;
+import com.universal.accounting.common.models.JournalEntryLine;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+
+@Repository
+public interface JournalEntryLineRepository extends JpaRepository<JournalEntryLine, Long> {
+    
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT jel FROM JournalEntryLine jel JOIN FETCH jel.journalEntry je " +
+           "WHERE je.tenantId = :tenantId AND je.status = :status AND jel.accountId IN :accountIds " +
+           "ORDER BY je.entryDate, je.id, jel.id")
+    Stream<JournalEntryLine> streamByTenantIdAndAccountIds(@Param("tenantId") Long tenantId,
+                                                           @Param("status") JournalEntry.EntryStatus status,
+                                                           @Param("accountIds") Collection<Long> accountIds);
+    
+    @Query("SELECT jel FROM JournalEntryLine jel JOIN FETCH jel.journalEntry je " +
+           "WHERE je.tenantId = :tenantId AND je.status = :status AND jel.accountId = :accountId " +
+           "AND je.entryDate BETWEEN :startDate AND :endDate " +
+           "AND (je.entryDate > :afterDate OR (je.entryDate = :afterDate AND jel.id > :afterLineId)) " +
+           "ORDER BY je.entryDate, jel.id")
+    List<JournalEntryLine> findPageAfter(@Param("tenantId") Long tenantId,
+                                         @Param("status") JournalEntry.EntryStatus status,
+                                         @Param("accountId") Long accountId,
+                                         @Param("startDate") LocalDate startDate,
+                                         @Param("endDate") LocalDate endDate,
+                                         @Param("afterDate") LocalDate afterDate,
+                                         @Param("afterLineId") Long afterLineId,
+                                         Pageable pageable);
+}
@@ -0,0 +1,305 @@
+package com.universal.accounting.reports.service;
+
+import com.universal.accounting.common.models.ChartOfAccount;
+import com.universal.accounting.reports.dto.ReportsDto;
+import com.universal.accounting.reports.readmodel.LedgerFactStore;
+import com.universal.accounting.reports.readmodel.MinorUnits;
+import com.universal.accounting.reports.readmodel.TenantLedgerFacts;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Proves the incrementally maintained read model has not drifted from the journal.
+ * On a schedule it samples tenants and accounts, recomputes their balances from
+ * journal_entry_lines on a minimum-priority thread within the database load budget,
+ * and compares. Read model lag is expected while postings are in flight, so a mismatch
+ * is re-checked once after a delay before it is counted and alerted on. On-demand checks of
+ * one tenant run as jobs on the same thread and budget; callers poll them by job id.
+ */
+@Component
+@Slf4j
+public class BalanceVerifier {
+
+    private static final String BALANCES_SQL =
+            "SELECT jel.account_id, SUM(COALESCE(jel.debit_amount, 0)) - SUM(COALESCE(jel.credit_amount, 0)) AS net "
+            + "FROM journal_entry_lines jel "
+            + "JOIN journal_entries je ON je.id = jel.journal_entry_id "
+            + "WHERE je.tenant_id = :tenantId AND je.status = 'POSTED' ";
+
+    private final LedgerFactStore ledgerFactStore;
+    private final ChartOfAccountsCache chartOfAccountsCache;
+    private final DatabaseLoadGuard databaseLoadGuard;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final ExecutorService executor;
+    private final Counter accountsChecked;
+    private final Counter mismatches;
+    private final AtomicLong lastRunMismatches = new AtomicLong();
+    private final Map<String, VerificationJob> jobs = new ConcurrentHashMap<>();
+    private final Map<Long, VerificationJob> activeByTenant = new ConcurrentHashMap<>();
+    private final long jobRetentionNanos;
+
+    @Value("${reports.verifier.tenant-sample-rate:0.1}")
+    private double tenantSampleRate;
+
+    @Value("${reports.verifier.account-sample-rate:0.2}")
+    private double accountSampleRate;
+
+    @Value("${reports.verifier.recheck-delay-ms:5000}")
+    private long recheckDelayMs;
+
+    @Value("${reports.verifier.max-db-utilization:0.3}")
+    private double maxDbUtilization;
+
+    @Value("${reports.verifier.backoff-ms:1000}")
+    private long backoffMs;
+
+    public BalanceVerifier(LedgerFactStore ledgerFactStore,
+                           ChartOfAccountsCache chartOfAccountsCache,
+                           DatabaseLoadGuard databaseLoadGuard,
+                           DataSource dataSource,
+                           MeterRegistry meterRegistry,
+                           @Value("${reports.verifier.query-timeout-seconds:30}") int queryTimeoutSeconds,
+                           @Value("${reports.verifier.job-retention-ms:3600000}") long jobRetentionMs) {
+        this.ledgerFactStore = ledgerFactStore;
+        this.chartOfAccountsCache = chartOfAccountsCache;
+        this.databaseLoadGuard = databaseLoadGuard;
+        this.jobRetentionNanos = TimeUnit.MILLISECONDS.toNanos(jobRetentionMs);
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.setQueryTimeout(queryTimeoutSeconds);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "balance-verifier");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        this.accountsChecked = Counter.builder("reports.verifier.accounts.checked")
+                .description("Account balances compared against journal lines")
+                .register(meterRegistry);
+        this.mismatches = Counter.builder("reports.verifier.mismatches")
+                .description("Account balances that differed from journal lines after re-check")
+                .register(meterRegistry);
+        Gauge.builder("reports.verifier.last.mismatches", lastRunMismatches, AtomicLong::get)
+                .description("Mismatches found by the most recent sampled run")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${reports.verifier.interval-ms:900000}",
+               initialDelayString = "${reports.verifier.initial-delay-ms:300000}")
+    public void verifySample() {
+        List<Long> tenantIds = new ArrayList<>();
+        for (TenantLedgerFacts facts : ledgerFactStore.allTenants()) {
+            if (ThreadLocalRandom.current().nextDouble() < tenantSampleRate) {
+                tenantIds.add(facts.getTenantId());
+            }
+        }
+        executor.execute(() -> {
+            long found = 0;
+            for (Long tenantId : tenantIds) {
+                try {
+                    databaseLoadGuard.awaitCapacity(maxDbUtilization, backoffMs);
+                    found += verify(tenantId, accountSampleRate).getMismatches().size();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (RuntimeException e) {
+                    log.warn("Balance verification failed for tenant {}: {}", tenantId, e.getMessage());
+                }
+            }
+            lastRunMismatches.set(found);
+        });
+    }
+
+    /**
+     * Queues a check of every account of a tenant on the verifier thread, under the same
+     * database load budget as sampled runs. While a tenant's check is queued or running,
+     * further requests get that check instead of queueing another.
+     */
+    public ReportsDto.VerificationJobStatus submitTenant(Long tenantId) {
+        pruneFinishedJobs();
+        VerificationJob job = new VerificationJob(UUID.randomUUID().toString(), tenantId);
+        VerificationJob active = activeByTenant.putIfAbsent(tenantId, job);
+        if (active != null) {
+            return active.toStatus();
+        }
+        jobs.put(job.jobId, job);
+        executor.execute(() -> run(job));
+        return job.toStatus();
+    }
+
+    public ReportsDto.VerificationJobStatus getJob(Long tenantId, String jobId) {
+        VerificationJob job = jobs.get(jobId);
+        if (job == null || !job.tenantId.equals(tenantId)) {
+            throw new IllegalArgumentException("Unknown balance verification: " + jobId);
+        }
+        return job.toStatus();
+    }
+
+    private void run(VerificationJob job) {
+        job.status = "RUNNING";
+        try {
+            databaseLoadGuard.awaitCapacity(maxDbUtilization, backoffMs);
+            job.complete(verify(job.tenantId, 1.0));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Balance verification interrupted");
+        } catch (RuntimeException e) {
+            log.warn("Balance verification failed for tenant {}: {}", job.tenantId, e.getMessage());
+            job.fail(e.getMessage());
+        } finally {
+            activeByTenant.remove(job.tenantId, job);
+        }
+    }
+
+    private void pruneFinishedJobs() {
+        long now = System.nanoTime();
+        jobs.values().removeIf(job -> job.finishedAt != null && now - job.finishedNanos > jobRetentionNanos);
+    }
+
+    private ReportsDto.VerificationResult verify(Long tenantId, double sampleRate) throws InterruptedException {
+        boolean fullCheck = sampleRate >= 1.0;
+        List<ChartOfAccount> accounts = new ArrayList<>();
+        for (ChartOfAccount account : chartOfAccountsCache.getAccounts(tenantId)) {
+            if (fullCheck || ThreadLocalRandom.current().nextDouble() < sampleRate) {
+                accounts.add(account);
+            }
+        }
+        List<ReportsDto.BalanceMismatch> found = compare(tenantId, accounts, fullCheck);
+        if (!found.isEmpty()) {
+            // Give in-flight postings time to reach the read model before judging
+            TimeUnit.MILLISECONDS.sleep(recheckDelayMs);
+            List<Long> suspectIds = found.stream().map(ReportsDto.BalanceMismatch::getAccountId).toList();
+            found = compare(tenantId, accounts.stream()
+                    .filter(account -> suspectIds.contains(account.getId()))
+                    .toList(), false);
+        }
+        for (ReportsDto.BalanceMismatch mismatch : found) {
+            log.error("BALANCE_DRIFT tenant={} account={} code={} maintained={} journal={}",
+                    tenantId, mismatch.getAccountId(), mismatch.getAccountCode(),
+                    mismatch.getMaintainedBalance(), mismatch.getJournalBalance());
+        }
+        accountsChecked.increment(accounts.size());
+        mismatches.increment(found.size());
+
+        return ReportsDto.VerificationResult.builder()
+                .tenantId(tenantId)
+                .accountsChecked(accounts.size())
+                .mismatches(found)
+                .checkedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private List<ReportsDto.BalanceMismatch> compare(Long tenantId, List<ChartOfAccount> accounts, boolean allAccounts) {
+        List<ReportsDto.BalanceMismatch> different = new ArrayList<>();
+        if (accounts.isEmpty()) {
+            return different;
+        }
+        Map<Long, Long> journal = recompute(tenantId, allAccounts ? null : accounts);
+        Map<Long, Long> maintained = ledgerFactStore.totalsByAccount(tenantId, null, null);
+        for (ChartOfAccount account : accounts) {
+            long expected = journal.getOrDefault(account.getId(), 0L);
+            long actual = maintained.getOrDefault(account.getId(), 0L);
+            if (expected != actual) {
+                different.add(ReportsDto.BalanceMismatch.builder()
+                        .accountId(account.getId())
+                        .accountCode(account.getAccountCode())
+                        .maintainedBalance(MinorUnits.toDecimal(actual))
+                        .journalBalance(MinorUnits.toDecimal(expected))
+                        .build());
+            }
+        }
+        return different;
+    }
+
+    /**
+     * Net (debit positive) posted balance per account; a null account list means all accounts
+     */
+    private Map<Long, Long> recompute(Long tenantId, List<ChartOfAccount> accounts) {
+        MapSqlParameterSource params = new MapSqlParameterSource().addValue("tenantId", tenantId);
+        String sql = BALANCES_SQL;
+        if (accounts != null) {
+            sql += "AND jel.account_id IN (:accountIds) ";
+            params.addValue("accountIds", accounts.stream().map(ChartOfAccount::getId).toList());
+        }
+        Map<Long, Long> balances = new HashMap<>();
+        jdbcTemplate.query(sql + "GROUP BY jel.account_id", params, rs -> {
+            balances.put(rs.getLong("account_id"), MinorUnits.toMinor(rs.getBigDecimal("net")));
+        });
+        return balances;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static final class VerificationJob {
+
+        private final String jobId;
+        private final Long tenantId;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private volatile String status = "QUEUED";
+        private volatile ReportsDto.VerificationResult result;
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+
+        private VerificationJob(String jobId, Long tenantId) {
+            this.jobId = jobId;
+            this.tenantId = tenantId;
+        }
+
+        private void complete(ReportsDto.VerificationResult result) {
+            this.result = result;
+            finish("COMPLETED");
+        }
+
+        private void fail(String error) {
+            this.error = error;
+            finish("FAILED");
+        }
+
+        private void finish(String status) {
+            this.status = status;
+            finishedNanos = System.nanoTime();
+            // Written last, so a status read after it sees the outcome
+            finishedAt = LocalDateTime.now();
+        }
+
+        private ReportsDto.VerificationJobStatus toStatus() {
+            LocalDateTime finished = finishedAt;
+            return ReportsDto.VerificationJobStatus.builder()
+                    .jobId(jobId)
+                    .tenantId(tenantId)
+                    .status(status)
+                    .submittedAt(submittedAt)
+                    .finishedAt(finished)
+                    .result(result)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.universal.accounting.reports.service;
+
+import com.universal.accounting.common.models.ChartOfAccount;
+import com.universal.accounting.reports.readmodel.AccountHierarchy;
+import com.universal.accounting.reports.repository.ChartOfAccountRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * Per-tenant cache of the chart of accounts and its hierarchy, so report generation only
+ * joins in-memory account metadata with read model totals. Entries expire after a TTL and
+ * are evicted when the ledger announces a chart change. A tenant without accounts (not yet
+ * provisioned) is never cached, so its chart shows up as soon as it has been seeded.
+ */
+@Component
+public class ChartOfAccountsCache {
+
+    private final ChartOfAccountRepository chartOfAccountRepository;
+    private final long ttlMs;
+    private final LongSupplier clock;
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    public ChartOfAccountsCache(ChartOfAccountRepository chartOfAccountRepository,
+                                @Value("${reports.chart-of-accounts.ttl-ms:600000}") long ttlMs) {
+        this(chartOfAccountRepository, ttlMs, System::currentTimeMillis);
+    }
+
+    ChartOfAccountsCache(ChartOfAccountRepository chartOfAccountRepository, long ttlMs, LongSupplier clock) {
+        this.chartOfAccountRepository = chartOfAccountRepository;
+        this.ttlMs = ttlMs;
+        this.clock = clock;
+    }
+
+    public List<ChartOfAccount> getAccounts(Long tenantId) {
+        return entry(tenantId).accounts();
+    }
+
+    public AccountHierarchy getHierarchy(Long tenantId) {
+        return entry(tenantId).hierarchy();
+    }
+
+    public void evict(Long tenantId) {
+        entries.remove(tenantId);
+    }
+
+    private Entry entry(Long tenantId) {
+        Entry cached = entries.get(tenantId);
+        if (cached != null && clock.getAsLong() - cached.loadedAt() < ttlMs) {
+            return cached;
+        }
+        Entry[] loaded = new Entry[1];
+        // compute keeps an evict that arrives mid-load from being overwritten by the stale result
+        entries.compute(tenantId, (id, current) -> {
+            long now = clock.getAsLong();
+            if (current != null && now - current.loadedAt() < ttlMs) {
+                loaded[0] = current;
+                return current;
+            }
+            loaded[0] = load(id, now);
+            return loaded[0].accounts().isEmpty() ? null : loaded[0];
+        });
+        return loaded[0];
+    }
+
+    private Entry load(Long tenantId, long now) {
+        List<ChartOfAccount> accounts = List.copyOf(chartOfAccountRepository.findByTenantIdOrderByAccountCode(tenantId));
+        AccountHierarchy hierarchy = AccountHierarchy.build(
+                accounts.stream().map(ChartOfAccount::getId).collect(Collectors.toList()),
+                accounts.stream().map(ChartOfAccount::getParentAccountId).collect(Collectors.toList()));
+        return new Entry(accounts, hierarchy, now);
+    }
+
+    private record Entry(List<ChartOfAccount> accounts, AccountHierarchy hierarchy, long loadedAt) {
+    }
+}
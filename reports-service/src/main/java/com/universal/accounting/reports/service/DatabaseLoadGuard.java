@@ -0,0 +1,36 @@
+package com.universal.accounting.reports.service;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Lets background work yield the connection pool to interactive requests by waiting
+ * while the pool is busier than a caller-supplied utilization budget
+ */
+@Component
+@RequiredArgsConstructor
+public class DatabaseLoadGuard {
+
+    private final DataSource dataSource;
+
+    /**
+     * Blocks until active connections are at or below maxUtilization of the pool and nobody
+     * is waiting for a connection. Returns immediately when the pool is not Hikari.
+     */
+    public void awaitCapacity(double maxUtilization, long backoffMs) throws InterruptedException {
+        if (!(dataSource instanceof HikariDataSource hikari) || hikari.getHikariPoolMXBean() == null) {
+            return;
+        }
+        HikariPoolMXBean pool = hikari.getHikariPoolMXBean();
+        int maxPoolSize = hikari.getMaximumPoolSize();
+        while ((double) pool.getActiveConnections() / maxPoolSize > maxUtilization
+                || pool.getThreadsAwaitingConnection() > 0) {
+            TimeUnit.MILLISECONDS.sleep(backoffMs);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.universal.accounting.reports.service;
+
+import com.universal.accounting.common.models.ChartOfAccount;
+import com.universal.accounting.common.models.JournalEntry;
+import com.universal.accounting.common.models.JournalEntryLine;
+import com.universal.accounting.reports.dto.ReportsDto;
+import com.universal.accounting.reports.readmodel.LedgerFactStore;
+import com.universal.accounting.reports.readmodel.MinorUnits;
+import com.universal.accounting.reports.repository.JournalEntryLineRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Drill-down from a report figure to the journal lines behind it. Lines are paged by keyset
+ * on (entry date, line id), so each page is an index seek regardless of depth. The totals
+ * come from the same read model the reports use, so they match the report figure exactly.
+ */
+@Service
+@RequiredArgsConstructor
+public class DrillDownService {
+
+    // Lower bound used when the report figure has no start date (balance sheet, trial balance)
+    private static final LocalDate EARLIEST_ENTRY_DATE = LocalDate.of(1900, 1, 1);
+    private static final String CURSOR_SEPARATOR = "_";
+
+    private final JournalEntryLineRepository journalEntryLineRepository;
+    private final LedgerFactStore ledgerFactStore;
+    private final ChartOfAccountsCache chartOfAccountsCache;
+
+    @Value("${reports.drill-down.max-page-size:500}")
+    private int maxPageSize;
+
+    @Transactional(readOnly = true)
+    public ReportsDto.DrillDownResponse drillDown(Long tenantId, Long accountId, LocalDate startDate,
+                                                  LocalDate endDate, String cursor, int pageSize) {
+        ChartOfAccount account = chartOfAccountsCache.getAccounts(tenantId).stream()
+                .filter(candidate -> candidate.getId().equals(accountId))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Account not found: " + accountId));
+        if (startDate != null && startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        int size = Math.max(1, Math.min(pageSize, maxPageSize));
+        LocalDate from = startDate != null ? startDate : EARLIEST_ENTRY_DATE;
+
+        LocalDate afterDate = from;
+        long afterLineId = 0L;
+        if (cursor != null && !cursor.isEmpty()) {
+            int separator = cursor.indexOf(CURSOR_SEPARATOR);
+            try {
+                afterDate = LocalDate.parse(cursor.substring(0, separator));
+                afterLineId = Long.parseLong(cursor.substring(separator + 1));
+            } catch (DateTimeParseException | IndexOutOfBoundsException | NumberFormatException e) {
+                throw new IllegalArgumentException("Invalid drill-down cursor: " + cursor);
+            }
+        }
+
+        // Fetch one extra row to learn whether another page follows
+        List<JournalEntryLine> lines = journalEntryLineRepository.findPageAfter(tenantId,
+                JournalEntry.EntryStatus.POSTED, accountId, from, endDate, afterDate, afterLineId,
+                PageRequest.of(0, size + 1));
+        boolean hasMore = lines.size() > size;
+        List<JournalEntryLine> page = hasMore ? lines.subList(0, size) : lines;
+        String nextCursor = null;
+        if (hasMore) {
+            JournalEntryLine last = page.get(page.size() - 1);
+            nextCursor = last.getJournalEntry().getEntryDate() + CURSOR_SEPARATOR + last.getId();
+        }
+
+        long movement = ledgerFactStore.totalsByAccount(tenantId, startDate, endDate).getOrDefault(accountId, 0L);
+        boolean debitNormal = account.getAccountType() == ChartOfAccount.AccountType.ASSET
+                || account.getAccountType() == ChartOfAccount.AccountType.EXPENSE;
+
+        return ReportsDto.DrillDownResponse.builder()
+                .accountId(accountId)
+                .accountCode(account.getAccountCode())
+                .accountName(account.getAccountName())
+                .startDate(startDate)
+                .endDate(endDate)
+                .netMovement(MinorUnits.toDecimal(movement))
+                .reportAmount(MinorUnits.toDecimal(debitNormal ? movement : -movement))
+                .lines(page.stream().map(this::mapLine).collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private ReportsDto.DrillDownLine mapLine(JournalEntryLine line) {
+        JournalEntry entry = line.getJournalEntry();
+        return ReportsDto.DrillDownLine.builder()
+                .lineId(line.getId())
+                .journalEntryId(entry.getId())
+                .entryNumber(entry.getEntryNumber())
+                .entryDate(entry.getEntryDate())
+                .reference(entry.getReference())
+                .description(line.getDescription() != null ? line.getDescription() : entry.getDescription())
+                .debitAmount(line.getDebitAmount())
+                .creditAmount(line.getCreditAmount())
+                .counterparty(line.getCounterparty())
+                .build();
+    }
+}
@@ -0,0 +1,150 @@
+package com.universal.accounting.reports.service;
+
+import com.universal.accounting.common.models.ChartOfAccount;
+import com.universal.accounting.reports.dto.ReportsDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Ad-hoc ledger slices for analysts. A typed request is compiled into one parameterized
+ * aggregate over posted journal lines, so filtering and grouping happen in the database
+ * on the tenant/date and account indexes. Only fixed SQL fragments are concatenated;
+ * every user value is a bind parameter. Each query is capped by a row limit and a
+ * statement timeout.
+ */
+@Service
+@Slf4j
+public class LedgerQueryService {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final int maxRows;
+
+    public LedgerQueryService(DataSource dataSource,
+                              @Value("${reports.query.max-rows:5000}") int maxRows,
+                              @Value("${reports.query.timeout-seconds:10}") int timeoutSeconds) {
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        // One row beyond the cap tells us the result was truncated
+        template.setMaxRows(maxRows + 1);
+        template.setQueryTimeout(timeoutSeconds);
+        this.jdbcTemplate = new NamedParameterJdbcTemplate(template);
+        this.maxRows = maxRows;
+    }
+
+    public ReportsDto.LedgerQueryResponse query(Long tenantId, ReportsDto.LedgerQueryRequest request) {
+        if (request.getStartDate().isAfter(request.getEndDate())) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        if (request.getMinAmount() != null && request.getMaxAmount() != null
+                && request.getMinAmount().compareTo(request.getMaxAmount()) > 0) {
+            throw new IllegalArgumentException("Minimum amount must not exceed maximum amount");
+        }
+        int limit = request.getLimit() != null ? Math.min(request.getLimit(), maxRows) : maxRows;
+        boolean byAccount = request.getGroupBy() != ReportsDto.LedgerQueryGroupBy.MONTH;
+        boolean byMonth = request.getGroupBy() != ReportsDto.LedgerQueryGroupBy.ACCOUNT;
+
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("startDate", request.getStartDate())
+                .addValue("endDate", request.getEndDate())
+                .addValue("fetchLimit", limit + 1);
+
+        StringBuilder select = new StringBuilder("SELECT ");
+        StringBuilder groupBy = new StringBuilder();
+        if (byAccount) {
+            select.append("coa.id AS account_id, coa.account_code, coa.account_name, ");
+            groupBy.append("coa.id, coa.account_code, coa.account_name");
+        }
+        if (byMonth) {
+            select.append("EXTRACT(YEAR FROM je.entry_date) AS entry_year, ")
+                    .append("EXTRACT(MONTH FROM je.entry_date) AS entry_month, ");
+            groupBy.append(byAccount ? ", " : "").append("entry_year, entry_month");
+        }
+        select.append("SUM(COALESCE(jel.debit_amount, 0)) AS total_debit, ")
+                .append("SUM(COALESCE(jel.credit_amount, 0)) AS total_credit, ")
+                .append("COUNT(*) AS line_count ");
+
+        StringBuilder where = new StringBuilder()
+                .append("WHERE je.tenant_id = :tenantId AND je.status = 'POSTED' ")
+                .append("AND je.entry_date BETWEEN :startDate AND :endDate ");
+        if (request.getAccountClasses() != null && !request.getAccountClasses().isEmpty()) {
+            where.append("AND coa.account_class IN (:accountClasses) ");
+            params.addValue("accountClasses", request.getAccountClasses().stream()
+                    .map(accountClass -> ChartOfAccount.AccountClass.valueOf(accountClass).name())
+                    .collect(Collectors.toList()));
+        }
+        if (request.getAccountCodes() != null && !request.getAccountCodes().isEmpty()) {
+            where.append("AND coa.account_code IN (:accountCodes) ");
+            params.addValue("accountCodes", request.getAccountCodes());
+        }
+        if (request.getReferencePrefix() != null && !request.getReferencePrefix().isEmpty()) {
+            where.append("AND je.reference LIKE :referencePrefix ESCAPE '\\' ");
+            params.addValue("referencePrefix", escapeLike(request.getReferencePrefix()) + "%");
+        }
+        // A line carries its amount on exactly one side, so the sum is the line amount
+        if (request.getMinAmount() != null) {
+            where.append("AND COALESCE(jel.debit_amount, 0) + COALESCE(jel.credit_amount, 0) >= :minAmount ");
+            params.addValue("minAmount", request.getMinAmount());
+        }
+        if (request.getMaxAmount() != null) {
+            where.append("AND COALESCE(jel.debit_amount, 0) + COALESCE(jel.credit_amount, 0) <= :maxAmount ");
+            params.addValue("maxAmount", request.getMaxAmount());
+        }
+
+        String sql = select
+                + "FROM journal_entry_lines jel "
+                + "JOIN journal_entries je ON je.id = jel.journal_entry_id "
+                + "JOIN chart_of_accounts coa ON coa.id = jel.account_id "
+                + where
+                + "GROUP BY " + groupBy + " "
+                + "ORDER BY " + groupBy + " "
+                + "LIMIT :fetchLimit";
+
+        List<ReportsDto.LedgerQueryRow> rows;
+        try {
+            rows = jdbcTemplate.query(sql, params, (rs, rowNum) -> mapRow(rs, byAccount, byMonth));
+        } catch (QueryTimeoutException e) {
+            log.warn("Ledger query for tenant {} exceeded the time limit", tenantId);
+            throw new RuntimeException("Ledger query exceeded the time limit; narrow the date range or filters");
+        }
+
+        boolean truncated = rows.size() > limit;
+        return ReportsDto.LedgerQueryResponse.builder()
+                .rows(truncated ? rows.subList(0, limit) : rows)
+                .rowLimit(limit)
+                .truncated(truncated)
+                .build();
+    }
+
+    private ReportsDto.LedgerQueryRow mapRow(ResultSet rs, boolean byAccount, boolean byMonth) throws SQLException {
+        ReportsDto.LedgerQueryRow.LedgerQueryRowBuilder row = ReportsDto.LedgerQueryRow.builder()
+                .totalDebit(rs.getBigDecimal("total_debit"))
+                .totalCredit(rs.getBigDecimal("total_credit"))
+                .netAmount(rs.getBigDecimal("total_debit").subtract(rs.getBigDecimal("total_credit")))
+                .lineCount(rs.getLong("line_count"));
+        if (byAccount) {
+            row.accountId(rs.getLong("account_id"))
+                    .accountCode(rs.getString("account_code"))
+                    .accountName(rs.getString("account_name"));
+        }
+        if (byMonth) {
+            row.month(YearMonth.of(rs.getInt("entry_year"), rs.getInt("entry_month")));
+        }
+        return row.build();
+    }
+
+    private String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+}
@@ -0,0 +1,270 @@
+package com.universal.accounting.reports.service;
+
+import com.universal.accounting.common.models.ChartOfAccount;
+import com.universal.accounting.common.models.JournalEntry;
+import com.universal.accounting.common.models.JournalEntryLine;
+import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.reports.dto.ReportsDto;
+import com.universal.accounting.reports.readmodel.MinorUnits;
+import com.universal.accounting.reports.readmodel.ReplayableProjection;
+import com.universal.accounting.reports.readmodel.ShadowTenantMap;
+import com.universal.accounting.reports.readmodel.TenantOpenItems;
+import com.universal.accounting.reports.repository.ChartOfAccountRepository;
+import com.universal.accounting.reports.repository.JournalEntryLineRepository;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Maintains the per-tenant open-item index over receivable and payable accounts: those flagged
+ * with an open-item type when the chart was provisioned, and for accounts created without the
+ * flag, those with one of the configured account codes.
+ * Updated incrementally from each posting and rebuilt from posted lines on startup.
+ * The startup rebuild fills a shadow that is open from construction, before any listener
+ * runs: postings consumed meanwhile are queued for it and applied after the stored history,
+ * and the shadow is swapped in once the rebuild ends. Both paths deduplicate by journal entry.
+ */
+@Component
+@Slf4j
+public class OpenItemService implements ReplayableProjection {
+
+    public static final String PROJECTION_NAME = "open-items";
+
+    private static final String UNASSIGNED_COUNTERPARTY = "UNASSIGNED";
+    private static final int CLEAR_EVERY_ENTRIES = 1000;
+
+    private final ChartOfAccountsCache chartOfAccountsCache;
+    private final ChartOfAccountRepository chartOfAccountRepository;
+    private final JournalEntryLineRepository journalEntryLineRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ShadowTenantMap<TenantOpenItems> tenants = new ShadowTenantMap<>(TenantOpenItems::new);
+    private volatile boolean startupRebuild;
+
+    @Value("${reports.open-items.receivable-account-codes:1100}")
+    private List<String> receivableAccountCodes;
+
+    @Value("${reports.open-items.payable-account-codes:2010}")
+    private List<String> payableAccountCodes;
+
+    public OpenItemService(ChartOfAccountsCache chartOfAccountsCache,
+                           ChartOfAccountRepository chartOfAccountRepository,
+                           JournalEntryLineRepository journalEntryLineRepository,
+                           EntityManager entityManager,
+                           PlatformTransactionManager transactionManager) {
+        this.chartOfAccountsCache = chartOfAccountsCache;
+        this.chartOfAccountRepository = chartOfAccountRepository;
+        this.journalEntryLineRepository = journalEntryLineRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.tenants.openShadow(null);
+        this.startupRebuild = true;
+    }
+
+    /**
+     * Applies the receivable/payable lines of a posted entry. Returns false when nothing changed.
+     */
+    public boolean apply(Events.JournalEntryPosted event) {
+        if (event.getTenantId() == null || event.getJournalEntryId() == null
+                || event.getEntryDate() == null || event.getLines() == null) {
+            return false;
+        }
+        Map<Long, Integer> tracked = trackedAccounts(event.getTenantId());
+        if (tracked.isEmpty()) {
+            return false;
+        }
+        return apply(event.getTenantId(), tracked, event.getJournalEntryId(), event.getEntryDate(), event.getLines(), false);
+    }
+
+    @Override
+    public String projectionName() {
+        return PROJECTION_NAME;
+    }
+
+    @Override
+    public void openShadow(Set<Long> tenantIds) {
+        if (startupRebuild) {
+            throw new IllegalStateException("The open-item index is still being rebuilt");
+        }
+        tenants.openShadow(tenantIds);
+    }
+
+    @Override
+    public void replay(Object event) {
+        if (event instanceof Events.JournalEntryPosted posted && posted.getTenantId() != null
+                && posted.getJournalEntryId() != null && posted.getEntryDate() != null && posted.getLines() != null) {
+            Map<Long, Integer> tracked = trackedAccounts(posted.getTenantId());
+            if (!tracked.isEmpty()) {
+                apply(posted.getTenantId(), tracked, posted.getJournalEntryId(), posted.getEntryDate(),
+                        posted.getLines(), true);
+            }
+        }
+    }
+
+    @Override
+    public void swapShadow() {
+        tenants.swap((replaced, rebuilt) -> { });
+    }
+
+    @Override
+    public void discardShadow() {
+        // A replay that failed to start must not discard the startup rebuild
+        if (!startupRebuild) {
+            tenants.discardShadow();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<String> codes = new ArrayList<>(receivableAccountCodes);
+        codes.addAll(payableAccountCodes);
+        int rebuilt = 0;
+        try {
+            for (Long tenantId : chartOfAccountRepository.findTenantIdsWithOpenItemAccounts(codes)) {
+                try {
+                    rebuildTenant(tenantId);
+                    rebuilt++;
+                } catch (RuntimeException e) {
+                    log.error("Failed to rebuild open items for tenant {}: {}", tenantId, e.getMessage());
+                }
+            }
+        } finally {
+            // Swapped even after a failure: the shadow holds at least every posting consumed since startup
+            tenants.swap((replaced, rebuiltItems) -> { });
+            startupRebuild = false;
+        }
+        log.info("Rebuilt open-item index for {} tenants", rebuilt);
+    }
+
+    /**
+     * Per-counterparty aging columns (see {@link TenantOpenItems#aging}) summed over all
+     * accounts of the given kind
+     */
+    public Map<String, long[]> aging(Long tenantId, ReportsDto.AgingType agingType, LocalDate asOfDate) {
+        Map<String, long[]> result = new HashMap<>();
+        TenantOpenItems items = tenants.get(tenantId);
+        if (items == null) {
+            return result;
+        }
+        int asOfDay = (int) asOfDate.toEpochDay();
+        ChartOfAccount.OpenItemType wanted = agingType == ReportsDto.AgingType.RECEIVABLE
+                ? ChartOfAccount.OpenItemType.RECEIVABLE : ChartOfAccount.OpenItemType.PAYABLE;
+        for (ChartOfAccount account : chartOfAccountsCache.getAccounts(tenantId)) {
+            if (openItemType(account) != wanted) {
+                continue;
+            }
+            items.aging(account.getId(), asOfDay).forEach((counterparty, columns) -> {
+                long[] target = result.computeIfAbsent(counterparty, name -> new long[TenantOpenItems.AGING_COLUMNS]);
+                for (int i = 0; i < columns.length; i++) {
+                    target[i] += columns[i];
+                }
+            });
+        }
+        return result;
+    }
+
+    private void rebuildTenant(Long tenantId) {
+        Map<Long, Integer> tracked = trackedAccounts(tenantId);
+        if (tracked.isEmpty()) {
+            return;
+        }
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<JournalEntryLine> lines = journalEntryLineRepository.streamByTenantIdAndAccountIds(
+                    tenantId, JournalEntry.EntryStatus.POSTED, tracked.keySet())) {
+                Iterator<JournalEntryLine> iterator = lines.iterator();
+                List<Events.PostedLine> entryLines = new ArrayList<>();
+                JournalEntry current = null;
+                int entries = 0;
+                while (iterator.hasNext()) {
+                    JournalEntryLine line = iterator.next();
+                    if (current != null && !current.getId().equals(line.getJournalEntry().getId())) {
+                        apply(tenantId, tracked, current.getId(), current.getEntryDate(), entryLines, true);
+                        entryLines.clear();
+                        // Lines are streamed; keep the persistence context from holding all of them
+                        if (++entries % CLEAR_EVERY_ENTRIES == 0) {
+                            entityManager.clear();
+                        }
+                    }
+                    current = line.getJournalEntry();
+                    entryLines.add(new Events.PostedLine(line.getAccountId(), line.getDebitAmount(),
+                            line.getCreditAmount(), line.getCounterparty(), line.getDueDate()));
+                }
+                if (current != null) {
+                    apply(tenantId, tracked, current.getId(), current.getEntryDate(), entryLines, true);
+                }
+            }
+        });
+    }
+
+    private boolean apply(Long tenantId, Map<Long, Integer> tracked, Long entryId, LocalDate entryDate,
+                          List<Events.PostedLine> lines, boolean toShadow) {
+        List<Events.PostedLine> relevant = new ArrayList<>();
+        for (Events.PostedLine line : lines) {
+            if (tracked.containsKey(line.getAccountId())) {
+                relevant.add(line);
+            }
+        }
+        if (relevant.isEmpty()) {
+            return false;
+        }
+        int n = relevant.size();
+        long[] accountIds = new long[n];
+        String[] counterparties = new String[n];
+        int[] dueDays = new int[n];
+        long[] amounts = new long[n];
+        for (int i = 0; i < n; i++) {
+            Events.PostedLine line = relevant.get(i);
+            accountIds[i] = line.getAccountId();
+            counterparties[i] = line.getCounterparty() != null ? line.getCounterparty() : UNASSIGNED_COUNTERPARTY;
+            dueDays[i] = (int) (line.getDueDate() != null ? line.getDueDate() : entryDate).toEpochDay();
+            long debitPositive = MinorUnits.toMinor(line.getDebitAmount()) - MinorUnits.toMinor(line.getCreditAmount());
+            amounts[i] = tracked.get(line.getAccountId()) * debitPositive;
+        }
+        if (toShadow) {
+            tenants.writeShadow(tenantId, items -> items.apply(entryId, accountIds, counterparties, dueDays, amounts));
+            return true;
+        }
+        return tenants.write(tenantId, items -> items.apply(entryId, accountIds, counterparties, dueDays, amounts));
+    }
+
+    /**
+     * Receivable accounts open on the debit side (+1), payable accounts on the credit side (-1)
+     */
+    private Map<Long, Integer> trackedAccounts(Long tenantId) {
+        Map<Long, Integer> tracked = new HashMap<>();
+        for (ChartOfAccount account : chartOfAccountsCache.getAccounts(tenantId)) {
+            ChartOfAccount.OpenItemType type = openItemType(account);
+            if (type == ChartOfAccount.OpenItemType.RECEIVABLE) {
+                tracked.put(account.getId(), 1);
+            } else if (type == ChartOfAccount.OpenItemType.PAYABLE) {
+                tracked.put(account.getId(), -1);
+            }
+        }
+        return tracked;
+    }
+
+    private ChartOfAccount.OpenItemType openItemType(ChartOfAccount account) {
+        if (account.getOpenItemType() != null) {
+            return account.getOpenItemType();
+        }
+        if (receivableAccountCodes.contains(account.getAccountCode())) {
+            return ChartOfAccount.OpenItemType.RECEIVABLE;
+        }
+        return payableAccountCodes.contains(account.getAccountCode()) ? ChartOfAccount.OpenItemType.PAYABLE : null;
+    }
+}
@@ -0,0 +1,326 @@
+package com.universal.accounting.reports.service;
+
+import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.reports.consumer.LedgerEventListener;
+import com.universal.accounting.reports.dto.ReportsDto;
+import com.universal.accounting.reports.readmodel.ReplayableProjection;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndTimestamp;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Rebuilds event-fed projections from ledger-events. A separate consumer, outside the
+ * live consumer group, reads from the requested offset or timestamp up to the end offsets
+ * seen when the rebuild started, and hands events to worker threads by tenant, so each
+ * tenant is replayed in order by one thread. Projections build into a shadow while the live
+ * listener keeps applying; writes it makes in the meantime are applied to the shadow after
+ * the replayed history, and the shadow is then swapped in.
+ * Only events at or after the start position are replayed; rebuild from the beginning
+ * unless the log before that point is known not to matter for the chosen tenants.
+ */
+@Service
+@Slf4j
+public class ProjectionReplayService {
+
+    private static final Object END_OF_REPLAY = new Object();
+
+    private final List<ReplayableProjection> projections;
+    private final ConsumerFactory<Object, Object> consumerFactory;
+    private final ExecutorService coordinator;
+    private final ConcurrentMap<String, ReplayJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    @Value("${reports.replay.threads:4}")
+    private int threads;
+
+    @Value("${reports.replay.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${reports.replay.poll-timeout-ms:500}")
+    private long pollTimeoutMs;
+
+    public ProjectionReplayService(List<ReplayableProjection> projections,
+                                   ConsumerFactory<Object, Object> consumerFactory) {
+        this.projections = projections;
+        this.consumerFactory = consumerFactory;
+        this.coordinator = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "projection-replay");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public ReportsDto.ReplayStatus submit(ReportsDto.ReplayRequest request) {
+        if (request.getFromOffset() != null && request.getFromTimestamp() != null) {
+            throw new IllegalArgumentException("Give either a start offset or a start timestamp, not both");
+        }
+        List<ReplayableProjection> targets = select(request.getProjections());
+        Set<Long> tenantIds = request.getTenantIds() != null && !request.getTenantIds().isEmpty()
+                ? new HashSet<>(request.getTenantIds()) : null;
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("A projection replay is already running");
+        }
+        ReplayJob job = new ReplayJob(UUID.randomUUID().toString(), targets, request.getTenantIds(), threads);
+        jobs.put(job.replayId, job);
+        try {
+            // Shadows open before the end offsets are read, so every later event reaches them live
+            targets.forEach(projection -> projection.openShadow(tenantIds));
+            coordinator.execute(() -> run(job, targets, tenantIds, request));
+        } catch (RuntimeException e) {
+            targets.forEach(ReplayableProjection::discardShadow);
+            running.set(false);
+            throw e;
+        }
+        return job.toStatus();
+    }
+
+    public ReportsDto.ReplayStatus getStatus(String replayId) {
+        ReplayJob job = jobs.get(replayId);
+        if (job == null) {
+            throw new IllegalArgumentException("Unknown projection replay: " + replayId);
+        }
+        return job.toStatus();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        coordinator.shutdownNow();
+    }
+
+    private void run(ReplayJob job, List<ReplayableProjection> targets, Set<Long> tenantIds,
+                     ReportsDto.ReplayRequest request) {
+        ExecutorService workers = Executors.newFixedThreadPool(job.threads, runnable -> {
+            Thread thread = new Thread(runnable, "projection-replay-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try (Consumer<Object, Object> consumer = consumerFactory.createConsumer(
+                "reports-replay-" + job.replayId, "replay")) {
+            List<TopicPartition> partitions = consumer.partitionsFor(LedgerEventListener.LEDGER_EVENTS_TOPIC).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            consumer.assign(partitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            seekToStart(consumer, partitions, request);
+
+            List<BlockingQueue<Object>> queues = new ArrayList<>();
+            List<Future<?>> workerResults = new ArrayList<>();
+            AtomicReference<Throwable> failure = new AtomicReference<>();
+            for (int i = 0; i < job.threads; i++) {
+                BlockingQueue<Object> queue = new ArrayBlockingQueue<>(queueCapacity);
+                queues.add(queue);
+                workerResults.add(workers.submit(() -> replayQueue(queue, targets, job, failure)));
+            }
+
+            while (job.remaining(consumer, endOffsets) > 0) {
+                for (ConsumerRecord<Object, Object> record : consumer.poll(Duration.ofMillis(pollTimeoutMs))) {
+                    job.recordsRead.incrementAndGet();
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    // Later records reach the shadow through the live listener
+                    if (record.offset() >= endOffsets.get(partition)) {
+                        continue;
+                    }
+                    Long tenantId = tenantOf(record.value());
+                    if (tenantId == null || (tenantIds != null && !tenantIds.contains(tenantId))) {
+                        continue;
+                    }
+                    enqueue(queues.get(Math.floorMod(tenantId.hashCode(), queues.size())), record.value(), failure);
+                }
+                throwIfFailed(failure);
+            }
+            for (BlockingQueue<Object> queue : queues) {
+                enqueue(queue, END_OF_REPLAY, failure);
+            }
+            for (Future<?> worker : workerResults) {
+                worker.get();
+            }
+            throwIfFailed(failure);
+
+            targets.forEach(ReplayableProjection::swapShadow);
+            job.finish("COMPLETED", null);
+            log.info("Projection replay {} swapped in {} after {} events",
+                    job.replayId, job.projectionNames(), job.eventsReplayed.get());
+        } catch (Exception e) {
+            targets.forEach(ReplayableProjection::discardShadow);
+            job.finish("FAILED", e.getMessage());
+            log.error("Projection replay {} failed; live projections kept: {}", job.replayId, e.getMessage(), e);
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+        } finally {
+            workers.shutdownNow();
+            running.set(false);
+        }
+    }
+
+    private void replayQueue(BlockingQueue<Object> queue, List<ReplayableProjection> targets, ReplayJob job,
+                             AtomicReference<Throwable> failure) {
+        try {
+            Object event;
+            while ((event = queue.take()) != END_OF_REPLAY) {
+                for (ReplayableProjection projection : targets) {
+                    projection.replay(event);
+                }
+                job.eventsReplayed.incrementAndGet();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            failure.compareAndSet(null, e);
+        }
+    }
+
+    private void seekToStart(Consumer<Object, Object> consumer, List<TopicPartition> partitions,
+                             ReportsDto.ReplayRequest request) {
+        if (request.getFromTimestamp() != null) {
+            long epochMillis = request.getFromTimestamp().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            Map<TopicPartition, Long> query = new HashMap<>();
+            partitions.forEach(partition -> query.put(partition, epochMillis));
+            Map<TopicPartition, OffsetAndTimestamp> found = consumer.offsetsForTimes(query);
+            for (TopicPartition partition : partitions) {
+                OffsetAndTimestamp offset = found.get(partition);
+                if (offset != null) {
+                    consumer.seek(partition, offset.offset());
+                } else {
+                    consumer.seekToEnd(List.of(partition));
+                }
+            }
+        } else if (request.getFromOffset() != null) {
+            Map<TopicPartition, Long> beginning = consumer.beginningOffsets(partitions);
+            partitions.forEach(partition ->
+                    consumer.seek(partition, Math.max(request.getFromOffset(), beginning.get(partition))));
+        } else {
+            consumer.seekToBeginning(partitions);
+        }
+    }
+
+    private List<ReplayableProjection> select(List<String> names) {
+        if (names == null || names.isEmpty()) {
+            return projections;
+        }
+        List<ReplayableProjection> selected = new ArrayList<>();
+        for (String name : names) {
+            selected.add(projections.stream()
+                    .filter(projection -> projection.projectionName().equals(name))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalArgumentException("Unknown projection: " + name)));
+        }
+        return selected;
+    }
+
+    private Long tenantOf(Object event) {
+        if (event instanceof Events.JournalEntryPosted posted) {
+            return posted.getTenantId();
+        }
+        if (event instanceof Events.JournalEntryCreated created) {
+            return created.getTenantId();
+        }
+        if (event instanceof Events.PeriodClosed closed) {
+            return closed.getTenantId();
+        }
+        return null;
+    }
+
+    private void enqueue(BlockingQueue<Object> queue, Object item, AtomicReference<Throwable> failure)
+            throws InterruptedException {
+        // A failed worker stops draining its queue; don't wait on it forever
+        while (!queue.offer(item, pollTimeoutMs, TimeUnit.MILLISECONDS)) {
+            throwIfFailed(failure);
+        }
+    }
+
+    private void throwIfFailed(AtomicReference<Throwable> failure) {
+        Throwable cause = failure.get();
+        if (cause != null) {
+            throw new RuntimeException("Replay worker failed: " + cause.getMessage(), cause);
+        }
+    }
+
+    /**
+     * Progress of one replay
+     */
+    static class ReplayJob {
+
+        private final String replayId;
+        private final List<ReplayableProjection> targets;
+        private final List<Long> tenantIds;
+        private final int threads;
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicLong recordsRead = new AtomicLong();
+        private final AtomicLong eventsReplayed = new AtomicLong();
+        private final AtomicLong recordsRemaining = new AtomicLong(-1);
+        private volatile String status = "RUNNING";
+        private volatile String error;
+        private volatile LocalDateTime finishedAt;
+
+        ReplayJob(String replayId, List<ReplayableProjection> targets, List<Long> tenantIds, int threads) {
+            this.replayId = replayId;
+            this.targets = targets;
+            this.tenantIds = tenantIds;
+            this.threads = threads;
+        }
+
+        long remaining(Consumer<Object, Object> consumer, Map<TopicPartition, Long> endOffsets) {
+            long remaining = 0;
+            for (Map.Entry<TopicPartition, Long> end : endOffsets.entrySet()) {
+                remaining += Math.max(0, end.getValue() - consumer.position(end.getKey()));
+            }
+            recordsRemaining.set(remaining);
+            return remaining;
+        }
+
+        List<String> projectionNames() {
+            return targets.stream().map(ReplayableProjection::projectionName).toList();
+        }
+
+        void finish(String finalStatus, String failure) {
+            finishedAt = LocalDateTime.now();
+            error = failure;
+            status = finalStatus;
+        }
+
+        ReportsDto.ReplayStatus toStatus() {
+            return ReportsDto.ReplayStatus.builder()
+                    .replayId(replayId)
+                    .status(status)
+                    .projections(projectionNames())
+                    .tenantIds(tenantIds)
+                    .threads(threads)
+                    .recordsRead(recordsRead.get())
+                    .eventsReplayed(eventsReplayed.get())
+                    .recordsRemaining(recordsRemaining.get() >= 0 ? recordsRemaining.get() : null)
+                    .error(error)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,306 @@
+package com.universal.accounting.reports.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universal.accounting.reports.dto.ReportsDto;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Runs the same report specs for many tenants in parallel, e.g. for month-end runs.
+ * Tenants are split recursively over a work-stealing fork/join pool whose parallelism
+ * is capped by the database connection pool, and each report is written as a gzipped
+ * JSON file under the batch output directory. Finished jobs stay queryable for a retention
+ * period and are pruned on the next submit, oldest first once more than the cap are kept.
+ */
+@Service
+@Slf4j
+public class ReportBatchService {
+
+    private final ReportsService reportsService;
+    private final ObjectMapper objectMapper;
+    private final ForkJoinPool pool;
+    private final int parallelism;
+    private final long jobRetentionNanos;
+    private final int maxRetainedJobs;
+    private final ConcurrentMap<String, ReportBatchJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicInteger runningJobs = new AtomicInteger();
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Timer reportTimer;
+
+    @Value("${reports.batch.output-dir:/app/data/report-batches}")
+    private String outputDir;
+
+    public ReportBatchService(ReportsService reportsService,
+                              ObjectMapper objectMapper,
+                              MeterRegistry meterRegistry,
+                              @Value("${reports.batch.parallelism:8}") int configuredParallelism,
+                              @Value("${spring.datasource.hikari.maximum-pool-size:10}") int dbPoolSize,
+                              @Value("${reports.batch.db-connection-reserve:2}") int dbConnectionReserve,
+                              @Value("${reports.batch.job-retention-ms:86400000}") long jobRetentionMs,
+                              @Value("${reports.batch.max-retained-jobs:1000}") int maxRetainedJobs) {
+        this.reportsService = reportsService;
+        this.objectMapper = objectMapper;
+        // Leave connections for interactive requests; never exceed what the pool can serve
+        this.parallelism = Math.max(1, Math.min(configuredParallelism, dbPoolSize - dbConnectionReserve));
+        this.pool = new ForkJoinPool(parallelism);
+        this.jobRetentionNanos = TimeUnit.MILLISECONDS.toNanos(jobRetentionMs);
+        this.maxRetainedJobs = maxRetainedJobs;
+        this.completedCounter = Counter.builder("reports.batch.reports.completed")
+                .description("Batch reports written successfully")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("reports.batch.reports.failed")
+                .description("Batch reports that failed")
+                .register(meterRegistry);
+        this.reportTimer = Timer.builder("reports.batch.report.duration")
+                .description("Time to generate and write one batch report")
+                .register(meterRegistry);
+        Gauge.builder("reports.batch.jobs.running", runningJobs, AtomicInteger::get)
+                .description("Report batch jobs currently running")
+                .register(meterRegistry);
+    }
+
+    public ReportsDto.BatchJobStatus submit(ReportsDto.BatchReportRequest request) {
+        pruneFinishedJobs();
+        String jobId = UUID.randomUUID().toString();
+        Path jobDir = Paths.get(outputDir, jobId);
+        ReportBatchJob job = new ReportBatchJob(jobId, jobDir,
+                request.getTenantIds().size() * request.getReports().size(), parallelism);
+        jobs.put(jobId, job);
+        runningJobs.incrementAndGet();
+
+        pool.execute(() -> {
+            try {
+                Files.createDirectories(jobDir);
+                new TenantRangeTask(job, request.getTenantIds(), request.getReports(),
+                        0, request.getTenantIds().size()).invoke();
+                job.finish();
+                log.info("Report batch {} finished: {} completed, {} failed",
+                        jobId, job.getCompleted(), job.getFailed());
+            } catch (Exception e) {
+                job.fail();
+                log.error("Report batch {} aborted: {}", jobId, e.getMessage(), e);
+            } finally {
+                runningJobs.decrementAndGet();
+            }
+        });
+        return job.toStatus();
+    }
+
+    public ReportsDto.BatchJobStatus getStatus(String jobId) {
+        ReportBatchJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new IllegalArgumentException("Unknown report batch: " + jobId);
+        }
+        return job.toStatus();
+    }
+
+    /**
+     * Drops finished jobs past their retention, then the oldest finished ones over the cap.
+     * Running jobs are never dropped.
+     */
+    void pruneFinishedJobs() {
+        long now = System.nanoTime();
+        jobs.values().removeIf(job -> job.isFinished() && now - job.getFinishedNanos() > jobRetentionNanos);
+        int excess = jobs.size() - maxRetainedJobs;
+        if (excess > 0) {
+            jobs.values().stream()
+                    .filter(ReportBatchJob::isFinished)
+                    .sorted(Comparator.comparingLong(ReportBatchJob::getFinishedNanos))
+                    .limit(excess)
+                    .toList()
+                    .forEach(job -> jobs.remove(job.jobId, job));
+        }
+    }
+
+    int retainedJobs() {
+        return jobs.size();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        pool.shutdown();
+        pool.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private void runReport(ReportBatchJob job, Long tenantId, ReportsDto.ReportSpec spec, int specIndex) {
+        long start = System.nanoTime();
+        try {
+            Object report = generate(tenantId, spec);
+            Path tenantDir = job.getOutputDirectory().resolve("tenant-" + tenantId);
+            Files.createDirectories(tenantDir);
+            Path file = tenantDir.resolve(specIndex + "-" + spec.getType().name().toLowerCase() + ".json.gz");
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(file), 64 * 1024)) {
+                objectMapper.writeValue(out, report);
+            }
+            job.reportCompleted();
+            completedCounter.increment();
+        } catch (IOException | RuntimeException e) {
+            job.reportFailed();
+            failedCounter.increment();
+            log.warn("Batch report {} failed for tenant {}: {}", spec.getType(), tenantId, e.getMessage());
+        } finally {
+            reportTimer.record(Duration.ofNanos(System.nanoTime() - start));
+        }
+    }
+
+    private Object generate(Long tenantId, ReportsDto.ReportSpec spec) {
+        return switch (spec.getType()) {
+            case PROFIT_LOSS -> reportsService.generateProfitLossReport(tenantId, spec.getStartDate(), spec.getEndDate());
+            case BALANCE_SHEET -> reportsService.generateBalanceSheetReport(tenantId, spec.getAsOfDate());
+            case TRIAL_BALANCE -> reportsService.generateTrialBalanceReport(tenantId, spec.getAsOfDate());
+            case ACCOUNT_HIERARCHY -> reportsService.generateAccountHierarchyReport(
+                    tenantId, spec.getStartDate(), spec.getAsOfDate(), spec.getMaxDepth());
+            case COMPARATIVE_PROFIT_LOSS -> reportsService.generateComparativeProfitLossReport(
+                    tenantId, spec.getStartDate(), spec.getEndDate(), granularityOf(spec));
+            case COMPARATIVE_BALANCE_SHEET -> reportsService.generateComparativeBalanceSheetReport(
+                    tenantId, spec.getStartDate(), spec.getEndDate(), granularityOf(spec));
+        };
+    }
+
+    private ReportsDto.PeriodGranularity granularityOf(ReportsDto.ReportSpec spec) {
+        return spec.getGranularity() != null ? spec.getGranularity() : ReportsDto.PeriodGranularity.MONTH;
+    }
+
+    /**
+     * Halves the tenant range until a single tenant remains; idle workers steal the other halves
+     */
+    private class TenantRangeTask extends RecursiveAction {
+
+        private final ReportBatchJob job;
+        private final List<Long> tenantIds;
+        private final List<ReportsDto.ReportSpec> specs;
+        private final int from;
+        private final int to;
+
+        TenantRangeTask(ReportBatchJob job, List<Long> tenantIds, List<ReportsDto.ReportSpec> specs, int from, int to) {
+            this.job = job;
+            this.tenantIds = tenantIds;
+            this.specs = specs;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 1) {
+                for (int i = from; i < to; i++) {
+                    for (int s = 0; s < specs.size(); s++) {
+                        runReport(job, tenantIds.get(i), specs.get(s), s);
+                    }
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TenantRangeTask(job, tenantIds, specs, from, middle),
+                    new TenantRangeTask(job, tenantIds, specs, middle, to));
+        }
+    }
+
+    /**
+     * Progress of one batch run
+     */
+    static class ReportBatchJob {
+
+        private final String jobId;
+        private final Path outputDirectory;
+        private final int total;
+        private final int parallelism;
+        private final long startedNanos = System.nanoTime();
+        private final LocalDateTime startedAt = LocalDateTime.now();
+        private final AtomicInteger completed = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private volatile String status = "RUNNING";
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+
+        ReportBatchJob(String jobId, Path outputDirectory, int total, int parallelism) {
+            this.jobId = jobId;
+            this.outputDirectory = outputDirectory;
+            this.total = total;
+            this.parallelism = parallelism;
+        }
+
+        Path getOutputDirectory() {
+            return outputDirectory;
+        }
+
+        int getCompleted() {
+            return completed.get();
+        }
+
+        int getFailed() {
+            return failed.get();
+        }
+
+        boolean isFinished() {
+            return finishedAt != null;
+        }
+
+        long getFinishedNanos() {
+            return finishedNanos;
+        }
+
+        void reportCompleted() {
+            completed.incrementAndGet();
+        }
+
+        void reportFailed() {
+            failed.incrementAndGet();
+        }
+
+        void finish() {
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            status = failed.get() == 0 ? "COMPLETED" : "COMPLETED_WITH_ERRORS";
+        }
+
+        void fail() {
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            status = "FAILED";
+        }
+
+        ReportsDto.BatchJobStatus toStatus() {
+            long end = finishedAt != null ? finishedNanos : System.nanoTime();
+            double seconds = Math.max(1e-9, (end - startedNanos) / 1_000_000_000.0);
+            int done = completed.get() + failed.get();
+            return ReportsDto.BatchJobStatus.builder()
+                    .jobId(jobId)
+                    .status(status)
+                    .totalReports(total)
+                    .completedReports(completed.get())
+                    .failedReports(failed.get())
+                    .parallelism(parallelism)
+                    .reportsPerSecond(done / seconds)
+                    .outputDirectory(outputDirectory.toString())
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .build();
+        }
+    }
+}
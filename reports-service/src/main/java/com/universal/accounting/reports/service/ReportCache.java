@@ -0,0 +1,81 @@
+package com.universal.accounting.reports.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of generated reports. Each entry remembers the tenant's read model
+ * version it was computed from, so any new posting makes that tenant's cached reports
+ * miss without explicit invalidation.
+ */
+@Component
+public class ReportCache {
+
+    private final Map<Key, Entry> entries;
+    private final Counter hits;
+    private final Counter misses;
+
+    public ReportCache(@Value("${reports.cache.max-entries:10000}") int maxEntries, MeterRegistry meterRegistry) {
+        this.entries = new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+        this.hits = Counter.builder("reports.cache.hits")
+                .description("Report requests served from cache")
+                .register(meterRegistry);
+        this.misses = Counter.builder("reports.cache.misses")
+                .description("Report requests that had to be computed")
+                .register(meterRegistry);
+        Gauge.builder("reports.cache.size", this, ReportCache::size)
+                .description("Cached reports")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T getOrCompute(Long tenantId, long version, String reportType, Supplier<T> compute, Object... parameters) {
+        Key key = new Key(tenantId, reportType, Arrays.asList(parameters));
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.version == version) {
+                hits.increment();
+                return (T) entry.report;
+            }
+        }
+        misses.increment();
+        T report = compute.get();
+        synchronized (entries) {
+            entries.put(key, new Entry(version, report));
+        }
+        return report;
+    }
+
+    public boolean contains(Long tenantId, long version, String reportType, Object... parameters) {
+        synchronized (entries) {
+            Entry entry = entries.get(new Key(tenantId, reportType, Arrays.asList(parameters)));
+            return entry != null && entry.version == version;
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private record Key(Long tenantId, String reportType, List<Object> parameters) {
+    }
+
+    private record Entry(long version, Object report) {
+    }
+}
@@ -0,0 +1,127 @@
+package com.universal.accounting.reports.service;
+
+import com.universal.accounting.reports.readmodel.LedgerFactStore;
+import com.universal.accounting.reports.readmodel.TenantLedgerFacts;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pre-computes each active tenant's standard report set into the report cache, nightly and
+ * after a period is closed, so the first interactive request of the day hits a warm result.
+ * Work runs on one minimum-priority thread and backs off while the database pool is busier
+ * than the configured budget. Reports are computed without ReportGenerated events, which
+ * announce requested reports only. No service publishes PeriodClosed yet, so only the
+ * nightly run fires until the ledger gains a period close.
+ */
+@Component
+@Slf4j
+public class ReportPrewarmScheduler {
+
+    private final ReportsService reportsService;
+    private final LedgerFactStore ledgerFactStore;
+    private final DatabaseLoadGuard databaseLoadGuard;
+    private final ExecutorService executor;
+    private final Counter warmedCounter;
+
+    @Value("${reports.prewarm.max-db-utilization:0.5}")
+    private double maxDbUtilization;
+
+    @Value("${reports.prewarm.backoff-ms:500}")
+    private long backoffMs;
+
+    @Value("${reports.prewarm.max-tenants-per-minute:600}")
+    private int maxTenantsPerMinute;
+
+    public ReportPrewarmScheduler(ReportsService reportsService,
+                                  LedgerFactStore ledgerFactStore,
+                                  DatabaseLoadGuard databaseLoadGuard,
+                                  MeterRegistry meterRegistry) {
+        this.reportsService = reportsService;
+        this.ledgerFactStore = ledgerFactStore;
+        this.databaseLoadGuard = databaseLoadGuard;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "report-prewarm");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        this.warmedCounter = Counter.builder("reports.prewarm.tenants")
+                .description("Tenants whose standard reports were pre-computed")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${reports.prewarm.cron:0 0 2 * * *}")
+    public void prewarmAllTenants() {
+        List<Long> tenantIds = new ArrayList<>();
+        for (TenantLedgerFacts facts : ledgerFactStore.allTenants()) {
+            tenantIds.add(facts.getTenantId());
+        }
+        LocalDate today = LocalDate.now();
+        log.info("Scheduling nightly report pre-computation for {} tenants", tenantIds.size());
+        executor.execute(() -> prewarm(tenantIds, today));
+    }
+
+    /**
+     * Warms the closed period's reports as well as the current ones for a single tenant
+     */
+    public void prewarmAfterPeriodClose(Long tenantId, LocalDate periodEnd) {
+        executor.execute(() -> {
+            prewarm(List.of(tenantId), periodEnd);
+            prewarm(List.of(tenantId), LocalDate.now());
+        });
+    }
+
+    private void prewarm(List<Long> tenantIds, LocalDate asOfDate) {
+        long minIntervalNanos = TimeUnit.MINUTES.toNanos(1) / Math.max(1, maxTenantsPerMinute);
+        for (Long tenantId : tenantIds) {
+            long started = System.nanoTime();
+            try {
+                databaseLoadGuard.awaitCapacity(maxDbUtilization, backoffMs);
+                warmStandardReports(tenantId, asOfDate);
+                warmedCounter.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.warn("Report pre-computation failed for tenant {}: {}", tenantId, e.getMessage());
+            }
+            long remaining = minIntervalNanos - (System.nanoTime() - started);
+            if (remaining > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    private void warmStandardReports(Long tenantId, LocalDate asOfDate) {
+        YearMonth month = YearMonth.from(asOfDate);
+        LocalDate yearStart = asOfDate.withDayOfYear(1);
+        reportsService.profitLossReport(tenantId, month.atDay(1), asOfDate);
+        reportsService.profitLossReport(tenantId, yearStart, asOfDate);
+        reportsService.balanceSheetReport(tenantId, asOfDate);
+        reportsService.trialBalanceReport(tenantId, asOfDate);
+        reportsService.cashFlowReport(tenantId, YearMonth.from(yearStart), month);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
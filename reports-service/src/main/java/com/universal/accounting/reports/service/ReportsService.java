@@ -1,16 +1,24 @@
 package com.universal.accounting.reports.service;
 
+import com.universal.accounting.common.models.ChartOfAccount;
 import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.event.contracts.publisher.EventPublisher;
 import com.universal.accounting.reports.dto.ReportsDto;
+import com.universal.accounting.reports.readmodel.AccountHierarchy;
+import com.universal.accounting.reports.readmodel.LedgerFactStore;
+import com.universal.accounting.reports.readmodel.MinorUnits;
+import com.universal.accounting.reports.readmodel.TenantOpenItems;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -20,40 +28,62 @@ import java.util.Map;
 @Slf4j
 public class ReportsService {
     
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private static final int MAX_COMPARATIVE_PERIODS = 120;
+    
+    private final EventPublisher eventPublisher;
+    private final LedgerFactStore ledgerFactStore;
+    private final ChartOfAccountsCache chartOfAccountsCache;
+    private final ReportCache reportCache;
+    private final OpenItemService openItemService;
+    
+    @Value("${reports.cash-flow.cash-account-code-prefixes:10}")
+    private List<String> cashAccountCodePrefixes;
     
     public ReportsDto.ProfitLossResponse generateProfitLossReport(Long tenantId, LocalDate startDate, LocalDate endDate) {
-        // Mock data - in real implementation, this would query the database
-        List<ReportsDto.ProfitLossItem> revenueItems = Arrays.asList(
-                ReportsDto.ProfitLossItem.builder()
-                        .accountName("Sales Revenue")
-                        .accountCode("4000")
-                        .amount(new BigDecimal("50000.00"))
-                        .build(),
-                ReportsDto.ProfitLossItem.builder()
-                        .accountName("Service Revenue")
-                        .accountCode("4100")
-                        .amount(new BigDecimal("15000.00"))
-                        .build()
-        );
+        ReportsDto.ProfitLossResponse report = profitLossReport(tenantId, startDate, endDate);
         
-        List<ReportsDto.ProfitLossItem> expenseItems = Arrays.asList(
-                ReportsDto.ProfitLossItem.builder()
-                        .accountName("Office Rent")
-                        .accountCode("6000")
-                        .amount(new BigDecimal("5000.00"))
-                        .build(),
-                ReportsDto.ProfitLossItem.builder()
-                        .accountName("Salaries")
-                        .accountCode("6100")
-                        .amount(new BigDecimal("25000.00"))
-                        .build(),
-                ReportsDto.ProfitLossItem.builder()
-                        .accountName("Utilities")
-                        .accountCode("6200")
-                        .amount(new BigDecimal("2000.00"))
-                        .build()
-        );
+        // Publish report generated event
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("startDate", startDate);
+        parameters.put("endDate", endDate);
+        parameters.put("reportType", "PROFIT_LOSS");
+        publishReportGenerated(tenantId, "PROFIT_LOSS", "Profit & Loss Report", parameters);
+        return report;
+    }
+    
+    /**
+     * The cached report without a ReportGenerated event. Events announce reports somebody
+     * asked for, once per request, so the prewarm path computes through these.
+     */
+    public ReportsDto.ProfitLossResponse profitLossReport(Long tenantId, LocalDate startDate, LocalDate endDate) {
+        return reportCache.getOrCompute(tenantId, ledgerFactStore.version(tenantId), "PROFIT_LOSS",
+                () -> computeProfitLossReport(tenantId, startDate, endDate), startDate, endDate);
+    }
+    
+    private ReportsDto.ProfitLossResponse computeProfitLossReport(Long tenantId, LocalDate startDate, LocalDate endDate) {
+        Map<Long, Long> totals = ledgerFactStore.totalsByAccount(tenantId, startDate, endDate);
+        
+        List<ReportsDto.ProfitLossItem> revenueItems = new ArrayList<>();
+        List<ReportsDto.ProfitLossItem> expenseItems = new ArrayList<>();
+        for (ChartOfAccount account : chartOfAccountsCache.getAccounts(tenantId)) {
+            long movement = totals.getOrDefault(account.getId(), 0L);
+            if (movement == 0L) {
+                continue;
+            }
+            if (account.getAccountType() == ChartOfAccount.AccountType.REVENUE) {
+                revenueItems.add(ReportsDto.ProfitLossItem.builder()
+                        .accountName(account.getAccountName())
+                        .accountCode(account.getAccountCode())
+                        .amount(MinorUnits.toDecimal(-movement))
+                        .build());
+            } else if (account.getAccountType() == ChartOfAccount.AccountType.EXPENSE) {
+                expenseItems.add(ReportsDto.ProfitLossItem.builder()
+                        .accountName(account.getAccountName())
+                        .accountCode(account.getAccountCode())
+                        .amount(MinorUnits.toDecimal(movement))
+                        .build());
+            }
+        }
         
         BigDecimal totalRevenue = revenueItems.stream()
                 .map(ReportsDto.ProfitLossItem::getAmount)
@@ -65,22 +95,6 @@ public class ReportsService {
         
         BigDecimal netIncome = totalRevenue.subtract(totalExpenses);
         
-        // Publish report generated event
-        Map<String, Object> parameters = new HashMap<>();
-        parameters.put("startDate", startDate);
-        parameters.put("endDate", endDate);
-        parameters.put("reportType", "PROFIT_LOSS");
-        
-        Events.ReportGenerated event = new Events.ReportGenerated(
-                tenantId,
-                "PROFIT_LOSS",
-                "Profit & Loss Report",
-                LocalDateTime.now(),
-                "system",
-                parameters
-        );
-        kafkaTemplate.send("report-events", event);
-        
         return ReportsDto.ProfitLossResponse.builder()
                 .startDate(startDate)
                 .endDate(endDate)
@@ -93,45 +107,44 @@ public class ReportsService {
     }
     
     public ReportsDto.BalanceSheetResponse generateBalanceSheetReport(Long tenantId, LocalDate asOfDate) {
-        // Mock data - in real implementation, this would query the database
-        List<ReportsDto.BalanceSheetItem> assets = Arrays.asList(
-                ReportsDto.BalanceSheetItem.builder()
-                        .accountName("Cash")
-                        .accountCode("1000")
-                        .amount(new BigDecimal("25000.00"))
-                        .build(),
-                ReportsDto.BalanceSheetItem.builder()
-                        .accountName("Accounts Receivable")
-                        .accountCode("1100")
-                        .amount(new BigDecimal("15000.00"))
-                        .build(),
-                ReportsDto.BalanceSheetItem.builder()
-                        .accountName("Equipment")
-                        .accountCode("1500")
-                        .amount(new BigDecimal("30000.00"))
-                        .build()
-        );
+        ReportsDto.BalanceSheetResponse report = balanceSheetReport(tenantId, asOfDate);
         
-        List<ReportsDto.BalanceSheetItem> liabilities = Arrays.asList(
-                ReportsDto.BalanceSheetItem.builder()
-                        .accountName("Accounts Payable")
-                        .accountCode("2000")
-                        .amount(new BigDecimal("8000.00"))
-                        .build(),
-                ReportsDto.BalanceSheetItem.builder()
-                        .accountName("Accrued Expenses")
-                        .accountCode("2100")
-                        .amount(new BigDecimal("2000.00"))
-                        .build()
-        );
+        // Publish report generated event
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("asOfDate", asOfDate);
+        parameters.put("reportType", "BALANCE_SHEET");
+        publishReportGenerated(tenantId, "BALANCE_SHEET", "Balance Sheet Report", parameters);
+        return report;
+    }
+    
+    public ReportsDto.BalanceSheetResponse balanceSheetReport(Long tenantId, LocalDate asOfDate) {
+        return reportCache.getOrCompute(tenantId, ledgerFactStore.version(tenantId), "BALANCE_SHEET",
+                () -> computeBalanceSheetReport(tenantId, asOfDate), asOfDate);
+    }
+    
+    private ReportsDto.BalanceSheetResponse computeBalanceSheetReport(Long tenantId, LocalDate asOfDate) {
+        Map<Long, Long> totals = ledgerFactStore.totalsByAccount(tenantId, null, asOfDate);
         
-        List<ReportsDto.BalanceSheetItem> equity = Arrays.asList(
-                ReportsDto.BalanceSheetItem.builder()
-                        .accountName("Owner's Equity")
-                        .accountCode("3000")
-                        .amount(new BigDecimal("60000.00"))
-                        .build()
-        );
+        List<ReportsDto.BalanceSheetItem> assets = new ArrayList<>();
+        List<ReportsDto.BalanceSheetItem> liabilities = new ArrayList<>();
+        List<ReportsDto.BalanceSheetItem> equity = new ArrayList<>();
+        long retainedEarnings = 0L;
+        for (ChartOfAccount account : chartOfAccountsCache.getAccounts(tenantId)) {
+            long balance = naturalBalance(account, totals.getOrDefault(account.getId(), 0L));
+            switch (account.getAccountType()) {
+                case REVENUE -> retainedEarnings += balance;
+                case EXPENSE -> retainedEarnings -= balance;
+                case ASSET -> addBalanceSheetItem(assets, account, balance);
+                case LIABILITY -> addBalanceSheetItem(liabilities, account, balance);
+                case EQUITY -> addBalanceSheetItem(equity, account, balance);
+            }
+        }
+        if (retainedEarnings != 0L) {
+            equity.add(ReportsDto.BalanceSheetItem.builder()
+                    .accountName("Retained Earnings (current)")
+                    .amount(MinorUnits.toDecimal(retainedEarnings))
+                    .build());
+        }
         
         BigDecimal totalAssets = assets.stream()
                 .map(ReportsDto.BalanceSheetItem::getAmount)
@@ -145,21 +158,6 @@ public class ReportsService {
                 .map(ReportsDto.BalanceSheetItem::getAmount)
                 .reduce(BigDecimal.ZERO, BigDecimal::add);
         
-        // Publish report generated event
-        Map<String, Object> parameters = new HashMap<>();
-        parameters.put("asOfDate", asOfDate);
-        parameters.put("reportType", "BALANCE_SHEET");
-        
-        Events.ReportGenerated event = new Events.ReportGenerated(
-                tenantId,
-                "BALANCE_SHEET",
-                "Balance Sheet Report",
-                LocalDateTime.now(),
-                "system",
-                parameters
-        );
-        kafkaTemplate.send("report-events", event);
-        
         return ReportsDto.BalanceSheetResponse.builder()
                 .asOfDate(asOfDate)
                 .totalAssets(totalAssets)
@@ -172,56 +170,485 @@ public class ReportsService {
     }
     
     public ReportsDto.TrialBalanceResponse generateTrialBalanceReport(Long tenantId, LocalDate asOfDate) {
-        // Mock data - in real implementation, this would query the database
-        List<ReportsDto.TrialBalanceItem> items = Arrays.asList(
-                ReportsDto.TrialBalanceItem.builder()
-                        .accountName("Cash")
-                        .accountCode("1000")
-                        .accountType("ASSET")
-                        .debitBalance(new BigDecimal("25000.00"))
-                        .creditBalance(BigDecimal.ZERO)
-                        .build(),
-                ReportsDto.TrialBalanceItem.builder()
-                        .accountName("Accounts Receivable")
-                        .accountCode("1100")
-                        .accountType("ASSET")
-                        .debitBalance(new BigDecimal("15000.00"))
-                        .creditBalance(BigDecimal.ZERO)
-                        .build(),
-                ReportsDto.TrialBalanceItem.builder()
-                        .accountName("Accounts Payable")
-                        .accountCode("2000")
-                        .accountType("LIABILITY")
-                        .debitBalance(BigDecimal.ZERO)
-                        .creditBalance(new BigDecimal("8000.00"))
-                        .build(),
-                ReportsDto.TrialBalanceItem.builder()
-                        .accountName("Sales Revenue")
-                        .accountCode("4000")
-                        .accountType("REVENUE")
-                        .debitBalance(BigDecimal.ZERO)
-                        .creditBalance(new BigDecimal("50000.00"))
-                        .build()
-        );
+        ReportsDto.TrialBalanceResponse report = trialBalanceReport(tenantId, asOfDate);
         
         // Publish report generated event
         Map<String, Object> parameters = new HashMap<>();
         parameters.put("asOfDate", asOfDate);
         parameters.put("reportType", "TRIAL_BALANCE");
+        publishReportGenerated(tenantId, "TRIAL_BALANCE", "Trial Balance Report", parameters);
+        return report;
+    }
+    
+    public ReportsDto.TrialBalanceResponse trialBalanceReport(Long tenantId, LocalDate asOfDate) {
+        return reportCache.getOrCompute(tenantId, ledgerFactStore.version(tenantId), "TRIAL_BALANCE",
+                () -> computeTrialBalanceReport(tenantId, asOfDate), asOfDate);
+    }
+    
+    private ReportsDto.TrialBalanceResponse computeTrialBalanceReport(Long tenantId, LocalDate asOfDate) {
+        Map<Long, Long> totals = ledgerFactStore.totalsByAccount(tenantId, null, asOfDate);
+        
+        List<ReportsDto.TrialBalanceItem> items = new ArrayList<>();
+        for (ChartOfAccount account : chartOfAccountsCache.getAccounts(tenantId)) {
+            long balance = naturalBalance(account, totals.getOrDefault(account.getId(), 0L));
+            if (balance == 0L) {
+                continue;
+            }
+            // Convert back to a debit-positive figure to place it on the correct side
+            long debitPositive = isDebitNormal(account) ? balance : -balance;
+            items.add(ReportsDto.TrialBalanceItem.builder()
+                    .accountName(account.getAccountName())
+                    .accountCode(account.getAccountCode())
+                    .accountType(account.getAccountType().name())
+                    .debitBalance(debitPositive > 0 ? MinorUnits.toDecimal(debitPositive) : BigDecimal.ZERO)
+                    .creditBalance(debitPositive < 0 ? MinorUnits.toDecimal(-debitPositive) : BigDecimal.ZERO)
+                    .build());
+        }
+        
+        return ReportsDto.TrialBalanceResponse.builder()
+                .asOfDate(asOfDate)
+                .items(items)
+                .build();
+    }
+    
+    /**
+     * Rolls balances up the chart of accounts hierarchy. Without a start date every account
+     * shows its balance as of the date; with one it shows movement over the period.
+     * Accounts deeper than maxDepth are folded into their ancestors' rollups.
+     */
+    public ReportsDto.AccountHierarchyResponse generateAccountHierarchyReport(Long tenantId, LocalDate startDate,
+                                                                           LocalDate asOfDate, Integer maxDepth) {
+        Map<Long, Long> totals = ledgerFactStore.totalsByAccount(tenantId, startDate, asOfDate);
+        Map<Long, ChartOfAccount> accountsById = new HashMap<>();
+        for (ChartOfAccount account : chartOfAccountsCache.getAccounts(tenantId)) {
+            accountsById.put(account.getId(), account);
+        }
+        
+        AccountHierarchy hierarchy = chartOfAccountsCache.getHierarchy(tenantId);
+        AccountHierarchy.Rollup rollup = hierarchy.rollup(accountId -> {
+            ChartOfAccount account = accountsById.get(accountId);
+            long movement = totals.getOrDefault(accountId, 0L);
+            if (startDate != null) {
+                return isDebitNormal(account) ? movement : -movement;
+            }
+            return naturalBalance(account, movement);
+        });
+        
+        List<ReportsDto.AccountHierarchyItem> items = new ArrayList<>();
+        for (int position = 0; position < hierarchy.size(); position++) {
+            int level = hierarchy.depthAt(position);
+            if (maxDepth != null && level > maxDepth) {
+                continue;
+            }
+            ChartOfAccount account = accountsById.get(hierarchy.accountAt(position));
+            items.add(ReportsDto.AccountHierarchyItem.builder()
+                    .accountId(account.getId())
+                    .parentAccountId(account.getParentAccountId())
+                    .accountName(account.getAccountName())
+                    .accountCode(account.getAccountCode())
+                    .accountType(account.getAccountType().name())
+                    .level(level)
+                    .ownBalance(MinorUnits.toDecimal(rollup.ownBalanceAt(position)))
+                    .rollupBalance(MinorUnits.toDecimal(rollup.subtreeTotalAt(position)))
+                    .build());
+        }
+        
+        // Publish report generated event
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("startDate", startDate);
+        parameters.put("asOfDate", asOfDate);
+        parameters.put("maxDepth", maxDepth);
+        parameters.put("reportType", "ACCOUNT_HIERARCHY");
+        publishReportGenerated(tenantId, "ACCOUNT_HIERARCHY", "Account Hierarchy Report", parameters);
+        
+        return ReportsDto.AccountHierarchyResponse.builder()
+                .startDate(startDate)
+                .asOfDate(asOfDate)
+                .maxDepth(maxDepth)
+                .items(items)
+                .build();
+    }
+    
+    /**
+     * Profit and loss with one column per period, computed in a single scan of the read model
+     */
+    public ReportsDto.ComparativeReportResponse generateComparativeProfitLossReport(
+            Long tenantId, LocalDate startDate, LocalDate endDate, ReportsDto.PeriodGranularity granularity) {
+        List<ReportsDto.PeriodColumn> periods = buildPeriods(startDate, endDate, granularity);
+        Map<Long, long[]> totals = ledgerFactStore.totalsByAccountAndPeriod(tenantId, periodBoundaries(periods));
+        int columns = periods.size();
         
+        List<ReportsDto.ComparativeRow> rows = new ArrayList<>();
+        long[] revenue = new long[columns];
+        long[] expenses = new long[columns];
+        for (ChartOfAccount account : chartOfAccountsCache.getAccounts(tenantId)) {
+            ChartOfAccount.AccountType type = account.getAccountType();
+            long[] movements = totals.get(account.getId());
+            if (movements == null
+                    || (type != ChartOfAccount.AccountType.REVENUE && type != ChartOfAccount.AccountType.EXPENSE)) {
+                continue;
+            }
+            long[] amounts = new long[columns];
+            boolean active = false;
+            for (int period = 0; period < columns; period++) {
+                // Column 0 of the scan holds activity before the first period
+                long movement = movements[period + 1];
+                amounts[period] = type == ChartOfAccount.AccountType.REVENUE ? -movement : movement;
+                active |= movement != 0L;
+                if (type == ChartOfAccount.AccountType.REVENUE) {
+                    revenue[period] += amounts[period];
+                } else {
+                    expenses[period] += amounts[period];
+                }
+            }
+            if (active) {
+                rows.add(comparativeRow(account.getAccountName(), account.getAccountCode(), type.name(), amounts));
+            }
+        }
+        
+        long[] netIncome = new long[columns];
+        for (int period = 0; period < columns; period++) {
+            netIncome[period] = revenue[period] - expenses[period];
+        }
+        
+        // Publish report generated event
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("startDate", startDate);
+        parameters.put("endDate", endDate);
+        parameters.put("granularity", granularity.name());
+        parameters.put("reportType", "COMPARATIVE_PROFIT_LOSS");
+        publishReportGenerated(tenantId, "COMPARATIVE_PROFIT_LOSS", "Comparative Profit & Loss Report", parameters);
+        
+        return ReportsDto.ComparativeReportResponse.builder()
+                .reportType("COMPARATIVE_PROFIT_LOSS")
+                .granularity(granularity)
+                .periods(periods)
+                .rows(rows)
+                .totals(List.of(
+                        comparativeRow("Total Revenue", null, null, revenue),
+                        comparativeRow("Total Expenses", null, null, expenses),
+                        comparativeRow("Net Income", null, null, netIncome)))
+                .build();
+    }
+    
+    /**
+     * Balance sheet as of the end of each period, computed in a single scan of the read model
+     */
+    public ReportsDto.ComparativeReportResponse generateComparativeBalanceSheetReport(
+            Long tenantId, LocalDate startDate, LocalDate endDate, ReportsDto.PeriodGranularity granularity) {
+        List<ReportsDto.PeriodColumn> periods = buildPeriods(startDate, endDate, granularity);
+        Map<Long, long[]> totals = ledgerFactStore.totalsByAccountAndPeriod(tenantId, periodBoundaries(periods));
+        int columns = periods.size();
+        
+        List<ReportsDto.ComparativeRow> rows = new ArrayList<>();
+        long[] assets = new long[columns];
+        long[] liabilities = new long[columns];
+        long[] equity = new long[columns];
+        long[] retainedEarnings = new long[columns];
+        for (ChartOfAccount account : chartOfAccountsCache.getAccounts(tenantId)) {
+            long[] movements = totals.getOrDefault(account.getId(), new long[columns + 1]);
+            long[] balances = new long[columns];
+            long running = movements[0];
+            boolean active = false;
+            for (int period = 0; period < columns; period++) {
+                running += movements[period + 1];
+                balances[period] = naturalBalance(account, running);
+                active |= balances[period] != 0L;
+            }
+            switch (account.getAccountType()) {
+                case REVENUE -> addInto(retainedEarnings, balances, 1);
+                case EXPENSE -> addInto(retainedEarnings, balances, -1);
+                case ASSET -> addInto(assets, balances, 1);
+                case LIABILITY -> addInto(liabilities, balances, 1);
+                case EQUITY -> addInto(equity, balances, 1);
+            }
+            ChartOfAccount.AccountType type = account.getAccountType();
+            boolean balanceSheetAccount = type == ChartOfAccount.AccountType.ASSET
+                    || type == ChartOfAccount.AccountType.LIABILITY
+                    || type == ChartOfAccount.AccountType.EQUITY;
+            if (active && balanceSheetAccount) {
+                rows.add(comparativeRow(account.getAccountName(), account.getAccountCode(), type.name(), balances));
+            }
+        }
+        addInto(equity, retainedEarnings, 1);
+        
+        // Publish report generated event
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("startDate", startDate);
+        parameters.put("endDate", endDate);
+        parameters.put("granularity", granularity.name());
+        parameters.put("reportType", "COMPARATIVE_BALANCE_SHEET");
+        publishReportGenerated(tenantId, "COMPARATIVE_BALANCE_SHEET", "Comparative Balance Sheet Report", parameters);
+        
+        return ReportsDto.ComparativeReportResponse.builder()
+                .reportType("COMPARATIVE_BALANCE_SHEET")
+                .granularity(granularity)
+                .periods(periods)
+                .rows(rows)
+                .totals(List.of(
+                        comparativeRow("Retained Earnings (current)", null, null, retainedEarnings),
+                        comparativeRow("Total Assets", null, null, assets),
+                        comparativeRow("Total Liabilities", null, null, liabilities),
+                        comparativeRow("Total Equity", null, null, equity)))
+                .build();
+    }
+    
+    /**
+     * Indirect-method cash flow statement for whole months. Works from the read model's
+     * monthly aggregates: each section is the period change of the balances in the matching
+     * account classes, so the cost depends on months and accounts, not on posted lines.
+     */
+    public ReportsDto.CashFlowResponse generateCashFlowReport(Long tenantId, YearMonth startMonth, YearMonth endMonth) {
+        ReportsDto.CashFlowResponse report = cashFlowReport(tenantId, startMonth, endMonth);
+        
+        // Publish report generated event
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("startMonth", startMonth.toString());
+        parameters.put("endMonth", endMonth.toString());
+        parameters.put("reportType", "CASH_FLOW");
+        publishReportGenerated(tenantId, "CASH_FLOW", "Cash Flow Statement", parameters);
+        return report;
+    }
+    
+    public ReportsDto.CashFlowResponse cashFlowReport(Long tenantId, YearMonth startMonth, YearMonth endMonth) {
+        return reportCache.getOrCompute(tenantId, ledgerFactStore.version(tenantId), "CASH_FLOW",
+                () -> computeCashFlowReport(tenantId, startMonth, endMonth), startMonth, endMonth);
+    }
+    
+    private ReportsDto.CashFlowResponse computeCashFlowReport(Long tenantId, YearMonth startMonth, YearMonth endMonth) {
+        if (endMonth.isBefore(startMonth)) {
+            throw new IllegalArgumentException("End month must not be before start month");
+        }
+        Map<Long, long[]> movements = ledgerFactStore.monthlyMovements(tenantId, startMonth, endMonth);
+        
+        long netIncome = 0L;
+        long openingCash = 0L;
+        long cashChange = 0L;
+        List<ReportsDto.CashFlowItem> operating = new ArrayList<>();
+        List<ReportsDto.CashFlowItem> investing = new ArrayList<>();
+        List<ReportsDto.CashFlowItem> financing = new ArrayList<>();
+        for (ChartOfAccount account : chartOfAccountsCache.getAccounts(tenantId)) {
+            long[] movement = movements.getOrDefault(account.getId(), new long[2]);
+            // Debit-positive change over the period; a debit increase in a non-cash asset consumes cash
+            long change = movement[1];
+            if (isCashAccount(account)) {
+                openingCash += MinorUnits.toMinor(account.getOpeningBalance()) + movement[0];
+                cashChange += change;
+                continue;
+            }
+            switch (account.getAccountClass()) {
+                case REVENUE, OPERATING_EXPENSE, NON_OPERATING_EXPENSE -> netIncome -= change;
+                case CURRENT_ASSET, CURRENT_LIABILITY -> addCashFlowItem(operating, account, -change);
+                case FIXED_ASSET -> addCashFlowItem(investing, account, -change);
+                case LONG_TERM_LIABILITY, OWNERS_EQUITY -> addCashFlowItem(financing, account, -change);
+            }
+        }
+        
+        long netOperating = netIncome + sumCashFlowItems(operating);
+        long netInvesting = sumCashFlowItems(investing);
+        long netFinancing = sumCashFlowItems(financing);
+        long netChange = netOperating + netInvesting + netFinancing;
+        if (netChange != cashChange) {
+            log.warn("Cash flow for tenant {} does not reconcile: sections give {} but cash accounts moved {}",
+                    tenantId, netChange, cashChange);
+        }
+        
+        return ReportsDto.CashFlowResponse.builder()
+                .startMonth(startMonth)
+                .endMonth(endMonth)
+                .netIncome(MinorUnits.toDecimal(netIncome))
+                .operatingActivities(operating)
+                .netCashFromOperating(MinorUnits.toDecimal(netOperating))
+                .investingActivities(investing)
+                .netCashFromInvesting(MinorUnits.toDecimal(netInvesting))
+                .financingActivities(financing)
+                .netCashFromFinancing(MinorUnits.toDecimal(netFinancing))
+                .netChangeInCash(MinorUnits.toDecimal(netChange))
+                .openingCash(MinorUnits.toDecimal(openingCash))
+                .closingCash(MinorUnits.toDecimal(openingCash + cashChange))
+                .build();
+    }
+    
+    /**
+     * Receivable or payable aging by counterparty, read from the open-item index so the cost
+     * depends on currently open items rather than on every posted line
+     */
+    public ReportsDto.AgingReportResponse generateAgingReport(Long tenantId, ReportsDto.AgingType agingType,
+                                                              LocalDate asOfDate) {
+        Map<String, long[]> aging = openItemService.aging(tenantId, agingType, asOfDate);
+        
+        List<ReportsDto.AgingRow> rows = new ArrayList<>();
+        long[] totals = new long[TenantOpenItems.AGING_COLUMNS];
+        aging.forEach((counterparty, columns) -> {
+            rows.add(agingRow(counterparty, columns));
+            addInto(totals, columns, 1);
+        });
+        rows.sort(Comparator.comparing(ReportsDto.AgingRow::getCounterparty));
+        
+        // Publish report generated event
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("agingType", agingType.name());
+        parameters.put("asOfDate", asOfDate);
+        parameters.put("reportType", "AGING");
+        publishReportGenerated(tenantId, "AGING", "Aging Report", parameters);
+        
+        return ReportsDto.AgingReportResponse.builder()
+                .agingType(agingType)
+                .asOfDate(asOfDate)
+                .counterparties(rows)
+                .totals(agingRow(null, totals))
+                .build();
+    }
+    
+    private ReportsDto.AgingRow agingRow(String counterparty, long[] columns) {
+        long open = columns[TenantOpenItems.CURRENT] + columns[TenantOpenItems.DAYS_1_30]
+                + columns[TenantOpenItems.DAYS_31_60] + columns[TenantOpenItems.DAYS_61_90]
+                + columns[TenantOpenItems.OVER_90];
+        return ReportsDto.AgingRow.builder()
+                .counterparty(counterparty)
+                .current(MinorUnits.toDecimal(columns[TenantOpenItems.CURRENT]))
+                .days1To30(MinorUnits.toDecimal(columns[TenantOpenItems.DAYS_1_30]))
+                .days31To60(MinorUnits.toDecimal(columns[TenantOpenItems.DAYS_31_60]))
+                .days61To90(MinorUnits.toDecimal(columns[TenantOpenItems.DAYS_61_90]))
+                .over90(MinorUnits.toDecimal(columns[TenantOpenItems.OVER_90]))
+                .unappliedCredits(MinorUnits.toDecimal(columns[TenantOpenItems.UNAPPLIED]))
+                .totalOpen(MinorUnits.toDecimal(open))
+                .build();
+    }
+    
+    private boolean isCashAccount(ChartOfAccount account) {
+        if (account.getAccountClass() != ChartOfAccount.AccountClass.CURRENT_ASSET || account.getAccountCode() == null) {
+            return false;
+        }
+        for (String prefix : cashAccountCodePrefixes) {
+            if (account.getAccountCode().startsWith(prefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void addCashFlowItem(List<ReportsDto.CashFlowItem> section, ChartOfAccount account, long amount) {
+        if (amount == 0L) {
+            return;
+        }
+        section.add(ReportsDto.CashFlowItem.builder()
+                .description("Change in " + account.getAccountName())
+                .accountCode(account.getAccountCode())
+                .amount(MinorUnits.toDecimal(amount))
+                .build());
+    }
+    
+    private long sumCashFlowItems(List<ReportsDto.CashFlowItem> items) {
+        long total = 0L;
+        for (ReportsDto.CashFlowItem item : items) {
+            total += MinorUnits.toMinor(item.getAmount());
+        }
+        return total;
+    }
+    
+    /**
+     * Splits [startDate, endDate] into periods aligned to calendar months, quarters or years.
+     * The first and last periods are clipped to the requested range.
+     */
+    private List<ReportsDto.PeriodColumn> buildPeriods(LocalDate startDate, LocalDate endDate,
+                                                       ReportsDto.PeriodGranularity granularity) {
+        if (endDate.isBefore(startDate)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        List<ReportsDto.PeriodColumn> periods = new ArrayList<>();
+        LocalDate periodStart = startDate;
+        while (!periodStart.isAfter(endDate)) {
+            LocalDate nextStart = nextPeriodStart(periodStart, granularity);
+            LocalDate periodEnd = nextStart.minusDays(1).isAfter(endDate) ? endDate : nextStart.minusDays(1);
+            periods.add(ReportsDto.PeriodColumn.builder()
+                    .label(periodLabel(periodStart, granularity))
+                    .startDate(periodStart)
+                    .endDate(periodEnd)
+                    .build());
+            if (periods.size() > MAX_COMPARATIVE_PERIODS) {
+                throw new IllegalArgumentException("Comparative reports are limited to " + MAX_COMPARATIVE_PERIODS + " periods");
+            }
+            periodStart = nextStart;
+        }
+        return periods;
+    }
+    
+    private LocalDate nextPeriodStart(LocalDate date, ReportsDto.PeriodGranularity granularity) {
+        return switch (granularity) {
+            case MONTH -> date.withDayOfMonth(1).plusMonths(1);
+            case QUARTER -> LocalDate.of(date.getYear(), ((date.getMonthValue() - 1) / 3) * 3 + 1, 1).plusMonths(3);
+            case YEAR -> LocalDate.of(date.getYear() + 1, 1, 1);
+        };
+    }
+    
+    private String periodLabel(LocalDate date, ReportsDto.PeriodGranularity granularity) {
+        return switch (granularity) {
+            case MONTH -> YearMonth.from(date).toString();
+            case QUARTER -> date.getYear() + "-Q" + ((date.getMonthValue() - 1) / 3 + 1);
+            case YEAR -> String.valueOf(date.getYear());
+        };
+    }
+    
+    private List<LocalDate> periodBoundaries(List<ReportsDto.PeriodColumn> periods) {
+        List<LocalDate> boundaries = new ArrayList<>(periods.size() + 1);
+        periods.forEach(period -> boundaries.add(period.getStartDate()));
+        boundaries.add(periods.get(periods.size() - 1).getEndDate().plusDays(1));
+        return boundaries;
+    }
+    
+    private ReportsDto.ComparativeRow comparativeRow(String name, String code, String type, long[] amounts) {
+        List<BigDecimal> values = new ArrayList<>(amounts.length);
+        for (long amount : amounts) {
+            values.add(MinorUnits.toDecimal(amount));
+        }
+        return ReportsDto.ComparativeRow.builder()
+                .accountName(name)
+                .accountCode(code)
+                .accountType(type)
+                .amounts(values)
+                .build();
+    }
+    
+    private void addInto(long[] target, long[] values, int sign) {
+        for (int i = 0; i < target.length; i++) {
+            target[i] += sign * values[i];
+        }
+    }
+    
+    private void addBalanceSheetItem(List<ReportsDto.BalanceSheetItem> section, ChartOfAccount account, long balance) {
+        if (balance == 0L) {
+            return;
+        }
+        section.add(ReportsDto.BalanceSheetItem.builder()
+                .accountName(account.getAccountName())
+                .accountCode(account.getAccountCode())
+                .amount(MinorUnits.toDecimal(balance))
+                .build());
+    }
+    
+    /**
+     * Opening balance plus movement, expressed on the account's normal side
+     */
+    private long naturalBalance(ChartOfAccount account, long debitPositiveMovement) {
+        long movement = isDebitNormal(account) ? debitPositiveMovement : -debitPositiveMovement;
+        return MinorUnits.toMinor(account.getOpeningBalance()) + movement;
+    }
+    
+    private boolean isDebitNormal(ChartOfAccount account) {
+        return account.getAccountType() == ChartOfAccount.AccountType.ASSET
+                || account.getAccountType() == ChartOfAccount.AccountType.EXPENSE;
+    }
+    
+    private void publishReportGenerated(Long tenantId, String reportType, String reportName, Map<String, Object> parameters) {
         Events.ReportGenerated event = new Events.ReportGenerated(
                 tenantId,
-                "TRIAL_BALANCE",
-                "Trial Balance Report",
+                reportType,
+                reportName,
                 LocalDateTime.now(),
                 "system",
                 parameters
         );
-        kafkaTemplate.send("report-events", event);
-        
-        return ReportsDto.TrialBalanceResponse.builder()
-                .asOfDate(asOfDate)
-                .items(items)
-                .build();
+        eventPublisher.publish("report-events", tenantId, event);
     }
 }
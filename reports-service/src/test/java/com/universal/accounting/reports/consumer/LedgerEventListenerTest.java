@@ -0,0 +1,108 @@
+package com.universal.accounting.reports.consumer;
+
+import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.event.contracts.envelope.EnvelopeHeaders;
+import com.universal.accounting.event.contracts.envelope.EventEnvelope;
+import com.universal.accounting.event.contracts.envelope.EventLagRecorder;
+import com.universal.accounting.event.contracts.retry.TieredRetryTopics;
+import com.universal.accounting.reports.readmodel.LedgerFactStore;
+import com.universal.accounting.reports.service.ChartOfAccountsCache;
+import com.universal.accounting.reports.service.OpenItemService;
+import com.universal.accounting.reports.service.ReportPrewarmScheduler;
+import com.universal.accounting.tracing.SpanExporter;
+import com.universal.accounting.tracing.Tracer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class LedgerEventListenerTest {
+
+    private static final TopicPartition PARTITION_0 = new TopicPartition(LedgerEventListener.LEDGER_EVENTS_TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(LedgerEventListener.LEDGER_EVENTS_TOPIC, 1);
+
+    private LedgerFactStore ledgerFactStore;
+    private ChartOfAccountsCache chartOfAccountsCache;
+    private ConsumerSeekCallback callback;
+    private LedgerEventListener listener;
+
+    @BeforeEach
+    void setUp() {
+        ledgerFactStore = mock(LedgerFactStore.class);
+        chartOfAccountsCache = mock(ChartOfAccountsCache.class);
+        callback = mock(ConsumerSeekCallback.class);
+        listener = new LedgerEventListener(ledgerFactStore, mock(ReportPrewarmScheduler.class),
+                mock(OpenItemService.class), chartOfAccountsCache, mock(TieredRetryTopics.class),
+                mock(EventLagRecorder.class), new Tracer("reports-service", SpanExporter.NONE, 0.0),
+                mock(PlatformTransactionManager.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void onLedgerEventRetry_WithChartOfAccountsProvisioned_ShouldEvictCachedChart() {
+        // Given
+        Events.ChartOfAccountsProvisioned event = new Events.ChartOfAccountsProvisioned(7L, "RETAIL", LocalDateTime.now());
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>("ledger-events-retry-0", 0, 3L, "7", event);
+        EnvelopeHeaders.write(EventEnvelope.wrap(7L, event), record.headers());
+        Acknowledgment acknowledgment = mock(Acknowledgment.class);
+
+        // When
+        listener.onLedgerEventRetry(record, acknowledgment);
+
+        // Then
+        verify(chartOfAccountsCache).evict(7L);
+        verify(acknowledgment).acknowledge();
+    }
+
+    @Test
+    void onPartitionsAssigned_WithSnapshotOffset_ShouldSeekPastIt() {
+        // Given
+        when(ledgerFactStore.appliedOffsets()).thenReturn(Map.of(0, 41L));
+
+        // When
+        listener.onPartitionsAssigned(Map.of(PARTITION_0, 10L), callback);
+
+        // Then
+        verify(callback).seek(LedgerEventListener.LEDGER_EVENTS_TOPIC, 0, 42L);
+        verify(callback, never()).seekToBeginning(anyCollection());
+    }
+
+    @Test
+    void onPartitionsAssigned_WithoutSnapshotOffset_ShouldReplayFromBeginning() {
+        // Given
+        when(ledgerFactStore.appliedOffsets()).thenReturn(Map.of(0, 41L));
+
+        // When
+        listener.onPartitionsAssigned(Map.of(PARTITION_0, 10L, PARTITION_1, 250L), callback);
+
+        // Then
+        verify(callback).seek(LedgerEventListener.LEDGER_EVENTS_TOPIC, 0, 42L);
+        verify(callback).seekToBeginning(List.of(PARTITION_1));
+    }
+
+    @Test
+    void onPartitionsAssigned_WithRetryTopicPartition_ShouldKeepCommittedOffset() {
+        // Given
+        when(ledgerFactStore.appliedOffsets()).thenReturn(Map.of());
+
+        // When
+        listener.onPartitionsAssigned(Map.of(new TopicPartition("ledger-events-retry-0", 0), 5L), callback);
+
+        // Then
+        verifyNoInteractions(callback);
+    }
+}
@@ -0,0 +1,65 @@
+package com.universal.accounting.reports.management;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.universal.accounting.reports.dto.ReportsDto;
+import com.universal.accounting.reports.service.ReportBatchService;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.boot.actuate.endpoint.InvalidEndpointRequestException;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class ReportBatchesEndpointTest {
+
+    private ReportBatchService reportBatchService;
+    private ReportBatchesEndpoint endpoint;
+
+    @BeforeEach
+    void setUp() {
+        reportBatchService = mock(ReportBatchService.class);
+        Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+        endpoint = new ReportBatchesEndpoint(reportBatchService, new ObjectMapper().registerModule(new JavaTimeModule()),
+                validator);
+    }
+
+    @Test
+    void submit_WithJsonValues_ShouldBindBatchRequest() {
+        // Given
+        List<Object> tenantIds = List.of(1, 2);
+        List<Object> reports = List.of(Map.of("type", "TRIAL_BALANCE", "asOfDate", "2024-03-31"));
+
+        // When
+        endpoint.submit(tenantIds, reports);
+
+        // Then
+        ArgumentCaptor<ReportsDto.BatchReportRequest> request = ArgumentCaptor.forClass(ReportsDto.BatchReportRequest.class);
+        verify(reportBatchService).submit(request.capture());
+        assertThat(request.getValue().getTenantIds()).containsExactly(1L, 2L);
+        assertThat(request.getValue().getReports()).singleElement()
+                .satisfies(spec -> {
+                    assertThat(spec.getType()).isEqualTo(ReportsDto.ReportType.TRIAL_BALANCE);
+                    assertThat(spec.getAsOfDate()).isEqualTo(LocalDate.of(2024, 3, 31));
+                });
+    }
+
+    @Test
+    void submit_WithoutReports_ShouldRejectRequest() {
+        // When & Then
+        assertThatThrownBy(() -> endpoint.submit(List.of(1), null))
+                .isInstanceOf(InvalidEndpointRequestException.class)
+                .hasMessageContaining("Report specs are required");
+        verifyNoInteractions(reportBatchService);
+    }
+}
@@ -0,0 +1,58 @@
+package com.universal.accounting.reports.readmodel;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccountHierarchyTest {
+
+    @Test
+    void rollup_ShouldReturnSubtreeTotalsFromPrefixSums() {
+        // Given: 1 Assets -> (10 Current -> (100 Cash, 101 Bank), 11 Fixed), 2 Liabilities
+        AccountHierarchy hierarchy = AccountHierarchy.build(
+                Arrays.asList(1L, 10L, 100L, 101L, 11L, 2L),
+                Arrays.asList(null, 1L, 10L, 10L, 1L, null));
+        Map<Long, Long> balances = Map.of(100L, 500L, 101L, 250L, 11L, 1_000L, 2L, -300L);
+
+        // When
+        AccountHierarchy.Rollup rollup = hierarchy.rollup(id -> balances.getOrDefault(id, 0L));
+
+        // Then
+        assertThat(rollup.subtreeTotal(1L)).isEqualTo(1_750L);
+        assertThat(rollup.subtreeTotal(10L)).isEqualTo(750L);
+        assertThat(rollup.subtreeTotal(100L)).isEqualTo(500L);
+        assertThat(rollup.subtreeTotal(2L)).isEqualTo(-300L);
+    }
+
+    @Test
+    void build_ShouldAssignDepthsInPreOrder() {
+        // Given
+        AccountHierarchy hierarchy = AccountHierarchy.build(
+                Arrays.asList(2L, 1L, 10L),
+                Arrays.asList(null, null, 1L));
+
+        // Then
+        assertThat(hierarchy.accountAt(0)).isEqualTo(2L);
+        assertThat(hierarchy.accountAt(1)).isEqualTo(1L);
+        assertThat(hierarchy.accountAt(2)).isEqualTo(10L);
+        assertThat(hierarchy.depthAt(2)).isEqualTo(1);
+    }
+
+    @Test
+    void build_ShouldTolerateParentCycles() {
+        // Given
+        AccountHierarchy hierarchy = AccountHierarchy.build(
+                Arrays.asList(1L, 2L),
+                Arrays.asList(2L, 1L));
+
+        // When
+        AccountHierarchy.Rollup rollup = hierarchy.rollup(id -> 1L);
+
+        // Then
+        assertThat(hierarchy.size()).isEqualTo(2);
+        assertThat(rollup.subtreeTotal(1L)).isEqualTo(2L);
+    }
+}
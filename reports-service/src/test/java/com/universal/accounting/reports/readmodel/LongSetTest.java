@@ -0,0 +1,46 @@
+package com.universal.accounting.reports.readmodel;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongSetTest {
+
+    @Test
+    void add_ShouldRejectDuplicatesIncludingZero() {
+        // Given
+        LongSet set = new LongSet();
+
+        // When
+        boolean first = set.add(0L);
+        boolean second = set.add(0L);
+        boolean negative = set.add(-5L);
+
+        // Then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(negative).isTrue();
+        assertThat(set.contains(0L)).isTrue();
+        assertThat(set.contains(-5L)).isTrue();
+        assertThat(set.contains(5L)).isFalse();
+        assertThat(set.size()).isEqualTo(2);
+    }
+
+    @Test
+    void add_ShouldKeepEveryValueAcrossGrowth() {
+        // Given
+        LongSet set = new LongSet();
+
+        // When
+        for (long id = 1; id <= 100_000; id++) {
+            set.add(id * 1_000_003L);
+        }
+
+        // Then
+        assertThat(set.size()).isEqualTo(100_000);
+        for (long id = 1; id <= 100_000; id++) {
+            assertThat(set.contains(id * 1_000_003L)).isTrue();
+        }
+        assertThat(set.contains(7L)).isFalse();
+    }
+}
@@ -0,0 +1,67 @@
+package com.universal.accounting.reports.readmodel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShadowTenantMapTest {
+
+    private ShadowTenantMap<List<String>> tenants;
+
+    @BeforeEach
+    void setUp() {
+        tenants = new ShadowTenantMap<>(tenantId -> new ArrayList<>());
+        tenants.write(1L, events -> events.add("corrupted"));
+        tenants.write(2L, events -> events.add("untouched"));
+    }
+
+    @Test
+    void swap_ShouldApplyLiveWritesAfterReplayedHistory() {
+        // Given
+        tenants.openShadow(null);
+        tenants.write(1L, events -> events.add("live"));
+        tenants.writeShadow(1L, events -> events.add("replayed"));
+
+        // When
+        tenants.swap((replaced, rebuilt) -> { });
+
+        // Then
+        assertThat(tenants.get(1L)).containsExactly("replayed", "live");
+        assertThat(tenants.get(2L)).isNull();
+    }
+
+    @Test
+    void swap_WithTenantSubset_ShouldKeepOtherTenants() {
+        // Given
+        tenants.openShadow(Set.of(1L));
+        tenants.writeShadow(1L, events -> events.add("replayed"));
+        tenants.writeShadow(2L, events -> events.add("ignored"));
+        tenants.write(2L, events -> events.add("live"));
+
+        // When
+        tenants.swap((replaced, rebuilt) -> { });
+
+        // Then
+        assertThat(tenants.get(1L)).containsExactly("replayed");
+        assertThat(tenants.get(2L)).containsExactly("untouched", "live");
+    }
+
+    @Test
+    void discardShadow_ShouldKeepLiveState() {
+        // Given
+        tenants.openShadow(null);
+        tenants.writeShadow(1L, events -> events.add("replayed"));
+
+        // When
+        tenants.discardShadow();
+        tenants.write(1L, events -> events.add("live"));
+
+        // Then
+        assertThat(tenants.get(1L)).containsExactly("corrupted", "live");
+    }
+}
@@ -0,0 +1,138 @@
+package com.universal.accounting.reports.readmodel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantLedgerFactsTest {
+
+    private static final int JAN_15 = (int) LocalDate.of(2024, 1, 15).toEpochDay();
+    private static final int FEB_10 = (int) LocalDate.of(2024, 2, 10).toEpochDay();
+
+    @TempDir
+    Path tempDir;
+
+    private TenantLedgerFacts facts;
+
+    @BeforeEach
+    void setUp() {
+        facts = new TenantLedgerFacts(1L);
+        facts.append(100L, JAN_15, new long[]{1000L, 4000L}, new long[]{50_000L, -50_000L});
+        facts.append(101L, FEB_10, new long[]{6000L, 1000L}, new long[]{12_500L, -12_500L});
+    }
+
+    @Test
+    void totalsByAccount_ShouldSumFactsWithinDateRange() {
+        // When
+        Map<Long, Long> january = facts.totalsByAccount(JAN_15, JAN_15);
+        Map<Long, Long> allTime = facts.totalsByAccount(Integer.MIN_VALUE, Integer.MAX_VALUE);
+
+        // Then
+        assertThat(january).containsEntry(1000L, 50_000L).containsEntry(4000L, -50_000L).containsEntry(6000L, 0L);
+        assertThat(allTime).containsEntry(1000L, 37_500L).containsEntry(6000L, 12_500L);
+    }
+
+    @Test
+    void totalsByAccountAndPeriod_ShouldBucketFactsInOneScan() {
+        // Given
+        int jan1 = (int) LocalDate.of(2024, 1, 1).toEpochDay();
+        int feb1 = (int) LocalDate.of(2024, 2, 1).toEpochDay();
+        int mar1 = (int) LocalDate.of(2024, 3, 1).toEpochDay();
+        facts.append(99L, jan1 - 1, new long[]{1000L}, new long[]{7_000L});
+
+        // When
+        Map<Long, long[]> totals = facts.totalsByAccountAndPeriod(new int[]{jan1, feb1, mar1});
+
+        // Then: column 0 is prior activity, then January and February
+        assertThat(totals.get(1000L)).containsExactly(7_000L, 50_000L, -12_500L);
+        assertThat(totals.get(6000L)).containsExactly(0L, 0L, 12_500L);
+    }
+
+    @Test
+    void append_ShouldIgnoreRedeliveredEntry() {
+        // When
+        boolean applied = facts.append(100L, JAN_15, new long[]{1000L}, new long[]{50_000L});
+
+        // Then
+        assertThat(applied).isFalse();
+        assertThat(facts.size()).isEqualTo(4);
+    }
+
+    @Test
+    void append_ShouldSpanMultipleChunks() {
+        // Given
+        TenantLedgerFacts large = new TenantLedgerFacts(2L);
+        int entries = TenantLedgerFacts.CHUNK_SIZE + 10;
+        for (int i = 0; i < entries; i++) {
+            large.append(i, JAN_15, new long[]{1000L}, new long[]{1L});
+        }
+
+        // When
+        Map<Long, Long> totals = large.totalsByAccount(JAN_15, JAN_15);
+
+        // Then
+        assertThat(totals).containsEntry(1000L, (long) entries);
+    }
+
+    @Test
+    void append_ShouldGrowChunksGeometricallyUpToChunkSize() {
+        // Given
+        TenantLedgerFacts growing = new TenantLedgerFacts(2L);
+        growing.append(1L, JAN_15, new long[]{1000L}, new long[]{1L});
+        int firstCapacity = growing.chunkCapacity(0);
+
+        // When
+        for (int i = 2; i <= TenantLedgerFacts.CHUNK_SIZE + 1; i++) {
+            growing.append(i, JAN_15, new long[]{1000L}, new long[]{1L});
+        }
+
+        // Then
+        assertThat(firstCapacity).isEqualTo(TenantLedgerFacts.MIN_CHUNK_SIZE);
+        assertThat(growing.chunkCapacity(0)).isEqualTo(TenantLedgerFacts.CHUNK_SIZE);
+        assertThat(growing.chunkCapacity(1)).isEqualTo(TenantLedgerFacts.MIN_CHUNK_SIZE);
+        assertThat(growing.totalsByAccount(JAN_15, JAN_15)).containsEntry(1000L, TenantLedgerFacts.CHUNK_SIZE + 1L);
+    }
+
+    @Test
+    void readSnapshot_ShouldSizeChunksToRestoredRowsAndKeepAppending() throws Exception {
+        // Given
+        Path file = tempDir.resolve("tenant-1.facts");
+        facts.writeSnapshot(file);
+        TenantLedgerFacts restored = TenantLedgerFacts.readSnapshot(file);
+        int restoredCapacity = restored.chunkCapacity(0);
+
+        // When
+        boolean duplicate = restored.append(100L, JAN_15, new long[]{1000L}, new long[]{1L});
+        boolean applied = restored.append(102L, FEB_10, new long[]{6000L}, new long[]{500L});
+
+        // Then
+        assertThat(restoredCapacity).isEqualTo(4);
+        assertThat(duplicate).isFalse();
+        assertThat(applied).isTrue();
+        assertThat(restored.size()).isEqualTo(5);
+        assertThat(restored.totalsByAccount(FEB_10, FEB_10)).containsEntry(6000L, 13_000L);
+    }
+
+    @Test
+    void readSnapshot_ShouldRestoreFactsWrittenBySnapshot() throws Exception {
+        // Given
+        Path file = tempDir.resolve("tenant-1.facts");
+        facts.writeSnapshot(file);
+
+        // When
+        TenantLedgerFacts restored = TenantLedgerFacts.readSnapshot(file);
+
+        // Then
+        assertThat(restored.getTenantId()).isEqualTo(1L);
+        assertThat(restored.size()).isEqualTo(facts.size());
+        assertThat(restored.totalsByAccount(Integer.MIN_VALUE, Integer.MAX_VALUE))
+                .isEqualTo(facts.totalsByAccount(Integer.MIN_VALUE, Integer.MAX_VALUE));
+        assertThat(restored.contains(101L)).isTrue();
+    }
+}
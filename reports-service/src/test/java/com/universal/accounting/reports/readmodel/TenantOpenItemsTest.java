@@ -0,0 +1,87 @@
+package com.universal.accounting.reports.readmodel;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TenantOpenItemsTest {
+
+    private static final long RECEIVABLE = 1100L;
+    private static final int JAN_15 = (int) LocalDate.of(2024, 1, 15).toEpochDay();
+    private static final int MAR_31 = (int) LocalDate.of(2024, 3, 31).toEpochDay();
+    private static final int APR_30 = (int) LocalDate.of(2024, 4, 30).toEpochDay();
+
+    private TenantOpenItems openItems;
+
+    @BeforeEach
+    void setUp() {
+        openItems = new TenantOpenItems(1L);
+        openItems.apply(1L, new long[]{RECEIVABLE}, new String[]{"ACME"}, new int[]{MAR_31}, new long[]{30_000L});
+        openItems.apply(2L, new long[]{RECEIVABLE}, new String[]{"ACME"}, new int[]{JAN_15}, new long[]{10_000L});
+    }
+
+    @Test
+    void apply_ShouldSettleEarliestDueItemsFirst() {
+        // When
+        openItems.apply(3L, new long[]{RECEIVABLE}, new String[]{"ACME"}, new int[]{APR_30}, new long[]{-15_000L});
+
+        // Then
+        long[] acme = openItems.aging(RECEIVABLE, APR_30).get("ACME");
+        assertThat(acme[TenantOpenItems.OVER_90]).isZero();
+        assertThat(acme[TenantOpenItems.DAYS_1_30]).isEqualTo(25_000L);
+        assertThat(openItems.openItemCount()).isEqualTo(1);
+    }
+
+    @Test
+    void apply_WithSameDueDate_ShouldSettleLowerEntryIdFirstWhateverTheArrivalOrder() {
+        // Given
+        openItems.apply(11L, new long[]{RECEIVABLE}, new String[]{"GLOBEX"}, new int[]{MAR_31}, new long[]{20_000L});
+        openItems.apply(10L, new long[]{RECEIVABLE}, new String[]{"GLOBEX"}, new int[]{MAR_31}, new long[]{5_000L});
+
+        // When
+        openItems.apply(12L, new long[]{RECEIVABLE}, new String[]{"GLOBEX"}, new int[]{APR_30}, new long[]{-5_000L});
+
+        // Then
+        assertThat(openItems.aging(RECEIVABLE, APR_30).get("GLOBEX")[TenantOpenItems.DAYS_1_30]).isEqualTo(20_000L);
+        assertThat(openItems.openItemCount()).isEqualTo(3);
+    }
+
+    @Test
+    void apply_ShouldHoldOverpaymentAsUnappliedCreditUntilNextItem() {
+        // When
+        openItems.apply(3L, new long[]{RECEIVABLE}, new String[]{"ACME"}, new int[]{APR_30}, new long[]{-45_000L});
+        Map<String, long[]> afterPayment = openItems.aging(RECEIVABLE, APR_30);
+        openItems.apply(4L, new long[]{RECEIVABLE}, new String[]{"ACME"}, new int[]{APR_30}, new long[]{8_000L});
+
+        // Then
+        assertThat(afterPayment.get("ACME")[TenantOpenItems.UNAPPLIED]).isEqualTo(5_000L);
+        long[] acme = openItems.aging(RECEIVABLE, APR_30).get("ACME");
+        assertThat(acme[TenantOpenItems.UNAPPLIED]).isZero();
+        assertThat(acme[TenantOpenItems.CURRENT]).isEqualTo(3_000L);
+    }
+
+    @Test
+    void apply_ShouldIgnoreAlreadyAppliedEntry() {
+        // When
+        boolean reapplied = openItems.apply(2L, new long[]{RECEIVABLE}, new String[]{"ACME"},
+                new int[]{JAN_15}, new long[]{10_000L});
+
+        // Then
+        assertThat(reapplied).isFalse();
+        assertThat(openItems.openItemCount()).isEqualTo(2);
+    }
+
+    @Test
+    void aging_ShouldBucketByDaysPastDue() {
+        // When
+        long[] acme = openItems.aging(RECEIVABLE, APR_30).get("ACME");
+
+        // Then
+        assertThat(acme[TenantOpenItems.DAYS_1_30]).isEqualTo(30_000L);
+        assertThat(acme[TenantOpenItems.OVER_90]).isEqualTo(10_000L);
+    }
+}
@@ -0,0 +1,84 @@
+package com.universal.accounting.reports.service;
+
+import com.universal.accounting.reports.dto.ReportsDto;
+import com.universal.accounting.reports.readmodel.LedgerFactStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BalanceVerifierTest {
+
+    private DatabaseLoadGuard databaseLoadGuard;
+    private CountDownLatch capacity;
+    private BalanceVerifier verifier;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ChartOfAccountsCache chartOfAccountsCache = mock(ChartOfAccountsCache.class);
+        when(chartOfAccountsCache.getAccounts(7L)).thenReturn(List.of());
+        databaseLoadGuard = mock(DatabaseLoadGuard.class);
+        capacity = new CountDownLatch(1);
+        doAnswer(invocation -> capacity.await(5, TimeUnit.SECONDS))
+                .when(databaseLoadGuard).awaitCapacity(anyDouble(), anyLong());
+        verifier = new BalanceVerifier(mock(LedgerFactStore.class), chartOfAccountsCache, databaseLoadGuard,
+                mock(DataSource.class), new SimpleMeterRegistry(), 30, 60_000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        verifier.shutdown();
+    }
+
+    @Test
+    void submitTenant_ShouldRunWithinLoadBudgetOffTheCallerThread() throws Exception {
+        // When
+        ReportsDto.VerificationJobStatus submitted = verifier.submitTenant(7L);
+        ReportsDto.VerificationJobStatus repeated = verifier.submitTenant(7L);
+
+        // Then
+        assertThat(submitted.getStatus()).isIn("QUEUED", "RUNNING");
+        assertThat(repeated.getJobId()).isEqualTo(submitted.getJobId());
+        capacity.countDown();
+        ReportsDto.VerificationJobStatus finished = awaitFinished(submitted.getJobId());
+        assertThat(finished.getStatus()).isEqualTo("COMPLETED");
+        assertThat(finished.getResult().getTenantId()).isEqualTo(7L);
+        verify(databaseLoadGuard).awaitCapacity(anyDouble(), anyLong());
+    }
+
+    @Test
+    void getJob_ForOtherTenant_ShouldThrowException() {
+        // Given
+        capacity.countDown();
+        String jobId = verifier.submitTenant(7L).getJobId();
+
+        // When & Then
+        assertThatThrownBy(() -> verifier.getJob(8L, jobId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(jobId);
+    }
+
+    private ReportsDto.VerificationJobStatus awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        ReportsDto.VerificationJobStatus status = verifier.getJob(7L, jobId);
+        while (status.getFinishedAt() == null && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            status = verifier.getJob(7L, jobId);
+        }
+        return status;
+    }
+}
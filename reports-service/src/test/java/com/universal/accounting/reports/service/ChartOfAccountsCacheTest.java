@@ -0,0 +1,98 @@
+package com.universal.accounting.reports.service;
+
+import com.universal.accounting.common.models.ChartOfAccount;
+import com.universal.accounting.reports.repository.ChartOfAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChartOfAccountsCacheTest {
+
+    private static final long TTL_MS = 1000;
+
+    private ChartOfAccountRepository repository;
+    private AtomicLong now;
+    private ChartOfAccountsCache cache;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ChartOfAccountRepository.class);
+        now = new AtomicLong();
+        cache = new ChartOfAccountsCache(repository, TTL_MS, now::get);
+    }
+
+    @Test
+    void getAccounts_ShouldLoadOnceWithinTtl() {
+        // Given
+        when(repository.findByTenantIdOrderByAccountCode(1L)).thenReturn(List.of(account(10L, null)));
+
+        // When
+        cache.getAccounts(1L);
+        now.addAndGet(TTL_MS - 1);
+        cache.getHierarchy(1L);
+
+        // Then
+        verify(repository, times(1)).findByTenantIdOrderByAccountCode(1L);
+    }
+
+    @Test
+    void getAccounts_ShouldReloadAfterTtl() {
+        // Given
+        when(repository.findByTenantIdOrderByAccountCode(1L)).thenReturn(List.of(account(10L, null)));
+        cache.getAccounts(1L);
+
+        // When
+        now.addAndGet(TTL_MS);
+        cache.getAccounts(1L);
+
+        // Then
+        verify(repository, times(2)).findByTenantIdOrderByAccountCode(1L);
+    }
+
+    @Test
+    void getAccounts_ShouldNotCacheEmptyChart() {
+        // Given
+        when(repository.findByTenantIdOrderByAccountCode(1L))
+                .thenReturn(List.of())
+                .thenReturn(List.of(account(10L, null)));
+
+        // When
+        List<ChartOfAccount> beforeProvisioning = cache.getAccounts(1L);
+        List<ChartOfAccount> afterProvisioning = cache.getAccounts(1L);
+
+        // Then
+        assertThat(beforeProvisioning).isEmpty();
+        assertThat(afterProvisioning).hasSize(1);
+    }
+
+    @Test
+    void evict_ShouldDropAccountsAndHierarchy() {
+        // Given
+        when(repository.findByTenantIdOrderByAccountCode(1L))
+                .thenReturn(List.of(account(10L, null)))
+                .thenReturn(List.of(account(10L, null), account(11L, 10L)));
+        cache.getHierarchy(1L);
+
+        // When
+        cache.evict(1L);
+
+        // Then
+        assertThat(cache.getAccounts(1L)).hasSize(2);
+        assertThat(cache.getHierarchy(1L).size()).isEqualTo(2);
+    }
+
+    private static ChartOfAccount account(Long id, Long parentId) {
+        ChartOfAccount account = new ChartOfAccount();
+        account.setId(id);
+        account.setParentAccountId(parentId);
+        return account;
+    }
+}
@@ -0,0 +1,84 @@
+package com.universal.accounting.reports.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universal.accounting.reports.dto.ReportsDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class ReportBatchServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private ReportBatchService service;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        service.shutdown();
+    }
+
+    @Test
+    void submit_ShouldDropFinishedJobsPastRetention() throws Exception {
+        // Given
+        service = service(0L, 1000);
+        String finished = awaitFinished(service.submit(emptyBatch()));
+
+        // When
+        Thread.sleep(1);
+        service.submit(emptyBatch());
+
+        // Then
+        assertThatThrownBy(() -> service.getStatus(finished))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining(finished);
+    }
+
+    @Test
+    void submit_ShouldKeepAtMostMaxRetainedFinishedJobs() throws Exception {
+        // Given
+        service = service(86_400_000L, 2);
+        String oldest = awaitFinished(service.submit(emptyBatch()));
+        awaitFinished(service.submit(emptyBatch()));
+        awaitFinished(service.submit(emptyBatch()));
+
+        // When
+        String latest = awaitFinished(service.submit(emptyBatch()));
+
+        // Then
+        assertThat(service.retainedJobs()).isEqualTo(3);
+        assertThat(service.getStatus(latest).getStatus()).isEqualTo("COMPLETED");
+        assertThatThrownBy(() -> service.getStatus(oldest)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private ReportBatchService service(long retentionMs, int maxRetainedJobs) {
+        ReportBatchService batchService = new ReportBatchService(mock(ReportsService.class), new ObjectMapper(),
+                new SimpleMeterRegistry(), 2, 10, 2, retentionMs, maxRetainedJobs);
+        ReflectionTestUtils.setField(batchService, "outputDir", tempDir.toString());
+        return batchService;
+    }
+
+    private String awaitFinished(ReportsDto.BatchJobStatus submitted) throws InterruptedException {
+        for (int i = 0; i < 500 && service.getStatus(submitted.getJobId()).getFinishedAt() == null; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(service.getStatus(submitted.getJobId()).getFinishedAt()).isNotNull();
+        return submitted.getJobId();
+    }
+
+    private static ReportsDto.BatchReportRequest emptyBatch() {
+        return ReportsDto.BatchReportRequest.builder()
+                .tenantIds(List.of())
+                .reports(List.of(ReportsDto.ReportSpec.builder().build()))
+                .build();
+    }
+}
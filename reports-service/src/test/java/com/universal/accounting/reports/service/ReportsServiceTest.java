@@ -0,0 +1,64 @@
+package com.universal.accounting.reports.service;
+
+import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.event.contracts.publisher.EventPublisher;
+import com.universal.accounting.reports.readmodel.LedgerFactStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReportsServiceTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2024, 3, 31);
+
+    private EventPublisher eventPublisher;
+    private LedgerFactStore ledgerFactStore;
+    private ReportsService reportsService;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = mock(EventPublisher.class);
+        ledgerFactStore = mock(LedgerFactStore.class);
+        ChartOfAccountsCache chartOfAccountsCache = mock(ChartOfAccountsCache.class);
+        when(ledgerFactStore.version(1L)).thenReturn(5L);
+        when(ledgerFactStore.totalsByAccount(eq(1L), any(), eq(AS_OF))).thenReturn(Map.of());
+        when(chartOfAccountsCache.getAccounts(1L)).thenReturn(List.of());
+        reportsService = new ReportsService(eventPublisher, ledgerFactStore, chartOfAccountsCache,
+                new ReportCache(100, new SimpleMeterRegistry()), mock(OpenItemService.class));
+    }
+
+    @Test
+    void generateTrialBalanceReport_WithCachedReport_ShouldPublishForEveryRequest() {
+        // Given
+        reportsService.generateTrialBalanceReport(1L, AS_OF);
+
+        // When
+        reportsService.generateTrialBalanceReport(1L, AS_OF);
+
+        // Then
+        verify(ledgerFactStore, times(1)).totalsByAccount(1L, null, AS_OF);
+        verify(eventPublisher, times(2)).publish(eq("report-events"), eq(1L), any(Events.ReportGenerated.class));
+    }
+
+    @Test
+    void trialBalanceReport_ShouldWarmCacheWithoutPublishing() {
+        // When
+        reportsService.trialBalanceReport(1L, AS_OF);
+        reportsService.generateTrialBalanceReport(1L, AS_OF);
+
+        // Then
+        verify(ledgerFactStore, times(1)).totalsByAccount(1L, null, AS_OF);
+        verify(eventPublisher, times(1)).publish(eq("report-events"), eq(1L), any(Events.ReportGenerated.class));
+    }
+}
@@ -0,0 +1,89 @@
+package com.universal.accounting.common.aspects;
+
+import com.universal.accounting.common.aspects.sample.QuotePricing;
+import com.universal.accounting.common.aspects.sample.controller.QuoteController;
+import com.universal.accounting.common.aspects.sample.service.QuoteService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.Aspects;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of the common aspects on a controller-to-service call, the part of a request they
+ * add to. The controller and service each match the logging, monitoring and (controller only)
+ * exception-handling pointcuts, as real ones do. In a regular build the aspects are applied
+ * through Spring AOP proxies; built with the aspectj-ctw profile the sample classes are woven
+ * and called directly. Compare
+ * {@code mvn -P benchmarks -pl shared/common-aspects test-compile exec:exec -Djmh.include=RequestOverheadBenchmark}
+ * with {@code mvn -P benchmarks,aspectj-ctw -pl shared/common-aspects clean process-test-classes exec:exec -Djmh.include=RequestOverheadBenchmark};
+ * the test classes are only woven in process-test-classes. Results are in AOP_INTEGRATION.md. Logging is sampled at rate 0, so the figures show
+ * dispatch, trace id and metrics cost rather than log output.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestOverheadBenchmark {
+
+    private QuotePricing pricing;
+    private QuoteController controller;
+    private long amount;
+
+    @Setup
+    public void setUp() {
+        pricing = new QuotePricing();
+        LoggingAspect loggingAspect;
+        PerformanceMonitoringAspect performanceAspect;
+        boolean woven = Aspects.hasAspect(LoggingAspect.class);
+        if (woven) {
+            loggingAspect = Aspects.aspectOf(LoggingAspect.class);
+            performanceAspect = Aspects.aspectOf(PerformanceMonitoringAspect.class);
+        } else {
+            loggingAspect = new LoggingAspect();
+            performanceAspect = new PerformanceMonitoringAspect();
+        }
+        loggingAspect.configure(LoggingAspect.Mode.SAMPLED, 0.0);
+        performanceAspect.configure(new SimpleMeterRegistry(), 1000, false, new double[0]);
+
+        if (woven) {
+            controller = new QuoteController(new QuoteService(pricing));
+        } else {
+            Object[] aspects = {new ExceptionHandlingAspect(), new SecurityAspect(), loggingAspect, performanceAspect};
+            QuoteService service = proxy(new QuoteService(pricing), aspects);
+            controller = proxy(new QuoteController(service), aspects);
+        }
+    }
+
+    @Benchmark
+    public ResponseEntity<Long> withoutAspects() {
+        return ResponseEntity.ok(pricing.price(++amount));
+    }
+
+    @Benchmark
+    public ResponseEntity<Long> request() {
+        return controller.quote(++amount);
+    }
+
+    private static <T> T proxy(T target, Object[] aspects) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.setProxyTargetClass(true);
+        for (Object aspect : aspects) {
+            factory.addAspect(aspect);
+        }
+        return factory.getProxy();
+    }
+}
@@ -0,0 +1,11 @@
+package com.universal.accounting.common.aspects.sample;
+
+/**
+ * Business logic of the benchmark request; its package matches no pointcut, so it is never advised
+ */
+public class QuotePricing {
+
+    public long price(long amount) {
+        return amount * 3 + 7;
+    }
+}
@@ -0,0 +1,17 @@
+package com.universal.accounting.common.aspects.sample.controller;
+
+import com.universal.accounting.common.aspects.sample.service.QuoteService;
+import org.springframework.http.ResponseEntity;
+
+public class QuoteController {
+
+    private final QuoteService quoteService;
+
+    public QuoteController(QuoteService quoteService) {
+        this.quoteService = quoteService;
+    }
+
+    public ResponseEntity<Long> quote(long amount) {
+        return ResponseEntity.ok(quoteService.quote(amount));
+    }
+}
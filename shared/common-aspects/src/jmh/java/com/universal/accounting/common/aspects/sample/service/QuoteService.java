@@ -0,0 +1,18 @@
+package com.universal.accounting.common.aspects.sample.service;
+
+import com.universal.accounting.common.aspects.MonitorPerformance;
+import com.universal.accounting.common.aspects.sample.QuotePricing;
+
+public class QuoteService {
+
+    private final QuotePricing pricing;
+
+    public QuoteService(QuotePricing pricing) {
+        this.pricing = pricing;
+    }
+
+    @MonitorPerformance
+    public long quote(long amount) {
+        return pricing.price(amount);
+    }
+}
@@ -0,0 +1,66 @@
+package com.universal.accounting.common.aspects;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.aspectj.lang.Aspects;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Registers the common aspects for Spring AOP proxies. Services only scan their own
+ * packages, so the aspects are declared here instead of being picked up as components.
+ * When the aspects were woven at compile time this configuration backs off and
+ * {@link CompileTimeWeavingConfiguration} configures the woven instances instead.
+ */
+@AutoConfiguration(after = TenantAccessAutoConfiguration.class)
+@Conditional(CommonAspectsAutoConfiguration.AspectsNotWovenCondition.class)
+public class CommonAspectsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ExceptionHandlingAspect exceptionHandlingAspect() {
+        return new ExceptionHandlingAspect();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SecurityAspect securityAspect(ObjectProvider<TenantMembershipCache> membershipCache) {
+        return new SecurityAspect(membershipCache);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LoggingAspect loggingAspect(@Value("${logging.aspect.mode:FULL}") LoggingAspect.Mode mode,
+                                       @Value("${logging.aspect.sample-rate:0.01}") double sampleRate) {
+        return new LoggingAspect(mode, sampleRate);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public PerformanceMonitoringAspect performanceMonitoringAspect(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${monitoring.performance.slow-threshold-ms:1000}") long slowThresholdMs,
+            @Value("${monitoring.performance.percentile-histogram:false}") boolean percentileHistogram,
+            @Value("${monitoring.performance.percentiles:}") double[] percentiles) {
+        return new PerformanceMonitoringAspect(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                slowThresholdMs, percentileHistogram, percentiles);
+    }
+
+    /**
+     * Matches when the aspects are plain classes, i.e. ajc has not added aspectOf/hasAspect
+     */
+    static class AspectsNotWovenCondition implements Condition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return !Aspects.hasAspect(LoggingAspect.class);
+        }
+    }
+}
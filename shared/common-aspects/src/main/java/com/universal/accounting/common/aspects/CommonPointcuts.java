@@ -0,0 +1,67 @@
+package com.universal.accounting.common.aspects;
+
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.DeclarePrecedence;
+import org.aspectj.lang.annotation.Pointcut;
+
+/**
+ * Named pointcuts shared by the common aspects, so that Spring AOP proxies and compile-time
+ * weaving (the aspectj-ctw build profile) select the same join points. Every pointcut is
+ * restricted to public method execution: a bare {@code @annotation(..)} would also match
+ * the call site under ajc and run the advice twice, and non-public methods and lambda bodies
+ * were never advised through proxies. The declared precedence mirrors the {@code @Order}
+ * values the aspects carry for proxy mode.
+ */
+@Aspect
+@DeclarePrecedence("ExceptionHandlingAspect, SecurityAspect, LoggingAspect, PerformanceMonitoringAspect")
+public class CommonPointcuts {
+
+    public static final int EXCEPTION_HANDLING_ORDER = 100;
+    public static final int SECURITY_ORDER = 200;
+    public static final int LOGGING_ORDER = 300;
+    public static final int PERFORMANCE_ORDER = 400;
+
+    @Pointcut("execution(public * com.universal.accounting..service.*.*(..))")
+    public void serviceMethod() {
+    }
+
+    @Pointcut("execution(public * com.universal.accounting..controller.*.*(..))")
+    public void controllerMethod() {
+    }
+
+    @Pointcut("execution(@com.universal.accounting.common.aspects.LogExecution public * *(..))")
+    public void logExecution() {
+    }
+
+    @Pointcut("execution(@com.universal.accounting.common.aspects.MonitorPerformance public * *(..))")
+    public void monitorPerformance() {
+    }
+
+    @Pointcut("execution(@com.universal.accounting.common.aspects.HandleExceptions public * *(..))")
+    public void handleExceptions() {
+    }
+
+    @Pointcut("execution(@com.universal.accounting.common.aspects.RequireRole public * *(..))")
+    public void requireRole() {
+    }
+
+    @Pointcut("execution(@com.universal.accounting.common.aspects.RequireTenant public * *(..))")
+    public void requireTenant() {
+    }
+
+    @Pointcut("logExecution() || serviceMethod() || controllerMethod()")
+    public void logged() {
+    }
+
+    @Pointcut("monitorPerformance() || serviceMethod() || controllerMethod()")
+    public void monitored() {
+    }
+
+    /**
+     * Controller methods not already covered by {@code @HandleExceptions}, which would
+     * otherwise be wrapped by both exception handlers
+     */
+    @Pointcut("controllerMethod() && !handleExceptions()")
+    public void unhandledControllerMethod() {
+    }
+}
@@ -0,0 +1,62 @@
+package com.universal.accounting.common.aspects;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import org.aspectj.lang.Aspects;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+
+/**
+ * Configures the aspect instances the AspectJ runtime creates when a service is built with
+ * the aspectj-ctw profile. Woven advice runs on those singletons rather than on Spring beans,
+ * and Spring AOP ignores ajc-compiled aspects, so nothing is applied twice. In a regular
+ * build the aspects are not woven and this configuration stays inactive.
+ */
+@AutoConfiguration
+@Conditional(CompileTimeWeavingConfiguration.AspectsWovenCondition.class)
+public class CompileTimeWeavingConfiguration {
+
+    @Bean
+    public LoggingAspect wovenLoggingAspect(@Value("${logging.aspect.mode:FULL}") LoggingAspect.Mode mode,
+                                            @Value("${logging.aspect.sample-rate:0.01}") double sampleRate) {
+        LoggingAspect aspect = Aspects.aspectOf(LoggingAspect.class);
+        aspect.configure(mode, sampleRate);
+        return aspect;
+    }
+
+    @Bean
+    public PerformanceMonitoringAspect wovenPerformanceMonitoringAspect(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${monitoring.performance.slow-threshold-ms:1000}") long slowThresholdMs,
+            @Value("${monitoring.performance.percentile-histogram:false}") boolean percentileHistogram,
+            @Value("${monitoring.performance.percentiles:}") double[] percentiles) {
+        PerformanceMonitoringAspect aspect = Aspects.aspectOf(PerformanceMonitoringAspect.class);
+        aspect.configure(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry),
+                slowThresholdMs, percentileHistogram, percentiles);
+        return aspect;
+    }
+
+    @Bean
+    public SecurityAspect wovenSecurityAspect(ObjectProvider<TenantMembershipCache> membershipCache) {
+        SecurityAspect aspect = Aspects.aspectOf(SecurityAspect.class);
+        aspect.configure(membershipCache.getIfAvailable());
+        return aspect;
+    }
+
+    /**
+     * Matches when the aspects were finished by ajc, which adds the aspectOf/hasAspect methods
+     */
+    static class AspectsWovenCondition implements Condition {
+
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return Aspects.hasAspect(LoggingAspect.class);
+        }
+    }
+}
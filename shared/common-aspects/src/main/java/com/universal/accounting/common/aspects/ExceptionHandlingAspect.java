@@ -6,9 +6,9 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.annotation.Order;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
-import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
 import java.time.LocalDateTime;
@@ -20,12 +20,12 @@ import java.util.Map;
  * Provides consistent error responses and logging
  */
 @Aspect
-@Component
+@Order(CommonPointcuts.EXCEPTION_HANDLING_ORDER)
 public class ExceptionHandlingAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(ExceptionHandlingAspect.class);
 
-    @Around("@annotation(com.universal.accounting.common.aspects.HandleExceptions)")
+    @Around("com.universal.accounting.common.aspects.CommonPointcuts.handleExceptions()")
     public Object handleExceptions(ProceedingJoinPoint joinPoint) throws Throwable {
         try {
             return joinPoint.proceed();
@@ -47,7 +47,7 @@ public class ExceptionHandlingAspect {
         }
     }
     
-    @Around("execution(* com.universal.accounting..controller.*.*(..))")
+    @Around("com.universal.accounting.common.aspects.CommonPointcuts.unhandledControllerMethod()")
     public Object handleControllerExceptions(ProceedingJoinPoint joinPoint) throws Throwable {
         try {
             return joinPoint.proceed();
@@ -0,0 +1,41 @@
+package com.universal.accounting.common.aspects;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Reads memberships from the shared users table, where each user belongs to one tenant
+ */
+public class JdbcTenantMembershipLoader implements TenantMembershipLoader {
+
+    private static final String MEMBERSHIP_SQL =
+            "SELECT tenant_id, role FROM users WHERE username = ? AND is_active = true";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public JdbcTenantMembershipLoader(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public TenantMembership load(String username) {
+        List<TenantMembership> rows = jdbcTemplate.query(MEMBERSHIP_SQL, (rs, rowNum) -> {
+            long tenantId = rs.getLong("tenant_id");
+            Set<Long> tenantIds = rs.wasNull() ? Set.of() : Set.of(tenantId);
+            return new TenantMembership(tenantIds, "ADMIN".equals(rs.getString("role")));
+        }, username);
+        if (rows.isEmpty()) {
+            return TenantMembership.NONE;
+        }
+        Set<Long> tenantIds = new HashSet<>();
+        boolean admin = false;
+        for (TenantMembership row : rows) {
+            tenantIds.addAll(row.tenantIds());
+            admin |= row.admin();
+        }
+        return new TenantMembership(tenantIds, admin);
+    }
+}
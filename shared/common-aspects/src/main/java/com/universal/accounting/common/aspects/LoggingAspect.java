@@ -7,75 +7,118 @@ import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
-import org.springframework.stereotype.Component;
+import org.springframework.core.annotation.Order;
 
 import java.lang.reflect.Method;
-import java.time.LocalDateTime;
 import java.util.Arrays;
-import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 /**
  * AOP Aspect for automatic method execution logging
  * Provides consistent logging across all service methods
+ * In FULL mode (the default) every call is logged. In SAMPLED mode, meant for production,
+ * entry and exit are logged only for a head-based sample of traces, decided once from the
+ * trace id; failures are always logged. Arguments and results are rendered only when the
+ * message is actually written.
  */
 @Aspect
-@Component
+@Order(CommonPointcuts.LOGGING_ORDER)
 public class LoggingAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(LoggingAspect.class);
 
-    @Around("@annotation(com.universal.accounting.common.aspects.LogExecution) || " +
-            "execution(* com.universal.accounting..service.*.*(..)) || " +
-            "execution(* com.universal.accounting..controller.*.*(..))")
+    public enum Mode {
+        FULL, SAMPLED
+    }
+
+    private Mode mode;
+    private double sampleRate;
+
+    /**
+     * Used by the AspectJ runtime when the aspect is woven at compile time
+     */
+    public LoggingAspect() {
+        this(Mode.FULL, 0.01);
+    }
+
+    public LoggingAspect(Mode mode, double sampleRate) {
+        configure(mode, sampleRate);
+    }
+
+    void configure(Mode mode, double sampleRate) {
+        this.mode = mode;
+        this.sampleRate = sampleRate;
+    }
+
+    @Around("com.universal.accounting.common.aspects.CommonPointcuts.logged()")
     public Object logMethodExecution(ProceedingJoinPoint joinPoint) throws Throwable {
-        String traceId = UUID.randomUUID().toString().substring(0, 8);
-        MDC.put("traceId", traceId);
-        
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        String className = method.getDeclaringClass().getSimpleName();
-        String methodName = method.getName();
-        String fullMethodName = className + "." + methodName;
-        
-        Object[] args = joinPoint.getArgs();
-        
-        long startTime = System.currentTimeMillis();
-        
-        // Log method entry
-        logger.info("Method execution started: {} with args: {}", 
-                   fullMethodName, 
-                   sanitizeArguments(args));
+        // Nested calls join the trace of the outermost call, which owns the MDC entry
+        String traceId = MDC.get(TraceIds.MDC_TRACE_ID);
+        boolean traceOwner = traceId == null;
+        if (traceOwner) {
+            traceId = TraceIds.newTraceId();
+            MDC.put(TraceIds.MDC_TRACE_ID, traceId);
+        }
+        boolean sampled = mode == Mode.FULL || TraceIds.isSampled(traceId, sampleRate);
         
-        Object result = null;
-        Throwable exception = null;
+        long startTime = System.nanoTime();
         
         try {
-            result = joinPoint.proceed();
+            // Log method entry
+            if (sampled && logger.isInfoEnabled()) {
+                Object[] args = joinPoint.getArgs();
+                logger.info("Method execution started: {} with args: {}", 
+                           fullMethodName(joinPoint), 
+                           lazy(() -> sanitizeArguments(args)));
+            }
+            
+            Object result = joinPoint.proceed();
+            
+            // Log method exit
+            if (sampled && logger.isInfoEnabled()) {
+                logger.info("Method execution completed: {} in {}ms with result: {}", 
+                           fullMethodName(joinPoint), 
+                           elapsedMillis(startTime),
+                           lazy(() -> sanitizeResult(result)));
+            }
             return result;
         } catch (Throwable t) {
-            exception = t;
+            logger.error("Method execution failed: {} in {}ms with exception: {}", 
+                       fullMethodName(joinPoint), 
+                       elapsedMillis(startTime),
+                       t.getMessage(), 
+                       t);
             throw t;
         } finally {
-            long executionTime = System.currentTimeMillis() - startTime;
-            
-            // Log method exit
-            if (exception != null) {
-                logger.error("Method execution failed: {} in {}ms with exception: {}", 
-                           fullMethodName, 
-                           executionTime,
-                           exception.getMessage(), 
-                           exception);
-            } else {
-                logger.info("Method execution completed: {} in {}ms with result: {}", 
-                           fullMethodName, 
-                           executionTime,
-                           sanitizeResult(result));
+            if (traceOwner) {
+                MDC.remove(TraceIds.MDC_TRACE_ID);
             }
-            
-            MDC.remove("traceId");
         }
     }
     
+    private static String fullMethodName(ProceedingJoinPoint joinPoint) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        Method method = signature.getMethod();
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+    
+    private static long elapsedMillis(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+    
+    /**
+     * Defers rendering to the logging framework, which calls toString only for events it writes
+     */
+    private static Object lazy(Supplier<Object> renderer) {
+        return new Object() {
+            @Override
+            public String toString() {
+                return String.valueOf(renderer.get());
+            }
+        };
+    }
+    
     private String sanitizeArguments(Object[] args) {
         if (args == null || args.length == 0) {
             return "[]";
@@ -2,6 +2,7 @@ package com.universal.accounting.common.aspects;
 
 import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import io.micrometer.core.instrument.Timer;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
@@ -9,79 +10,107 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Component;
+import org.springframework.core.annotation.Order;
 
 import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * AOP Aspect for performance monitoring and metrics collection
- * Automatically tracks method execution times and counts
+ * Automatically tracks method execution times and counts. Meters are resolved once per
+ * method and cached, so a call costs two clock reads and two meter updates; the slow-method
+ * warning uses the duration of the call itself.
  */
 @Aspect
-@Component
+@Order(CommonPointcuts.PERFORMANCE_ORDER)
 public class PerformanceMonitoringAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(PerformanceMonitoringAspect.class);
-    
-    @Autowired
+
+    private final Map<Method, MethodMeters> meters = new ConcurrentHashMap<>();
     private MeterRegistry meterRegistry;
+    private long slowThresholdNanos;
+    private boolean percentileHistogram;
+    private double[] percentiles;
+
+    /**
+     * Used by the AspectJ runtime when the aspect is woven at compile time; records to the
+     * global registry until the application context configures it
+     */
+    public PerformanceMonitoringAspect() {
+        this(Metrics.globalRegistry, 1000, false, new double[0]);
+    }
+
+    public PerformanceMonitoringAspect(MeterRegistry meterRegistry, long slowThresholdMs, boolean percentileHistogram,
+                                       double[] percentiles) {
+        configure(meterRegistry, slowThresholdMs, percentileHistogram, percentiles);
+    }
+
+    void configure(MeterRegistry meterRegistry, long slowThresholdMs, boolean percentileHistogram, double[] percentiles) {
+        this.meterRegistry = meterRegistry;
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMs);
+        this.percentileHistogram = percentileHistogram;
+        this.percentiles = percentiles;
+        // Meters resolved so far belong to the previous registry
+        meters.clear();
+    }
 
-    @Around("@annotation(com.universal.accounting.common.aspects.MonitorPerformance) || " +
-            "execution(* com.universal.accounting..service.*.*(..)) || " +
-            "execution(* com.universal.accounting..controller.*.*(..))")
+    @Around("com.universal.accounting.common.aspects.CommonPointcuts.monitored()")
     public Object monitorPerformance(ProceedingJoinPoint joinPoint) throws Throwable {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodMeters methodMeters = meters.get(method);
+        if (methodMeters == null) {
+            methodMeters = meters.computeIfAbsent(method, this::createMeters);
+        }
+
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            methodMeters.count.increment();
+            return result;
+        } catch (Throwable throwable) {
+            methodMeters.errorCounter(throwable.getClass()).increment();
+            throw throwable;
+        } finally {
+            long duration = System.nanoTime() - start;
+            methodMeters.timer.record(duration, TimeUnit.NANOSECONDS);
+
+            if (duration > slowThresholdNanos) {
+                logger.warn("Slow method execution detected: {}.{} took {}ms",
+                           methodMeters.className, methodMeters.methodName, TimeUnit.NANOSECONDS.toMillis(duration));
+            }
+        }
+    }
+
+    private MethodMeters createMeters(Method method) {
         String className = method.getDeclaringClass().getSimpleName();
         String methodName = method.getName();
         String serviceName = extractServiceName(className);
-        
-        // Create timer and counter metrics
-        Timer timer = Timer.builder("method.execution.time")
+
+        Timer.Builder timer = Timer.builder("method.execution.time")
                 .description("Method execution time")
                 .tag("service", serviceName)
                 .tag("class", className)
-                .tag("method", methodName)
-                .register(meterRegistry);
-        
+                .tag("method", methodName);
+        if (percentileHistogram) {
+            timer.publishPercentileHistogram();
+        }
+        if (percentiles != null && percentiles.length > 0) {
+            timer.publishPercentiles(percentiles);
+        }
+
         Counter counter = Counter.builder("method.execution.count")
                 .description("Method execution count")
                 .tag("service", serviceName)
                 .tag("class", className)
                 .tag("method", methodName)
                 .register(meterRegistry);
-        
-        // Execute method and record metrics
-        Timer.Sample sample = Timer.start(meterRegistry);
-        
-        try {
-            Object result = joinPoint.proceed();
-            counter.increment();
-            return result;
-        } catch (Throwable throwable) {
-            // Record failed executions
-            Counter errorCounter = Counter.builder("method.execution.errors")
-                    .description("Method execution errors")
-                    .tag("service", serviceName)
-                    .tag("class", className)
-                    .tag("method", methodName)
-                    .tag("error", throwable.getClass().getSimpleName())
-                    .register(meterRegistry);
-            errorCounter.increment();
-            throw throwable;
-        } finally {
-            sample.stop(timer);
-            
-            // Log slow methods (>1 second)
-            long executionTime = (long) timer.totalTime(java.util.concurrent.TimeUnit.MILLISECONDS);
-            if (executionTime > 1000) {
-                logger.warn("Slow method execution detected: {}.{} took {}ms", 
-                           className, methodName, executionTime);
-            }
-        }
+
+        return new MethodMeters(serviceName, className, methodName, timer.register(meterRegistry), counter);
     }
-    
+
     private String extractServiceName(String className) {
         if (className.contains("Auth")) return "auth-service";
         if (className.contains("Tenant")) return "tenant-service";
@@ -90,4 +119,35 @@ public class PerformanceMonitoringAspect {
         if (className.contains("Gateway")) return "gateway";
         return "unknown-service";
     }
+
+    /**
+     * Meters of one monitored method; error counters are added per exception type as they occur
+     */
+    private final class MethodMeters {
+
+        private final String serviceName;
+        private final String className;
+        private final String methodName;
+        private final Timer timer;
+        private final Counter count;
+        private final Map<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+
+        private MethodMeters(String serviceName, String className, String methodName, Timer timer, Counter count) {
+            this.serviceName = serviceName;
+            this.className = className;
+            this.methodName = methodName;
+            this.timer = timer;
+            this.count = count;
+        }
+
+        private Counter errorCounter(Class<?> errorType) {
+            return errors.computeIfAbsent(errorType, type -> Counter.builder("method.execution.errors")
+                    .description("Method execution errors")
+                    .tag("service", serviceName)
+                    .tag("class", className)
+                    .tag("method", methodName)
+                    .tag("error", type.getSimpleName())
+                    .register(meterRegistry));
+        }
+    }
 }
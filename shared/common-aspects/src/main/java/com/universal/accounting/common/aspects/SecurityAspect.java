@@ -6,24 +6,46 @@ import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.stereotype.Component;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * AOP Aspect for security and authorization checks
  * Provides method-level security validation
+ * Tenant checks resolve the tenant ID through a per-method {@link TenantIdResolver} and
+ * authorize it against cached memberships, so a call needs neither reflection nor the database.
  */
 @Aspect
-@Component
+@Order(CommonPointcuts.SECURITY_ORDER)
 public class SecurityAspect {
 
     private static final Logger logger = LoggerFactory.getLogger(SecurityAspect.class);
 
-    @Around("@annotation(com.universal.accounting.common.aspects.RequireRole)")
+    private final Map<Method, TenantCheck> tenantChecks = new ConcurrentHashMap<>();
+    private volatile TenantMembershipCache membershipCache;
+
+    /**
+     * Used by the AspectJ runtime when the aspect is woven at compile time
+     */
+    public SecurityAspect() {
+    }
+
+    public SecurityAspect(ObjectProvider<TenantMembershipCache> membershipCache) {
+        configure(membershipCache.getIfAvailable());
+    }
+
+    void configure(TenantMembershipCache membershipCache) {
+        this.membershipCache = membershipCache;
+    }
+
+    @Around("com.universal.accounting.common.aspects.CommonPointcuts.requireRole()")
     public Object checkRoleAuthorization(ProceedingJoinPoint joinPoint) throws Throwable {
         RequireRole requireRole = getRequireRoleAnnotation(joinPoint);
         if (requireRole == null) {
@@ -62,31 +84,42 @@ public class SecurityAspect {
         return joinPoint.proceed();
     }
     
-    @Around("@annotation(com.universal.accounting.common.aspects.RequireTenant)")
+    @Around("com.universal.accounting.common.aspects.CommonPointcuts.requireTenant()")
     public Object checkTenantAuthorization(ProceedingJoinPoint joinPoint) throws Throwable {
-        RequireTenant requireTenant = getRequireTenantAnnotation(joinPoint);
-        if (requireTenant == null) {
-            return joinPoint.proceed();
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        TenantCheck check = tenantChecks.get(method);
+        if (check == null) {
+            check = tenantChecks.computeIfAbsent(method, TenantCheck::new);
         }
         
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         if (authentication == null || !authentication.isAuthenticated()) {
             logger.warn("Unauthorized access attempt to method: {} by unauthenticated user", 
-                       getMethodName(joinPoint));
+                       check.methodName);
             throw new SecurityException("Authentication required");
         }
         
-        // Extract tenant ID from method arguments
-        Long tenantId = extractTenantIdFromArguments(joinPoint);
+        Long tenantId = check.resolver.resolve(joinPoint.getArgs());
         if (tenantId == null) {
-            logger.warn("Tenant ID not found in method arguments: {}", getMethodName(joinPoint));
+            logger.warn("Tenant ID not found in method arguments: {}", check.methodName);
             throw new SecurityException("Tenant ID is required");
         }
         
-        // Check if user has access to this tenant
-        // This would typically involve checking user's tenant associations
-        logger.debug("Tenant access check for method: {} user: {} tenant: {}", 
-                    getMethodName(joinPoint),
+        if (check.validateOwnership) {
+            TenantMembershipCache cache = membershipCache;
+            if (cache == null) {
+                logger.error("No tenant membership source configured, denying method: {}", check.methodName);
+                throw new SecurityException("Tenant access cannot be verified");
+            }
+            if (!cache.get(authentication.getName()).canAccess(tenantId, check.allowAdminBypass)) {
+                logger.warn("Access denied to tenant {} in method: {} for user: {}", 
+                           tenantId, check.methodName, authentication.getName());
+                throw new SecurityException("Access to tenant denied");
+            }
+        }
+        
+        logger.debug("Tenant access granted for method: {} user: {} tenant: {}", 
+                    check.methodName,
                     authentication.getName(),
                     tenantId);
         
@@ -99,39 +132,30 @@ public class SecurityAspect {
         return method.getAnnotation(RequireRole.class);
     }
     
-    private RequireTenant getRequireTenantAnnotation(ProceedingJoinPoint joinPoint) {
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        return method.getAnnotation(RequireTenant.class);
-    }
-    
     private String getMethodName(ProceedingJoinPoint joinPoint) {
         MethodSignature signature = (MethodSignature) joinPoint.getSignature();
         return signature.getDeclaringType().getSimpleName() + "." + signature.getName();
     }
     
-    private Long extractTenantIdFromArguments(ProceedingJoinPoint joinPoint) {
-        Object[] args = joinPoint.getArgs();
+    /**
+     * What a {@link RequireTenant} method needs checked, worked out on its first call
+     */
+    private static final class TenantCheck {
         
-        for (Object arg : args) {
-            if (arg instanceof Long) {
-                return (Long) arg;
-            }
-            // Check if arg has tenantId field
-            if (arg != null) {
-                try {
-                    java.lang.reflect.Field tenantIdField = arg.getClass().getDeclaredField("tenantId");
-                    tenantIdField.setAccessible(true);
-                    Object tenantIdValue = tenantIdField.get(arg);
-                    if (tenantIdValue instanceof Long) {
-                        return (Long) tenantIdValue;
-                    }
-                } catch (Exception e) {
-                    // Field not found or not accessible, continue
-                }
+        private final String methodName;
+        private final boolean validateOwnership;
+        private final boolean allowAdminBypass;
+        private final TenantIdResolver resolver;
+        
+        private TenantCheck(Method method) {
+            RequireTenant requireTenant = method.getAnnotation(RequireTenant.class);
+            this.methodName = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+            this.validateOwnership = requireTenant == null || requireTenant.validateOwnership();
+            this.allowAdminBypass = requireTenant == null || requireTenant.allowAdminBypass();
+            this.resolver = TenantIdResolver.forMethod(method);
+            if (!resolver.isResolvable()) {
+                logger.warn("No tenant ID parameter found on {}; mark it with @TenantId", methodName);
             }
         }
-        
-        return null;
     }
 }
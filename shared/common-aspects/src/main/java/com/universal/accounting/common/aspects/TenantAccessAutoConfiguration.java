@@ -0,0 +1,57 @@
+package com.universal.accounting.common.aspects;
+
+import com.universal.accounting.event.contracts.envelope.EventLagRecorder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.JdbcTemplateAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Tenant membership lookups for {@link SecurityAspect}: memberships come from the shared users
+ * table through a bounded cache, invalidated by TenantMembershipChanged events on user-events.
+ * A service can supply its own {@link TenantMembershipLoader} instead.
+ */
+@AutoConfiguration(after = JdbcTemplateAutoConfiguration.class, before = CompileTimeWeavingConfiguration.class)
+public class TenantAccessAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnBean(TenantMembershipLoader.class)
+    public TenantMembershipCache tenantMembershipCache(
+            TenantMembershipLoader loader,
+            @Value("${security.tenant-access.cache.max-entries:10000}") int maxEntries,
+            @Value("${security.tenant-access.cache.max-age-ms:600000}") long maxAgeMs,
+            ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TenantMembershipCache(loader, maxEntries, maxAgeMs,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    @ConditionalOnBean(TenantMembershipCache.class)
+    @ConditionalOnProperty(prefix = "security.tenant-access", name = "invalidation-listener", matchIfMissing = true)
+    public TenantMembershipEventListener tenantMembershipEventListener(TenantMembershipCache membershipCache,
+                                                                       EventLagRecorder eventLagRecorder) {
+        return new TenantMembershipEventListener(membershipCache, eventLagRecorder);
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(JdbcTemplate.class)
+    static class JdbcMembershipConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        @ConditionalOnBean(JdbcTemplate.class)
+        public TenantMembershipLoader tenantMembershipLoader(JdbcTemplate jdbcTemplate) {
+            return new JdbcTenantMembershipLoader(jdbcTemplate);
+        }
+    }
+}
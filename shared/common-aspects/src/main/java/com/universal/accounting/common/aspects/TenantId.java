@@ -0,0 +1,15 @@
+package com.universal.accounting.common.aspects;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the parameter of a {@link RequireTenant} method that carries the tenant ID.
+ * The parameter is either a Long or an object exposing a public {@code getTenantId()}.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface TenantId {
+}
@@ -0,0 +1,101 @@
+package com.universal.accounting.common.aspects;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+
+/**
+ * Finds the tenant ID among the arguments of one method. The argument position and, for
+ * request objects, the {@code getTenantId()} accessor are looked up once per method, so
+ * resolving a call is an array read and at most one method handle invocation.
+ * <p>
+ * Lookup order: a parameter annotated with {@link TenantId}; a Long parameter named
+ * {@code tenantId} (needs -parameters); the only Long parameter; the first parameter whose
+ * type has a public {@code Long getTenantId()}.
+ */
+final class TenantIdResolver {
+
+    private static final MethodType TENANT_ID_GETTER = MethodType.methodType(Long.class);
+
+    private final int index;
+    private final MethodHandle getter;
+
+    private TenantIdResolver(int index, MethodHandle getter) {
+        this.index = index;
+        this.getter = getter;
+    }
+
+    static TenantIdResolver forMethod(Method method) {
+        Parameter[] parameters = method.getParameters();
+        for (int i = 0; i < parameters.length; i++) {
+            if (parameters[i].isAnnotationPresent(TenantId.class)) {
+                if (isLong(parameters[i].getType())) {
+                    return new TenantIdResolver(i, null);
+                }
+                MethodHandle getter = tenantIdGetter(parameters[i].getType());
+                if (getter == null) {
+                    throw new IllegalStateException("@TenantId parameter of " + method
+                            + " is neither a Long nor has a public Long getTenantId()");
+                }
+                return new TenantIdResolver(i, getter);
+            }
+        }
+
+        int longIndex = -1;
+        int longCount = 0;
+        for (int i = 0; i < parameters.length; i++) {
+            if (isLong(parameters[i].getType())) {
+                if (parameters[i].isNamePresent() && parameters[i].getName().equals("tenantId")) {
+                    return new TenantIdResolver(i, null);
+                }
+                longIndex = i;
+                longCount++;
+            }
+        }
+        if (longCount == 1) {
+            return new TenantIdResolver(longIndex, null);
+        }
+
+        for (int i = 0; i < parameters.length; i++) {
+            MethodHandle getter = tenantIdGetter(parameters[i].getType());
+            if (getter != null) {
+                return new TenantIdResolver(i, getter);
+            }
+        }
+        return new TenantIdResolver(-1, null);
+    }
+
+    boolean isResolvable() {
+        return index >= 0;
+    }
+
+    Long resolve(Object[] args) throws Throwable {
+        if (index < 0) {
+            return null;
+        }
+        Object arg = args[index];
+        if (arg == null || getter == null) {
+            return (Long) arg;
+        }
+        return (Long) getter.invoke(arg);
+    }
+
+    private static boolean isLong(Class<?> type) {
+        return type == Long.class || type == long.class;
+    }
+
+    private static MethodHandle tenantIdGetter(Class<?> type) {
+        if (type.isPrimitive() || type.isArray() || type.getName().startsWith("java.")) {
+            return null;
+        }
+        try {
+            return MethodHandles.lookup()
+                    .findVirtual(type, "getTenantId", TENANT_ID_GETTER)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+}
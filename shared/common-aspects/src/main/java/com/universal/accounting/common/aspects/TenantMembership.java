@@ -0,0 +1,19 @@
+package com.universal.accounting.common.aspects;
+
+import java.util.Set;
+
+/**
+ * Tenants a user may act for. Admins may also cross tenants where a method allows it.
+ */
+public record TenantMembership(Set<Long> tenantIds, boolean admin) {
+
+    public static final TenantMembership NONE = new TenantMembership(Set.of(), false);
+
+    public TenantMembership {
+        tenantIds = Set.copyOf(tenantIds);
+    }
+
+    public boolean canAccess(Long tenantId, boolean allowAdminBypass) {
+        return (allowAdminBypass && admin) || tenantIds.contains(tenantId);
+    }
+}
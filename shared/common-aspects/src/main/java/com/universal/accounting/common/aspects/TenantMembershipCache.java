@@ -0,0 +1,124 @@
+package com.universal.accounting.common.aspects;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded cache of tenant memberships by username, so tenant checks only reach the database
+ * on a miss. Unknown users are cached too. Lookups take no lock: entries sit in a concurrent
+ * map and record when they were last used, and once the map outgrows its bound one caller
+ * drops expired entries and then the least recently used ones, down to 90% of the bound.
+ * Entries are evicted when a TenantMembershipChanged event arrives; the maximum age covers
+ * events missed while the broker was unreachable.
+ */
+public class TenantMembershipCache {
+
+    private final TenantMembershipLoader loader;
+    private final int maxEntries;
+    private final long maxAgeNanos;
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    private final AtomicBoolean trimming = new AtomicBoolean();
+    // Bumped before every eviction, so a load that raced with one is returned but not kept
+    private final AtomicLong evictions = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    public TenantMembershipCache(TenantMembershipLoader loader, int maxEntries, long maxAgeMs,
+                                 MeterRegistry meterRegistry) {
+        this.loader = loader;
+        this.maxEntries = maxEntries;
+        this.maxAgeNanos = TimeUnit.MILLISECONDS.toNanos(maxAgeMs);
+        this.hits = Counter.builder("security.tenant.membership.cache.hits")
+                .description("Tenant checks answered from cached memberships")
+                .register(meterRegistry);
+        this.misses = Counter.builder("security.tenant.membership.cache.misses")
+                .description("Tenant checks that loaded memberships")
+                .register(meterRegistry);
+        Gauge.builder("security.tenant.membership.cache.size", this, TenantMembershipCache::size)
+                .description("Cached tenant memberships")
+                .register(meterRegistry);
+    }
+
+    public TenantMembership get(String username) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(username);
+        if (entry != null && now - entry.loadedAt < maxAgeNanos) {
+            entry.lastUsed = now;
+            hits.increment();
+            return entry.membership;
+        }
+        long evictionsBeforeLoad = evictions.get();
+        misses.increment();
+        TenantMembership membership = loader.load(username);
+        Entry loaded = new Entry(membership, now);
+        entries.put(username, loaded);
+        if (evictions.get() != evictionsBeforeLoad) {
+            entries.remove(username, loaded);
+        } else if (entries.size() > maxEntries) {
+            trim(now);
+        }
+        return membership;
+    }
+
+    public void evict(String username) {
+        evictions.incrementAndGet();
+        entries.remove(username);
+    }
+
+    public void clear() {
+        evictions.incrementAndGet();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void trim(long now) {
+        if (!trimming.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            entries.values().removeIf(entry -> now - entry.loadedAt >= maxAgeNanos);
+            int excess = entries.size() - maxEntries * 9 / 10;
+            if (excess <= 0) {
+                return;
+            }
+            // Last-use times keep changing under concurrent hits, so sort on a snapshot of them
+            List<Candidate> byLastUse = new ArrayList<>(entries.size());
+            entries.forEach((username, entry) -> byLastUse.add(new Candidate(username, entry, entry.lastUsed)));
+            byLastUse.sort(Comparator.comparingLong(Candidate::lastUsed));
+            for (int i = 0; i < excess && i < byLastUse.size(); i++) {
+                entries.remove(byLastUse.get(i).username(), byLastUse.get(i).entry());
+            }
+        } finally {
+            trimming.set(false);
+        }
+    }
+
+    private record Candidate(String username, Entry entry, long lastUsed) {
+    }
+
+    private static final class Entry {
+
+        private final TenantMembership membership;
+        private final long loadedAt;
+        private volatile long lastUsed;
+
+        private Entry(TenantMembership membership, long loadedAt) {
+            this.membership = membership;
+            this.loadedAt = loadedAt;
+            this.lastUsed = loadedAt;
+        }
+    }
+}
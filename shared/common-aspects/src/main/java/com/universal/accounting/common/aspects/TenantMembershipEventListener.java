@@ -0,0 +1,41 @@
+package com.universal.accounting.common.aspects;
+
+import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.event.contracts.envelope.EventLagRecorder;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.kafka.annotation.KafkaListener;
+
+/**
+ * Evicts cached memberships when auth-service reports a change. Each instance listens in a
+ * consumer group of its own, so every instance sees every change, and starts at the latest
+ * offset because its cache starts empty. The lag recorded per event is how long a revoked
+ * membership could still be served from the cache.
+ */
+public class TenantMembershipEventListener {
+
+    public static final String USER_EVENTS_TOPIC = "user-events";
+
+    private final TenantMembershipCache membershipCache;
+    private final EventLagRecorder eventLagRecorder;
+
+    public TenantMembershipEventListener(TenantMembershipCache membershipCache, EventLagRecorder eventLagRecorder) {
+        this.membershipCache = membershipCache;
+        this.eventLagRecorder = eventLagRecorder;
+    }
+
+    @KafkaListener(topics = USER_EVENTS_TOPIC,
+                   groupId = "${spring.application.name}-tenant-membership-${random.uuid}",
+                   properties = {
+                           "auto.offset.reset=latest",
+                           "key.deserializer=org.apache.kafka.common.serialization.StringDeserializer",
+                           "value.deserializer=org.springframework.kafka.support.serializer.ErrorHandlingDeserializer",
+                           "spring.deserializer.value.delegate.class=com.universal.accounting.event.contracts.codec.BinaryEventDeserializer",
+                           "spring.json.trusted.packages=com.universal.accounting.event.contracts"
+                   })
+    public void onUserEvent(ConsumerRecord<String, Object> record) {
+        if (record.value() instanceof Events.TenantMembershipChanged changed) {
+            membershipCache.evict(changed.getUsername());
+        }
+        eventLagRecorder.record(USER_EVENTS_TOPIC, record);
+    }
+}
@@ -0,0 +1,12 @@
+package com.universal.accounting.common.aspects;
+
+/**
+ * Source of truth for tenant memberships, consulted by {@link TenantMembershipCache} on a miss
+ */
+public interface TenantMembershipLoader {
+
+    /**
+     * Memberships of an active user, or {@link TenantMembership#NONE} for unknown and inactive users
+     */
+    TenantMembership load(String username);
+}
@@ -0,0 +1,49 @@
+package com.universal.accounting.common.aspects;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Cheap trace ids and head-based sampling decisions. Ids are 128-bit random values in
+ * lowercase hex (the W3C trace-context format) drawn from {@link ThreadLocalRandom}, which
+ * avoids the contended SecureRandom behind {@code UUID.randomUUID()}.
+ */
+public final class TraceIds {
+
+    public static final String MDC_TRACE_ID = "traceId";
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private TraceIds() {
+    }
+
+    public static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] id = new char[32];
+        writeHex(random.nextLong(), id, 0);
+        writeHex(random.nextLong(), id, 16);
+        return new String(id);
+    }
+
+    /**
+     * Whether a trace falls within the sample. The decision depends only on the trace id, so
+     * every call and every service that sees the same trace decides the same way.
+     */
+    public static boolean isSampled(String traceId, double sampleRate) {
+        if (sampleRate >= 1.0) {
+            return true;
+        }
+        if (sampleRate <= 0.0 || traceId == null) {
+            return false;
+        }
+        // Spread the cached String hash so that similar ids do not cluster
+        int hash = traceId.hashCode() * 0x9E3779B9;
+        return ((hash >>> 8) & 0xFFFFFF) < sampleRate * 0x1000000;
+    }
+
+    private static void writeHex(long value, char[] target, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            target[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.universal.accounting.common.aspects;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SecurityAspectTest {
+
+    private TenantMembershipLoader loader;
+    private TenantMembershipCache cache;
+    private TenantScopedService service;
+
+    @BeforeEach
+    void setUp() {
+        loader = mock(TenantMembershipLoader.class);
+        cache = new TenantMembershipCache(loader, 100, 60_000, new SimpleMeterRegistry());
+        SecurityAspect aspect = new SecurityAspect();
+        aspect.configure(cache);
+        AspectJProxyFactory factory = new AspectJProxyFactory(new TenantScopedService());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(aspect);
+        service = factory.getProxy();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("jane", "n/a", List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void checkTenantAuthorization_WithMemberOfTenant_ShouldProceedAndCacheMembership() {
+        // Given
+        when(loader.load("jane")).thenReturn(new TenantMembership(Set.of(1L), false));
+
+        // When
+        String first = service.balances(7L, 1L);
+        String second = service.post(new PostingRequest(1L, "JE-1"));
+
+        // Then
+        assertThat(first).isEqualTo("balances:1");
+        assertThat(second).isEqualTo("posted:JE-1");
+        verify(loader, times(1)).load("jane");
+    }
+
+    @Test
+    void checkTenantAuthorization_WithOtherTenant_ShouldThrowSecurityException() {
+        // Given
+        when(loader.load("jane")).thenReturn(new TenantMembership(Set.of(1L), false));
+
+        // When & Then
+        assertThatThrownBy(() -> service.balances(7L, 2L))
+                .isInstanceOf(SecurityException.class)
+                .hasMessage("Access to tenant denied");
+    }
+
+    @Test
+    void checkTenantAuthorization_WithAdmin_ShouldBypassOnlyWhereAllowed() {
+        // Given
+        when(loader.load("jane")).thenReturn(new TenantMembership(Set.of(1L), true));
+
+        // When & Then
+        assertThat(service.balances(7L, 2L)).isEqualTo("balances:2");
+        assertThatThrownBy(() -> service.close(2L))
+                .isInstanceOf(SecurityException.class);
+    }
+
+    @Test
+    void evict_ShouldReloadMembershipOnNextCheck() {
+        // Given
+        when(loader.load("jane"))
+                .thenReturn(TenantMembership.NONE)
+                .thenReturn(new TenantMembership(Set.of(2L), false));
+        assertThatThrownBy(() -> service.close(2L)).isInstanceOf(SecurityException.class);
+
+        // When
+        cache.evict("jane");
+
+        // Then
+        assertThat(service.close(2L)).isEqualTo("closed:2");
+        verify(loader, times(2)).load("jane");
+    }
+
+    public static class TenantScopedService {
+
+        @RequireTenant
+        public String balances(Long accountId, @TenantId Long tenantId) {
+            return "balances:" + tenantId;
+        }
+
+        @RequireTenant
+        public String post(PostingRequest request) {
+            return "posted:" + request.getEntryNumber();
+        }
+
+        @RequireTenant(allowAdminBypass = false)
+        public String close(Long tenantId) {
+            return "closed:" + tenantId;
+        }
+    }
+
+    public static class PostingRequest {
+
+        private final Long tenantId;
+        private final String entryNumber;
+
+        public PostingRequest(Long tenantId, String entryNumber) {
+            this.tenantId = tenantId;
+            this.entryNumber = entryNumber;
+        }
+
+        public Long getTenantId() {
+            return tenantId;
+        }
+
+        public String getEntryNumber() {
+            return entryNumber;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.universal.accounting.common.aspects;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TenantMembershipCacheTest {
+
+    private TenantMembershipLoader loader;
+    private TenantMembershipCache cache;
+
+    @BeforeEach
+    void setUp() {
+        loader = mock(TenantMembershipLoader.class);
+        when(loader.load(anyString())).thenReturn(new TenantMembership(Set.of(1L), false));
+        cache = new TenantMembershipCache(loader, 10, 60_000, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void get_BeyondMaxEntries_ShouldTrimLeastRecentlyUsedAndKeepRecentlyUsed() {
+        // Given
+        cache.get("kept");
+        for (int i = 0; i < 9; i++) {
+            cache.get("user-" + i);
+            cache.get("kept");
+        }
+
+        // When
+        cache.get("overflow");
+
+        // Then
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+        cache.get("kept");
+        cache.get("overflow");
+        verify(loader, times(1)).load("kept");
+        verify(loader, times(1)).load("overflow");
+        verify(loader, times(1)).load("user-0");
+        cache.get("user-0");
+        verify(loader, times(2)).load("user-0");
+    }
+
+    @Test
+    void get_AfterEvict_ShouldReload() {
+        // Given
+        cache.get("jane");
+
+        // When
+        cache.evict("jane");
+        cache.get("jane");
+
+        // Then
+        verify(loader, times(2)).load("jane");
+    }
+
+    @Test
+    void get_WithExpiredEntry_ShouldReload() {
+        // Given
+        cache = new TenantMembershipCache(loader, 10, 0, new SimpleMeterRegistry());
+        cache.get("jane");
+
+        // When
+        cache.get("jane");
+
+        // Then
+        verify(loader, times(2)).load("jane");
+    }
+}
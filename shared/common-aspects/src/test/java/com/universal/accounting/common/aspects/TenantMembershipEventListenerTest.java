@@ -0,0 +1,31 @@
+package com.universal.accounting.common.aspects;
+
+import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.event.contracts.envelope.EventLagRecorder;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class TenantMembershipEventListenerTest {
+
+    @Test
+    void onUserEvent_WithMembershipChange_ShouldEvictAndRecordLag() {
+        // Given
+        TenantMembershipCache membershipCache = mock(TenantMembershipCache.class);
+        EventLagRecorder eventLagRecorder = mock(EventLagRecorder.class);
+        TenantMembershipEventListener listener = new TenantMembershipEventListener(membershipCache, eventLagRecorder);
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>(TenantMembershipEventListener.USER_EVENTS_TOPIC,
+                0, 3L, "7", new Events.TenantMembershipChanged(3L, "jane", 7L, LocalDateTime.now()));
+
+        // When
+        listener.onUserEvent(record);
+
+        // Then
+        verify(membershipCache).evict("jane");
+        verify(eventLagRecorder).record(TenantMembershipEventListener.USER_EVENTS_TOPIC, record);
+    }
+}
@@ -8,7 +8,9 @@ import java.math.BigDecimal;
 
 @Data
 @Entity
-@Table(name = "chart_of_accounts")
+@Table(name = "chart_of_accounts", indexes = {
+        @Index(name = "idx_chart_of_accounts_tenant_code", columnList = "tenant_id, account_code")
+})
 @EqualsAndHashCode(callSuper = true)
 public class ChartOfAccount extends BaseEntity {
     
@@ -41,6 +43,13 @@ public class ChartOfAccount extends BaseEntity {
     @Column(name = "description", length = 500)
     private String description;
     
+    /**
+     * Set on accounts whose postings are tracked as open items (receivables or payables)
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "open_item_type", length = 20)
+    private OpenItemType openItemType;
+    
     public enum AccountType {
         ASSET, LIABILITY, EQUITY, REVENUE, EXPENSE
     }
@@ -49,4 +58,8 @@ public class ChartOfAccount extends BaseEntity {
         CURRENT_ASSET, FIXED_ASSET, CURRENT_LIABILITY, LONG_TERM_LIABILITY,
         OWNERS_EQUITY, REVENUE, OPERATING_EXPENSE, NON_OPERATING_EXPENSE
     }
+    
+    public enum OpenItemType {
+        RECEIVABLE, PAYABLE
+    }
 }
\ No newline at end of file
@@ -16,7 +16,10 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "journal_entries")
+@Table(name = "journal_entries", indexes = {
+        @Index(name = "idx_journal_entries_tenant_status_date", columnList = "tenant_id, status, entry_date"),
+        @Index(name = "idx_journal_entries_tenant_reference", columnList = "tenant_id, reference")
+})
 @EqualsAndHashCode(callSuper = true)
 public class JournalEntry extends BaseEntity {
     
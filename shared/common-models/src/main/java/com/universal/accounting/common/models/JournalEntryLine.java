@@ -8,13 +8,17 @@ import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 @Data
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "journal_entry_lines")
+@Table(name = "journal_entry_lines", indexes = {
+        @Index(name = "idx_journal_entry_lines_entry_account", columnList = "journal_entry_id, account_id"),
+        @Index(name = "idx_journal_entry_lines_account_entry", columnList = "account_id, journal_entry_id")
+})
 @EqualsAndHashCode(callSuper = true)
 public class JournalEntryLine extends BaseEntity {
     
@@ -36,4 +40,10 @@ public class JournalEntryLine extends BaseEntity {
     
     @Column(name = "line_number")
     private Integer lineNumber;
+    
+    @Column(name = "counterparty", length = 100)
+    private String counterparty;
+    
+    @Column(name = "due_date")
+    private LocalDate dueDate;
 }
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.universal.accounting.event.contracts.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universal.accounting.event.contracts.Events;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Binary codec against the Jackson JSON encoding used by JsonSerializer, for a typical
+ * posting and a report event with its parameter map. Run with
+ * {@code mvn -P benchmarks -pl shared/event-contracts test-compile exec:exec}.
+ * <p>
+ * Last run (JDK 17.0.9, one vCPU Xeon sandbox, avgt ns/op, decode errors were +-40-70%):
+ * <pre>
+ *                         binary    json    binary ops/s  json ops/s  bytes binary/json
+ * posting (5 lines) enc      899    2864          1.11M        349k        175 / 676
+ *                   dec      579    4645          1.73M        215k
+ * report (3 params) enc      296    1359          3.38M        736k        104 / 223
+ *                   dec      365    2442          2.74M        410k
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventCodecBenchmark {
+
+    private ObjectMapper objectMapper;
+    private Events.JournalEntryPosted posted;
+    private Events.ReportGenerated report;
+    private byte[] postedBinary;
+    private byte[] postedJson;
+    private byte[] reportBinary;
+    private byte[] reportJson;
+
+    @Setup
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        LocalDateTime now = LocalDateTime.of(2024, 3, 31, 17, 45, 12);
+        List<Events.PostedLine> lines = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            lines.add(new Events.PostedLine(1100L + i, new BigDecimal("1250.00"), BigDecimal.ZERO,
+                    "CUSTOMER-" + i, LocalDate.of(2024, 4, 30)));
+        }
+        lines.add(new Events.PostedLine(4000L, BigDecimal.ZERO, new BigDecimal("5000.00"), null, null));
+        posted = new Events.JournalEntryPosted(1L, 42L, "JE-2024-000042", now, "system",
+                LocalDate.of(2024, 3, 31), lines);
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("startDate", LocalDate.of(2024, 1, 1));
+        parameters.put("endDate", LocalDate.of(2024, 3, 31));
+        parameters.put("includeZeroBalances", false);
+        report = new Events.ReportGenerated(1L, "PROFIT_LOSS", "Profit & Loss Report", now, "system", parameters);
+
+        postedBinary = EventCodec.encode(posted);
+        postedJson = objectMapper.writeValueAsBytes(posted);
+        reportBinary = EventCodec.encode(report);
+        reportJson = objectMapper.writeValueAsBytes(report);
+        System.out.printf("Payload bytes: posted binary=%d json=%d, report binary=%d json=%d%n",
+                postedBinary.length, postedJson.length, reportBinary.length, reportJson.length);
+    }
+
+    @Benchmark
+    public byte[] encodePostedBinary() {
+        return EventCodec.encode(posted);
+    }
+
+    @Benchmark
+    public byte[] encodePostedJson() throws Exception {
+        return objectMapper.writeValueAsBytes(posted);
+    }
+
+    @Benchmark
+    public Object decodePostedBinary() {
+        return EventCodec.decode(postedBinary);
+    }
+
+    @Benchmark
+    public Object decodePostedJson() throws Exception {
+        return objectMapper.readValue(postedJson, Events.JournalEntryPosted.class);
+    }
+
+    @Benchmark
+    public byte[] encodeReportBinary() {
+        return EventCodec.encode(report);
+    }
+
+    @Benchmark
+    public byte[] encodeReportJson() throws Exception {
+        return objectMapper.writeValueAsBytes(report);
+    }
+
+    @Benchmark
+    public Object decodeReportBinary() {
+        return EventCodec.decode(reportBinary);
+    }
+
+    @Benchmark
+    public Object decodeReportJson() throws Exception {
+        return objectMapper.readValue(reportJson, Events.ReportGenerated.class);
+    }
+}
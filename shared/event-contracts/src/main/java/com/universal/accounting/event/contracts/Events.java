@@ -4,7 +4,10 @@ import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Map;
 
 public class Events {
@@ -29,6 +32,30 @@ public class Events {
         private String entryNumber;
         private LocalDateTime postedAt;
         private String postedBy;
+        private LocalDate entryDate;
+        private List<PostedLine> lines;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PostedLine {
+        private Long accountId;
+        private BigDecimal debitAmount;
+        private BigDecimal creditAmount;
+        private String counterparty;
+        private LocalDate dueDate;
+    }
+    
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PeriodClosed {
+        private Long tenantId;
+        private LocalDate periodStart;
+        private LocalDate periodEnd;
+        private LocalDateTime closedAt;
+        private String closedBy;
     }
     
     @Data
@@ -52,6 +79,31 @@ public class Events {
         private String ipAddress;
     }
     
+    /**
+     * A tenant's chart of accounts was seeded and committed; services drop cached charts
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ChartOfAccountsProvisioned {
+        private Long tenantId;
+        private String template;
+        private LocalDateTime provisionedAt;
+    }
+    
+    /**
+     * A user's tenant association was created or changed; services drop cached memberships
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TenantMembershipChanged {
+        private Long userId;
+        private String username;
+        private Long tenantId;
+        private LocalDateTime changedAt;
+    }
+    
     @Data
     @NoArgsConstructor
     @AllArgsConstructor
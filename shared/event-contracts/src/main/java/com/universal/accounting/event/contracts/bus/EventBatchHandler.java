@@ -0,0 +1,14 @@
+package com.universal.accounting.event.contracts.bus;
+
+import com.universal.accounting.event.contracts.envelope.EventEnvelope;
+
+import java.util.List;
+
+/**
+ * Receives events of one topic in publish order, in batches of at most the configured size
+ */
+@FunctionalInterface
+public interface EventBatchHandler {
+
+    void onEvents(List<EventEnvelope> events);
+}
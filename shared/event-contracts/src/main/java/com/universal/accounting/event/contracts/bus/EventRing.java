@@ -0,0 +1,113 @@
+package com.universal.accounting.event.contracts.bus;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded multi-producer, single-consumer ring. Producers claim a sequence with a CAS on
+ * the tail, write the slot, then publish it by storing the sequence in the slot's marker;
+ * the consumer reads slots in sequence order while their marker matches. No locks are
+ * taken on either side. A slot can also be claimed first and published or cancelled later,
+ * so a publisher can reserve room in several rings before committing to any of them.
+ */
+final class EventRing {
+
+    private static final Object CANCELLED = new Object();
+
+    private final Object[] slots;
+    private final AtomicLongArray published;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+
+    EventRing(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two: " + capacity);
+        }
+        this.slots = new Object[capacity];
+        this.published = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            published.set(i, -1L);
+        }
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * Appends unless the ring is full
+     */
+    boolean offer(Object event) {
+        long sequence = claim();
+        if (sequence < 0) {
+            return false;
+        }
+        publish(sequence, event);
+        return true;
+    }
+
+    /**
+     * Reserves the next slot and returns its sequence, or -1 when the ring is full. The
+     * consumer stops at a reserved slot until it is published or cancelled.
+     */
+    long claim() {
+        long sequence;
+        do {
+            sequence = tail.get();
+            if (sequence - head >= slots.length) {
+                return -1L;
+            }
+        } while (!tail.compareAndSet(sequence, sequence + 1));
+        return sequence;
+    }
+
+    void publish(long sequence, Object event) {
+        int index = (int) sequence & mask;
+        slots[index] = event;
+        published.lazySet(index, sequence);
+    }
+
+    /**
+     * Gives up a reserved slot; the consumer skips it
+     */
+    void cancel(long sequence) {
+        publish(sequence, CANCELLED);
+    }
+
+    /**
+     * Moves the events in up to max consecutive published slots into batch, skipping
+     * cancelled ones, and returns the number of slots consumed; consumer thread only
+     */
+    int drainTo(List<Object> batch, int max) {
+        long next = head;
+        int consumed = 0;
+        while (consumed < max) {
+            int index = (int) next & mask;
+            if (published.get(index) != next) {
+                break;
+            }
+            if (slots[index] != CANCELLED) {
+                batch.add(slots[index]);
+            }
+            slots[index] = null;
+            next++;
+            consumed++;
+        }
+        head = next;
+        return consumed;
+    }
+
+    /**
+     * Sequence the next producer will claim; every event below it has been offered
+     */
+    long claimed() {
+        return tail.get();
+    }
+
+    int size() {
+        return (int) (tail.get() - head);
+    }
+
+    int capacity() {
+        return slots.length;
+    }
+}
@@ -0,0 +1,33 @@
+package com.universal.accounting.event.contracts.bus;
+
+import com.universal.accounting.event.contracts.publisher.EventPublisherAutoConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Selects the in-process transport with accounting.events.transport=in-process. The bus
+ * becomes the service's {@link com.universal.accounting.event.contracts.publisher.EventPublisher},
+ * so the Kafka publisher backs off. Kafka listener containers keep running for topics that
+ * other JVMs produce; set spring.kafka.listener.auto-startup=false only when every producer
+ * of every consumed topic runs in the same JVM. No service selects this transport yet: it is
+ * meant for a composition that hosts the producers and consumers of a topic in one JVM and
+ * subscribes every listener through {@link EventBatchHandler}.
+ */
+@AutoConfiguration(before = EventPublisherAutoConfiguration.class)
+@ConditionalOnProperty(prefix = "accounting.events", name = "transport", havingValue = "in-process")
+@EnableConfigurationProperties(InProcessBusProperties.class)
+public class InProcessBusAutoConfiguration {
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnMissingBean
+    public InProcessEventBus inProcessEventBus(InProcessBusProperties properties,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        return new InProcessEventBus(properties, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
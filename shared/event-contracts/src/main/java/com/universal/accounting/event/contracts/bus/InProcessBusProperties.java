@@ -0,0 +1,31 @@
+package com.universal.accounting.event.contracts.bus;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for the {@link InProcessEventBus}, used when accounting.events.transport is in-process
+ */
+@Data
+@ConfigurationProperties(prefix = "accounting.events.in-process")
+public class InProcessBusProperties {
+
+    /**
+     * Events buffered per subscription; a power of two
+     */
+    private int ringSize = 65_536;
+
+    private int maxBatchSize = 500;
+
+    /**
+     * How long a publisher waits for space in a full ring before the publish is rejected
+     */
+    private long blockTimeoutMs = 5_000;
+
+    /**
+     * Deliveries of a failing batch before its events are dropped and counted
+     */
+    private int maxAttempts = 3;
+
+    private long retryBackoffMs = 100;
+}
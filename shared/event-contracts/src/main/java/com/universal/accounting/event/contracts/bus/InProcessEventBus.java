@@ -0,0 +1,251 @@
+package com.universal.accounting.event.contracts.bus;
+
+import com.universal.accounting.event.contracts.envelope.EventEnvelope;
+import com.universal.accounting.event.contracts.publisher.EventPublishException;
+import com.universal.accounting.event.contracts.publisher.EventPublisher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * In-JVM transport behind {@link EventPublisher}, for single-process runs and tests. Every
+ * subscription owns a lock-free {@link EventRing} of {@link EventEnvelope}s drained by its own
+ * consumer thread in batches, so a subscription sees a topic's events in publish order (and hence each tenant's
+ * events in order, as with the tenant-keyed Kafka publisher). A publish completes once the
+ * event is in every subscriber's ring; a full ring pushes back on the publisher. Room is
+ * reserved in all rings before the event is written to any, so a publish that times out on
+ * one subscriber reaches none of them.
+ * <p>
+ * Nothing is persisted: events still buffered at shutdown are lost. A publish to a topic
+ * nobody subscribed to in this JVM is not silently dropped: it is counted as unrouted
+ * (events.bus.unrouted), logged once per topic, and its future fails.
+ */
+@Slf4j
+public class InProcessEventBus implements EventPublisher, AutoCloseable {
+
+    private final InProcessBusProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, List<Subscription>> subscriptions = new ConcurrentHashMap<>();
+    private final Map<String, Counter> unrouted = new ConcurrentHashMap<>();
+
+    public InProcessEventBus(InProcessBusProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(String topic, Long tenantId, Object event) {
+        List<Subscription> subscribers = subscriptions.get(topic);
+        if (subscribers == null || subscribers.isEmpty()) {
+            unrouted.computeIfAbsent(topic, this::registerUnrouted).increment();
+            return CompletableFuture.failedFuture(
+                    new EventPublishException("No in-process subscriber on " + topic));
+        }
+        EventEnvelope envelope = EventEnvelope.wrap(tenantId, event);
+        // Reserve a slot in every ring before filling any, so a subscriber that is too far
+        // behind fails the publish for all of them instead of after some received the event
+        List<Subscription> reserved = new ArrayList<>(subscribers);
+        long[] sequences = new long[reserved.size()];
+        for (int i = 0; i < reserved.size(); i++) {
+            try {
+                sequences[i] = reserved.get(i).claim();
+            } catch (EventPublishException e) {
+                for (int j = 0; j < i; j++) {
+                    reserved.get(j).ring.cancel(sequences[j]);
+                }
+                throw e;
+            }
+        }
+        for (int i = 0; i < reserved.size(); i++) {
+            reserved.get(i).publish(sequences[i], envelope);
+        }
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private Counter registerUnrouted(String topic) {
+        log.warn("Events published on {} have no in-process subscriber and are not delivered", topic);
+        return Counter.builder("events.bus.unrouted")
+                .description("Events published on a topic without in-process subscribers")
+                .tag("topic", topic)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Registers a consumer group on a topic; it receives events published from now on
+     */
+    public Subscription subscribe(String topic, String group, EventBatchHandler handler) {
+        Subscription subscription = new Subscription(topic, group, handler);
+        subscriptions.computeIfAbsent(topic, key -> new CopyOnWriteArrayList<>()).add(subscription);
+        subscription.start();
+        return subscription;
+    }
+
+    /**
+     * Waits until every event published before the call has been handled by all
+     * subscriptions, which makes tests deterministic; false on timeout
+     */
+    public boolean awaitIdle(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        for (List<Subscription> subscribers : subscriptions.values()) {
+            for (Subscription subscription : subscribers) {
+                if (!subscription.awaitHandled(subscription.ring.claimed(), deadline)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() {
+        subscriptions.values().forEach(subscribers -> subscribers.forEach(Subscription::close));
+        subscriptions.clear();
+    }
+
+    public final class Subscription implements AutoCloseable {
+
+        private final String topic;
+        private final String group;
+        private final EventBatchHandler handler;
+        private final EventRing ring;
+        private final Thread consumer;
+        private final AtomicLong handled = new AtomicLong();
+        private final Counter delivered;
+        private final Counter dropped;
+        private volatile boolean idle;
+        private volatile boolean running = true;
+
+        private Subscription(String topic, String group, EventBatchHandler handler) {
+            this.topic = topic;
+            this.group = group;
+            this.handler = handler;
+            this.ring = new EventRing(properties.getRingSize());
+            this.consumer = new Thread(this::consume, "event-bus-" + topic + "-" + group);
+            this.consumer.setDaemon(true);
+            this.delivered = Counter.builder("events.bus.delivered")
+                    .description("Events handed to in-process subscribers")
+                    .tag("topic", topic)
+                    .tag("group", group)
+                    .register(meterRegistry);
+            this.dropped = Counter.builder("events.bus.dropped")
+                    .description("Events dropped after the subscriber kept failing")
+                    .tag("topic", topic)
+                    .tag("group", group)
+                    .register(meterRegistry);
+            Gauge.builder("events.bus.backlog", ring, EventRing::size)
+                    .description("Events buffered for an in-process subscriber")
+                    .tag("topic", topic)
+                    .tag("group", group)
+                    .register(meterRegistry);
+        }
+
+        private void start() {
+            consumer.start();
+        }
+
+        private long claim() {
+            long sequence = ring.claim();
+            if (sequence < 0) {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(properties.getBlockTimeoutMs());
+                do {
+                    if (System.nanoTime() - deadline > 0) {
+                        throw new EventPublishException("In-process subscriber " + group + " on " + topic
+                                + " is " + ring.capacity() + " events behind");
+                    }
+                    LockSupport.unpark(consumer);
+                    LockSupport.parkNanos(10_000);
+                    sequence = ring.claim();
+                } while (sequence < 0);
+            }
+            return sequence;
+        }
+
+        private void publish(long sequence, EventEnvelope event) {
+            ring.publish(sequence, event);
+            if (idle) {
+                LockSupport.unpark(consumer);
+            }
+        }
+
+        private void consume() {
+            List<Object> batch = new ArrayList<>(properties.getMaxBatchSize());
+            int emptyPolls = 0;
+            while (running) {
+                int consumed = ring.drainTo(batch, properties.getMaxBatchSize());
+                if (consumed == 0) {
+                    // Spin briefly for bursts, then park until a publisher wakes us
+                    if (++emptyPolls < 100) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    idle = true;
+                    if (ring.size() == 0) {
+                        LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+                    }
+                    idle = false;
+                    continue;
+                }
+                emptyPolls = 0;
+                if (!batch.isEmpty()) {
+                    deliver(batch);
+                }
+                handled.addAndGet(consumed);
+                batch.clear();
+            }
+        }
+
+        private void deliver(List<Object> batch) {
+            List<EventEnvelope> events = new ArrayList<>(batch.size());
+            batch.forEach(event -> events.add((EventEnvelope) event));
+            for (int attempt = 1; ; attempt++) {
+                try {
+                    handler.onEvents(events);
+                    delivered.increment(events.size());
+                    return;
+                } catch (RuntimeException e) {
+                    if (attempt >= properties.getMaxAttempts()) {
+                        log.error("Dropping {} events on {} for {} after {} attempts: {}",
+                                events.size(), topic, group, attempt, e.getMessage());
+                        dropped.increment(events.size());
+                        return;
+                    }
+                    log.warn("In-process delivery on {} for {} failed, attempt {}: {}", topic, group, attempt, e.getMessage());
+                    LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(properties.getRetryBackoffMs() * attempt));
+                }
+            }
+        }
+
+        private boolean awaitHandled(long sequence, long deadline) throws InterruptedException {
+            while (handled.get() < sequence) {
+                if (System.nanoTime() - deadline > 0) {
+                    return false;
+                }
+                LockSupport.unpark(consumer);
+                Thread.sleep(1);
+            }
+            return true;
+        }
+
+        @Override
+        public void close() {
+            running = false;
+            LockSupport.unpark(consumer);
+            List<Subscription> subscribers = subscriptions.get(topic);
+            if (subscribers != null) {
+                subscribers.remove(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.universal.accounting.event.contracts.codec;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Reads the encodings written by {@link BinaryWriter}
+ */
+final class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    BinaryReader(byte[] buffer) {
+        this.buffer = buffer;
+    }
+
+    int position() {
+        return position;
+    }
+
+    void position(int newPosition) {
+        if (newPosition < position || newPosition > buffer.length) {
+            throw new IllegalArgumentException("Invalid record boundary " + newPosition);
+        }
+        this.position = newPosition;
+    }
+
+    int readByte() {
+        if (position >= buffer.length) {
+            throw new IllegalArgumentException("Truncated event payload");
+        }
+        return buffer[position++] & 0xFF;
+    }
+
+    long readVarLong() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint in event payload");
+    }
+
+    long readSignedVarLong() {
+        long raw = readVarLong();
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+    int readLength() {
+        long length = readVarLong();
+        if (length < 0 || length > buffer.length - position) {
+            throw new IllegalArgumentException("Invalid length " + length + " in event payload");
+        }
+        return (int) length;
+    }
+
+    boolean readBoolean() {
+        return readByte() != 0;
+    }
+
+    Long readLong() {
+        return readBoolean() ? readSignedVarLong() : null;
+    }
+
+    String readString() {
+        long marker = readVarLong();
+        if (marker == 0) {
+            return null;
+        }
+        int length = (int) (marker - 1);
+        if (length > buffer.length - position) {
+            throw new IllegalArgumentException("Invalid string length " + length + " in event payload");
+        }
+        String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+        position += length;
+        return value;
+    }
+
+    LocalDate readDate() {
+        return readBoolean() ? LocalDate.ofEpochDay(readSignedVarLong()) : null;
+    }
+
+    LocalDateTime readDateTime() {
+        if (!readBoolean()) {
+            return null;
+        }
+        long seconds = readSignedVarLong();
+        int nanos = (int) readVarLong();
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    BigDecimal readDecimal() {
+        if (!readBoolean()) {
+            return null;
+        }
+        int scale = (int) readSignedVarLong();
+        if (readByte() == 0) {
+            return BigDecimal.valueOf(readSignedVarLong(), scale);
+        }
+        byte[] bytes = new byte[readLength()];
+        System.arraycopy(buffer, position, bytes, 0, bytes.length);
+        position += bytes.length;
+        return new BigDecimal(new BigInteger(bytes), scale);
+    }
+}
@@ -0,0 +1,380 @@
+package com.universal.accounting.event.contracts.codec;
+
+import com.universal.accounting.event.contracts.Events;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Compact binary wire format for the {@link Events} contracts.
+ *
+ * <pre>
+ * magic(1) typeId(1) schemaVersion(varint) bodyLength(varint) body
+ * </pre>
+ *
+ * Fields are written in a fixed order per type and never removed or reordered; a new field is
+ * appended and bumps the type's schema version. Readers decode the fields their schema version
+ * knows and skip the rest of the length-prefixed body (forward compatibility), and fields newer
+ * than the writer's version are left null (backward compatibility). Nested records such as
+ * posted lines are length-prefixed the same way.
+ */
+public final class EventCodec {
+
+    public static final byte MAGIC = (byte) 0xEC;
+
+    static final int JOURNAL_ENTRY_CREATED = 1;
+    static final int JOURNAL_ENTRY_POSTED = 2;
+    static final int PERIOD_CLOSED = 3;
+    static final int TENANT_CREATED = 4;
+    static final int USER_LOGGED_IN = 5;
+    static final int REPORT_GENERATED = 6;
+    static final int TENANT_MEMBERSHIP_CHANGED = 7;
+    static final int CHART_OF_ACCOUNTS_PROVISIONED = 8;
+
+    // JournalEntryPosted: v2 added entryDate and lines, v3 added line counterparty and due date
+    static final int JOURNAL_ENTRY_POSTED_VERSION = 3;
+    static final int DEFAULT_VERSION = 1;
+
+    private static final int TAG_NULL = 0;
+    private static final int TAG_STRING = 1;
+    private static final int TAG_LONG = 2;
+    private static final int TAG_DOUBLE = 3;
+    private static final int TAG_BOOLEAN = 4;
+    private static final int TAG_DATE = 5;
+    private static final int TAG_DATE_TIME = 6;
+    private static final int TAG_DECIMAL = 7;
+
+    private EventCodec() {
+    }
+
+    public static boolean isEncoded(byte[] data) {
+        return data != null && data.length > 0 && data[0] == MAGIC;
+    }
+
+    public static byte[] encode(Object event) {
+        return encode(event, currentVersion(typeId(event)));
+    }
+
+    /**
+     * Encodes with an older schema version of the event's type; used to verify compatibility
+     */
+    static byte[] encode(Object event, int schemaVersion) {
+        int typeId = typeId(event);
+        BinaryWriter writer = new BinaryWriter(128);
+        writer.writeByte(MAGIC);
+        writer.writeByte(typeId);
+        writer.writeVarLong(schemaVersion);
+        int bodyStart = writer.position();
+        switch (typeId) {
+            case JOURNAL_ENTRY_CREATED -> writeJournalEntryCreated(writer, (Events.JournalEntryCreated) event);
+            case JOURNAL_ENTRY_POSTED -> writeJournalEntryPosted(writer, (Events.JournalEntryPosted) event, schemaVersion);
+            case PERIOD_CLOSED -> writePeriodClosed(writer, (Events.PeriodClosed) event);
+            case TENANT_CREATED -> writeTenantCreated(writer, (Events.TenantCreated) event);
+            case USER_LOGGED_IN -> writeUserLoggedIn(writer, (Events.UserLoggedIn) event);
+            case REPORT_GENERATED -> writeReportGenerated(writer, (Events.ReportGenerated) event);
+            case TENANT_MEMBERSHIP_CHANGED -> writeTenantMembershipChanged(writer, (Events.TenantMembershipChanged) event);
+            case CHART_OF_ACCOUNTS_PROVISIONED -> writeChartOfAccountsProvisioned(writer, (Events.ChartOfAccountsProvisioned) event);
+            default -> throw new IllegalStateException("Unhandled event type id " + typeId);
+        }
+        writer.insertLengthPrefix(bodyStart);
+        return writer.toByteArray();
+    }
+
+    /**
+     * Decodes an encoded event. Returns null for a type id this version does not know,
+     * so consumers skip event types introduced after them.
+     */
+    public static Object decode(byte[] data) {
+        if (!isEncoded(data)) {
+            throw new IllegalArgumentException("Not a binary-encoded event");
+        }
+        BinaryReader reader = new BinaryReader(data);
+        reader.readByte();
+        int typeId = reader.readByte();
+        int version = (int) reader.readVarLong();
+        int end = reader.readLength();
+        end += reader.position();
+        Object event = switch (typeId) {
+            case JOURNAL_ENTRY_CREATED -> readJournalEntryCreated(reader);
+            case JOURNAL_ENTRY_POSTED -> readJournalEntryPosted(reader, version);
+            case PERIOD_CLOSED -> readPeriodClosed(reader);
+            case TENANT_CREATED -> readTenantCreated(reader);
+            case USER_LOGGED_IN -> readUserLoggedIn(reader);
+            case REPORT_GENERATED -> readReportGenerated(reader);
+            case TENANT_MEMBERSHIP_CHANGED -> readTenantMembershipChanged(reader);
+            case CHART_OF_ACCOUNTS_PROVISIONED -> readChartOfAccountsProvisioned(reader);
+            default -> null;
+        };
+        reader.position(end);
+        return event;
+    }
+
+    static int typeId(Object event) {
+        if (event instanceof Events.JournalEntryCreated) {
+            return JOURNAL_ENTRY_CREATED;
+        }
+        if (event instanceof Events.JournalEntryPosted) {
+            return JOURNAL_ENTRY_POSTED;
+        }
+        if (event instanceof Events.PeriodClosed) {
+            return PERIOD_CLOSED;
+        }
+        if (event instanceof Events.TenantCreated) {
+            return TENANT_CREATED;
+        }
+        if (event instanceof Events.UserLoggedIn) {
+            return USER_LOGGED_IN;
+        }
+        if (event instanceof Events.ReportGenerated) {
+            return REPORT_GENERATED;
+        }
+        if (event instanceof Events.TenantMembershipChanged) {
+            return TENANT_MEMBERSHIP_CHANGED;
+        }
+        if (event instanceof Events.ChartOfAccountsProvisioned) {
+            return CHART_OF_ACCOUNTS_PROVISIONED;
+        }
+        throw new IllegalArgumentException("No binary encoding for " + (event == null ? "null" : event.getClass().getName()));
+    }
+
+    /**
+     * Schema version this build writes for the event's type; 1 for every type never extended
+     */
+    public static int schemaVersion(Object event) {
+        return event instanceof Events.JournalEntryPosted ? JOURNAL_ENTRY_POSTED_VERSION : DEFAULT_VERSION;
+    }
+
+    private static int currentVersion(int typeId) {
+        return typeId == JOURNAL_ENTRY_POSTED ? JOURNAL_ENTRY_POSTED_VERSION : DEFAULT_VERSION;
+    }
+
+    private static void writeJournalEntryCreated(BinaryWriter writer, Events.JournalEntryCreated event) {
+        writer.writeLong(event.getTenantId());
+        writer.writeLong(event.getJournalEntryId());
+        writer.writeString(event.getEntryNumber());
+        writer.writeDateTime(event.getCreatedAt());
+        writer.writeString(event.getCreatedBy());
+    }
+
+    private static Events.JournalEntryCreated readJournalEntryCreated(BinaryReader reader) {
+        return new Events.JournalEntryCreated(reader.readLong(), reader.readLong(), reader.readString(),
+                reader.readDateTime(), reader.readString());
+    }
+
+    private static void writeJournalEntryPosted(BinaryWriter writer, Events.JournalEntryPosted event, int version) {
+        writer.writeLong(event.getTenantId());
+        writer.writeLong(event.getJournalEntryId());
+        writer.writeString(event.getEntryNumber());
+        writer.writeDateTime(event.getPostedAt());
+        writer.writeString(event.getPostedBy());
+        if (version < 2) {
+            return;
+        }
+        writer.writeDate(event.getEntryDate());
+        List<Events.PostedLine> lines = event.getLines();
+        writer.writeVarLong(lines == null ? 0 : lines.size() + 1L);
+        if (lines == null) {
+            return;
+        }
+        for (Events.PostedLine line : lines) {
+            int lineStart = writer.position();
+            writer.writeLong(line.getAccountId());
+            writer.writeDecimal(line.getDebitAmount());
+            writer.writeDecimal(line.getCreditAmount());
+            if (version >= 3) {
+                writer.writeString(line.getCounterparty());
+                writer.writeDate(line.getDueDate());
+            }
+            writer.insertLengthPrefix(lineStart);
+        }
+    }
+
+    private static Events.JournalEntryPosted readJournalEntryPosted(BinaryReader reader, int version) {
+        Events.JournalEntryPosted event = new Events.JournalEntryPosted();
+        event.setTenantId(reader.readLong());
+        event.setJournalEntryId(reader.readLong());
+        event.setEntryNumber(reader.readString());
+        event.setPostedAt(reader.readDateTime());
+        event.setPostedBy(reader.readString());
+        if (version < 2) {
+            return event;
+        }
+        event.setEntryDate(reader.readDate());
+        long marker = reader.readVarLong();
+        if (marker == 0) {
+            return event;
+        }
+        int count = (int) (marker - 1);
+        List<Events.PostedLine> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int end = reader.readLength();
+            end += reader.position();
+            Events.PostedLine line = new Events.PostedLine();
+            line.setAccountId(reader.readLong());
+            line.setDebitAmount(reader.readDecimal());
+            line.setCreditAmount(reader.readDecimal());
+            if (version >= 3) {
+                line.setCounterparty(reader.readString());
+                line.setDueDate(reader.readDate());
+            }
+            reader.position(end);
+            lines.add(line);
+        }
+        event.setLines(lines);
+        return event;
+    }
+
+    private static void writePeriodClosed(BinaryWriter writer, Events.PeriodClosed event) {
+        writer.writeLong(event.getTenantId());
+        writer.writeDate(event.getPeriodStart());
+        writer.writeDate(event.getPeriodEnd());
+        writer.writeDateTime(event.getClosedAt());
+        writer.writeString(event.getClosedBy());
+    }
+
+    private static Events.PeriodClosed readPeriodClosed(BinaryReader reader) {
+        return new Events.PeriodClosed(reader.readLong(), reader.readDate(), reader.readDate(),
+                reader.readDateTime(), reader.readString());
+    }
+
+    private static void writeTenantCreated(BinaryWriter writer, Events.TenantCreated event) {
+        writer.writeLong(event.getTenantId());
+        writer.writeString(event.getTenantName());
+        writer.writeString(event.getBusinessType());
+        writer.writeDateTime(event.getCreatedAt());
+    }
+
+    private static Events.TenantCreated readTenantCreated(BinaryReader reader) {
+        return new Events.TenantCreated(reader.readLong(), reader.readString(), reader.readString(),
+                reader.readDateTime());
+    }
+
+    private static void writeUserLoggedIn(BinaryWriter writer, Events.UserLoggedIn event) {
+        writer.writeLong(event.getUserId());
+        writer.writeLong(event.getTenantId());
+        writer.writeString(event.getUsername());
+        writer.writeDateTime(event.getLoginTime());
+        writer.writeString(event.getIpAddress());
+    }
+
+    private static Events.UserLoggedIn readUserLoggedIn(BinaryReader reader) {
+        return new Events.UserLoggedIn(reader.readLong(), reader.readLong(), reader.readString(),
+                reader.readDateTime(), reader.readString());
+    }
+
+    private static void writeTenantMembershipChanged(BinaryWriter writer, Events.TenantMembershipChanged event) {
+        writer.writeLong(event.getUserId());
+        writer.writeString(event.getUsername());
+        writer.writeLong(event.getTenantId());
+        writer.writeDateTime(event.getChangedAt());
+    }
+
+    private static Events.TenantMembershipChanged readTenantMembershipChanged(BinaryReader reader) {
+        return new Events.TenantMembershipChanged(reader.readLong(), reader.readString(), reader.readLong(),
+                reader.readDateTime());
+    }
+
+    private static void writeChartOfAccountsProvisioned(BinaryWriter writer, Events.ChartOfAccountsProvisioned event) {
+        writer.writeLong(event.getTenantId());
+        writer.writeString(event.getTemplate());
+        writer.writeDateTime(event.getProvisionedAt());
+    }
+
+    private static Events.ChartOfAccountsProvisioned readChartOfAccountsProvisioned(BinaryReader reader) {
+        return new Events.ChartOfAccountsProvisioned(reader.readLong(), reader.readString(), reader.readDateTime());
+    }
+
+    private static void writeReportGenerated(BinaryWriter writer, Events.ReportGenerated event) {
+        writer.writeLong(event.getTenantId());
+        writer.writeString(event.getReportType());
+        writer.writeString(event.getReportName());
+        writer.writeDateTime(event.getGeneratedAt());
+        writer.writeString(event.getGeneratedBy());
+        writeParameters(writer, event.getParameters());
+    }
+
+    private static Events.ReportGenerated readReportGenerated(BinaryReader reader) {
+        return new Events.ReportGenerated(reader.readLong(), reader.readString(), reader.readString(),
+                reader.readDateTime(), reader.readString(), readParameters(reader));
+    }
+
+    /**
+     * Parameter values are tagged by type. Integral numbers are carried as Long and floating
+     * point as Double; values of any other type travel as their string form. The tag set is
+     * closed: older readers reject unknown tags, so new value types must use the string form.
+     */
+    private static void writeParameters(BinaryWriter writer, Map<String, Object> parameters) {
+        writer.writeVarLong(parameters == null ? 0 : parameters.size() + 1L);
+        if (parameters == null) {
+            return;
+        }
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            writer.writeString(parameter.getKey());
+            Object value = parameter.getValue();
+            if (value == null) {
+                writer.writeByte(TAG_NULL);
+            } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                writer.writeByte(TAG_LONG);
+                writer.writeSignedVarLong(((Number) value).longValue());
+            } else if (value instanceof Double || value instanceof Float) {
+                writer.writeByte(TAG_DOUBLE);
+                long bits = Double.doubleToLongBits(((Number) value).doubleValue());
+                for (int shift = 0; shift < 64; shift += 8) {
+                    writer.writeByte((int) (bits >>> shift));
+                }
+            } else if (value instanceof Boolean flag) {
+                writer.writeByte(TAG_BOOLEAN);
+                writer.writeBoolean(flag);
+            } else if (value instanceof LocalDate date) {
+                writer.writeByte(TAG_DATE);
+                writer.writeDate(date);
+            } else if (value instanceof LocalDateTime dateTime) {
+                writer.writeByte(TAG_DATE_TIME);
+                writer.writeDateTime(dateTime);
+            } else if (value instanceof BigDecimal decimal) {
+                writer.writeByte(TAG_DECIMAL);
+                writer.writeDecimal(decimal);
+            } else {
+                writer.writeByte(TAG_STRING);
+                writer.writeString(value.toString());
+            }
+        }
+    }
+
+    private static Map<String, Object> readParameters(BinaryReader reader) {
+        long marker = reader.readVarLong();
+        if (marker == 0) {
+            return null;
+        }
+        int count = (int) (marker - 1);
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        for (int i = 0; i < count; i++) {
+            String key = reader.readString();
+            int tag = reader.readByte();
+            Object value = switch (tag) {
+                case TAG_NULL -> null;
+                case TAG_STRING -> reader.readString();
+                case TAG_LONG -> reader.readSignedVarLong();
+                case TAG_DOUBLE -> {
+                    long bits = 0;
+                    for (int shift = 0; shift < 64; shift += 8) {
+                        bits |= (long) reader.readByte() << shift;
+                    }
+                    yield Double.longBitsToDouble(bits);
+                }
+                case TAG_BOOLEAN -> reader.readBoolean();
+                case TAG_DATE -> reader.readDate();
+                case TAG_DATE_TIME -> reader.readDateTime();
+                case TAG_DECIMAL -> reader.readDecimal();
+                default -> throw new IllegalArgumentException("Unknown parameter tag " + tag);
+            };
+            parameters.put(key, value);
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,85 @@
+package com.universal.accounting.event.contracts.envelope;
+
+import com.universal.accounting.tracing.TraceParent;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Maps {@link EventEnvelope} metadata to and from Kafka record headers
+ */
+public final class EnvelopeHeaders {
+
+    public static final String EVENT_ID = "x-event-id";
+    public static final String TENANT_ID = "x-tenant-id";
+    public static final String PRODUCED_AT = "x-produced-at";
+    public static final String TRACE_ID = "x-trace-id";
+    public static final String SCHEMA_VERSION = "x-schema-version";
+    public static final String EVENT_TYPE = "x-event-type";
+    public static final String TRACE_PARENT = TraceParent.HEADER;
+
+    private EnvelopeHeaders() {
+    }
+
+    public static void write(EventEnvelope envelope, Headers headers) {
+        put(headers, EVENT_ID, envelope.getEventId());
+        put(headers, TENANT_ID, envelope.getTenantId() != null ? envelope.getTenantId().toString() : null);
+        put(headers, PRODUCED_AT, Long.toString(envelope.getProducedAt()));
+        put(headers, TRACE_ID, envelope.getTraceId());
+        put(headers, TRACE_PARENT, envelope.getTraceParent());
+        put(headers, SCHEMA_VERSION, Integer.toString(envelope.getSchemaVersion()));
+        put(headers, EVENT_TYPE, envelope.getEventType());
+    }
+
+    /**
+     * Rebuilds the envelope of a consumed record. Records from producers that predate the
+     * envelope fall back to the record's timestamp and key, so lag is still measurable.
+     */
+    public static EventEnvelope read(ConsumerRecord<?, ?> record) {
+        Headers headers = record.headers();
+        String producedAt = get(headers, PRODUCED_AT);
+        String tenantId = get(headers, TENANT_ID);
+        String schemaVersion = get(headers, SCHEMA_VERSION);
+        String traceParent = get(headers, TRACE_PARENT);
+        String traceId = get(headers, TRACE_ID);
+        if (traceId == null && traceParent != null) {
+            TraceParent parsed = TraceParent.parse(traceParent);
+            traceId = parsed != null ? parsed.getTraceId() : null;
+        }
+        if (tenantId == null && record.key() instanceof String key) {
+            tenantId = key;
+        }
+        return EventEnvelope.builder()
+                .eventId(get(headers, EVENT_ID))
+                .tenantId(parseLong(tenantId))
+                .producedAt(producedAt != null ? Long.parseLong(producedAt) : record.timestamp())
+                .traceId(traceId)
+                .traceParent(traceParent)
+                .schemaVersion(schemaVersion != null ? Integer.parseInt(schemaVersion) : 1)
+                .eventType(get(headers, EVENT_TYPE))
+                .payload(record.value())
+                .build();
+    }
+
+    private static void put(Headers headers, String name, String value) {
+        if (value != null) {
+            headers.remove(name);
+            headers.add(name, value.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static String get(Headers headers, String name) {
+        Header header = headers.lastHeader(name);
+        return header != null && header.value() != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+    private static Long parseLong(String value) {
+        try {
+            return value != null ? Long.valueOf(value) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
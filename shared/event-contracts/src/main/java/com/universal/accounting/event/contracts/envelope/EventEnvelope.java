@@ -0,0 +1,72 @@
+package com.universal.accounting.event.contracts.envelope;
+
+import com.universal.accounting.event.contracts.codec.EventCodec;
+import com.universal.accounting.tracing.TraceParent;
+import com.universal.accounting.tracing.Tracer;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.slf4j.MDC;
+
+import java.util.UUID;
+
+/**
+ * Standard metadata around every published {@code Events} payload. On Kafka the envelope
+ * travels as record headers next to the unchanged payload (see {@link EnvelopeHeaders}), so
+ * existing deserializers, the binary codec and dead-letter replay are unaffected; the
+ * in-process bus hands envelopes to subscribers directly.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventEnvelope {
+
+    private String eventId;
+    private Long tenantId;
+
+    /**
+     * Producer wall-clock time in epoch milliseconds; consumers measure lag against it
+     */
+    private long producedAt;
+
+    private String traceId;
+
+    /**
+     * W3C traceparent of the producing span, so consumer spans join the producer's trace
+     */
+    private String traceParent;
+
+    private int schemaVersion;
+    private String eventType;
+    private Object payload;
+
+    public static EventEnvelope wrap(Long tenantId, Object payload) {
+        TraceParent traceParent = currentTraceParent();
+        return EventEnvelope.builder()
+                .eventId(UUID.randomUUID().toString())
+                .tenantId(tenantId)
+                .producedAt(System.currentTimeMillis())
+                .traceId(traceParent.getTraceId())
+                .traceParent(traceParent.format())
+                .schemaVersion(EventCodec.schemaVersion(payload))
+                .eventType(payload != null ? payload.getClass().getSimpleName() : null)
+                .payload(payload)
+                .build();
+    }
+
+    /**
+     * The context of the calling thread's current span; failing that, the trace id in the
+     * logging context, or a new trace so the event still starts a traceable chain
+     */
+    static TraceParent currentTraceParent() {
+        TraceParent current = Tracer.currentTraceParent();
+        if (current != null) {
+            return current;
+        }
+        String traceId = MDC.get(Tracer.MDC_TRACE_ID);
+        return new TraceParent(TraceParent.isValidTraceId(traceId) ? traceId : TraceParent.randomTraceId(),
+                TraceParent.randomSpanId(), true);
+    }
+}
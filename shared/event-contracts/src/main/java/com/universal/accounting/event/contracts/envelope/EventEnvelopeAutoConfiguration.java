@@ -0,0 +1,24 @@
+package com.universal.accounting.event.contracts.envelope;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registers the {@link EventLagRecorder} consumers use to report produce-to-apply lag
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(EventLagProperties.class)
+public class EventEnvelopeAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public EventLagRecorder eventLagRecorder(EventLagProperties properties,
+                                             ObjectProvider<MeterRegistry> meterRegistry) {
+        return new EventLagRecorder(properties, meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+}
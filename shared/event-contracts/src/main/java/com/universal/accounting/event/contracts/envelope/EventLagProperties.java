@@ -0,0 +1,29 @@
+package com.universal.accounting.event.contracts.envelope;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Settings for {@link EventLagRecorder}. Lag is tagged by tenant tier rather than tenant id
+ * to keep the number of time series bounded.
+ */
+@Data
+@ConfigurationProperties(prefix = "accounting.events.lag")
+public class EventLagProperties {
+
+    /**
+     * Tier name to the tenant ids in it; tenants not listed fall into the default tier
+     */
+    private Map<String, List<Long>> tenantTiers = new HashMap<>();
+
+    private String defaultTier = "standard";
+
+    /**
+     * Upper bound of the histogram buckets; longer lags are still counted in the top bucket
+     */
+    private long maxExpectedLagMs = 600_000;
+}
@@ -0,0 +1,70 @@
+package com.universal.accounting.event.contracts.envelope;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records produce-to-apply lag of consumed events as a histogram timer,
+ * {@code events.consume.lag}, tagged by topic and tenant tier. Consumers call it once the
+ * event has been applied, so the figure covers broker time, retries and processing.
+ */
+public class EventLagRecorder {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Long, String> tierByTenant = new HashMap<>();
+    private final String defaultTier;
+    private final Duration maxExpectedLag;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+
+    public EventLagRecorder(EventLagProperties properties, MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.defaultTier = properties.getDefaultTier();
+        this.maxExpectedLag = Duration.ofMillis(properties.getMaxExpectedLagMs());
+        for (Map.Entry<String, List<Long>> tier : properties.getTenantTiers().entrySet()) {
+            tier.getValue().forEach(tenantId -> tierByTenant.put(tenantId, tier.getKey()));
+        }
+    }
+
+    /**
+     * Records the lag of a consumed record from its envelope headers. The topic is passed in
+     * rather than read from the record, so records applied from a retry topic count
+     * towards the topic they were first published on.
+     */
+    public void record(String topic, ConsumerRecord<?, ?> record) {
+        record(topic, EnvelopeHeaders.read(record));
+    }
+
+    public void record(String topic, EventEnvelope envelope) {
+        record(topic, envelope, System.currentTimeMillis());
+    }
+
+    void record(String topic, EventEnvelope envelope, long appliedAt) {
+        if (envelope.getProducedAt() <= 0) {
+            return;
+        }
+        // Clock skew between hosts can make the lag slightly negative
+        long lagMs = Math.max(0, appliedAt - envelope.getProducedAt());
+        String tier = tierOf(envelope.getTenantId());
+        timers.computeIfAbsent(topic + '|' + tier, key -> Timer.builder("events.consume.lag")
+                        .description("Time from event production to its application by a consumer")
+                        .tag("topic", topic)
+                        .tag("tier", tier)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(Duration.ofMillis(1))
+                        .maximumExpectedValue(maxExpectedLag)
+                        .register(meterRegistry))
+                .record(lagMs, TimeUnit.MILLISECONDS);
+    }
+
+    public String tierOf(Long tenantId) {
+        return tenantId != null ? tierByTenant.getOrDefault(tenantId, defaultTier) : defaultTier;
+    }
+}
@@ -0,0 +1,11 @@
+package com.universal.accounting.event.contracts.publisher;
+
+/**
+ * Raised when an event cannot be accepted for publishing
+ */
+public class EventPublishException extends RuntimeException {
+
+    public EventPublishException(String message) {
+        super(message);
+    }
+}
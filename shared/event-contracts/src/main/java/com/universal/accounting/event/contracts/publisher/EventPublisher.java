@@ -0,0 +1,17 @@
+package com.universal.accounting.event.contracts.publisher;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Publishes domain events. Events of one tenant are keyed by its id, so they land on the same
+ * partition and consumers see them in publish order. Every event is sent inside an
+ * {@link com.universal.accounting.event.contracts.envelope.EventEnvelope}.
+ */
+public interface EventPublisher {
+
+    /**
+     * Sends asynchronously. The returned future completes once the broker acknowledged the event
+     * and completes exceptionally if the send failed.
+     */
+    CompletableFuture<Void> publish(String topic, Long tenantId, Object event);
+}
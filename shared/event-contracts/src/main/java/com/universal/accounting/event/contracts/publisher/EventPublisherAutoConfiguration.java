@@ -0,0 +1,53 @@
+package com.universal.accounting.event.contracts.publisher;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.kafka.DefaultKafkaProducerFactoryCustomizer;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registers the tenant-keyed {@link EventPublisher} in every service that has a KafkaTemplate,
+ * and tunes the producer for batched, compressed, idempotent sends
+ */
+@AutoConfiguration(after = KafkaAutoConfiguration.class)
+@ConditionalOnClass(KafkaTemplate.class)
+@EnableConfigurationProperties(EventPublisherProperties.class)
+public class EventPublisherAutoConfiguration {
+
+    @Bean
+    @ConditionalOnBean(KafkaTemplate.class)
+    @ConditionalOnMissingBean(EventPublisher.class)
+    public EventPublisher eventPublisher(KafkaTemplate<String, Object> kafkaTemplate,
+                                         EventPublisherProperties properties,
+                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TenantKeyedEventPublisher(kafkaTemplate, properties,
+                meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Bean
+    public DefaultKafkaProducerFactoryCustomizer eventPublisherProducerDefaults(EventPublisherProperties properties) {
+        return producerFactory -> {
+            Map<String, Object> configured = producerFactory.getConfigurationProperties();
+            Map<String, Object> defaults = new HashMap<>();
+            defaults.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, properties.getCompressionType());
+            defaults.put(ProducerConfig.LINGER_MS_CONFIG, properties.getLingerMs());
+            defaults.put(ProducerConfig.BATCH_SIZE_CONFIG, properties.getBatchSize());
+            defaults.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+            defaults.put(ProducerConfig.ACKS_CONFIG, "all");
+            defaults.keySet().removeAll(configured.keySet());
+            producerFactory.updateConfigs(defaults);
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.universal.accounting.event.contracts.publisher;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for {@link TenantKeyedEventPublisher} and the producer defaults it installs.
+ * Explicit spring.kafka.producer settings always win over these defaults.
+ */
+@Data
+@ConfigurationProperties(prefix = "accounting.events.publisher")
+public class EventPublisherProperties {
+
+    /**
+     * Maximum events sent but not yet acknowledged; further publishers wait for capacity
+     */
+    private int maxInFlight = 10_000;
+
+    /**
+     * How long a publisher waits for in-flight capacity before the publish is rejected
+     */
+    private long blockTimeoutMs = 5_000;
+
+    private String compressionType = "lz4";
+
+    private int lingerMs = 10;
+
+    private int batchSize = 64 * 1024;
+}
@@ -0,0 +1,103 @@
+package com.universal.accounting.event.contracts.publisher;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import com.universal.accounting.event.contracts.envelope.EnvelopeHeaders;
+import com.universal.accounting.event.contracts.envelope.EventEnvelope;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.kafka.core.KafkaTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kafka-backed {@link EventPublisher}. Keys every record by tenant id, carries the
+ * {@link EventEnvelope} as record headers, and bounds the number of
+ * unacknowledged sends with a semaphore, so a slow broker pushes back on callers instead of
+ * growing the producer buffer without limit. Batching and compression are producer settings,
+ * see {@link EventPublisherAutoConfiguration}.
+ */
+@Slf4j
+public class TenantKeyedEventPublisher implements EventPublisher {
+
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final Semaphore inFlight;
+    private final int maxInFlight;
+    private final long blockTimeoutMs;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> latencyTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> failureCounters = new ConcurrentHashMap<>();
+
+    public TenantKeyedEventPublisher(KafkaTemplate<String, Object> kafkaTemplate,
+                                     EventPublisherProperties properties,
+                                     MeterRegistry meterRegistry) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.maxInFlight = properties.getMaxInFlight();
+        this.inFlight = new Semaphore(maxInFlight);
+        this.blockTimeoutMs = properties.getBlockTimeoutMs();
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("events.publish.in-flight", inFlight, permits -> maxInFlight - permits.availablePermits())
+                .description("Events sent but not yet acknowledged")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<Void> publish(String topic, Long tenantId, Object event) {
+        acquire(topic);
+        long start = System.nanoTime();
+        String key = tenantId != null ? tenantId.toString() : null;
+        ProducerRecord<String, Object> record = new ProducerRecord<>(topic, key, event);
+        EnvelopeHeaders.write(EventEnvelope.wrap(tenantId, event), record.headers());
+        CompletableFuture<Void> acknowledged = new CompletableFuture<>();
+        try {
+            kafkaTemplate.send(record).whenComplete((result, error) -> {
+                inFlight.release();
+                latencyTimers.computeIfAbsent(topic, name -> Timer.builder("events.publish.latency")
+                                .description("Time from send to broker acknowledgement")
+                                .tag("topic", name)
+                                .register(meterRegistry))
+                        .record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                if (error != null) {
+                    recordFailure(topic);
+                    log.error("Failed to publish {} to {} for tenant {}: {}",
+                            event.getClass().getSimpleName(), topic, tenantId, error.getMessage());
+                    acknowledged.completeExceptionally(error);
+                } else {
+                    acknowledged.complete(null);
+                }
+            });
+        } catch (RuntimeException e) {
+            inFlight.release();
+            recordFailure(topic);
+            throw e;
+        }
+        return acknowledged;
+    }
+
+    private void acquire(String topic) {
+        try {
+            if (!inFlight.tryAcquire(blockTimeoutMs, TimeUnit.MILLISECONDS)) {
+                recordFailure(topic);
+                throw new EventPublishException("Event publisher saturated: " + maxInFlight
+                        + " events awaiting acknowledgement for more than " + blockTimeoutMs + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EventPublishException("Interrupted while waiting to publish to " + topic);
+        }
+    }
+
+    private void recordFailure(String topic) {
+        failureCounters.computeIfAbsent(topic, name -> Counter.builder("events.publish.failures")
+                        .description("Events that could not be published")
+                        .tag("topic", name)
+                        .register(meterRegistry))
+                .increment();
+    }
+}
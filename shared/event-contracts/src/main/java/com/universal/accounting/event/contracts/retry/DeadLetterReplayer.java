@@ -0,0 +1,138 @@
+package com.universal.accounting.event.contracts.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.Producer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Sends dead-lettered records back to the topic they originally failed on, byte for byte,
+ * once the cause has been fixed. Retry and dead-letter headers are dropped so the record
+ * starts over with a fresh set of retries. Progress through each dead-letter topic is
+ * committed under a dedicated consumer group, and only after the sends are acknowledged,
+ * so repeated runs continue where the last one stopped and never skip a record.
+ */
+@Slf4j
+public class DeadLetterReplayer {
+
+    private static final String DEAD_LETTER_HEADER_PREFIX = "kafka_dlt-";
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(2);
+
+    private final ConsumerFactory<byte[], byte[]> consumerFactory;
+    private final ProducerFactory<byte[], byte[]> producerFactory;
+    private final String groupId;
+
+    public DeadLetterReplayer(ConsumerFactory<byte[], byte[]> consumerFactory,
+                              ProducerFactory<byte[], byte[]> producerFactory,
+                              String groupId) {
+        this.consumerFactory = consumerFactory;
+        this.producerFactory = producerFactory;
+        this.groupId = groupId;
+    }
+
+    /**
+     * Replays up to maxRecords records from a dead-letter topic and returns how many were sent
+     */
+    public int replay(String deadLetterTopic, int maxRecords) {
+        Producer<byte[], byte[]> producer = producerFactory.createProducer();
+        try (Consumer<byte[], byte[]> consumer = consumerFactory.createConsumer(groupId, "replay")) {
+            List<TopicPartition> partitions = new ArrayList<>();
+            consumer.partitionsFor(deadLetterTopic)
+                    .forEach(info -> partitions.add(new TopicPartition(info.topic(), info.partition())));
+            consumer.assign(partitions);
+            positionAtCommitted(consumer, partitions);
+
+            List<Future<RecordMetadata>> sends = new ArrayList<>();
+            Map<TopicPartition, OffsetAndMetadata> progress = new HashMap<>();
+            int skipped = 0;
+            while (sends.size() + skipped < maxRecords) {
+                List<ConsumerRecord<byte[], byte[]>> records = new ArrayList<>();
+                consumer.poll(POLL_TIMEOUT).forEach(records::add);
+                if (records.isEmpty()) {
+                    break;
+                }
+                for (ConsumerRecord<byte[], byte[]> record : records) {
+                    if (sends.size() + skipped >= maxRecords) {
+                        break;
+                    }
+                    Header originalTopic = record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC);
+                    if (originalTopic == null) {
+                        log.warn("Dead-letter record {}-{}@{} has no original topic; skipping",
+                                record.topic(), record.partition(), record.offset());
+                        skipped++;
+                    } else {
+                        sends.add(producer.send(new ProducerRecord<>(
+                                new String(originalTopic.value(), StandardCharsets.UTF_8),
+                                null, record.key(), record.value(), replayHeaders(record))));
+                    }
+                    progress.put(new TopicPartition(record.topic(), record.partition()),
+                            new OffsetAndMetadata(record.offset() + 1));
+                }
+            }
+            producer.flush();
+            for (Future<RecordMetadata> send : sends) {
+                send.get();
+            }
+            if (!progress.isEmpty()) {
+                consumer.commitSync(progress);
+            }
+            log.info("Replayed {} records from {} ({} skipped)", sends.size(), deadLetterTopic, skipped);
+            return sends.size();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Dead-letter replay interrupted");
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Dead-letter replay failed to republish: " + e.getCause().getMessage(), e);
+        } finally {
+            producer.close();
+        }
+    }
+
+    private void positionAtCommitted(Consumer<byte[], byte[]> consumer, List<TopicPartition> partitions) {
+        Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+        List<TopicPartition> fresh = new ArrayList<>();
+        for (TopicPartition partition : partitions) {
+            OffsetAndMetadata offset = committed.get(partition);
+            if (offset != null) {
+                consumer.seek(partition, offset.offset());
+            } else {
+                fresh.add(partition);
+            }
+        }
+        // An empty collection would rewind every assigned partition
+        if (!fresh.isEmpty()) {
+            consumer.seekToBeginning(fresh);
+        }
+    }
+
+    private RecordHeaders replayHeaders(ConsumerRecord<byte[], byte[]> record) {
+        Set<String> dropped = Set.of(TieredRetryTopics.ATTEMPT_HEADER, TieredRetryTopics.DUE_AT_HEADER);
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith(DEAD_LETTER_HEADER_PREFIX) && !dropped.contains(header.key())) {
+                headers.add(header);
+            }
+        }
+        return headers;
+    }
+}
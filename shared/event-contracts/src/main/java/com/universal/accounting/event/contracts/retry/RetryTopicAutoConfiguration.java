@@ -0,0 +1,51 @@
+package com.universal.accounting.event.contracts.retry;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.kafka.KafkaAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Registers {@link TieredRetryTopics} for consumers to wire into their listener containers,
+ * and a {@link DeadLetterReplayer} working on raw bytes with the service's Kafka settings
+ */
+@AutoConfiguration(after = KafkaAutoConfiguration.class)
+@ConditionalOnClass(KafkaTemplate.class)
+@EnableConfigurationProperties(RetryTopicProperties.class)
+public class RetryTopicAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public TieredRetryTopics tieredRetryTopics(RetryTopicProperties properties) {
+        return new TieredRetryTopics(properties);
+    }
+
+    @Bean
+    @ConditionalOnBean({ConsumerFactory.class, ProducerFactory.class})
+    @ConditionalOnMissingBean
+    public DeadLetterReplayer deadLetterReplayer(ConsumerFactory<?, ?> consumerFactory,
+                                                 ProducerFactory<?, ?> producerFactory,
+                                                 RetryTopicProperties properties) {
+        Map<String, Object> consumerConfigs = new HashMap<>(consumerFactory.getConfigurationProperties());
+        consumerConfigs.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        Map<String, Object> producerConfigs = new HashMap<>(producerFactory.getConfigurationProperties());
+        return new DeadLetterReplayer(
+                new DefaultKafkaConsumerFactory<>(consumerConfigs, new ByteArrayDeserializer(), new ByteArrayDeserializer()),
+                new DefaultKafkaProducerFactory<>(producerConfigs, new ByteArraySerializer(), new ByteArraySerializer()),
+                properties.getReplayGroupId());
+    }
+}
@@ -0,0 +1,31 @@
+package com.universal.accounting.event.contracts.retry;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Settings for {@link TieredRetryTopics} and {@link DeadLetterReplayer}
+ */
+@Data
+@ConfigurationProperties(prefix = "accounting.events.retry")
+public class RetryTopicProperties {
+
+    /**
+     * Retry topics a failed record passes through before it is dead-lettered
+     */
+    private int tiers = 3;
+
+    /**
+     * Delay before the first retry; each later tier waits multiplier times longer
+     */
+    private long initialDelayMs = 1_000;
+
+    private double multiplier = 5.0;
+
+    private long maxDelayMs = 300_000;
+
+    /**
+     * Consumer group that tracks how far each dead-letter topic has been replayed
+     */
+    private String replayGroupId = "dead-letter-replay";
+}
@@ -0,0 +1,160 @@
+package com.universal.accounting.event.contracts.retry;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.SerializationUtils;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Non-blocking retries for event consumers. A record that fails is republished to the next
+ * retry topic of its source topic ({@code <topic>.retry-0}, {@code .retry-1}, ...) with the
+ * attempt number and the time it becomes due, and its offset is committed, so the source
+ * partition keeps moving. Delays grow exponentially per tier. After the last tier, or at
+ * once for records that cannot be deserialized, the record goes to {@code <topic>.dlt}
+ * with the original topic, partition, offset and exception in the standard dead-letter headers.
+ */
+public class TieredRetryTopics {
+
+    public static final String ATTEMPT_HEADER = "x-retry-attempt";
+    public static final String DUE_AT_HEADER = "x-retry-due-at";
+
+    private static final String RETRY_SUFFIX = ".retry-";
+    private static final String DEAD_LETTER_SUFFIX = ".dlt";
+
+    private final RetryTopicProperties properties;
+
+    public TieredRetryTopics(RetryTopicProperties properties) {
+        this.properties = properties;
+    }
+
+    public String retryTopic(String sourceTopic, int tier) {
+        return sourceTopic + RETRY_SUFFIX + tier;
+    }
+
+    public String[] retryTopics(String sourceTopic) {
+        String[] topics = new String[properties.getTiers()];
+        for (int tier = 0; tier < topics.length; tier++) {
+            topics[tier] = retryTopic(sourceTopic, tier);
+        }
+        return topics;
+    }
+
+    public String deadLetterTopic(String sourceTopic) {
+        return sourceTopic + DEAD_LETTER_SUFFIX;
+    }
+
+    public long delayMs(int tier) {
+        double delay = properties.getInitialDelayMs() * Math.pow(properties.getMultiplier(), tier);
+        return (long) Math.min(delay, properties.getMaxDelayMs());
+    }
+
+    /**
+     * Milliseconds until a record read from a retry topic may be processed; zero when due
+     */
+    public long remainingDelayMs(ConsumerRecord<?, ?> record) {
+        Header dueAt = record.headers().lastHeader(DUE_AT_HEADER);
+        if (dueAt == null) {
+            return 0L;
+        }
+        long due = Long.parseLong(new String(dueAt.value(), StandardCharsets.UTF_8));
+        return Math.max(0L, due - System.currentTimeMillis());
+    }
+
+    /**
+     * Declares the retry and dead-letter topics of a source topic for KafkaAdmin to create
+     */
+    public KafkaAdmin.NewTopics newTopics(String sourceTopic, int partitions, int replicas) {
+        List<NewTopic> topics = new ArrayList<>();
+        for (String topic : retryTopics(sourceTopic)) {
+            topics.add(TopicBuilder.name(topic).partitions(partitions).replicas(replicas).build());
+        }
+        topics.add(TopicBuilder.name(deadLetterTopic(sourceTopic)).partitions(partitions).replicas(replicas).build());
+        return new KafkaAdmin.NewTopics(topics.toArray(NewTopic[]::new));
+    }
+
+    /**
+     * Error handler that never retries in place: every failed record is handed to
+     * {@link #recoverer} and its offset committed. Undeserializable values are published
+     * as raw bytes by a template sharing the given template's producer settings.
+     */
+    public DefaultErrorHandler errorHandler(KafkaTemplate<?, ?> template) {
+        Map<String, Object> configs = new HashMap<>(template.getProducerFactory().getConfigurationProperties());
+        configs.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, ByteArraySerializer.class);
+        KafkaTemplate<Object, byte[]> bytesTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(configs));
+        return new DefaultErrorHandler(recoverer(template, bytesTemplate), new FixedBackOff(0L, 0L));
+    }
+
+    public DeadLetterPublishingRecoverer recoverer(KafkaOperations<?, ?> template, KafkaOperations<?, ?> bytesTemplate) {
+        Map<Class<?>, KafkaOperations<?, ?>> templates = new LinkedHashMap<>();
+        templates.put(byte[].class, bytesTemplate);
+        templates.put(Object.class, template);
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(templates, this::destination);
+        // Keep the first failure's original topic, partition and offset across tiers
+        recoverer.setAppendOriginalHeaders(false);
+        recoverer.setHeadersFunction(this::retryHeaders);
+        return recoverer;
+    }
+
+    TopicPartition destination(ConsumerRecord<?, ?> record, Exception exception) {
+        String sourceTopic = sourceTopic(record);
+        int attempt = attempt(record);
+        // A negative partition lets the producer pick one from the key, keeping tenant order
+        if (attempt >= properties.getTiers() || isDeserializationFailure(record, exception)) {
+            return new TopicPartition(deadLetterTopic(sourceTopic), -1);
+        }
+        return new TopicPartition(retryTopic(sourceTopic, attempt), -1);
+    }
+
+    private Headers retryHeaders(ConsumerRecord<?, ?> record, Exception exception) {
+        int attempt = attempt(record);
+        long dueAt = System.currentTimeMillis() + delayMs(Math.min(attempt, properties.getTiers() - 1));
+        Headers headers = new RecordHeaders();
+        headers.add(ATTEMPT_HEADER, String.valueOf(attempt + 1).getBytes(StandardCharsets.UTF_8));
+        headers.add(DUE_AT_HEADER, String.valueOf(dueAt).getBytes(StandardCharsets.UTF_8));
+        return headers;
+    }
+
+    private String sourceTopic(ConsumerRecord<?, ?> record) {
+        Header original = record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC);
+        return original != null ? new String(original.value(), StandardCharsets.UTF_8) : record.topic();
+    }
+
+    private int attempt(ConsumerRecord<?, ?> record) {
+        Header attempt = record.headers().lastHeader(ATTEMPT_HEADER);
+        return attempt != null ? Integer.parseInt(new String(attempt.value(), StandardCharsets.UTF_8)) : 0;
+    }
+
+    private boolean isDeserializationFailure(ConsumerRecord<?, ?> record, Exception exception) {
+        if (record.headers().lastHeader(SerializationUtils.VALUE_DESERIALIZER_EXCEPTION_HEADER) != null) {
+            return true;
+        }
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof DeserializationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
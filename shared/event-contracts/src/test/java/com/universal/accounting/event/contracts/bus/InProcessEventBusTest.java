@@ -0,0 +1,199 @@
+package com.universal.accounting.event.contracts.bus;
+
+import com.universal.accounting.event.contracts.envelope.EventEnvelope;
+import com.universal.accounting.event.contracts.publisher.EventPublishException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class InProcessEventBusTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private InProcessBusProperties properties;
+    private InProcessEventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        properties = new InProcessBusProperties();
+        properties.setRingSize(1024);
+        properties.setMaxBatchSize(64);
+        properties.setBlockTimeoutMs(50);
+        properties.setRetryBackoffMs(1);
+        bus = new InProcessEventBus(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        bus.close();
+    }
+
+    @Test
+    void publish_ShouldDeliverEveryEventInOrderFromConcurrentPublishers() throws Exception {
+        // Given
+        List<Object> received = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger largestBatch = new AtomicInteger();
+        bus.subscribe("ledger-events", "reports", events -> {
+            largestBatch.accumulateAndGet(events.size(), Math::max);
+            events.forEach(envelope -> received.add(envelope.getPayload()));
+        });
+        int publishers = 4;
+        int perPublisher = 5_000;
+
+        // When
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < publishers; p++) {
+            long tenantId = p;
+            Thread thread = new Thread(() -> {
+                for (int i = 0; i < perPublisher; i++) {
+                    bus.publish("ledger-events", tenantId, new long[]{tenantId, i});
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Then
+        assertThat(bus.awaitIdle(Duration.ofSeconds(10))).isTrue();
+        assertThat(received).hasSize(publishers * perPublisher);
+        long[] lastSeen = {-1, -1, -1, -1};
+        for (Object event : received) {
+            long[] value = (long[]) event;
+            assertThat(value[1]).isEqualTo(lastSeen[(int) value[0]] + 1);
+            lastSeen[(int) value[0]] = value[1];
+        }
+        assertThat(largestBatch.get()).isLessThanOrEqualTo(64);
+        assertThat(meterRegistry.get("events.bus.delivered").counter().count()).isEqualTo(publishers * perPublisher);
+    }
+
+    @Test
+    void publish_WhenSubscriberFallsBehind_ShouldRejectAfterTimeout() throws Exception {
+        // Given
+        properties.setRingSize(2);
+        CountDownLatch release = new CountDownLatch(1);
+        bus.subscribe("ledger-events", "slow", events -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        bus.publish("ledger-events", 1L, "first");
+        Thread.sleep(50);
+        bus.publish("ledger-events", 1L, "second");
+        bus.publish("ledger-events", 1L, "third");
+
+        // When & Then
+        assertThatThrownBy(() -> bus.publish("ledger-events", 1L, "fourth"))
+                .isInstanceOf(EventPublishException.class)
+                .hasMessageContaining("slow");
+        release.countDown();
+    }
+
+    @Test
+    void publish_WhenOneSubscriberFallsBehind_ShouldDeliverToNoSubscriber() throws Exception {
+        // Given
+        properties.setRingSize(2);
+        CountDownLatch release = new CountDownLatch(1);
+        List<Object> fast = Collections.synchronizedList(new ArrayList<>());
+        List<Object> slow = Collections.synchronizedList(new ArrayList<>());
+        bus.subscribe("ledger-events", "fast", events -> events.forEach(envelope -> fast.add(envelope.getPayload())));
+        bus.subscribe("ledger-events", "slow", events -> {
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            events.forEach(envelope -> slow.add(envelope.getPayload()));
+        });
+        bus.publish("ledger-events", 1L, "first");
+        Thread.sleep(50);
+        bus.publish("ledger-events", 1L, "second");
+        bus.publish("ledger-events", 1L, "third");
+
+        // When
+        assertThatThrownBy(() -> bus.publish("ledger-events", 1L, "fourth"))
+                .isInstanceOf(EventPublishException.class)
+                .hasMessageContaining("slow");
+        release.countDown();
+
+        // Then
+        assertThat(bus.awaitIdle(Duration.ofSeconds(5))).isTrue();
+        assertThat(fast).containsExactly("first", "second", "third");
+        assertThat(slow).containsExactly("first", "second", "third");
+    }
+
+    @Test
+    void subscriber_WhenHandlerKeepsFailing_ShouldDropBatchAndContinue() throws Exception {
+        // Given
+        List<Object> received = Collections.synchronizedList(new ArrayList<>());
+        bus.subscribe("ledger-events", "reports", events -> {
+            if (events.stream().anyMatch(envelope -> "poison".equals(envelope.getPayload()))) {
+                throw new IllegalStateException("cannot apply");
+            }
+            events.forEach(envelope -> received.add(envelope.getPayload()));
+        });
+
+        // When
+        bus.publish("ledger-events", 1L, "poison");
+        assertThat(bus.awaitIdle(Duration.ofSeconds(5))).isTrue();
+        bus.publish("ledger-events", 1L, "next");
+
+        // Then
+        assertThat(bus.awaitIdle(Duration.ofSeconds(5))).isTrue();
+        assertThat(received).containsExactly("next");
+        assertThat(meterRegistry.get("events.bus.dropped").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void publish_ShouldWrapEventInEnvelope() throws Exception {
+        // Given
+        List<EventEnvelope> received = Collections.synchronizedList(new ArrayList<>());
+        bus.subscribe("ledger-events", "reports", received::addAll);
+
+        // When
+        bus.publish("ledger-events", 7L, "event");
+
+        // Then
+        assertThat(bus.awaitIdle(Duration.ofSeconds(5))).isTrue();
+        assertThat(received).singleElement().satisfies(envelope -> {
+            assertThat(envelope.getTenantId()).isEqualTo(7L);
+            assertThat(envelope.getEventId()).isNotBlank();
+            assertThat(envelope.getTraceId()).isNotBlank();
+            assertThat(envelope.getProducedAt()).isPositive();
+            assertThat(envelope.getPayload()).isEqualTo("event");
+        });
+    }
+
+    @Test
+    void publish_WithoutSubscribers_ShouldFailAndCountUnrouted() {
+        // When
+        CompletableFuture<Void> first = bus.publish("report-events", 1L, "event");
+        CompletableFuture<Void> second = bus.publish("report-events", 1L, "event");
+
+        // Then
+        assertThat(first).isCompletedExceptionally();
+        assertThat(second).failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .withCauseInstanceOf(EventPublishException.class);
+        assertThat(meterRegistry.get("events.bus.unrouted").tag("topic", "report-events").counter().count())
+                .isEqualTo(2);
+    }
+}
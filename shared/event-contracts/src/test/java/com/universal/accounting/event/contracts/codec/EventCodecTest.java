@@ -0,0 +1,128 @@
+package com.universal.accounting.event.contracts.codec;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universal.accounting.event.contracts.Events;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventCodecTest {
+
+    private static final LocalDateTime POSTED_AT = LocalDateTime.of(2024, 3, 31, 17, 45, 12, 123_456_789);
+
+    @Test
+    void encode_ShouldRoundTripEveryEventType() {
+        // Given
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("startDate", LocalDate.of(2024, 1, 1));
+        parameters.put("reportType", "PROFIT_LOSS");
+        parameters.put("maxDepth", 3L);
+        parameters.put("ratio", 0.25);
+        parameters.put("threshold", new BigDecimal("12345678901234567890.12"));
+        parameters.put("empty", null);
+        List<Object> events = List.of(
+                new Events.JournalEntryCreated(1L, 10L, "JE-1", POSTED_AT, "system"),
+                posted(),
+                new Events.PeriodClosed(1L, LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31), POSTED_AT, "cfo"),
+                new Events.TenantCreated(7L, "Acme Ltd", "RETAIL", POSTED_AT),
+                new Events.UserLoggedIn(3L, 1L, "jane", POSTED_AT, "10.0.0.1"),
+                new Events.TenantMembershipChanged(3L, "jane", 1L, POSTED_AT),
+                new Events.ChartOfAccountsProvisioned(7L, "RETAIL", POSTED_AT),
+                new Events.ReportGenerated(1L, "PROFIT_LOSS", "Profit & Loss Report", POSTED_AT, "system", parameters));
+
+        // When & Then
+        for (Object event : events) {
+            assertThat(EventCodec.decode(EventCodec.encode(event))).isEqualTo(event);
+        }
+    }
+
+    @Test
+    void decode_WithOlderSchemaVersion_ShouldLeaveNewerFieldsNull() {
+        // Given
+        Events.JournalEntryPosted event = posted();
+
+        // When
+        Events.JournalEntryPosted v1 = (Events.JournalEntryPosted) EventCodec.decode(EventCodec.encode(event, 1));
+        Events.JournalEntryPosted v2 = (Events.JournalEntryPosted) EventCodec.decode(EventCodec.encode(event, 2));
+
+        // Then
+        assertThat(v1.getEntryNumber()).isEqualTo("JE-2");
+        assertThat(v1.getEntryDate()).isNull();
+        assertThat(v1.getLines()).isNull();
+        assertThat(v2.getLines()).hasSize(2);
+        assertThat(v2.getLines().get(0).getDebitAmount()).isEqualByComparingTo("150.00");
+        assertThat(v2.getLines().get(0).getCounterparty()).isNull();
+    }
+
+    @Test
+    void decode_WithNewerSchemaVersion_ShouldSkipUnknownFields() {
+        // Given: a version 4 writer that appends a field to each line and to the event
+        BinaryWriter writer = new BinaryWriter(64);
+        writer.writeByte(EventCodec.MAGIC);
+        writer.writeByte(EventCodec.JOURNAL_ENTRY_POSTED);
+        writer.writeVarLong(EventCodec.JOURNAL_ENTRY_POSTED_VERSION + 1);
+        int bodyStart = writer.position();
+        writer.writeLong(1L);
+        writer.writeLong(11L);
+        writer.writeString("JE-2");
+        writer.writeDateTime(POSTED_AT);
+        writer.writeString("system");
+        writer.writeDate(LocalDate.of(2024, 3, 31));
+        writer.writeVarLong(2);
+        int lineStart = writer.position();
+        writer.writeLong(1100L);
+        writer.writeDecimal(new BigDecimal("150.00"));
+        writer.writeDecimal(BigDecimal.ZERO);
+        writer.writeString("ACME");
+        writer.writeDate(LocalDate.of(2024, 4, 30));
+        writer.writeString("EUR");
+        writer.insertLengthPrefix(lineStart);
+        writer.writeString("approved-by-controller");
+        writer.insertLengthPrefix(bodyStart);
+
+        // When
+        Events.JournalEntryPosted decoded = (Events.JournalEntryPosted) EventCodec.decode(writer.toByteArray());
+
+        // Then
+        assertThat(decoded.getJournalEntryId()).isEqualTo(11L);
+        assertThat(decoded.getLines()).singleElement()
+                .satisfies(line -> assertThat(line.getCounterparty()).isEqualTo("ACME"));
+    }
+
+    @Test
+    void decode_WithUnknownEventType_ShouldReturnNull() {
+        // Given
+        byte[] data = {EventCodec.MAGIC, 99, 1, 2, 0, 0};
+
+        // When & Then
+        assertThat(EventCodec.decode(data)).isNull();
+    }
+
+    @Test
+    void encode_ShouldBeSmallerThanJson() throws Exception {
+        // Given
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+        Events.JournalEntryPosted event = posted();
+
+        // When
+        int binary = EventCodec.encode(event).length;
+        int json = objectMapper.writeValueAsBytes(event).length;
+
+        // Then
+        assertThat(binary).isLessThan(json / 3);
+    }
+
+    private Events.JournalEntryPosted posted() {
+        return new Events.JournalEntryPosted(1L, 11L, "JE-2", POSTED_AT, "system", LocalDate.of(2024, 3, 31),
+                List.of(new Events.PostedLine(1100L, new BigDecimal("150.00"), BigDecimal.ZERO,
+                                "ACME", LocalDate.of(2024, 4, 30)),
+                        new Events.PostedLine(4000L, BigDecimal.ZERO, new BigDecimal("150.00"), null, null)));
+    }
+}
@@ -0,0 +1,97 @@
+package com.universal.accounting.event.contracts.envelope;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventLagRecorderTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EventLagRecorder recorder;
+
+    @BeforeEach
+    void setUp() {
+        EventLagProperties properties = new EventLagProperties();
+        properties.setTenantTiers(Map.of("enterprise", List.of(7L)));
+        meterRegistry = new SimpleMeterRegistry();
+        recorder = new EventLagRecorder(properties, meterRegistry);
+    }
+
+    @Test
+    void record_ShouldTagLagByTopicAndTenantTier() {
+        // Given
+        EventEnvelope enterprise = EventEnvelope.builder().tenantId(7L).producedAt(1_000L).build();
+        EventEnvelope standard = EventEnvelope.builder().tenantId(8L).producedAt(1_000L).build();
+
+        // When
+        recorder.record("ledger-events", enterprise, 1_250L);
+        recorder.record("ledger-events", standard, 3_000L);
+
+        // Then
+        Timer enterpriseLag = meterRegistry.get("events.consume.lag")
+                .tags("topic", "ledger-events", "tier", "enterprise").timer();
+        Timer standardLag = meterRegistry.get("events.consume.lag")
+                .tags("topic", "ledger-events", "tier", "standard").timer();
+        assertThat(enterpriseLag.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(250.0);
+        assertThat(standardLag.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2_000.0);
+    }
+
+    @Test
+    void record_WithRetriedRecord_ShouldCountTowardsOriginalTopic() {
+        // Given
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>("tenant-events-retry-0", 0, 5L, "7", "event");
+        EnvelopeHeaders.write(EventEnvelope.wrap(7L, "event"), record.headers());
+
+        // When
+        recorder.record("tenant-events", record);
+
+        // Then
+        assertThat(meterRegistry.get("events.consume.lag")
+                .tags("topic", "tenant-events", "tier", "enterprise").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("events.consume.lag").tag("topic", "tenant-events-retry-0").timer()).isNull();
+    }
+
+    @Test
+    void read_ShouldRestoreEnvelopeWrittenToHeaders() {
+        // Given
+        EventEnvelope envelope = EventEnvelope.wrap(42L, "event");
+        RecordHeaders headers = new RecordHeaders();
+        EnvelopeHeaders.write(envelope, headers);
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>("ledger-events", 0, 5L, "42", "event");
+        headers.forEach(header -> record.headers().add(header));
+
+        // When
+        EventEnvelope read = EnvelopeHeaders.read(record);
+
+        // Then
+        assertThat(read.getEventId()).isEqualTo(envelope.getEventId());
+        assertThat(read.getTenantId()).isEqualTo(42L);
+        assertThat(read.getProducedAt()).isEqualTo(envelope.getProducedAt());
+        assertThat(read.getTraceId()).isEqualTo(envelope.getTraceId());
+        assertThat(read.getTraceParent()).isEqualTo(envelope.getTraceParent()).contains(envelope.getTraceId());
+        assertThat(read.getEventType()).isEqualTo(envelope.getEventType());
+        assertThat(read.getPayload()).isEqualTo("event");
+    }
+
+    @Test
+    void read_WithoutEnvelopeHeaders_ShouldFallBackToRecordKey() {
+        // Given
+        ConsumerRecord<String, Object> record = new ConsumerRecord<>("ledger-events", 0, 5L, "42", "event");
+
+        // When
+        EventEnvelope read = EnvelopeHeaders.read(record);
+
+        // Then
+        assertThat(read.getTenantId()).isEqualTo(42L);
+        assertThat(read.getSchemaVersion()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,62 @@
+package com.universal.accounting.event.contracts.publisher;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AfterCommitTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void run_WithoutTransaction_ShouldRunImmediately() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+
+        // When
+        AfterCommit.run(runs::incrementAndGet);
+
+        // Then
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void run_InTransaction_ShouldRunOnlyAfterCommit() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        AfterCommit.run(runs::incrementAndGet);
+
+        // Then
+        assertThat(runs).hasValue(0);
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(runs).hasValue(1);
+    }
+
+    @Test
+    void run_InRolledBackTransaction_ShouldNeverRun() {
+        // Given
+        AtomicInteger runs = new AtomicInteger();
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        AfterCommit.run(runs::incrementAndGet);
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(synchronization -> synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        // Then
+        assertThat(runs).hasValue(0);
+    }
+}
@@ -0,0 +1,76 @@
+package com.universal.accounting.event.contracts.publisher;
+
+import com.universal.accounting.event.contracts.envelope.EnvelopeHeaders;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TenantKeyedEventPublisherTest {
+
+    @Mock
+    private KafkaTemplate<String, Object> kafkaTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TenantKeyedEventPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        EventPublisherProperties properties = new EventPublisherProperties();
+        properties.setMaxInFlight(1);
+        properties.setBlockTimeoutMs(10);
+        meterRegistry = new SimpleMeterRegistry();
+        publisher = new TenantKeyedEventPublisher(kafkaTemplate, properties, meterRegistry);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void publish_ShouldKeyRecordByTenantIdAndAttachEnvelope() {
+        // Given
+        when(kafkaTemplate.send(any(ProducerRecord.class)))
+                .thenReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        ArgumentCaptor<ProducerRecord<String, Object>> sent = ArgumentCaptor.forClass(ProducerRecord.class);
+
+        // When
+        CompletableFuture<Void> result = publisher.publish("ledger-events", 42L, "event");
+
+        // Then
+        verify(kafkaTemplate).send(sent.capture());
+        ProducerRecord<String, Object> record = sent.getValue();
+        assertThat(record.topic()).isEqualTo("ledger-events");
+        assertThat(record.key()).isEqualTo("42");
+        assertThat(record.value()).isEqualTo("event");
+        assertThat(record.headers().lastHeader(EnvelopeHeaders.EVENT_ID)).isNotNull();
+        assertThat(record.headers().lastHeader(EnvelopeHeaders.TRACE_ID)).isNotNull();
+        assertThat(record.headers().lastHeader(EnvelopeHeaders.PRODUCED_AT)).isNotNull();
+        assertThat(record.headers().lastHeader(EnvelopeHeaders.SCHEMA_VERSION)).isNotNull();
+        assertThat(result).isCompleted();
+        assertThat(meterRegistry.get("events.publish.latency").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void publish_WhenInFlightLimitReached_ShouldRejectAfterTimeout() {
+        // Given
+        when(kafkaTemplate.send(any(ProducerRecord.class))).thenReturn(new CompletableFuture<>());
+        publisher.publish("ledger-events", 1L, "first");
+
+        // When & Then
+        assertThatThrownBy(() -> publisher.publish("ledger-events", 1L, "second"))
+                .isInstanceOf(EventPublishException.class);
+        assertThat(meterRegistry.get("events.publish.failures").counter().count()).isEqualTo(1.0);
+    }
+}
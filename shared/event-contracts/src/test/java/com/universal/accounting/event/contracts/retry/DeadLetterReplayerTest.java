@@ -0,0 +1,104 @@
+package com.universal.accounting.event.contracts.retry;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Runs the replayer against MockConsumer and MockProducer in place of a broker
+ */
+class DeadLetterReplayerTest {
+
+    private static final String DEAD_LETTER_TOPIC = "ledger-events.dlt";
+    private static final TopicPartition PARTITION = new TopicPartition(DEAD_LETTER_TOPIC, 0);
+
+    private MockConsumer<byte[], byte[]> consumer;
+    private MockProducer<byte[], byte[]> producer;
+    private DeadLetterReplayer replayer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        consumer = spy(new MockConsumer<>(OffsetResetStrategy.EARLIEST));
+        consumer.updatePartitions(DEAD_LETTER_TOPIC,
+                List.of(new PartitionInfo(DEAD_LETTER_TOPIC, 0, null, null, null)));
+        consumer.updateBeginningOffsets(Map.of(PARTITION, 0L));
+        producer = new MockProducer<>(true, new ByteArraySerializer(), new ByteArraySerializer());
+
+        ConsumerFactory<byte[], byte[]> consumerFactory = mock(ConsumerFactory.class);
+        when(consumerFactory.createConsumer("dead-letter-replay", "replay")).thenReturn(consumer);
+        ProducerFactory<byte[], byte[]> producerFactory = mock(ProducerFactory.class);
+        when(producerFactory.createProducer()).thenReturn(producer);
+        replayer = new DeadLetterReplayer(consumerFactory, producerFactory, "dead-letter-replay");
+
+        // Records can only be queued on partitions the consumer is assigned to
+        consumer.schedulePollTask(() -> {
+            consumer.addRecord(deadLetter(0L, "ledger-events"));
+            consumer.addRecord(deadLetter(1L, null));
+            consumer.addRecord(deadLetter(2L, "ledger-events"));
+        });
+    }
+
+    @Test
+    void replay_ShouldRepublishOriginalBytesWithoutRetryHeaders() {
+        // When
+        int replayed = replayer.replay(DEAD_LETTER_TOPIC, 10);
+
+        // Then
+        assertThat(replayed).isEqualTo(2);
+        ProducerRecord<byte[], byte[]> sent = producer.history().get(0);
+        assertThat(sent.topic()).isEqualTo("ledger-events");
+        assertThat(sent.key()).isEqualTo("42".getBytes(StandardCharsets.UTF_8));
+        assertThat(sent.value()).isEqualTo("{\"offset\":0}".getBytes(StandardCharsets.UTF_8));
+        assertThat(sent.headers().lastHeader("__TypeId__")).isNotNull();
+        assertThat(sent.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC)).isNull();
+        assertThat(sent.headers().lastHeader(KafkaHeaders.DLT_EXCEPTION_MESSAGE)).isNull();
+        assertThat(sent.headers().lastHeader(TieredRetryTopics.ATTEMPT_HEADER)).isNull();
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(3L)));
+    }
+
+    @Test
+    void replay_ShouldStopAtMaxRecordsAndCommitOnlyWhatWasHandled() {
+        // When
+        int replayed = replayer.replay(DEAD_LETTER_TOPIC, 1);
+
+        // Then
+        assertThat(replayed).isEqualTo(1);
+        assertThat(producer.history()).hasSize(1);
+        verify(consumer).commitSync(Map.of(PARTITION, new OffsetAndMetadata(1L)));
+    }
+
+    private ConsumerRecord<byte[], byte[]> deadLetter(long offset, String originalTopic) {
+        ConsumerRecord<byte[], byte[]> record = new ConsumerRecord<>(DEAD_LETTER_TOPIC, 0, offset,
+                "42".getBytes(StandardCharsets.UTF_8),
+                ("{\"offset\":" + offset + "}").getBytes(StandardCharsets.UTF_8));
+        record.headers().add("__TypeId__", "JournalEntryPosted".getBytes(StandardCharsets.UTF_8));
+        record.headers().add(TieredRetryTopics.ATTEMPT_HEADER, "4".getBytes(StandardCharsets.UTF_8));
+        record.headers().add(KafkaHeaders.DLT_EXCEPTION_MESSAGE, "boom".getBytes(StandardCharsets.UTF_8));
+        if (originalTopic != null) {
+            record.headers().add(KafkaHeaders.DLT_ORIGINAL_TOPIC, originalTopic.getBytes(StandardCharsets.UTF_8));
+        }
+        return record;
+    }
+}
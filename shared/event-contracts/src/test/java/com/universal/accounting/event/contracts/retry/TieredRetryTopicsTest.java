@@ -0,0 +1,120 @@
+package com.universal.accounting.event.contracts.retry;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Drives the recoverer against MockProducer in place of a broker
+ */
+class TieredRetryTopicsTest {
+
+    private static final String TOPIC = "ledger-events";
+
+    private TieredRetryTopics retryTopics;
+    private MockProducer<String, String> producer;
+    private DeadLetterPublishingRecoverer recoverer;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RetryTopicProperties properties = new RetryTopicProperties();
+        properties.setTiers(3);
+        properties.setInitialDelayMs(1_000);
+        properties.setMultiplier(5.0);
+        properties.setMaxDelayMs(20_000);
+        retryTopics = new TieredRetryTopics(properties);
+
+        producer = new MockProducer<>(true, new StringSerializer(), new StringSerializer());
+        ProducerFactory<String, String> producerFactory = mock(ProducerFactory.class);
+        when(producerFactory.createProducer()).thenReturn(producer);
+        ProducerFactory<String, byte[]> bytesProducerFactory = mock(ProducerFactory.class);
+        when(bytesProducerFactory.createProducer())
+                .thenReturn(new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer()));
+        KafkaTemplate<String, String> template = new KafkaTemplate<>(producerFactory);
+        template.setMicrometerEnabled(false);
+        KafkaTemplate<String, byte[]> bytesTemplate = new KafkaTemplate<>(bytesProducerFactory);
+        bytesTemplate.setMicrometerEnabled(false);
+        recoverer = retryTopics.recoverer(template, bytesTemplate);
+    }
+
+    @Test
+    void recoverer_OnFirstFailure_ShouldPublishToFirstRetryTier() {
+        // Given
+        ConsumerRecord<String, String> record = new ConsumerRecord<>(TOPIC, 2, 41L, "7", "payload");
+        long before = System.currentTimeMillis();
+
+        // When
+        recoverer.accept(record, new RuntimeException("boom"));
+
+        // Then
+        ProducerRecord<String, String> sent = producer.history().get(0);
+        assertThat(sent.topic()).isEqualTo("ledger-events.retry-0");
+        assertThat(sent.key()).isEqualTo("7");
+        assertThat(sent.value()).isEqualTo("payload");
+        assertThat(header(sent, TieredRetryTopics.ATTEMPT_HEADER)).isEqualTo("1");
+        assertThat(Long.parseLong(header(sent, TieredRetryTopics.DUE_AT_HEADER))).isGreaterThanOrEqualTo(before + 1_000);
+        assertThat(header(sent, KafkaHeaders.DLT_ORIGINAL_TOPIC)).isEqualTo(TOPIC);
+        assertThat(header(sent, KafkaHeaders.DLT_EXCEPTION_MESSAGE)).contains("boom");
+    }
+
+    @Test
+    void recoverer_AfterLastTier_ShouldPublishToDeadLetterTopicKeepingOriginalTopic() {
+        // Given
+        ConsumerRecord<String, String> record = new ConsumerRecord<>("ledger-events.retry-2", 0, 3L, "7", "payload");
+        record.headers().add(KafkaHeaders.DLT_ORIGINAL_TOPIC, TOPIC.getBytes(StandardCharsets.UTF_8));
+        record.headers().add(TieredRetryTopics.ATTEMPT_HEADER, "3".getBytes(StandardCharsets.UTF_8));
+
+        // When
+        recoverer.accept(record, new RuntimeException("still failing"));
+
+        // Then
+        ProducerRecord<String, String> sent = producer.history().get(0);
+        assertThat(sent.topic()).isEqualTo("ledger-events.dlt");
+        assertThat(header(sent, KafkaHeaders.DLT_ORIGINAL_TOPIC)).isEqualTo(TOPIC);
+        assertThat(header(sent, TieredRetryTopics.ATTEMPT_HEADER)).isEqualTo("4");
+    }
+
+    @Test
+    void delayMs_ShouldGrowExponentiallyUpToMaximum() {
+        // When & Then
+        assertThat(retryTopics.delayMs(0)).isEqualTo(1_000);
+        assertThat(retryTopics.delayMs(1)).isEqualTo(5_000);
+        assertThat(retryTopics.delayMs(2)).isEqualTo(20_000);
+        assertThat(retryTopics.retryTopics(TOPIC))
+                .containsExactly("ledger-events.retry-0", "ledger-events.retry-1", "ledger-events.retry-2");
+    }
+
+    @Test
+    void remainingDelayMs_ShouldBeZeroOnceDue() {
+        // Given
+        ConsumerRecord<String, String> due = new ConsumerRecord<>("ledger-events.retry-0", 0, 0L, "7", "payload");
+        due.headers().add(TieredRetryTopics.DUE_AT_HEADER,
+                String.valueOf(System.currentTimeMillis() - 1).getBytes(StandardCharsets.UTF_8));
+        ConsumerRecord<String, String> waiting = new ConsumerRecord<>("ledger-events.retry-0", 0, 1L, "7", "payload");
+        waiting.headers().add(TieredRetryTopics.DUE_AT_HEADER,
+                String.valueOf(System.currentTimeMillis() + 60_000).getBytes(StandardCharsets.UTF_8));
+
+        // When & Then
+        assertThat(retryTopics.remainingDelayMs(due)).isZero();
+        assertThat(retryTopics.remainingDelayMs(waiting)).isPositive();
+    }
+
+    private String header(ProducerRecord<?, ?> record, String key) {
+        return new String(record.headers().lastHeader(key).value(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,10 @@
+package com.universal.accounting.tracing;
+
+/**
+ * Restores the previously current span (and its MDC entries) when closed
+ */
+public interface Scope extends AutoCloseable {
+
+    @Override
+    void close();
+}
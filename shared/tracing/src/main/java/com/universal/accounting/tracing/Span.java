@@ -0,0 +1,110 @@
+package com.universal.accounting.tracing;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One timed operation of a trace. Created by {@link Tracer}; {@link #end()} records the
+ * duration and hands sampled spans to the exporter. A span is used by one thread at a time.
+ */
+public final class Span {
+
+    private final Tracer tracer;
+    private final TraceParent context;
+    private final String parentSpanId;
+    private final String name;
+    private final SpanKind kind;
+    private final long startEpochMicros;
+    private final long startNanos;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+    private long durationMicros = -1;
+    private String error;
+
+    Span(Tracer tracer, TraceParent context, String parentSpanId, String name, SpanKind kind) {
+        this.tracer = tracer;
+        this.context = context;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        this.startEpochMicros = System.currentTimeMillis() * 1000;
+        this.startNanos = System.nanoTime();
+    }
+
+    public Span tag(String key, Object value) {
+        if (value != null) {
+            attributes.put(key, value.toString());
+        }
+        return this;
+    }
+
+    public Span error(Throwable throwable) {
+        this.error = throwable.getClass().getSimpleName()
+                + (throwable.getMessage() != null ? ": " + throwable.getMessage() : "");
+        return this;
+    }
+
+    /**
+     * Makes this the current span of the calling thread and puts its ids in the MDC
+     */
+    public Scope makeCurrent() {
+        return tracer.activate(this);
+    }
+
+    public void end() {
+        if (durationMicros >= 0) {
+            return;
+        }
+        durationMicros = (System.nanoTime() - startNanos) / 1000;
+        if (context.isSampled()) {
+            tracer.export(this);
+        }
+    }
+
+    /**
+     * The header value to send downstream so that remote work becomes a child of this span
+     */
+    public TraceParent traceParent() {
+        return context;
+    }
+
+    public String getTraceId() {
+        return context.getTraceId();
+    }
+
+    public String getSpanId() {
+        return context.getSpanId();
+    }
+
+    public String getParentSpanId() {
+        return parentSpanId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public SpanKind getKind() {
+        return kind;
+    }
+
+    public String getService() {
+        return tracer.getServiceName();
+    }
+
+    public long getStartEpochMicros() {
+        return startEpochMicros;
+    }
+
+    public long getDurationMicros() {
+        return durationMicros;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+}
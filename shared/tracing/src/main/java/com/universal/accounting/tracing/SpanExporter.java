@@ -0,0 +1,13 @@
+package com.universal.accounting.tracing;
+
+/**
+ * Receives every sampled span once it has ended. Called on the thread that ended the span,
+ * so implementations must not block.
+ */
+@FunctionalInterface
+public interface SpanExporter {
+
+    SpanExporter NONE = span -> { };
+
+    void export(Span span);
+}
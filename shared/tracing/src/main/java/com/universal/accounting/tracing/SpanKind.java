@@ -0,0 +1,5 @@
+package com.universal.accounting.tracing;
+
+public enum SpanKind {
+    SERVER, CLIENT, PRODUCER, CONSUMER, INTERNAL
+}
@@ -0,0 +1,121 @@
+package com.universal.accounting.tracing;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A W3C trace-context {@code traceparent} value: {@code 00-<trace-id>-<parent-id>-<flags>}.
+ * The trace id is 32 lowercase hex digits and the parent (span) id 16; only the sampled flag
+ * is interpreted.
+ */
+public final class TraceParent {
+
+    public static final String HEADER = "traceparent";
+
+    private static final String VERSION = "00";
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final String traceId;
+    private final String spanId;
+    private final boolean sampled;
+
+    public TraceParent(String traceId, String spanId, boolean sampled) {
+        if (!isHex(traceId, 32) || !isHex(spanId, 16)) {
+            throw new IllegalArgumentException("Invalid trace or span id: " + traceId + "/" + spanId);
+        }
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.sampled = sampled;
+    }
+
+    /**
+     * Parses a header value; returns null for a missing or malformed one, in which case the
+     * receiver starts a new trace as the specification requires
+     */
+    public static TraceParent parse(String header) {
+        if (header == null) {
+            return null;
+        }
+        String value = header.trim();
+        // Later versions may append fields, so only the version 00 prefix is checked for length
+        if (value.length() < 55 || value.charAt(2) != '-' || value.charAt(35) != '-' || value.charAt(52) != '-'
+                || (value.startsWith(VERSION) && value.length() != 55) || value.startsWith("ff")) {
+            return null;
+        }
+        String traceId = value.substring(3, 35);
+        String spanId = value.substring(36, 52);
+        String flags = value.substring(53, 55);
+        if (!isHex(value.substring(0, 2), 2) || !isHex(traceId, 32) || !isHex(spanId, 16) || !isHex(flags, 2)
+                || isZero(traceId) || isZero(spanId)) {
+            return null;
+        }
+        return new TraceParent(traceId, spanId, (Integer.parseInt(flags, 16) & 0x01) != 0);
+    }
+
+    public static String randomTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        char[] id = new char[32];
+        writeHex(random.nextLong(), id, 0);
+        writeHex(random.nextLong() | 1L, id, 16);
+        return new String(id);
+    }
+
+    public static String randomSpanId() {
+        char[] id = new char[16];
+        writeHex(ThreadLocalRandom.current().nextLong() | 1L, id, 0);
+        return new String(id);
+    }
+
+    public static boolean isValidTraceId(String traceId) {
+        return isHex(traceId, 32) && !isZero(traceId);
+    }
+
+    public String getTraceId() {
+        return traceId;
+    }
+
+    public String getSpanId() {
+        return spanId;
+    }
+
+    public boolean isSampled() {
+        return sampled;
+    }
+
+    public String format() {
+        return VERSION + '-' + traceId + '-' + spanId + (sampled ? "-01" : "-00");
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+
+    private static boolean isHex(String value, int length) {
+        if (value == null || value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if ((c < '0' || c > '9') && (c < 'a' || c > 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isZero(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) != '0') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void writeHex(long value, char[] target, int offset) {
+        for (int i = 15; i >= 0; i--) {
+            target[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
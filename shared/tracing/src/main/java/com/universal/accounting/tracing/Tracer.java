@@ -0,0 +1,99 @@
+package com.universal.accounting.tracing;
+
+import org.slf4j.MDC;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Starts spans and tracks the current one per thread. The current span's trace and span ids
+ * are mirrored into the MDC as {@code traceId} and {@code spanId}, so every log line written
+ * while it is active carries them. New traces are sampled at the configured rate; children and
+ * remote continuations inherit the sampling decision of their parent.
+ */
+public class Tracer {
+
+    public static final String MDC_TRACE_ID = "traceId";
+    public static final String MDC_SPAN_ID = "spanId";
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+
+    private final String serviceName;
+    private final SpanExporter exporter;
+    private final double sampleRate;
+
+    public Tracer(String serviceName, SpanExporter exporter, double sampleRate) {
+        this.serviceName = serviceName;
+        this.exporter = exporter;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * The span active on the calling thread, or null
+     */
+    public static Span currentSpan() {
+        return CURRENT.get();
+    }
+
+    /**
+     * The trace context to propagate from the calling thread, or null when no span is active
+     */
+    public static TraceParent currentTraceParent() {
+        Span span = CURRENT.get();
+        return span != null ? span.traceParent() : null;
+    }
+
+    /**
+     * Starts a child of the current span, or a new trace when there is none
+     */
+    public Span startSpan(String name, SpanKind kind) {
+        Span parent = CURRENT.get();
+        return startSpan(name, kind, parent != null ? parent.traceParent() : null);
+    }
+
+    /**
+     * Starts a child of a (usually remote) parent context; a null parent starts a new trace
+     */
+    public Span startSpan(String name, SpanKind kind, TraceParent parent) {
+        if (parent == null) {
+            boolean sampled = sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+            return new Span(this, new TraceParent(TraceParent.randomTraceId(), TraceParent.randomSpanId(), sampled),
+                    null, name, kind);
+        }
+        return new Span(this, new TraceParent(parent.getTraceId(), TraceParent.randomSpanId(), parent.isSampled()),
+                parent.getSpanId(), name, kind);
+    }
+
+    public String getServiceName() {
+        return serviceName;
+    }
+
+    Scope activate(Span span) {
+        Span previous = CURRENT.get();
+        String previousTraceId = MDC.get(MDC_TRACE_ID);
+        String previousSpanId = MDC.get(MDC_SPAN_ID);
+        CURRENT.set(span);
+        MDC.put(MDC_TRACE_ID, span.getTraceId());
+        MDC.put(MDC_SPAN_ID, span.getSpanId());
+        return () -> {
+            if (previous != null) {
+                CURRENT.set(previous);
+            } else {
+                CURRENT.remove();
+            }
+            restore(MDC_TRACE_ID, previousTraceId);
+            restore(MDC_SPAN_ID, previousSpanId);
+        };
+    }
+
+    void export(Span span) {
+        exporter.export(span);
+    }
+
+    private static void restore(String key, String value) {
+        if (value != null) {
+            MDC.put(key, value);
+        } else {
+            MDC.remove(key);
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.universal.accounting.tracing;
+
+import com.universal.accounting.tracing.client.TraceParentInterceptor;
+import com.universal.accounting.tracing.export.FileSpanExporter;
+import com.universal.accounting.tracing.export.InMemorySpanExporter;
+import com.universal.accounting.tracing.servlet.TraceParentFilter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Registers the {@link Tracer} with the configured span exporter, and wires W3C trace-context
+ * propagation into inbound servlet requests and outbound RestClient calls
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(TracingProperties.class)
+public class TracingAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean(SpanExporter.class)
+    @ConditionalOnProperty(prefix = "accounting.tracing", name = "exporter", havingValue = "memory", matchIfMissing = true)
+    public InMemorySpanExporter inMemorySpanExporter(TracingProperties properties) {
+        return new InMemorySpanExporter(properties.getMemoryCapacity());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(SpanExporter.class)
+    @ConditionalOnProperty(prefix = "accounting.tracing", name = "exporter", havingValue = "file")
+    public FileSpanExporter fileSpanExporter(TracingProperties properties) {
+        try {
+            return new FileSpanExporter(Path.of(properties.getFile()), properties.getFileQueueSize());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open span file " + properties.getFile(), e);
+        }
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public Tracer tracer(ObjectProvider<SpanExporter> spanExporter, TracingProperties properties,
+                         @Value("${spring.application.name:application}") String serviceName) {
+        return new Tracer(serviceName, spanExporter.getIfAvailable(() -> SpanExporter.NONE), properties.getSampleRate());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+    @ConditionalOnClass(OncePerRequestFilter.class)
+    static class ServletTracingConfiguration {
+
+        @Bean
+        public FilterRegistrationBean<TraceParentFilter> traceParentFilter(Tracer tracer) {
+            FilterRegistrationBean<TraceParentFilter> registration = new FilterRegistrationBean<>(new TraceParentFilter(tracer));
+            // Ahead of security so that its log lines carry the trace id
+            registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+            return registration;
+        }
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(RestClientCustomizer.class)
+    static class RestClientTracingConfiguration {
+
+        @Bean
+        public RestClientCustomizer traceParentRestClientCustomizer(Tracer tracer) {
+            TraceParentInterceptor interceptor = new TraceParentInterceptor(tracer);
+            return builder -> builder.requestInterceptor(interceptor);
+        }
+    }
+}
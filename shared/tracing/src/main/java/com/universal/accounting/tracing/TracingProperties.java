@@ -0,0 +1,32 @@
+package com.universal.accounting.tracing;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "accounting.tracing")
+public class TracingProperties {
+
+    public enum Exporter {
+        NONE, MEMORY, FILE
+    }
+
+    /**
+     * Share of new traces that are sampled (exported); continued traces keep their parent's decision
+     */
+    private double sampleRate = 1.0;
+
+    private Exporter exporter = Exporter.MEMORY;
+
+    /**
+     * Spans kept by the in-memory exporter
+     */
+    private int memoryCapacity = 5000;
+
+    /**
+     * JSON-lines file written by the file exporter
+     */
+    private String file = "logs/spans.jsonl";
+
+    private int fileQueueSize = 10_000;
+}
@@ -0,0 +1,45 @@
+package com.universal.accounting.tracing.client;
+
+import com.universal.accounting.tracing.Scope;
+import com.universal.accounting.tracing.Span;
+import com.universal.accounting.tracing.SpanKind;
+import com.universal.accounting.tracing.TraceParent;
+import com.universal.accounting.tracing.Tracer;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+
+/**
+ * Times outbound calls as client spans and sends their context as {@code traceparent}, so
+ * the receiving service continues the caller's trace
+ */
+public class TraceParentInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Tracer tracer;
+
+    public TraceParentInterceptor(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Span span = tracer.startSpan(request.getMethod() + " " + request.getURI().getPath(), SpanKind.CLIENT)
+                .tag("http.method", request.getMethod())
+                .tag("http.url", request.getURI());
+        request.getHeaders().set(TraceParent.HEADER, span.traceParent().format());
+        try (Scope scope = span.makeCurrent()) {
+            ClientHttpResponse response = execution.execute(request, body);
+            span.tag("http.status", response.getStatusCode().value());
+            return response;
+        } catch (IOException | RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.universal.accounting.tracing.export;
+
+import com.universal.accounting.tracing.Span;
+import com.universal.accounting.tracing.SpanExporter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Keeps the most recent spans of this process in a bounded buffer for offline inspection;
+ * the oldest span is evicted once the capacity is reached
+ */
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final int capacity;
+    private final ArrayDeque<Span> spans;
+
+    public InMemorySpanExporter(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive");
+        }
+        this.capacity = capacity;
+        this.spans = new ArrayDeque<>(Math.min(capacity, 1024));
+    }
+
+    @Override
+    public synchronized void export(Span span) {
+        if (spans.size() == capacity) {
+            spans.pollFirst();
+        }
+        spans.addLast(span);
+    }
+
+    public synchronized List<Span> spans() {
+        return new ArrayList<>(spans);
+    }
+
+    /**
+     * The spans of one trace in start order, which lays out its critical path
+     */
+    public List<Span> trace(String traceId) {
+        List<Span> trace = new ArrayList<>();
+        synchronized (this) {
+            for (Span span : spans) {
+                if (span.getTraceId().equals(traceId)) {
+                    trace.add(span);
+                }
+            }
+        }
+        trace.sort(Comparator.comparingLong(Span::getStartEpochMicros));
+        return trace;
+    }
+
+    public synchronized void clear() {
+        spans.clear();
+    }
+}
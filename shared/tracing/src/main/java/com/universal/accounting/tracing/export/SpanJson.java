@@ -0,0 +1,71 @@
+package com.universal.accounting.tracing.export;
+
+import com.universal.accounting.tracing.Span;
+
+import java.util.Map;
+
+/**
+ * Renders a span as one line of JSON
+ */
+final class SpanJson {
+
+    private SpanJson() {
+    }
+
+    static String write(Span span) {
+        StringBuilder json = new StringBuilder(256).append('{');
+        field(json, "traceId", span.getTraceId()).append(',');
+        field(json, "spanId", span.getSpanId()).append(',');
+        if (span.getParentSpanId() != null) {
+            field(json, "parentSpanId", span.getParentSpanId()).append(',');
+        }
+        field(json, "service", span.getService()).append(',');
+        field(json, "name", span.getName()).append(',');
+        field(json, "kind", span.getKind().name()).append(',');
+        json.append("\"startEpochMicros\":").append(span.getStartEpochMicros()).append(',');
+        json.append("\"durationMicros\":").append(span.getDurationMicros());
+        if (span.getError() != null) {
+            field(json.append(','), "error", span.getError());
+        }
+        if (!span.getAttributes().isEmpty()) {
+            json.append(",\"attributes\":{");
+            boolean first = true;
+            for (Map.Entry<String, String> attribute : span.getAttributes().entrySet()) {
+                if (!first) {
+                    json.append(',');
+                }
+                field(json, attribute.getKey(), attribute.getValue());
+                first = false;
+            }
+            json.append('}');
+        }
+        return json.append('}').toString();
+    }
+
+    private static StringBuilder field(StringBuilder json, String name, String value) {
+        quote(json, name).append(':');
+        return value != null ? quote(json, value) : json.append("null");
+    }
+
+    private static StringBuilder quote(StringBuilder json, String value) {
+        json.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> json.append("\\\"");
+                case '\\' -> json.append("\\\\");
+                case '\n' -> json.append("\\n");
+                case '\r' -> json.append("\\r");
+                case '\t' -> json.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        json.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        json.append(c);
+                    }
+                }
+            }
+        }
+        return json.append('"');
+    }
+}
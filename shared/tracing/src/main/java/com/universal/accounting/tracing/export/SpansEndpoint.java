@@ -0,0 +1,37 @@
+package com.universal.accounting.tracing.export;
+
+import com.universal.accounting.tracing.Span;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.lang.Nullable;
+
+import java.util.List;
+
+/**
+ * {@code /actuator/spans} lists the most recent spans held by the {@link InMemorySpanExporter};
+ * {@code /actuator/spans/{traceId}} returns one trace in start order
+ */
+@Endpoint(id = "spans")
+public class SpansEndpoint {
+
+    private static final int DEFAULT_LIMIT = 100;
+
+    private final InMemorySpanExporter exporter;
+
+    public SpansEndpoint(InMemorySpanExporter exporter) {
+        this.exporter = exporter;
+    }
+
+    @ReadOperation
+    public List<Span> recent(@Nullable Integer limit) {
+        List<Span> spans = exporter.spans();
+        int count = Math.min(spans.size(), limit != null ? Math.max(limit, 0) : DEFAULT_LIMIT);
+        return spans.subList(spans.size() - count, spans.size());
+    }
+
+    @ReadOperation
+    public List<Span> trace(@Selector String traceId) {
+        return exporter.trace(traceId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.universal.accounting.tracing.export;
+
+import com.universal.accounting.tracing.TracingAutoConfiguration;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Exposes the in-memory spans through actuator when both are present; add {@code spans} to
+ * {@code management.endpoints.web.exposure.include} to reach it over HTTP
+ */
+@AutoConfiguration(after = TracingAutoConfiguration.class)
+@ConditionalOnClass(Endpoint.class)
+@ConditionalOnBean(InMemorySpanExporter.class)
+public class SpansEndpointAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SpansEndpoint spansEndpoint(InMemorySpanExporter exporter) {
+        return new SpansEndpoint(exporter);
+    }
+}
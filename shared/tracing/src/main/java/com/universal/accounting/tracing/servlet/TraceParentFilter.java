@@ -0,0 +1,49 @@
+package com.universal.accounting.tracing.servlet;
+
+import com.universal.accounting.tracing.Scope;
+import com.universal.accounting.tracing.Span;
+import com.universal.accounting.tracing.SpanKind;
+import com.universal.accounting.tracing.TraceParent;
+import com.universal.accounting.tracing.Tracer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Continues the caller's trace for each inbound request, or starts one when the request has
+ * no valid {@code traceparent}, and keeps the server span current (and in the MDC) for the
+ * duration of the request. The trace id is echoed in the {@code X-Trace-Id} response header.
+ */
+public class TraceParentFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID_RESPONSE_HEADER = "X-Trace-Id";
+
+    private final Tracer tracer;
+
+    public TraceParentFilter(Tracer tracer) {
+        this.tracer = tracer;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        TraceParent parent = TraceParent.parse(request.getHeader(TraceParent.HEADER));
+        Span span = tracer.startSpan(request.getMethod() + " " + request.getRequestURI(), SpanKind.SERVER, parent)
+                .tag("http.method", request.getMethod())
+                .tag("http.path", request.getRequestURI());
+        response.setHeader(TRACE_ID_RESPONSE_HEADER, span.getTraceId());
+        try (Scope scope = span.makeCurrent()) {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException e) {
+            span.error(e);
+            throw e;
+        } finally {
+            span.tag("http.status", response.getStatus());
+            span.end();
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.universal.accounting.tracing;
+
+import com.universal.accounting.tracing.export.InMemorySpanExporter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.MDC;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TracerTest {
+
+    private InMemorySpanExporter exporter;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        exporter = new InMemorySpanExporter(100);
+        tracer = new Tracer("ledger-service", exporter, 1.0);
+    }
+
+    @Test
+    void parse_ShouldRoundTripValidHeaderAndRejectMalformedOnes() {
+        // Given
+        String header = "00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01";
+
+        // When
+        TraceParent parsed = TraceParent.parse(header);
+
+        // Then
+        assertThat(parsed.getTraceId()).isEqualTo("4bf92f3577b34da6a3ce929d0e0e4736");
+        assertThat(parsed.getSpanId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(parsed.isSampled()).isTrue();
+        assertThat(parsed.format()).isEqualTo(header);
+        assertThat(TraceParent.parse("00-00000000000000000000000000000000-00f067aa0ba902b7-01")).isNull();
+        assertThat(TraceParent.parse("00-4BF92F3577B34DA6A3CE929D0E0E4736-00f067aa0ba902b7-01")).isNull();
+        assertThat(TraceParent.parse("garbage")).isNull();
+        assertThat(TraceParent.parse(null)).isNull();
+    }
+
+    @Test
+    void startSpan_ShouldContinueRemoteParentAndNestChildren() {
+        // Given
+        TraceParent remote = TraceParent.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-01");
+
+        // When
+        Span server = tracer.startSpan("POST /journal-entries", SpanKind.SERVER, remote);
+        Span child;
+        try (Scope scope = server.makeCurrent()) {
+            assertThat(MDC.get(Tracer.MDC_TRACE_ID)).isEqualTo(remote.getTraceId());
+            child = tracer.startSpan("publish", SpanKind.PRODUCER);
+            child.end();
+        }
+        server.end();
+
+        // Then
+        assertThat(Tracer.currentSpan()).isNull();
+        assertThat(MDC.get(Tracer.MDC_TRACE_ID)).isNull();
+        assertThat(server.getParentSpanId()).isEqualTo("00f067aa0ba902b7");
+        assertThat(child.getParentSpanId()).isEqualTo(server.getSpanId());
+        List<Span> trace = exporter.trace(remote.getTraceId());
+        assertThat(trace).extracting(Span::getName).containsExactlyInAnyOrder("POST /journal-entries", "publish");
+    }
+
+    @Test
+    void end_WhenTraceIsNotSampled_ShouldNotExport() {
+        // Given
+        TraceParent remote = TraceParent.parse("00-4bf92f3577b34da6a3ce929d0e0e4736-00f067aa0ba902b7-00");
+
+        // When
+        tracer.startSpan("GET /reports", SpanKind.SERVER, remote).end();
+
+        // Then
+        assertThat(exporter.spans()).isEmpty();
+    }
+}
@@ -1,6 +1,8 @@
 package com.universal.accounting.tenant.config;
 
 import com.universal.accounting.common.models.Tenant;
+import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.event.contracts.publisher.EventPublisher;
 import com.universal.accounting.tenant.repository.TenantRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -8,6 +10,7 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Component
 @RequiredArgsConstructor
@@ -15,6 +18,7 @@ import java.time.LocalDate;
 public class TenantDataInitializer implements CommandLineRunner {
 
     private final TenantRepository tenantRepository;
+    private final EventPublisher eventPublisher;
 
     @Override
     public void run(String... args) throws Exception {
@@ -39,7 +43,7 @@ public class TenantDataInitializer implements CommandLineRunner {
                     .isActive(true)
                     .schemaName("tenant_demo_1")
                     .build();
-            tenantRepository.save(tenant1);
+            announce(tenantRepository.save(tenant1));
             log.info("Created demo tenant 1: Universal Accounting Demo");
         }
 
@@ -60,7 +64,7 @@ public class TenantDataInitializer implements CommandLineRunner {
                     .isActive(true)
                     .schemaName("tenant_restaurant_2")
                     .build();
-            tenantRepository.save(tenant2);
+            announce(tenantRepository.save(tenant2));
             log.info("Created demo tenant 2: Bella Vista Restaurant");
         }
 
@@ -81,7 +85,7 @@ public class TenantDataInitializer implements CommandLineRunner {
                     .isActive(true)
                     .schemaName("tenant_retail_3")
                     .build();
-            tenantRepository.save(tenant3);
+            announce(tenantRepository.save(tenant3));
             log.info("Created demo tenant 3: TechMart Electronics");
         }
 
@@ -102,7 +106,7 @@ public class TenantDataInitializer implements CommandLineRunner {
                     .isActive(true)
                     .schemaName("tenant_freelancer_4")
                     .build();
-            tenantRepository.save(tenant4);
+            announce(tenantRepository.save(tenant4));
             log.info("Created demo tenant 4: Alex Freelancer Services");
         }
 
@@ -113,4 +117,10 @@ public class TenantDataInitializer implements CommandLineRunner {
         log.info("3. TechMart Electronics (RETAIL business type)");
         log.info("4. Alex Freelancer Services (FREELANCER business type)");
     }
+
+    // Ledger-service seeds the chart of accounts for the business type from this event
+    private void announce(Tenant tenant) {
+        eventPublisher.publish("tenant-events", tenant.getId(), new Events.TenantCreated(
+                tenant.getId(), tenant.getName(), tenant.getBusinessType(), LocalDateTime.now()));
+    }
 }
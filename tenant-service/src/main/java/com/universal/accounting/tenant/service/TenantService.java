@@ -2,13 +2,14 @@ package com.universal.accounting.tenant.service;
 
 import com.universal.accounting.common.models.Tenant;
 import com.universal.accounting.event.contracts.Events;
+import com.universal.accounting.event.contracts.publisher.EventPublisher;
 import com.universal.accounting.tenant.dto.TenantDto;
 import com.universal.accounting.tenant.repository.TenantRepository;
 import com.universal.accounting.common.aspects.LogExecution;
 import com.universal.accounting.common.aspects.MonitorPerformance;
 import com.universal.accounting.common.aspects.RequireTenant;
+import com.universal.accounting.common.aspects.TenantId;
 import lombok.RequiredArgsConstructor;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,7 +23,7 @@ import java.util.stream.Collectors;
 public class TenantService {
     
     private final TenantRepository tenantRepository;
-    private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final EventPublisher eventPublisher;
     
     @Transactional
     @LogExecution
@@ -63,14 +64,15 @@ public class TenantService {
                 tenant.getBusinessType(),
                 LocalDateTime.now()
         );
-        kafkaTemplate.send("tenant-events", event);
+        eventPublisher.publish("tenant-events", tenant.getId(), event);
         
         return mapToResponse(tenant);
     }
     
     @LogExecution
     @MonitorPerformance
-    public TenantDto.Response getTenantById(Long id) {
+    @RequireTenant
+    public TenantDto.Response getTenantById(@TenantId Long id) {
         Tenant tenant = tenantRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Tenant not found"));
         return mapToResponse(tenant);
@@ -87,7 +89,8 @@ public class TenantService {
     @Transactional
     @LogExecution
     @MonitorPerformance
-    public TenantDto.Response updateTenant(Long id, TenantDto.UpdateRequest request) {
+    @RequireTenant
+    public TenantDto.Response updateTenant(@TenantId Long id, TenantDto.UpdateRequest request) {
         Tenant tenant = tenantRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Tenant not found"));
         
@@ -111,7 +114,8 @@ public class TenantService {
     @Transactional
     @LogExecution
     @MonitorPerformance
-    public void deleteTenant(Long id) {
+    @RequireTenant
+    public void deleteTenant(@TenantId Long id) {
         Tenant tenant = tenantRepository.findById(id)
                 .orElseThrow(() -> new RuntimeException("Tenant not found"));
         
@@ -0,0 +1,114 @@
+package com.universal.accounting.tenant.service;
+
+import com.universal.accounting.common.aspects.CommonAspectsAutoConfiguration;
+import com.universal.accounting.common.aspects.TenantAccessAutoConfiguration;
+import com.universal.accounting.common.aspects.TenantMembership;
+import com.universal.accounting.common.aspects.TenantMembershipLoader;
+import com.universal.accounting.common.models.Tenant;
+import com.universal.accounting.event.contracts.publisher.EventPublisher;
+import com.universal.accounting.tenant.dto.TenantDto;
+import com.universal.accounting.tenant.repository.TenantRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * TenantService as the services wire it: aspects from the common-aspects auto-configuration
+ * applied through Spring AOP proxies
+ */
+class TenantServiceTest {
+
+    private TenantRepository tenantRepository;
+    private TenantMembershipLoader membershipLoader;
+    private ApplicationContextRunner contextRunner;
+
+    @BeforeEach
+    void setUp() {
+        tenantRepository = mock(TenantRepository.class);
+        membershipLoader = mock(TenantMembershipLoader.class);
+        contextRunner = new ApplicationContextRunner()
+                .withInitializer(context -> context.getBeanFactory()
+                        .setConversionService(ApplicationConversionService.getSharedInstance()))
+                .withConfiguration(AutoConfigurations.of(AopAutoConfiguration.class,
+                        TenantAccessAutoConfiguration.class, CommonAspectsAutoConfiguration.class))
+                .withPropertyValues("security.tenant-access.invalidation-listener=false")
+                .withBean(TenantRepository.class, () -> tenantRepository)
+                .withBean(EventPublisher.class, () -> mock(EventPublisher.class))
+                .withBean(TenantMembershipLoader.class, () -> membershipLoader)
+                .withBean(TenantService.class);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("jane", "n/a", List.of()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void getTenantById_WithOwnTenant_ShouldReturnTenant() {
+        // Given
+        when(membershipLoader.load("jane")).thenReturn(new TenantMembership(Set.of(1L), false));
+        when(tenantRepository.findById(1L)).thenReturn(Optional.of(tenant(1L)));
+
+        contextRunner.run(context -> {
+            TenantService tenantService = context.getBean(TenantService.class);
+
+            // When
+            TenantDto.Response response = tenantService.getTenantById(1L);
+
+            // Then
+            assertThat(AopUtils.isAopProxy(tenantService)).isTrue();
+            assertThat(response.getId()).isEqualTo(1L);
+        });
+    }
+
+    @Test
+    void getTenantById_WithForeignTenant_ShouldThrowSecurityException() {
+        // Given
+        when(membershipLoader.load("jane")).thenReturn(new TenantMembership(Set.of(1L), false));
+
+        contextRunner.run(context -> {
+            TenantService tenantService = context.getBean(TenantService.class);
+
+            // When & Then
+            assertThatThrownBy(() -> tenantService.getTenantById(2L))
+                    .isInstanceOf(SecurityException.class)
+                    .hasMessage("Access to tenant denied");
+            assertThatThrownBy(() -> tenantService.deleteTenant(2L))
+                    .isInstanceOf(SecurityException.class);
+            verify(tenantRepository, never()).findById(any());
+        });
+    }
+
+    private static Tenant tenant(Long id) {
+        Tenant tenant = Tenant.builder()
+                .name("Acme")
+                .businessType("RETAIL")
+                .email("books@acme.test")
+                .currencyCode("USD")
+                .isActive(true)
+                .build();
+        tenant.setId(id);
+        return tenant;
+    }
+}
@@ -0,0 +1,38 @@
+package com.universal.accounting.transaction.client;
+
+import com.universal.accounting.transaction.dto.TransactionDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * Hands journal entry batches to ledger-service, resolved through the service registry.
+ * The ledger skips entries whose reference it already holds, so a batch may be resent
+ * after a failure without double posting.
+ */
+@Component
+public class LedgerClient {
+
+    private final RestClient restClient;
+
+    public LedgerClient(RestClient.Builder loadBalancedRestClientBuilder,
+                        @Value("${transaction.ledger.base-url:http://ledger-service}") String baseUrl) {
+        this.restClient = loadBalancedRestClientBuilder.baseUrl(baseUrl).build();
+    }
+
+    public TransactionDto.JournalEntryBatchResponse createJournalEntries(Long tenantId,
+                                                                         TransactionDto.JournalEntryBatchRequest request) {
+        TransactionDto.JournalEntryBatchResponse response = restClient.post()
+                .uri("/api/ledger/journal-entries/batch")
+                .header("X-Tenant-ID", String.valueOf(tenantId))
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .body(TransactionDto.JournalEntryBatchResponse.class);
+        if (response == null) {
+            throw new IllegalStateException("Ledger returned no batch result");
+        }
+        return response;
+    }
+}
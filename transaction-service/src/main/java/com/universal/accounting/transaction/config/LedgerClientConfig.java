@@ -0,0 +1,32 @@
+package com.universal.accounting.transaction.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.client.ClientHttpRequestFactories;
+import org.springframework.boot.web.client.ClientHttpRequestFactorySettings;
+import org.springframework.boot.web.client.RestClientCustomizer;
+import org.springframework.cloud.client.loadbalancer.LoadBalanced;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+
+@Configuration
+public class LedgerClientConfig {
+
+    @Bean
+    @LoadBalanced
+    public RestClient.Builder loadBalancedRestClientBuilder(
+            @Value("${transaction.ledger.connect-timeout-ms:2000}") long connectTimeoutMs,
+            @Value("${transaction.ledger.read-timeout-ms:60000}") long readTimeoutMs,
+            ObjectProvider<RestClientCustomizer> customizers) {
+        ClientHttpRequestFactorySettings settings = ClientHttpRequestFactorySettings.DEFAULTS
+                .withConnectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .withReadTimeout(Duration.ofMillis(readTimeoutMs));
+        RestClient.Builder builder = RestClient.builder().requestFactory(ClientHttpRequestFactories.get(settings));
+        // Boot's customizers (trace propagation among them) only reach its own builder, so apply them here
+        customizers.orderedStream().forEach(customizer -> customizer.customize(builder));
+        return builder;
+    }
+}
@@ -0,0 +1,35 @@
+package com.universal.accounting.transaction.controller;
+
+import com.universal.accounting.transaction.dto.TransactionDto;
+import com.universal.accounting.transaction.service.ReconciliationService;
+import com.universal.accounting.transaction.statement.StatementFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/api/transactions/reconciliations")
+@RequiredArgsConstructor
+public class ReconciliationController {
+    
+    private final ReconciliationService reconciliationService;
+    
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<TransactionDto.ReconciliationResponse> reconcile(
+            @RequestHeader("X-Tenant-ID") Long tenantId,
+            @RequestParam Long bankAccountId,
+            @RequestParam StatementFormat format,
+            @RequestParam(defaultValue = "3") int dateToleranceDays,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestPart("file") MultipartFile file) {
+        TransactionDto.ReconciliationResponse response = reconciliationService.reconcile(
+                tenantId, bankAccountId, format, dateToleranceDays, startDate, endDate, file);
+        return ResponseEntity.ok(response);
+    }
+}
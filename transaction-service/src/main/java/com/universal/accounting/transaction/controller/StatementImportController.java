@@ -0,0 +1,71 @@
+package com.universal.accounting.transaction.controller;
+
+import com.universal.accounting.transaction.dto.TransactionDto;
+import com.universal.accounting.transaction.service.MappingRuleService;
+import com.universal.accounting.transaction.service.StatementImportService;
+import com.universal.accounting.transaction.statement.StatementFormat;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import jakarta.validation.Valid;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/transactions")
+@RequiredArgsConstructor
+public class StatementImportController {
+    
+    private final StatementImportService statementImportService;
+    private final MappingRuleService mappingRuleService;
+    
+    @PostMapping(value = "/imports", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<TransactionDto.StatementImportResponse> importStatement(
+            @RequestHeader("X-Tenant-ID") Long tenantId,
+            @RequestParam StatementFormat format,
+            @RequestParam Long bankAccountId,
+            @RequestParam(required = false) Long suspenseAccountId,
+            @RequestPart("file") MultipartFile file) {
+        TransactionDto.StatementImportResponse response =
+                statementImportService.submit(tenantId, format, bankAccountId, suspenseAccountId, file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(response);
+    }
+    
+    @GetMapping("/imports/{importId}")
+    public ResponseEntity<TransactionDto.StatementImportResponse> getImport(
+            @RequestHeader("X-Tenant-ID") Long tenantId,
+            @PathVariable Long importId) {
+        return ResponseEntity.ok(statementImportService.getImport(tenantId, importId));
+    }
+    
+    @PostMapping("/imports/{importId}/resume")
+    public ResponseEntity<TransactionDto.StatementImportResponse> resumeImport(
+            @RequestHeader("X-Tenant-ID") Long tenantId,
+            @PathVariable Long importId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(statementImportService.resume(tenantId, importId));
+    }
+    
+    @PostMapping("/mapping-rules")
+    public ResponseEntity<TransactionDto.MappingRuleResponse> createMappingRule(
+            @RequestHeader("X-Tenant-ID") Long tenantId,
+            @Valid @RequestBody TransactionDto.MappingRuleRequest request) {
+        return ResponseEntity.ok(mappingRuleService.createRule(tenantId, request));
+    }
+    
+    @GetMapping("/mapping-rules")
+    public ResponseEntity<List<TransactionDto.MappingRuleResponse>> getMappingRules(
+            @RequestHeader("X-Tenant-ID") Long tenantId) {
+        return ResponseEntity.ok(mappingRuleService.getRules(tenantId));
+    }
+    
+    @DeleteMapping("/mapping-rules/{ruleId}")
+    public ResponseEntity<Void> deactivateMappingRule(
+            @RequestHeader("X-Tenant-ID") Long tenantId,
+            @PathVariable Long ruleId) {
+        mappingRuleService.deactivateRule(tenantId, ruleId);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.universal.accounting.transaction.dto;
+
+import lombok.Data;
+import lombok.Builder;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+import jakarta.validation.constraints.NotNull;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class TransactionDto {
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StatementImportResponse {
+        private Long id;
+        private Long tenantId;
+        private String format;
+        private String fileName;
+        private Long bankAccountId;
+        private Long suspenseAccountId;
+        private String status;
+        private long rowsCommitted;
+        private long entriesCreated;
+        private long entriesDuplicate;
+        private long rowsSkipped;
+        private String errorMessage;
+        private LocalDateTime createdAt;
+        private LocalDateTime updatedAt;
+        private LocalDateTime completedAt;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MappingRuleRequest {
+        private int priority;
+        
+        private String descriptionPattern;
+        
+        private String counterpartyPattern;
+        
+        private String direction;
+        
+        @NotNull(message = "Account ID is required")
+        private Long accountId;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MappingRuleResponse {
+        private Long id;
+        private int priority;
+        private String descriptionPattern;
+        private String counterpartyPattern;
+        private String direction;
+        private Long accountId;
+        private boolean active;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ReconciliationResponse {
+        private String reconciliationId;
+        private Long bankAccountId;
+        private int dateToleranceDays;
+        private long ledgerLinesLoaded;
+        private long statementRows;
+        private long matchedRows;
+        private long splitRows;
+        private long linesMatched;
+        private long unmatchedRows;
+        private long elapsedMs;
+        private List<UnmatchedStatementRow> unmatched;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class UnmatchedStatementRow {
+        private long row;
+        private LocalDate bookingDate;
+        private BigDecimal amount;
+        private String description;
+        private String bankReference;
+    }
+    
+    /**
+     * Body of the ledger's batch endpoint; mirrors LedgerDto in ledger-service
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JournalEntryBatchRequest {
+        private boolean post;
+        private List<JournalEntryRequest> entries;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JournalEntryRequest {
+        private LocalDate entryDate;
+        private String description;
+        private String reference;
+        private List<JournalEntryLineRequest> lines;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JournalEntryLineRequest {
+        private Long accountId;
+        private String description;
+        private BigDecimal debitAmount;
+        private BigDecimal creditAmount;
+        private String counterparty;
+    }
+    
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class JournalEntryBatchResponse {
+        private int created;
+        private int duplicates;
+    }
+}
@@ -0,0 +1,52 @@
+package com.universal.accounting.transaction.entity;
+
+import com.universal.accounting.common.models.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Links a ledger line on a bank account to the statement row that cleared it. A line is
+ * reconciled at most once; a statement row matched to a split has one record per line.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "bank_reconciliation_matches",
+        uniqueConstraints = @UniqueConstraint(name = "uk_bank_reconciliation_matches_line", columnNames = "journal_line_id"),
+        indexes = @Index(name = "idx_bank_reconciliation_matches_run", columnList = "reconciliation_id"))
+@EqualsAndHashCode(callSuper = true)
+public class BankReconciliationMatch extends BaseEntity {
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "bank_account_id", nullable = false)
+    private Long bankAccountId;
+
+    @Column(name = "journal_line_id", nullable = false)
+    private Long journalLineId;
+
+    @Column(name = "reconciliation_id", nullable = false, length = 36)
+    private String reconciliationId;
+
+    @Column(name = "statement_row", nullable = false)
+    private long statementRow;
+
+    @Column(name = "statement_reference", length = 100)
+    private String statementReference;
+
+    @Column(name = "statement_amount", precision = 19, scale = 2)
+    private BigDecimal statementAmount;
+
+    @Column(name = "statement_date")
+    private LocalDate statementDate;
+}
@@ -0,0 +1,74 @@
+package com.universal.accounting.transaction.entity;
+
+import com.universal.accounting.common.models.BaseEntity;
+import com.universal.accounting.transaction.statement.StatementFormat;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * One uploaded bank statement and its import checkpoint. rowsCommitted counts the statement
+ * rows whose journal entries the ledger has acknowledged, so a resumed import skips
+ * exactly those rows.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "statement_imports", indexes = {
+        @Index(name = "idx_statement_imports_status", columnList = "status, updated_at")
+})
+@EqualsAndHashCode(callSuper = true)
+public class StatementImport extends BaseEntity {
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "format", nullable = false, length = 20)
+    private StatementFormat format;
+
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "storage_path", nullable = false, length = 500)
+    private String storagePath;
+
+    @Column(name = "bank_account_id", nullable = false)
+    private Long bankAccountId;
+
+    @Column(name = "suspense_account_id")
+    private Long suspenseAccountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private ImportStatus status;
+
+    @Column(name = "rows_committed", nullable = false)
+    private long rowsCommitted;
+
+    @Column(name = "entries_created", nullable = false)
+    private long entriesCreated;
+
+    @Column(name = "entries_duplicate", nullable = false)
+    private long entriesDuplicate;
+
+    @Column(name = "rows_skipped", nullable = false)
+    private long rowsSkipped;
+
+    @Column(name = "error_message", length = 1000)
+    private String errorMessage;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    public enum ImportStatus {
+        QUEUED, RUNNING, COMPLETED, FAILED
+    }
+}
@@ -0,0 +1,52 @@
+package com.universal.accounting.transaction.entity;
+
+import com.universal.accounting.common.models.BaseEntity;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * Maps statement lines to the account on the other side of the bank account. A rule
+ * matches when every pattern it sets is contained (case-insensitively) in the line and
+ * the direction fits; rules are tried in ascending priority and the first match wins.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Entity
+@Table(name = "statement_mapping_rules", indexes = {
+        @Index(name = "idx_statement_mapping_rules_tenant", columnList = "tenant_id, priority")
+})
+@EqualsAndHashCode(callSuper = true)
+public class StatementMappingRule extends BaseEntity {
+
+    @Column(name = "tenant_id", nullable = false)
+    private Long tenantId;
+
+    @Column(name = "priority", nullable = false)
+    private int priority;
+
+    @Column(name = "description_pattern", length = 200)
+    private String descriptionPattern;
+
+    @Column(name = "counterparty_pattern", length = 200)
+    private String counterpartyPattern;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "direction", nullable = false, length = 10)
+    private Direction direction;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    @Column(name = "active", nullable = false)
+    private boolean active;
+
+    public enum Direction {
+        ANY, INFLOW, OUTFLOW
+    }
+}
@@ -0,0 +1,283 @@
+package com.universal.accounting.transaction.reconciliation;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * Unreconciled ledger lines of one bank account, indexed for matching statement rows.
+ * Lines live in parallel primitive arrays; an open-addressing table maps
+ * (signed amount in minor units, date bucket) to a chain of lines, and a dense per-day
+ * table chains lines by booking date. Buckets are as wide as the date tolerance, so an
+ * exact match probes at most three buckets whatever the number of lines.
+ * <p>
+ * Not thread-safe: build it, then match from one thread.
+ */
+public class LedgerLineIndex {
+
+    private static final int NONE = -1;
+    private static final int MAX_SPLIT_CANDIDATES = 32;
+    private static final int MAX_SEARCH_STEPS = 2048;
+
+    private final int toleranceDays;
+    private final int bucketDays;
+
+    private long[] lineIds = new long[1024];
+    private long[] amounts = new long[1024];
+    private int[] days = new int[1024];
+    private int[] nextInBucket;
+    private int[] nextInDay;
+    private int size;
+    private final BitSet consumed = new BitSet();
+
+    private long[] slotAmounts;
+    private int[] slotBuckets;
+    private int[] slotHeads;
+    private boolean[] slotUsed;
+    private int mask;
+
+    private int[] dayHeads;
+    private int minDay;
+    private boolean built;
+    private int searchSteps;
+
+    public LedgerLineIndex(int toleranceDays) {
+        if (toleranceDays < 0) {
+            throw new IllegalArgumentException("Date tolerance must not be negative");
+        }
+        this.toleranceDays = toleranceDays;
+        this.bucketDays = Math.max(1, toleranceDays);
+    }
+
+    /**
+     * Adds a line; amount is signed minor units (debit on the bank account positive) and
+     * day is the booking date as an epoch day
+     */
+    public void add(long lineId, long amount, int day) {
+        if (built) {
+            throw new IllegalStateException("Index is already built");
+        }
+        if (size == lineIds.length) {
+            int capacity = size + (size >> 1);
+            lineIds = Arrays.copyOf(lineIds, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            days = Arrays.copyOf(days, capacity);
+        }
+        lineIds[size] = lineId;
+        amounts[size] = amount;
+        days[size] = day;
+        size++;
+    }
+
+    public void build() {
+        nextInBucket = new int[size];
+        nextInDay = new int[size];
+        int capacity = Integer.highestOneBit(Math.max(4, size * 2 - 1)) << 1;
+        slotAmounts = new long[capacity];
+        slotBuckets = new int[capacity];
+        slotHeads = new int[capacity];
+        slotUsed = new boolean[capacity];
+        Arrays.fill(slotHeads, NONE);
+        mask = capacity - 1;
+
+        int maxDay = Integer.MIN_VALUE;
+        minDay = Integer.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            minDay = Math.min(minDay, days[i]);
+            maxDay = Math.max(maxDay, days[i]);
+        }
+        dayHeads = new int[size == 0 ? 0 : maxDay - minDay + 1];
+        Arrays.fill(dayHeads, NONE);
+
+        // Inserting in reverse keeps each chain in load order
+        for (int i = size - 1; i >= 0; i--) {
+            int slot = slot(amounts[i], bucket(days[i]), true);
+            nextInBucket[i] = slotHeads[slot];
+            slotHeads[slot] = i;
+            int dayOffset = days[i] - minDay;
+            nextInDay[i] = dayHeads[dayOffset];
+            dayHeads[dayOffset] = i;
+        }
+        built = true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long lineId(int line) {
+        return lineIds[line];
+    }
+
+    /**
+     * Consumes and returns the unconsumed line with exactly this amount whose date is
+     * closest to day within the tolerance, or -1
+     */
+    public int matchExact(long amount, int day) {
+        requireBuilt();
+        int best = NONE;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int bucket = bucket(day - toleranceDays); bucket <= bucket(day + toleranceDays); bucket++) {
+            int slot = slot(amount, bucket, false);
+            if (slot == NONE) {
+                continue;
+            }
+            int previous = NONE;
+            int line = slotHeads[slot];
+            while (line != NONE) {
+                int next = nextInBucket[line];
+                if (consumed.get(line)) {
+                    // Unlink so repeated amounts do not rescan lines already matched
+                    if (previous == NONE) {
+                        slotHeads[slot] = next;
+                    } else {
+                        nextInBucket[previous] = next;
+                    }
+                } else {
+                    int distance = Math.abs(days[line] - day);
+                    if (distance <= toleranceDays && distance < bestDistance) {
+                        best = line;
+                        bestDistance = distance;
+                        if (distance == 0) {
+                            break;
+                        }
+                    }
+                    previous = line;
+                }
+                line = next;
+            }
+            if (bestDistance == 0) {
+                break;
+            }
+        }
+        if (best != NONE) {
+            consumed.set(best);
+        }
+        return best;
+    }
+
+    /**
+     * Consumes and returns two to maxParts same-signed lines within the tolerance whose
+     * amounts add up to amount, or null. Examines at most scanLimit lines, nearest dates
+     * first, and gives up after a fixed number of search steps, so the cost per row stays
+     * bounded on busy days.
+     */
+    public int[] matchSplit(long amount, int day, int maxParts, int scanLimit) {
+        requireBuilt();
+        if (size == 0 || amount == 0 || maxParts < 2) {
+            return null;
+        }
+        long target = Math.abs(amount);
+        int[] candidates = new int[Math.min(scanLimit, MAX_SPLIT_CANDIDATES)];
+        int count = 0;
+        int examined = 0;
+        for (int step = 0; step <= 2 * toleranceDays && examined < scanLimit && count < candidates.length; step++) {
+            // day, day - 1, day + 1, day - 2, ...
+            int candidateDay = day + ((step & 1) == 0 ? step >> 1 : -((step + 1) >> 1));
+            int dayOffset = candidateDay - minDay;
+            if (dayOffset < 0 || dayOffset >= dayHeads.length) {
+                continue;
+            }
+            int previous = NONE;
+            int line = dayHeads[dayOffset];
+            while (line != NONE && examined < scanLimit && count < candidates.length) {
+                int next = nextInDay[line];
+                if (consumed.get(line)) {
+                    if (previous == NONE) {
+                        dayHeads[dayOffset] = next;
+                    } else {
+                        nextInDay[previous] = next;
+                    }
+                } else {
+                    examined++;
+                    long lineAmount = amounts[line];
+                    if (Long.signum(lineAmount) == Long.signum(amount) && Math.abs(lineAmount) < target) {
+                        candidates[count++] = line;
+                    }
+                    previous = line;
+                }
+                line = next;
+            }
+        }
+        if (count < 2) {
+            return null;
+        }
+
+        // Largest first, with suffix sums to prune branches that can no longer reach the target
+        Integer[] order = new Integer[count];
+        for (int i = 0; i < count; i++) {
+            order[i] = candidates[i];
+        }
+        Arrays.sort(order, (a, b) -> Long.compare(Math.abs(amounts[b]), Math.abs(amounts[a])));
+        long[] values = new long[count];
+        long[] suffix = new long[count + 1];
+        for (int i = count - 1; i >= 0; i--) {
+            values[i] = Math.abs(amounts[order[i]]);
+            suffix[i] = suffix[i + 1] + values[i];
+        }
+        int[] chosen = new int[maxParts];
+        searchSteps = 0;
+        int parts = search(values, suffix, 0, target, chosen, 0, maxParts);
+        if (parts < 2) {
+            return null;
+        }
+        int[] lines = new int[parts];
+        for (int i = 0; i < parts; i++) {
+            lines[i] = order[chosen[i]];
+            consumed.set(lines[i]);
+        }
+        return lines;
+    }
+
+    private int search(long[] values, long[] suffix, int from, long remaining, int[] chosen, int depth, int maxParts) {
+        if (remaining == 0) {
+            return depth;
+        }
+        if (depth == maxParts || suffix[from] < remaining || ++searchSteps > MAX_SEARCH_STEPS) {
+            return 0;
+        }
+        for (int i = from; i < values.length; i++) {
+            if (values[i] > remaining) {
+                continue;
+            }
+            if (suffix[i] < remaining) {
+                return 0;
+            }
+            chosen[depth] = i;
+            int found = search(values, suffix, i + 1, remaining - values[i], chosen, depth + 1, maxParts);
+            if (found > 0) {
+                return found;
+            }
+        }
+        return 0;
+    }
+
+    private void requireBuilt() {
+        if (!built) {
+            throw new IllegalStateException("Index must be built before matching");
+        }
+    }
+
+    private int bucket(int day) {
+        return Math.floorDiv(day, bucketDays);
+    }
+
+    private int slot(long amount, int bucket, boolean insert) {
+        long hash = amount * 0x9E3779B97F4A7C15L + bucket;
+        hash ^= hash >>> 32;
+        int slot = (int) hash & mask;
+        // Slots stay used once taken even if their chain empties, so probe sequences hold
+        while (slotUsed[slot]) {
+            if (slotAmounts[slot] == amount && slotBuckets[slot] == bucket) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        if (!insert) {
+            return NONE;
+        }
+        slotUsed[slot] = true;
+        slotAmounts[slot] = amount;
+        slotBuckets[slot] = bucket;
+        return slot;
+    }
+}
@@ -0,0 +1,30 @@
+package com.universal.accounting.transaction.repository;
+
+import com.universal.accounting.transaction.entity.StatementImport;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StatementImportRepository extends JpaRepository<StatementImport, Long> {
+    Optional<StatementImport> findByIdAndTenantId(Long id, Long tenantId);
+
+    List<StatementImport> findByStatusInAndUpdatedAtBefore(List<StatementImport.ImportStatus> statuses, LocalDateTime before);
+
+    /**
+     * Takes ownership of an import only if nobody has touched it since it was read, so
+     * two instances never run the same import
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE StatementImport si SET si.status = 'RUNNING', si.updatedAt = :now "
+            + "WHERE si.id = :id AND si.updatedAt = :seen")
+    int claim(@Param("id") Long id, @Param("seen") LocalDateTime seen, @Param("now") LocalDateTime now);
+}
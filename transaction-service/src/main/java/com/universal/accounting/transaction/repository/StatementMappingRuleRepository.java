@@ -0,0 +1,14 @@
+package com.universal.accounting.transaction.repository;
+
+import com.universal.accounting.transaction.entity.StatementMappingRule;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface StatementMappingRuleRepository extends JpaRepository<StatementMappingRule, Long> {
+    List<StatementMappingRule> findByTenantIdAndActiveTrueOrderByPriorityAsc(Long tenantId);
+
+    List<StatementMappingRule> findByTenantIdOrderByPriorityAsc(Long tenantId);
+}
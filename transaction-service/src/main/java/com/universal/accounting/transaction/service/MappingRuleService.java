@@ -0,0 +1,72 @@
+package com.universal.accounting.transaction.service;
+
+import com.universal.accounting.transaction.dto.TransactionDto;
+import com.universal.accounting.transaction.entity.StatementMappingRule;
+import com.universal.accounting.transaction.repository.StatementMappingRuleRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class MappingRuleService {
+    
+    private final StatementMappingRuleRepository mappingRuleRepository;
+    
+    @Transactional
+    public TransactionDto.MappingRuleResponse createRule(Long tenantId, TransactionDto.MappingRuleRequest request) {
+        boolean hasDescription = request.getDescriptionPattern() != null && !request.getDescriptionPattern().isBlank();
+        boolean hasCounterparty = request.getCounterpartyPattern() != null && !request.getCounterpartyPattern().isBlank();
+        if (!hasDescription && !hasCounterparty) {
+            throw new IllegalArgumentException("A rule needs a description or counterparty pattern");
+        }
+        
+        StatementMappingRule rule = StatementMappingRule.builder()
+                .tenantId(tenantId)
+                .priority(request.getPriority())
+                .descriptionPattern(request.getDescriptionPattern())
+                .counterpartyPattern(request.getCounterpartyPattern())
+                .direction(request.getDirection() != null
+                        ? StatementMappingRule.Direction.valueOf(request.getDirection())
+                        : StatementMappingRule.Direction.ANY)
+                .accountId(request.getAccountId())
+                .active(true)
+                .build();
+        
+        return mapToResponse(mappingRuleRepository.save(rule));
+    }
+    
+    public List<TransactionDto.MappingRuleResponse> getRules(Long tenantId) {
+        return mappingRuleRepository.findByTenantIdOrderByPriorityAsc(tenantId).stream()
+                .map(this::mapToResponse)
+                .collect(Collectors.toList());
+    }
+    
+    @Transactional
+    public void deactivateRule(Long tenantId, Long ruleId) {
+        StatementMappingRule rule = mappingRuleRepository.findById(ruleId)
+                .orElseThrow(() -> new RuntimeException("Mapping rule not found"));
+        
+        if (!rule.getTenantId().equals(tenantId)) {
+            throw new RuntimeException("Access denied");
+        }
+        
+        rule.setActive(false);
+        mappingRuleRepository.save(rule);
+    }
+    
+    private TransactionDto.MappingRuleResponse mapToResponse(StatementMappingRule rule) {
+        return TransactionDto.MappingRuleResponse.builder()
+                .id(rule.getId())
+                .priority(rule.getPriority())
+                .descriptionPattern(rule.getDescriptionPattern())
+                .counterpartyPattern(rule.getCounterpartyPattern())
+                .direction(rule.getDirection().name())
+                .accountId(rule.getAccountId())
+                .active(rule.isActive())
+                .build();
+    }
+}
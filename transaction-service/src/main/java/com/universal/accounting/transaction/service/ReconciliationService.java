@@ -0,0 +1,241 @@
+package com.universal.accounting.transaction.service;
+
+import com.universal.accounting.transaction.dto.TransactionDto;
+import com.universal.accounting.transaction.reconciliation.LedgerLineIndex;
+import com.universal.accounting.transaction.statement.StatementFormat;
+import com.universal.accounting.transaction.statement.StatementReader;
+import com.universal.accounting.transaction.statement.StatementTransaction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.sql.DataSource;
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reconciles a bank statement against the unreconciled posted lines of the bank account.
+ * The lines are loaded once into a {@link LedgerLineIndex}; the statement is then streamed
+ * and each row is matched by exact amount within the date tolerance, falling back to a
+ * bounded search for a split over several lines. Matches are written in batches inside
+ * one transaction, so a run is recorded completely or not at all.
+ */
+@Service
+@Slf4j
+public class ReconciliationService {
+
+    private static final String UNRECONCILED_LINES_SQL =
+            "SELECT jel.id, COALESCE(jel.debit_amount, 0) - COALESCE(jel.credit_amount, 0) AS net, je.entry_date "
+            + "FROM journal_entry_lines jel "
+            + "JOIN journal_entries je ON je.id = jel.journal_entry_id "
+            + "WHERE je.tenant_id = :tenantId AND je.status = 'POSTED' AND jel.account_id = :accountId "
+            + "AND NOT EXISTS (SELECT 1 FROM bank_reconciliation_matches m WHERE m.journal_line_id = jel.id) ";
+
+    private static final String INSERT_MATCH_SQL =
+            "INSERT INTO bank_reconciliation_matches (tenant_id, bank_account_id, journal_line_id, reconciliation_id, "
+            + "statement_row, statement_reference, statement_amount, statement_date, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Timer runTimer;
+    private final Counter rowsMatched;
+    private final Counter rowsSplit;
+    private final Counter rowsUnmatched;
+
+    @Value("${transaction.reconciliation.max-tolerance-days:31}")
+    private int maxToleranceDays;
+
+    @Value("${transaction.reconciliation.max-split-parts:4}")
+    private int maxSplitParts;
+
+    @Value("${transaction.reconciliation.split-scan-limit:256}")
+    private int splitScanLimit;
+
+    @Value("${transaction.reconciliation.write-batch-size:1000}")
+    private int writeBatchSize;
+
+    @Value("${transaction.reconciliation.max-unmatched-reported:100}")
+    private int maxUnmatchedReported;
+
+    public ReconciliationService(DataSource dataSource,
+                                 PlatformTransactionManager transactionManager,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${transaction.reconciliation.fetch-size:10000}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        JdbcTemplate streaming = new JdbcTemplate(dataSource);
+        // PostgreSQL only streams a result set with a fetch size inside a transaction
+        streaming.setFetchSize(fetchSize);
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(streaming);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.runTimer = Timer.builder("transaction.reconciliation.run")
+                .description("Time to reconcile one statement")
+                .register(meterRegistry);
+        this.rowsMatched = Counter.builder("transaction.reconciliation.rows")
+                .tag("outcome", "matched")
+                .description("Statement rows by reconciliation outcome")
+                .register(meterRegistry);
+        this.rowsSplit = Counter.builder("transaction.reconciliation.rows")
+                .tag("outcome", "split")
+                .description("Statement rows by reconciliation outcome")
+                .register(meterRegistry);
+        this.rowsUnmatched = Counter.builder("transaction.reconciliation.rows")
+                .tag("outcome", "unmatched")
+                .description("Statement rows by reconciliation outcome")
+                .register(meterRegistry);
+    }
+
+    public TransactionDto.ReconciliationResponse reconcile(Long tenantId, Long bankAccountId, StatementFormat format,
+                                                           int dateToleranceDays, LocalDate startDate, LocalDate endDate,
+                                                           MultipartFile file) {
+        if (dateToleranceDays < 0 || dateToleranceDays > maxToleranceDays) {
+            throw new IllegalArgumentException("Date tolerance must be between 0 and " + maxToleranceDays + " days");
+        }
+        if (startDate != null && endDate != null && startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must not be after end date");
+        }
+        long startNanos = System.nanoTime();
+        String reconciliationId = UUID.randomUUID().toString();
+        TransactionDto.ReconciliationResponse response = transactionTemplate.execute(status -> {
+            LedgerLineIndex index = loadUnreconciledLines(tenantId, bankAccountId, dateToleranceDays, startDate, endDate);
+            try (InputStream in = new BufferedInputStream(file.getInputStream(), 1 << 16);
+                 StatementReader reader = StatementReader.open(format, in)) {
+                return match(tenantId, bankAccountId, reconciliationId, dateToleranceDays, index, reader);
+            } catch (IOException e) {
+                throw new RuntimeException("Could not read statement: " + e.getMessage());
+            }
+        });
+        long elapsedNanos = System.nanoTime() - startNanos;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        response.setElapsedMs(elapsedNanos / 1_000_000);
+        log.info("Reconciliation {} for tenant {} account {}: {} rows, {} matched, {} split, {} unmatched in {} ms",
+                reconciliationId, tenantId, bankAccountId, response.getStatementRows(), response.getMatchedRows(),
+                response.getSplitRows(), response.getUnmatchedRows(), response.getElapsedMs());
+        return response;
+    }
+
+    private LedgerLineIndex loadUnreconciledLines(Long tenantId, Long bankAccountId, int dateToleranceDays,
+                                                  LocalDate startDate, LocalDate endDate) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenantId", tenantId)
+                .addValue("accountId", bankAccountId);
+        String sql = UNRECONCILED_LINES_SQL;
+        // Widen the window by the tolerance so rows at its edges can still match
+        if (startDate != null) {
+            sql += "AND je.entry_date >= :startDate ";
+            params.addValue("startDate", startDate.minusDays(dateToleranceDays));
+        }
+        if (endDate != null) {
+            sql += "AND je.entry_date <= :endDate ";
+            params.addValue("endDate", endDate.plusDays(dateToleranceDays));
+        }
+        LedgerLineIndex index = new LedgerLineIndex(dateToleranceDays);
+        namedJdbcTemplate.query(sql, params, rs -> {
+            index.add(rs.getLong(1), toMinor(rs.getBigDecimal(2)), (int) rs.getDate(3).toLocalDate().toEpochDay());
+        });
+        index.build();
+        return index;
+    }
+
+    private TransactionDto.ReconciliationResponse match(Long tenantId, Long bankAccountId, String reconciliationId,
+                                                        int dateToleranceDays, LedgerLineIndex index,
+                                                        StatementReader reader) throws IOException {
+        List<Object[]> pending = new ArrayList<>(writeBatchSize);
+        List<TransactionDto.UnmatchedStatementRow> unmatched = new ArrayList<>();
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        long rows = 0;
+        long matched = 0;
+        long split = 0;
+        long linesMatched = 0;
+        long missed = 0;
+        StatementTransaction transaction;
+        while ((transaction = reader.next()) != null) {
+            rows++;
+            // A positive statement amount is money in, which is a debit on the bank account
+            long amount = toMinor(transaction.getAmount());
+            int day = (int) transaction.getBookingDate().toEpochDay();
+            int line = index.matchExact(amount, day);
+            int[] lines = line >= 0 ? null : index.matchSplit(amount, day, maxSplitParts, splitScanLimit);
+            if (line >= 0) {
+                matched++;
+                linesMatched++;
+                pending.add(matchRow(tenantId, bankAccountId, reconciliationId, index.lineId(line), transaction, now));
+            } else if (lines != null) {
+                split++;
+                linesMatched += lines.length;
+                for (int splitLine : lines) {
+                    pending.add(matchRow(tenantId, bankAccountId, reconciliationId, index.lineId(splitLine), transaction, now));
+                }
+            } else {
+                missed++;
+                if (unmatched.size() < maxUnmatchedReported) {
+                    unmatched.add(TransactionDto.UnmatchedStatementRow.builder()
+                            .row(transaction.getRow())
+                            .bookingDate(transaction.getBookingDate())
+                            .amount(transaction.getAmount())
+                            .description(transaction.getDescription())
+                            .bankReference(transaction.getBankReference())
+                            .build());
+                }
+            }
+            if (pending.size() >= writeBatchSize) {
+                jdbcTemplate.batchUpdate(INSERT_MATCH_SQL, pending);
+                pending.clear();
+            }
+        }
+        if (!pending.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_MATCH_SQL, pending);
+        }
+        rowsMatched.increment(matched);
+        rowsSplit.increment(split);
+        rowsUnmatched.increment(missed);
+
+        return TransactionDto.ReconciliationResponse.builder()
+                .reconciliationId(reconciliationId)
+                .bankAccountId(bankAccountId)
+                .dateToleranceDays(dateToleranceDays)
+                .ledgerLinesLoaded(index.size())
+                .statementRows(rows)
+                .matchedRows(matched)
+                .splitRows(split)
+                .linesMatched(linesMatched)
+                .unmatchedRows(missed)
+                .unmatched(unmatched)
+                .build();
+    }
+
+    private Object[] matchRow(Long tenantId, Long bankAccountId, String reconciliationId, long lineId,
+                              StatementTransaction transaction, Timestamp now) {
+        String reference = transaction.getBankReference();
+        return new Object[]{
+                tenantId, bankAccountId, lineId, reconciliationId, transaction.getRow(),
+                reference != null && reference.length() > 100 ? reference.substring(0, 100) : reference,
+                transaction.getAmount(), Date.valueOf(transaction.getBookingDate()), now, now
+        };
+    }
+
+    private static long toMinor(BigDecimal amount) {
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+}
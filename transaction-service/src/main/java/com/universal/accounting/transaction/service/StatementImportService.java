@@ -0,0 +1,386 @@
+package com.universal.accounting.transaction.service;
+
+import com.universal.accounting.transaction.client.LedgerClient;
+import com.universal.accounting.transaction.dto.TransactionDto;
+import com.universal.accounting.transaction.entity.StatementImport;
+import com.universal.accounting.transaction.repository.StatementImportRepository;
+import com.universal.accounting.transaction.repository.StatementMappingRuleRepository;
+import com.universal.accounting.transaction.statement.MappingRules;
+import com.universal.accounting.transaction.statement.StatementFormat;
+import com.universal.accounting.transaction.statement.StatementReader;
+import com.universal.accounting.transaction.statement.StatementTransaction;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Imports bank statements into the ledger. An upload is spooled to disk and then streamed
+ * row by row: each row is mapped to a balanced journal entry by the tenant's rules and
+ * entries are handed to the ledger in batches. After every acknowledged batch the import's
+ * checkpoint advances, so an import that fails or whose instance dies resumes from the
+ * last committed row; entry references make a replayed batch a no-op in the ledger.
+ */
+@Service
+@Slf4j
+public class StatementImportService {
+
+    private static final int MAX_DESCRIPTION_LENGTH = 500;
+    private static final List<StatementImport.ImportStatus> RESUMABLE = List.of(
+            StatementImport.ImportStatus.QUEUED, StatementImport.ImportStatus.RUNNING);
+
+    private final StatementImportRepository statementImportRepository;
+    private final StatementMappingRuleRepository mappingRuleRepository;
+    private final LedgerClient ledgerClient;
+    private final MeterRegistry meterRegistry;
+    private final ExecutorService executor;
+    private final Set<Long> activeImports = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger running = new AtomicInteger();
+    private final Timer batchTimer;
+    private final Counter entriesCreated;
+    private final Counter entriesDuplicate;
+    private final Counter rowsSkipped;
+
+    @Value("${transaction.import.storage-dir:/tmp/statement-imports}")
+    private String storageDir;
+
+    @Value("${transaction.import.batch-size:500}")
+    private int batchSize;
+
+    @Value("${transaction.import.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${transaction.import.retry-backoff-ms:2000}")
+    private long retryBackoffMs;
+
+    @Value("${transaction.import.stale-after-ms:600000}")
+    private long staleAfterMs;
+
+    public StatementImportService(StatementImportRepository statementImportRepository,
+                                  StatementMappingRuleRepository mappingRuleRepository,
+                                  LedgerClient ledgerClient,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${transaction.import.threads:2}") int threads) {
+        this.statementImportRepository = statementImportRepository;
+        this.mappingRuleRepository = mappingRuleRepository;
+        this.ledgerClient = ledgerClient;
+        this.meterRegistry = meterRegistry;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "statement-import-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchTimer = Timer.builder("transaction.import.batch")
+                .description("Time for the ledger to accept one batch of journal entries")
+                .register(meterRegistry);
+        this.entriesCreated = Counter.builder("transaction.import.entries")
+                .tag("outcome", "created")
+                .description("Journal entries handed to the ledger")
+                .register(meterRegistry);
+        this.entriesDuplicate = Counter.builder("transaction.import.entries")
+                .tag("outcome", "duplicate")
+                .description("Journal entries handed to the ledger")
+                .register(meterRegistry);
+        this.rowsSkipped = Counter.builder("transaction.import.rows.skipped")
+                .description("Statement rows with a zero amount or no matching rule and no suspense account")
+                .register(meterRegistry);
+        Gauge.builder("transaction.import.active", running, AtomicInteger::get)
+                .description("Statement imports currently running on this instance")
+                .register(meterRegistry);
+    }
+
+    public TransactionDto.StatementImportResponse submit(Long tenantId, StatementFormat format, Long bankAccountId,
+                                                          Long suspenseAccountId, MultipartFile file) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("Statement file is empty");
+        }
+        Path target = Paths.get(storageDir).resolve(tenantId + "-" + UUID.randomUUID() + ".statement");
+        try {
+            Files.createDirectories(target.getParent());
+            // Multipart uploads are already on disk; this moves rather than buffers them
+            file.transferTo(target);
+        } catch (IOException e) {
+            throw new RuntimeException("Could not store statement file: " + e.getMessage());
+        }
+        StatementImport statementImport = statementImportRepository.save(StatementImport.builder()
+                .tenantId(tenantId)
+                .format(format)
+                .fileName(file.getOriginalFilename())
+                .storagePath(target.toString())
+                .bankAccountId(bankAccountId)
+                .suspenseAccountId(suspenseAccountId)
+                .status(StatementImport.ImportStatus.QUEUED)
+                .build());
+        Long importId = statementImport.getId();
+        executor.execute(() -> run(importId));
+        return mapToResponse(statementImport);
+    }
+
+    public TransactionDto.StatementImportResponse getImport(Long tenantId, Long importId) {
+        return mapToResponse(find(tenantId, importId));
+    }
+
+    /**
+     * Restarts a failed import from its checkpoint
+     */
+    public TransactionDto.StatementImportResponse resume(Long tenantId, Long importId) {
+        StatementImport statementImport = find(tenantId, importId);
+        if (statementImport.getStatus() != StatementImport.ImportStatus.FAILED) {
+            throw new IllegalStateException("Only failed imports can be resumed");
+        }
+        statementImport.setStatus(StatementImport.ImportStatus.QUEUED);
+        statementImport.setErrorMessage(null);
+        statementImport = statementImportRepository.save(statementImport);
+        executor.execute(() -> run(importId));
+        return mapToResponse(statementImport);
+    }
+
+    /**
+     * Picks up imports whose checkpoint has not moved for a while: queued work lost in a
+     * restart, or a running import whose instance died
+     */
+    @Scheduled(fixedDelayString = "${transaction.import.sweep-interval-ms:60000}",
+               initialDelayString = "${transaction.import.sweep-initial-delay-ms:30000}")
+    public void resumeStalled() {
+        LocalDateTime staleBefore = LocalDateTime.now().minus(Duration.ofMillis(staleAfterMs));
+        for (StatementImport stalled : statementImportRepository.findByStatusInAndUpdatedAtBefore(RESUMABLE, staleBefore)) {
+            if (!activeImports.contains(stalled.getId())) {
+                log.info("Resuming stalled statement import {} from row {}", stalled.getId(), stalled.getRowsCommitted());
+                executor.execute(() -> run(stalled.getId()));
+            }
+        }
+    }
+
+    void run(Long importId) {
+        if (!activeImports.add(importId)) {
+            return;
+        }
+        running.incrementAndGet();
+        try {
+            StatementImport statementImport = statementImportRepository.findById(importId).orElse(null);
+            if (statementImport == null || !claimable(statementImport)) {
+                return;
+            }
+            if (statementImportRepository.claim(importId, statementImport.getUpdatedAt(), LocalDateTime.now()) == 0) {
+                // Another instance took it between our read and the claim
+                return;
+            }
+            process(statementImportRepository.findById(importId).orElseThrow());
+        } finally {
+            running.decrementAndGet();
+            activeImports.remove(importId);
+        }
+    }
+
+    private boolean claimable(StatementImport statementImport) {
+        if (statementImport.getStatus() == StatementImport.ImportStatus.QUEUED) {
+            return true;
+        }
+        // A running import is only taken over once its owner has stopped checkpointing
+        return statementImport.getStatus() == StatementImport.ImportStatus.RUNNING
+                && statementImport.getUpdatedAt().isBefore(LocalDateTime.now().minus(Duration.ofMillis(staleAfterMs)));
+    }
+
+    private void process(StatementImport statementImport) {
+        long startNanos = System.nanoTime();
+        long resumedFrom = statementImport.getRowsCommitted();
+        MappingRules rules = new MappingRules(
+                mappingRuleRepository.findByTenantIdAndActiveTrueOrderByPriorityAsc(statementImport.getTenantId()));
+        Counter rowsRead = Counter.builder("transaction.import.rows")
+                .tag("format", statementImport.getFormat().name())
+                .description("Statement rows parsed")
+                .register(meterRegistry);
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(Paths.get(statementImport.getStoragePath())), 1 << 16);
+             StatementReader reader = StatementReader.open(statementImport.getFormat(), in)) {
+            if (reader.skip(resumedFrom) < resumedFrom) {
+                throw new IllegalStateException("Statement file has fewer rows than its checkpoint");
+            }
+            List<TransactionDto.JournalEntryRequest> batch = new ArrayList<>(batchSize);
+            long lastRow = resumedFrom;
+            long skipped = 0;
+            StatementTransaction transaction;
+            while ((transaction = reader.next()) != null) {
+                rowsRead.increment();
+                TransactionDto.JournalEntryRequest entry = toJournalEntry(statementImport, rules, transaction);
+                if (entry != null) {
+                    batch.add(entry);
+                } else {
+                    skipped++;
+                }
+                lastRow = transaction.getRow();
+                if (batch.size() >= batchSize) {
+                    statementImport = commit(statementImport, batch, lastRow, skipped);
+                    batch.clear();
+                    skipped = 0;
+                }
+            }
+            if (lastRow > statementImport.getRowsCommitted()) {
+                statementImport = commit(statementImport, batch, lastRow, skipped);
+            }
+            statementImport.setStatus(StatementImport.ImportStatus.COMPLETED);
+            statementImport.setCompletedAt(LocalDateTime.now());
+            statementImportRepository.save(statementImport);
+
+            double seconds = Math.max(1, System.nanoTime() - startNanos) / 1e9;
+            long rows = statementImport.getRowsCommitted() - resumedFrom;
+            log.info("Statement import {} completed: {} rows in {}s ({} rows/s), {} entries created, {} duplicates, {} skipped",
+                    statementImport.getId(), rows, String.format("%.1f", seconds), Math.round(rows / seconds),
+                    statementImport.getEntriesCreated(), statementImport.getEntriesDuplicate(), statementImport.getRowsSkipped());
+        } catch (IOException | RuntimeException e) {
+            log.error("Statement import {} failed after row {}: {}", statementImport.getId(),
+                    statementImport.getRowsCommitted(), e.getMessage());
+            statementImport.setStatus(StatementImport.ImportStatus.FAILED);
+            String message = e.getMessage() != null ? e.getMessage() : e.getClass().getSimpleName();
+            statementImport.setErrorMessage(message.length() > 1000 ? message.substring(0, 1000) : message);
+            statementImportRepository.save(statementImport);
+        }
+    }
+
+    /**
+     * Sends one batch and advances the checkpoint past it; transient ledger failures are
+     * retried before the import is failed
+     */
+    private StatementImport commit(StatementImport statementImport, List<TransactionDto.JournalEntryRequest> batch,
+                                   long lastRow, long skipped) {
+        if (!batch.isEmpty()) {
+            TransactionDto.JournalEntryBatchRequest request = TransactionDto.JournalEntryBatchRequest.builder()
+                    .post(true)
+                    .entries(batch)
+                    .build();
+            TransactionDto.JournalEntryBatchResponse response = send(statementImport.getTenantId(), request);
+            statementImport.setEntriesCreated(statementImport.getEntriesCreated() + response.getCreated());
+            statementImport.setEntriesDuplicate(statementImport.getEntriesDuplicate() + response.getDuplicates());
+            entriesCreated.increment(response.getCreated());
+            entriesDuplicate.increment(response.getDuplicates());
+        }
+        rowsSkipped.increment(skipped);
+        statementImport.setRowsSkipped(statementImport.getRowsSkipped() + skipped);
+        statementImport.setRowsCommitted(lastRow);
+        return statementImportRepository.save(statementImport);
+    }
+
+    private TransactionDto.JournalEntryBatchResponse send(Long tenantId, TransactionDto.JournalEntryBatchRequest request) {
+        for (int attempt = 1; ; attempt++) {
+            long start = System.nanoTime();
+            try {
+                TransactionDto.JournalEntryBatchResponse response = ledgerClient.createJournalEntries(tenantId, request);
+                batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+                return response;
+            } catch (RestClientException e) {
+                if (attempt >= maxAttempts) {
+                    throw new RuntimeException("Ledger rejected batch after " + attempt + " attempts: " + e.getMessage());
+                }
+                log.warn("Ledger batch attempt {} failed, retrying: {}", attempt, e.getMessage());
+                try {
+                    TimeUnit.MILLISECONDS.sleep(retryBackoffMs * attempt);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Statement import interrupted");
+                }
+            }
+        }
+    }
+
+    /**
+     * A two-line entry between the bank account and the mapped account, or null when the
+     * row is skipped. Money in debits the bank; money out credits it.
+     */
+    private TransactionDto.JournalEntryRequest toJournalEntry(StatementImport statementImport, MappingRules rules,
+                                                              StatementTransaction transaction) {
+        if (transaction.getAmount().signum() == 0) {
+            return null;
+        }
+        Long contraAccountId = rules.match(transaction);
+        if (contraAccountId == null) {
+            contraAccountId = statementImport.getSuspenseAccountId();
+            if (contraAccountId == null) {
+                return null;
+            }
+        }
+        BigDecimal amount = transaction.getAmount().abs();
+        boolean inflow = transaction.getAmount().signum() > 0;
+        String description = transaction.getDescription() != null ? transaction.getDescription()
+                : transaction.getCounterparty() != null ? transaction.getCounterparty()
+                : "Bank statement row " + transaction.getRow();
+        if (description.length() > MAX_DESCRIPTION_LENGTH) {
+            description = description.substring(0, MAX_DESCRIPTION_LENGTH);
+        }
+        return TransactionDto.JournalEntryRequest.builder()
+                .entryDate(transaction.getBookingDate())
+                .description(description)
+                .reference("STMT-" + statementImport.getId() + "-" + transaction.getRow())
+                .lines(List.of(
+                        TransactionDto.JournalEntryLineRequest.builder()
+                                .accountId(statementImport.getBankAccountId())
+                                .description(description)
+                                .debitAmount(inflow ? amount : null)
+                                .creditAmount(inflow ? null : amount)
+                                .build(),
+                        TransactionDto.JournalEntryLineRequest.builder()
+                                .accountId(contraAccountId)
+                                .description(description)
+                                .debitAmount(inflow ? null : amount)
+                                .creditAmount(inflow ? amount : null)
+                                .counterparty(transaction.getCounterparty())
+                                .build()))
+                .build();
+    }
+
+    private StatementImport find(Long tenantId, Long importId) {
+        return statementImportRepository.findByIdAndTenantId(importId, tenantId)
+                .orElseThrow(() -> new RuntimeException("Statement import not found"));
+    }
+
+    private TransactionDto.StatementImportResponse mapToResponse(StatementImport statementImport) {
+        return TransactionDto.StatementImportResponse.builder()
+                .id(statementImport.getId())
+                .tenantId(statementImport.getTenantId())
+                .format(statementImport.getFormat().name())
+                .fileName(statementImport.getFileName())
+                .bankAccountId(statementImport.getBankAccountId())
+                .suspenseAccountId(statementImport.getSuspenseAccountId())
+                .status(statementImport.getStatus().name())
+                .rowsCommitted(statementImport.getRowsCommitted())
+                .entriesCreated(statementImport.getEntriesCreated())
+                .entriesDuplicate(statementImport.getEntriesDuplicate())
+                .rowsSkipped(statementImport.getRowsSkipped())
+                .errorMessage(statementImport.getErrorMessage())
+                .createdAt(statementImport.getCreatedAt())
+                .updatedAt(statementImport.getUpdatedAt())
+                .completedAt(statementImport.getCompletedAt())
+                .build();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,192 @@
+package com.universal.accounting.transaction.statement;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Reads ISO 20022 camt.053 account statements with a StAX cursor, emitting one transaction
+ * per {@code Ntry}. Only the current entry's fields are held, so statements with millions
+ * of entries stream in constant memory. DTDs and external entities are disabled.
+ */
+public class CamtStatementReader implements StatementReader {
+
+    private static final XMLInputFactory FACTORY = XMLInputFactory.newFactory();
+
+    static {
+        FACTORY.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        FACTORY.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        FACTORY.setProperty(XMLInputFactory.IS_COALESCING, true);
+    }
+
+    private final InputStream in;
+    private final XMLStreamReader xml;
+    private long row;
+
+    private boolean inEntry;
+    private boolean inBookingDate;
+    private boolean inRelatedParties;
+    private String partyRole;
+    private String amount;
+    private String currency;
+    private String creditDebit;
+    private String bookingDate;
+    private String reference;
+    private String entryReference;
+    private String debtorName;
+    private String creditorName;
+    private String additionalInfo;
+    private final StringBuilder remittance = new StringBuilder();
+
+    public CamtStatementReader(InputStream in) throws IOException {
+        this.in = in;
+        try {
+            this.xml = FACTORY.createXMLStreamReader(in);
+        } catch (XMLStreamException e) {
+            throw new IOException("Statement is not valid XML", e);
+        }
+    }
+
+    @Override
+    public StatementTransaction next() throws IOException {
+        try {
+            while (xml.hasNext()) {
+                int event = xml.next();
+                if (event == XMLStreamConstants.START_ELEMENT) {
+                    startElement(xml.getLocalName());
+                } else if (event == XMLStreamConstants.END_ELEMENT) {
+                    String name = xml.getLocalName();
+                    if ("Ntry".equals(name)) {
+                        inEntry = false;
+                        return transaction();
+                    }
+                    endElement(name);
+                }
+            }
+            return null;
+        } catch (XMLStreamException e) {
+            throw new IOException("Statement XML is malformed after row " + row, e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            xml.close();
+        } catch (XMLStreamException e) {
+            throw new IOException(e);
+        } finally {
+            in.close();
+        }
+    }
+
+    private void startElement(String name) throws XMLStreamException {
+        if ("Ntry".equals(name)) {
+            inEntry = true;
+            amount = null;
+            currency = null;
+            creditDebit = null;
+            bookingDate = null;
+            reference = null;
+            entryReference = null;
+            debtorName = null;
+            creditorName = null;
+            additionalInfo = null;
+            remittance.setLength(0);
+            return;
+        }
+        if (!inEntry) {
+            return;
+        }
+        switch (name) {
+            case "Amt" -> {
+                // The entry amount comes first; transaction detail amounts repeat it per split
+                if (amount == null) {
+                    currency = xml.getAttributeValue(null, "Ccy");
+                    amount = xml.getElementText().trim();
+                }
+            }
+            case "CdtDbtInd" -> {
+                if (creditDebit == null) {
+                    creditDebit = xml.getElementText().trim();
+                }
+            }
+            case "BookgDt" -> inBookingDate = true;
+            case "Dt", "DtTm" -> {
+                if (inBookingDate && bookingDate == null) {
+                    bookingDate = xml.getElementText().trim();
+                    inBookingDate = false;
+                }
+            }
+            case "AcctSvcrRef" -> {
+                if (reference == null) {
+                    reference = xml.getElementText().trim();
+                }
+            }
+            case "NtryRef" -> entryReference = xml.getElementText().trim();
+            case "RltdPties" -> inRelatedParties = true;
+            case "Dbtr", "Cdtr" -> {
+                if (inRelatedParties) {
+                    partyRole = name;
+                }
+            }
+            case "Nm" -> {
+                if (inRelatedParties && partyRole != null) {
+                    String party = xml.getElementText().trim();
+                    if ("Dbtr".equals(partyRole) && debtorName == null) {
+                        debtorName = party;
+                    } else if ("Cdtr".equals(partyRole) && creditorName == null) {
+                        creditorName = party;
+                    }
+                }
+            }
+            case "Ustrd" -> {
+                if (remittance.length() > 0) {
+                    remittance.append(' ');
+                }
+                remittance.append(xml.getElementText().trim());
+            }
+            case "AddtlNtryInf" -> additionalInfo = xml.getElementText().trim();
+            default -> {
+                // structural or unused element
+            }
+        }
+    }
+
+    private void endElement(String name) {
+        switch (name) {
+            case "BookgDt" -> inBookingDate = false;
+            case "RltdPties" -> inRelatedParties = false;
+            case "Dbtr", "Cdtr" -> partyRole = null;
+            default -> {
+                // nothing to close
+            }
+        }
+    }
+
+    private StatementTransaction transaction() {
+        row++;
+        try {
+            if (amount == null || bookingDate == null || bookingDate.length() < 10) {
+                throw new IllegalArgumentException("missing Amt or BookgDt");
+            }
+            BigDecimal value = new BigDecimal(amount);
+            boolean credit = "CRDT".equals(creditDebit);
+            // On money in the counterparty is the debtor; on money out it is the creditor
+            String counterparty = credit ? debtorName : creditorName;
+            String description = remittance.length() > 0 ? remittance.toString() : additionalInfo;
+            return new StatementTransaction(row, LocalDate.parse(bookingDate.substring(0, 10)),
+                    credit ? value : value.negate(), currency,
+                    description != null ? description : counterparty, counterparty,
+                    reference != null ? reference : entryReference);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Statement row " + row + " is malformed: " + e.getMessage());
+        }
+    }
+}
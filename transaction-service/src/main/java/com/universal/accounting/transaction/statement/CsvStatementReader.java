@@ -0,0 +1,283 @@
+package com.universal.accounting.transaction.statement;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads a delimited bank export one record at a time. The first line is a header whose
+ * column names are matched against common bank export names; the delimiter (comma,
+ * semicolon or tab) is taken from the header. Amounts come either from one signed column
+ * or from separate debit (money out) and credit (money in) columns.
+ */
+public class CsvStatementReader implements StatementReader {
+
+    private static final List<DateTimeFormatter> DATE_FORMATS = List.of(
+            DateTimeFormatter.ISO_LOCAL_DATE,
+            DateTimeFormatter.ofPattern("dd/MM/yyyy"),
+            DateTimeFormatter.ofPattern("dd.MM.yyyy"),
+            DateTimeFormatter.BASIC_ISO_DATE);
+
+    private final BufferedReader reader;
+    private final char delimiter;
+    private final int dateColumn;
+    private final int amountColumn;
+    private final int debitColumn;
+    private final int creditColumn;
+    private final int descriptionColumn;
+    private final int counterpartyColumn;
+    private final int referenceColumn;
+    private final int currencyColumn;
+    private final List<String> fields = new ArrayList<>();
+    private final StringBuilder field = new StringBuilder();
+    private DateTimeFormatter dateFormat = DATE_FORMATS.get(0);
+    private char decimalSeparator;
+    private long row;
+
+    public CsvStatementReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        String header = reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("Statement file is empty");
+        }
+        if (!header.isEmpty() && header.charAt(0) == '\uFEFF') {
+            header = header.substring(1);
+        }
+        this.delimiter = detectDelimiter(header);
+        List<String> columns = new ArrayList<>();
+        for (String column : split(header)) {
+            columns.add(column.trim().toLowerCase(Locale.ROOT));
+        }
+        this.dateColumn = column(columns, "booking date", "date", "transaction date", "posting date", "value date");
+        this.amountColumn = column(columns, "amount", "transaction amount");
+        this.debitColumn = column(columns, "debit", "withdrawal", "paid out");
+        this.creditColumn = column(columns, "credit", "deposit", "paid in");
+        this.descriptionColumn = column(columns, "description", "memo", "narrative", "details");
+        this.counterpartyColumn = column(columns, "counterparty", "payee", "name", "beneficiary");
+        this.referenceColumn = column(columns, "reference", "transaction id", "id", "fitid");
+        this.currencyColumn = column(columns, "currency", "ccy");
+        if (dateColumn < 0) {
+            throw new IllegalArgumentException("Statement header has no date column: " + header);
+        }
+        if (amountColumn < 0 && (debitColumn < 0 || creditColumn < 0)) {
+            throw new IllegalArgumentException("Statement header needs an amount column or debit and credit columns");
+        }
+    }
+
+    @Override
+    public StatementTransaction next() throws IOException {
+        List<String> record;
+        do {
+            record = readRecord();
+            if (record == null) {
+                return null;
+            }
+        } while (record.size() == 1 && record.get(0).isBlank());
+        row++;
+        try {
+            return new StatementTransaction(
+                    row,
+                    parseDate(value(record, dateColumn)),
+                    amount(record),
+                    value(record, currencyColumn),
+                    value(record, descriptionColumn),
+                    value(record, counterpartyColumn),
+                    value(record, referenceColumn));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Statement row " + row + " is malformed: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private BigDecimal amount(List<String> record) {
+        if (amountColumn >= 0) {
+            return parseAmount(value(record, amountColumn));
+        }
+        BigDecimal credit = parseAmount(value(record, creditColumn));
+        BigDecimal debit = parseAmount(value(record, debitColumn));
+        return credit.subtract(debit.abs());
+    }
+
+    private LocalDate parseDate(String text) {
+        if (text == null) {
+            throw new DateTimeParseException("missing date", "", 0);
+        }
+        try {
+            return LocalDate.parse(text, dateFormat);
+        } catch (DateTimeParseException e) {
+            // Banks keep one format per file, so the first format that fits is kept
+            for (DateTimeFormatter candidate : DATE_FORMATS) {
+                try {
+                    LocalDate date = LocalDate.parse(text, candidate);
+                    dateFormat = candidate;
+                    return date;
+                } catch (DateTimeParseException ignored) {
+                    // try the next format
+                }
+            }
+            throw e;
+        }
+    }
+
+    private BigDecimal parseAmount(String text) {
+        if (text == null) {
+            return BigDecimal.ZERO;
+        }
+        String value = text.replace(" ", "").replace("\u00A0", "").replace("'", "");
+        boolean negative = value.startsWith("(") && value.endsWith(")");
+        if (negative) {
+            value = value.substring(1, value.length() - 1);
+        }
+        char separator = decimalSeparator(value);
+        if (separator == ',') {
+            value = value.replace(".", "").replace(',', '.');
+        } else {
+            value = value.replace(",", "");
+            if (separator != '.') {
+                value = value.replace(".", "");
+            }
+        }
+        BigDecimal amount = new BigDecimal(value);
+        return negative ? amount.negate() : amount;
+    }
+
+    /**
+     * The decimal separator of an amount, or 0 when it has none. Banks keep one convention
+     * per file, so a separator that shows which one is used is remembered for later rows:
+     * the last of two different separators, a separator that occurs once without exactly
+     * three digits after it, or the other one when a separator repeats. A lone separator
+     * followed by three digits, as in 1,234, groups thousands until the file shows otherwise.
+     */
+    private char decimalSeparator(String value) {
+        int comma = value.lastIndexOf(',');
+        int dot = value.lastIndexOf('.');
+        if (comma < 0 && dot < 0) {
+            return 0;
+        }
+        if (comma >= 0 && dot >= 0) {
+            decimalSeparator = comma > dot ? ',' : '.';
+            return decimalSeparator;
+        }
+        char found = comma >= 0 ? ',' : '.';
+        int last = Math.max(comma, dot);
+        if (value.indexOf(found) != last) {
+            decimalSeparator = found == ',' ? '.' : ',';
+            return 0;
+        }
+        if (decimalSeparator != 0) {
+            return decimalSeparator == found ? found : 0;
+        }
+        if (value.length() - last - 1 != 3) {
+            decimalSeparator = found;
+            return found;
+        }
+        return 0;
+    }
+
+    private String value(List<String> record, int column) {
+        if (column < 0 || column >= record.size()) {
+            return null;
+        }
+        String value = record.get(column).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * One logical record; a quoted field may span physical lines
+     */
+    private List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        fields.clear();
+        field.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c == '"') {
+                        if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                            field.append('"');
+                            i++;
+                        } else {
+                            quoted = false;
+                        }
+                    } else {
+                        field.append(c);
+                    }
+                } else if (c == '"' && field.isEmpty()) {
+                    quoted = true;
+                } else if (c == delimiter) {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+            line = reader.readLine();
+            if (line == null) {
+                throw new IllegalArgumentException("Statement row " + (row + 1) + " has an unterminated quote");
+            }
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private List<String> split(String line) {
+        List<String> parts = new ArrayList<>();
+        StringBuilder part = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == delimiter && !quoted) {
+                parts.add(part.toString());
+                part.setLength(0);
+            } else {
+                part.append(c);
+            }
+        }
+        parts.add(part.toString());
+        return parts;
+    }
+
+    private static char detectDelimiter(String header) {
+        char best = ',';
+        long bestCount = header.chars().filter(c -> c == ',').count();
+        for (char candidate : new char[]{';', '\t'}) {
+            long count = header.chars().filter(c -> c == candidate).count();
+            if (count > bestCount) {
+                best = candidate;
+                bestCount = count;
+            }
+        }
+        return best;
+    }
+
+    private static int column(List<String> columns, String... names) {
+        for (String name : names) {
+            int index = columns.indexOf(name);
+            if (index >= 0) {
+                return index;
+            }
+        }
+        return -1;
+    }
+}
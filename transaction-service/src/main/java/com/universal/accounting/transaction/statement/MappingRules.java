@@ -0,0 +1,60 @@
+package com.universal.accounting.transaction.statement;
+
+import com.universal.accounting.transaction.entity.StatementMappingRule;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A tenant's active mapping rules compiled for the per-row hot path: patterns are lower-cased
+ * once up front and matched as plain substrings, so matching costs no regex backtracking
+ * however many rows a statement has.
+ */
+public class MappingRules {
+
+    private final Rule[] rules;
+
+    public MappingRules(List<StatementMappingRule> mappingRules) {
+        this.rules = mappingRules.stream()
+                .filter(StatementMappingRule::isActive)
+                .sorted((a, b) -> Integer.compare(a.getPriority(), b.getPriority()))
+                .map(rule -> new Rule(lower(rule.getDescriptionPattern()), lower(rule.getCounterpartyPattern()),
+                        rule.getDirection(), rule.getAccountId()))
+                .toArray(Rule[]::new);
+    }
+
+    /**
+     * The contra account of the first matching rule, or null when no rule matches
+     */
+    public Long match(StatementTransaction transaction) {
+        String description = lower(transaction.getDescription());
+        String counterparty = lower(transaction.getCounterparty());
+        boolean inflow = transaction.getAmount().signum() > 0;
+        for (Rule rule : rules) {
+            if (rule.direction == StatementMappingRule.Direction.INFLOW && !inflow
+                    || rule.direction == StatementMappingRule.Direction.OUTFLOW && inflow) {
+                continue;
+            }
+            if (rule.description != null && (description == null || !description.contains(rule.description))) {
+                continue;
+            }
+            if (rule.counterparty != null && (counterparty == null || !counterparty.contains(rule.counterparty))) {
+                continue;
+            }
+            return rule.accountId;
+        }
+        return null;
+    }
+
+    public int size() {
+        return rules.length;
+    }
+
+    private static String lower(String value) {
+        return value == null || value.isBlank() ? null : value.toLowerCase(Locale.ROOT);
+    }
+
+    private record Rule(String description, String counterparty, StatementMappingRule.Direction direction,
+                        Long accountId) {
+    }
+}
@@ -0,0 +1,137 @@
+package com.universal.accounting.transaction.statement;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+
+/**
+ * Reads OFX statements tag by tag. OFX 1.x is SGML where leaf elements are not closed
+ * ({@code <TRNAMT>-12.50}) and OFX 2.x is XML; both are handled by treating the text after
+ * a tag as that tag's value and emitting a transaction at each closing STMTTRN.
+ */
+public class OfxStatementReader implements StatementReader {
+
+    private final Reader reader;
+    private final StringBuilder token = new StringBuilder();
+    private String currency;
+    private long row;
+    private int pending = -1;
+
+    private String posted;
+    private String amount;
+    private String fitId;
+    private String name;
+    private String memo;
+
+    public OfxStatementReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    @Override
+    public StatementTransaction next() throws IOException {
+        String tag;
+        while ((tag = readTag()) != null) {
+            switch (tag) {
+                case "STMTTRN" -> {
+                    posted = null;
+                    amount = null;
+                    fitId = null;
+                    name = null;
+                    memo = null;
+                }
+                case "/STMTTRN" -> {
+                    return transaction();
+                }
+                case "CURDEF" -> currency = readText();
+                case "DTPOSTED" -> posted = readText();
+                case "TRNAMT" -> amount = readText();
+                case "FITID" -> fitId = readText();
+                case "NAME", "PAYEE" -> name = readText();
+                case "MEMO" -> memo = readText();
+                default -> {
+                    // structural or unused element
+                }
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private StatementTransaction transaction() {
+        row++;
+        try {
+            if (posted == null || posted.length() < 8 || amount == null) {
+                throw new IllegalArgumentException("missing DTPOSTED or TRNAMT");
+            }
+            // DTPOSTED is yyyyMMdd optionally followed by time and zone
+            LocalDate date = LocalDate.parse(posted.substring(0, 8), DateTimeFormatter.BASIC_ISO_DATE);
+            return new StatementTransaction(row, date, new BigDecimal(amount.replace(',', '.')), currency,
+                    memo != null ? memo : name, name, fitId);
+        } catch (DateTimeParseException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("Statement row " + row + " is malformed: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Name of the next element tag (closing tags keep their slash); skips the OFX header,
+     * processing instructions and comments
+     */
+    private String readTag() throws IOException {
+        int c;
+        while ((c = read()) != -1 && c != '<') {
+            // text outside a value we are interested in
+        }
+        if (c == -1) {
+            return null;
+        }
+        token.setLength(0);
+        while ((c = read()) != -1 && c != '>') {
+            token.append((char) c);
+        }
+        if (token.length() > 0 && (token.charAt(0) == '?' || token.charAt(0) == '!')) {
+            return "";
+        }
+        int space = token.indexOf(" ");
+        return (space >= 0 ? token.substring(0, space) : token.toString()).toUpperCase();
+    }
+
+    /**
+     * Text up to the next tag, which is left unread for {@link #readTag()}
+     */
+    private String readText() throws IOException {
+        token.setLength(0);
+        int c;
+        while ((c = read()) != -1 && c != '<') {
+            token.append((char) c);
+        }
+        if (c == '<') {
+            pending = c;
+        }
+        String text = unescape(token.toString().trim());
+        return text.isEmpty() ? null : text;
+    }
+
+    private int read() throws IOException {
+        if (pending != -1) {
+            int c = pending;
+            pending = -1;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private static String unescape(String text) {
+        if (text.indexOf('&') < 0) {
+            return text;
+        }
+        return text.replace("&lt;", "<").replace("&gt;", ">").replace("&quot;", "\"")
+                .replace("&apos;", "'").replace("&nbsp;", " ").replace("&amp;", "&");
+    }
+}
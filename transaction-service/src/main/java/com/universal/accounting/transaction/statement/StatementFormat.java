@@ -0,0 +1,5 @@
+package com.universal.accounting.transaction.statement;
+
+public enum StatementFormat {
+    CSV, OFX, CAMT053
+}
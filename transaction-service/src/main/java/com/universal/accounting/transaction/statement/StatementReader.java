@@ -0,0 +1,39 @@
+package com.universal.accounting.transaction.statement;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Pull-style reader over a statement file. Implementations hold at most one transaction
+ * in memory, so a file of any size is read in constant space.
+ */
+public interface StatementReader extends Closeable {
+
+    /**
+     * The next transaction in file order, or null at the end of the statement
+     */
+    StatementTransaction next() throws IOException;
+
+    /**
+     * Skips rows already committed by an earlier run; returns how many were skipped
+     */
+    default long skip(long rows) throws IOException {
+        long skipped = 0;
+        while (skipped < rows && next() != null) {
+            skipped++;
+        }
+        return skipped;
+    }
+
+    static StatementReader open(StatementFormat format, InputStream in) throws IOException {
+        return switch (format) {
+            case CSV -> new CsvStatementReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+            case OFX -> new OfxStatementReader(new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+            case CAMT053 -> new CamtStatementReader(in);
+        };
+    }
+}
@@ -0,0 +1,24 @@
+package com.universal.accounting.transaction.statement;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One booked line of a bank statement. The amount is signed from the account holder's
+ * side: positive is money in, negative is money out. Row numbers start at 1 and follow
+ * file order, which is what import checkpoints count.
+ */
+@Data
+@AllArgsConstructor
+public class StatementTransaction {
+    private long row;
+    private LocalDate bookingDate;
+    private BigDecimal amount;
+    private String currency;
+    private String description;
+    private String counterparty;
+    private String bankReference;
+}
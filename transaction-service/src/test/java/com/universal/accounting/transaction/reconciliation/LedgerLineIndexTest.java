@@ -0,0 +1,75 @@
+package com.universal.accounting.transaction.reconciliation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LedgerLineIndexTest {
+
+    private static final int DAY = 19_800;
+
+    @Test
+    void matchExact_ShouldPickClosestDateWithinTolerance() {
+        // Given
+        LedgerLineIndex index = new LedgerLineIndex(3);
+        index.add(101L, 10_000L, DAY);
+        index.add(102L, 10_000L, DAY + 3);
+        index.add(103L, 10_000L, DAY + 8);
+        index.build();
+
+        // When
+        int first = index.matchExact(10_000L, DAY + 2);
+        int second = index.matchExact(10_000L, DAY + 2);
+        int third = index.matchExact(10_000L, DAY + 2);
+
+        // Then
+        assertThat(index.lineId(first)).isEqualTo(102L);
+        assertThat(index.lineId(second)).isEqualTo(101L);
+        assertThat(third).isEqualTo(-1);
+    }
+
+    @Test
+    void matchExact_ShouldRespectSign() {
+        // Given
+        LedgerLineIndex index = new LedgerLineIndex(0);
+        index.add(201L, -2_500L, DAY);
+        index.build();
+
+        // When / Then
+        assertThat(index.matchExact(2_500L, DAY)).isEqualTo(-1);
+        assertThat(index.lineId(index.matchExact(-2_500L, DAY))).isEqualTo(201L);
+    }
+
+    @Test
+    void matchSplit_ShouldCombineSameSignedLinesOnce() {
+        // Given
+        LedgerLineIndex index = new LedgerLineIndex(2);
+        index.add(301L, 2_500L, DAY);
+        index.add(302L, 7_500L, DAY + 1);
+        index.add(303L, -5_000L, DAY);
+        index.add(304L, 1_000L, DAY + 5);
+        index.build();
+
+        // When
+        int[] split = index.matchSplit(10_000L, DAY, 4, 256);
+        int[] again = index.matchSplit(10_000L, DAY, 4, 256);
+
+        // Then
+        assertThat(split).hasSize(2);
+        assertThat(new long[]{index.lineId(split[0]), index.lineId(split[1])}).containsExactlyInAnyOrder(301L, 302L);
+        assertThat(again).isNull();
+        assertThat(index.matchExact(2_500L, DAY)).isEqualTo(-1);
+    }
+
+    @Test
+    void matchExact_ShouldRequireBuild() {
+        // Given
+        LedgerLineIndex index = new LedgerLineIndex(1);
+        index.add(1L, 100L, DAY);
+
+        // When / Then
+        assertThatThrownBy(() -> index.matchExact(100L, DAY))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
@@ -0,0 +1,173 @@
+package com.universal.accounting.transaction.statement;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StatementReaderTest {
+
+    @Test
+    void csv_ShouldReadQuotedFieldsAndSplitDebitCreditColumns() throws IOException {
+        // Given
+        String csv = "Date;Description;Payee;Debit;Credit;Reference\n"
+                + "03/01/2024;\"Rent; January\";Landlord Ltd;1.200,00;;R-1\n"
+                + "\n"
+                + "04/01/2024;\"Invoice \"\"42\"\"\";Acme;;350,50;R-2\n";
+
+        // When
+        try (StatementReader reader = open(StatementFormat.CSV, csv)) {
+            StatementTransaction rent = reader.next();
+            StatementTransaction invoice = reader.next();
+
+            // Then
+            assertThat(rent.getRow()).isEqualTo(1);
+            assertThat(rent.getBookingDate()).isEqualTo(LocalDate.of(2024, 1, 3));
+            assertThat(rent.getAmount()).isEqualByComparingTo(new BigDecimal("-1200.00"));
+            assertThat(rent.getDescription()).isEqualTo("Rent; January");
+            assertThat(invoice.getRow()).isEqualTo(2);
+            assertThat(invoice.getAmount()).isEqualByComparingTo(new BigDecimal("350.50"));
+            assertThat(invoice.getDescription()).isEqualTo("Invoice \"42\"");
+            assertThat(invoice.getBankReference()).isEqualTo("R-2");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void csv_ShouldReadAmountsWithOnlyThousandsSeparators() throws IOException {
+        // Given
+        String csv = "Date,Amount\n"
+                + "2024-01-03,\"1,234\"\n"
+                + "2024-01-04,\"-1,234,567\"\n"
+                + "2024-01-05,12.5\n"
+                + "2024-01-06,\"2,500.75\"\n";
+
+        // When
+        try (StatementReader reader = open(StatementFormat.CSV, csv)) {
+
+            // Then
+            assertThat(reader.next().getAmount()).isEqualByComparingTo(new BigDecimal("1234"));
+            assertThat(reader.next().getAmount()).isEqualByComparingTo(new BigDecimal("-1234567"));
+            assertThat(reader.next().getAmount()).isEqualByComparingTo(new BigDecimal("12.5"));
+            assertThat(reader.next().getAmount()).isEqualByComparingTo(new BigDecimal("2500.75"));
+        }
+    }
+
+    @Test
+    void csv_ShouldKeepDecimalCommaSeenEarlierInFile() throws IOException {
+        // Given
+        String csv = "Date;Amount\n"
+                + "03.01.2024;12,50\n"
+                + "04.01.2024;1,234\n"
+                + "05.01.2024;1.234\n";
+
+        // When
+        try (StatementReader reader = open(StatementFormat.CSV, csv)) {
+
+            // Then
+            assertThat(reader.next().getAmount()).isEqualByComparingTo(new BigDecimal("12.50"));
+            assertThat(reader.next().getAmount()).isEqualByComparingTo(new BigDecimal("1.234"));
+            assertThat(reader.next().getAmount()).isEqualByComparingTo(new BigDecimal("1234"));
+        }
+    }
+
+    @Test
+    void csv_ShouldRejectHeaderWithoutAmount() {
+        // Given
+        String csv = "date,description\n2024-01-01,Coffee\n";
+
+        // When / Then
+        assertThatThrownBy(() -> open(StatementFormat.CSV, csv))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("amount");
+    }
+
+    @Test
+    void ofx_ShouldReadUnclosedSgmlElements() throws IOException {
+        // Given
+        String ofx = "OFXHEADER:100\nDATA:OFXSGML\n\n<OFX><BANKMSGSRSV1><STMTTRNRS><STMTRS><CURDEF>EUR\n"
+                + "<BANKTRANLIST>\n"
+                + "<STMTTRN><TRNTYPE>DEBIT<DTPOSTED>20240105120000[-5:EST]<TRNAMT>-12.50<FITID>F1"
+                + "<NAME>Coffee &amp; Co<MEMO>Card payment</STMTTRN>\n"
+                + "<STMTTRN><TRNTYPE>CREDIT<DTPOSTED>20240106<TRNAMT>100.00<FITID>F2<NAME>Acme</STMTTRN>\n"
+                + "</BANKTRANLIST></STMTRS></STMTTRNRS></BANKMSGSRSV1></OFX>";
+
+        // When
+        try (StatementReader reader = open(StatementFormat.OFX, ofx)) {
+            StatementTransaction coffee = reader.next();
+            StatementTransaction acme = reader.next();
+
+            // Then
+            assertThat(coffee.getBookingDate()).isEqualTo(LocalDate.of(2024, 1, 5));
+            assertThat(coffee.getAmount()).isEqualByComparingTo(new BigDecimal("-12.50"));
+            assertThat(coffee.getCounterparty()).isEqualTo("Coffee & Co");
+            assertThat(coffee.getDescription()).isEqualTo("Card payment");
+            assertThat(coffee.getCurrency()).isEqualTo("EUR");
+            assertThat(acme.getRow()).isEqualTo(2);
+            assertThat(acme.getDescription()).isEqualTo("Acme");
+            assertThat(acme.getBankReference()).isEqualTo("F2");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void camt_ShouldSignAmountsByCreditDebitIndicator() throws IOException {
+        // Given
+        String camt = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+                + "<Document xmlns=\"urn:iso:std:iso:20022:tech:xsd:camt.053.001.02\"><BkToCstmrStmt><Stmt>"
+                + "<Ntry><Amt Ccy=\"EUR\">250.00</Amt><CdtDbtInd>DBIT</CdtDbtInd>"
+                + "<BookgDt><Dt>2024-02-01</Dt></BookgDt><ValDt><Dt>2024-02-02</Dt></ValDt>"
+                + "<AcctSvcrRef>REF-1</AcctSvcrRef><NtryDtls><TxDtls>"
+                + "<AmtDtls><TxAmt><Amt Ccy=\"EUR\">250.00</Amt></TxAmt></AmtDtls>"
+                + "<RltdPties><Dbtr><Nm>Us</Nm></Dbtr><Cdtr><Nm>Utility Corp</Nm></Cdtr></RltdPties>"
+                + "<RmtInf><Ustrd>Electricity</Ustrd><Ustrd>February</Ustrd></RmtInf>"
+                + "</TxDtls></NtryDtls></Ntry>"
+                + "<Ntry><Amt Ccy=\"EUR\">80.00</Amt><CdtDbtInd>CRDT</CdtDbtInd>"
+                + "<BookgDt><DtTm>2024-02-03T10:15:00</DtTm></BookgDt><AddtlNtryInf>Refund</AddtlNtryInf></Ntry>"
+                + "</Stmt></BkToCstmrStmt></Document>";
+
+        // When
+        try (StatementReader reader = open(StatementFormat.CAMT053, camt)) {
+            StatementTransaction utility = reader.next();
+            StatementTransaction refund = reader.next();
+
+            // Then
+            assertThat(utility.getAmount()).isEqualByComparingTo(new BigDecimal("-250.00"));
+            assertThat(utility.getBookingDate()).isEqualTo(LocalDate.of(2024, 2, 1));
+            assertThat(utility.getCounterparty()).isEqualTo("Utility Corp");
+            assertThat(utility.getDescription()).isEqualTo("Electricity February");
+            assertThat(utility.getBankReference()).isEqualTo("REF-1");
+            assertThat(refund.getAmount()).isEqualByComparingTo(new BigDecimal("80.00"));
+            assertThat(refund.getBookingDate()).isEqualTo(LocalDate.of(2024, 2, 3));
+            assertThat(refund.getDescription()).isEqualTo("Refund");
+            assertThat(reader.next()).isNull();
+        }
+    }
+
+    @Test
+    void skip_ShouldResumeAfterCommittedRows() throws IOException {
+        // Given
+        String csv = "date,amount,description\n2024-01-01,1.00,a\n2024-01-02,2.00,b\n2024-01-03,3.00,c\n";
+
+        // When
+        try (StatementReader reader = open(StatementFormat.CSV, csv)) {
+            long skipped = reader.skip(2);
+            StatementTransaction next = reader.next();
+
+            // Then
+            assertThat(skipped).isEqualTo(2);
+            assertThat(next.getRow()).isEqualTo(3);
+            assertThat(next.getDescription()).isEqualTo("c");
+        }
+    }
+
+    private StatementReader open(StatementFormat format, String content) throws IOException {
+        return StatementReader.open(format, new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+    }
+}